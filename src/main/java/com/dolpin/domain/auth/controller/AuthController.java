@@ -13,9 +13,12 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -38,26 +41,31 @@ public class AuthController {
     }
 
     @PostMapping("/tokens")
-    public ResponseEntity<ApiResponse<TokenResponse>> getTokens(
+    public Mono<ResponseEntity<ApiResponse<TokenResponse>>> getTokens(
             @RequestBody TokenRequest request,
-            @RequestParam(required = false) String redirect_uri,
-            HttpServletResponse response) {
-        TokenResponse tokenResponse = authService.generateTokenByAuthorizationCode(request.getAuthorizationCode(), redirect_uri);
-
-        cookieService.addAccessTokenCookie(response, tokenResponse.getAccessToken(), tokenResponse.getExpiresIn());
-        cookieService.addRefreshTokenCookie(response, tokenResponse.getRefreshToken());
-
-        // 응답에서 토큰 제거
-        TokenResponse responseWithoutTokens = TokenResponse.builder()
-                .tokenType(tokenResponse.getTokenType())
-                .expiresIn(tokenResponse.getExpiresIn())
-                .user(tokenResponse.getUser())
-                .build();
-
-        return ResponseEntity.ok(ApiResponse.success(
-                "login_success",
-                responseWithoutTokens
-        ));
+            @RequestParam(required = false) String redirect_uri) {
+        // 토큰 발급 후 처리는 요청 스레드가 아닌 스레드에서 실행되므로 서블릿 응답 대신 응답 헤더로 쿠키 전달
+        return authService.generateTokenByAuthorizationCode(request.getAuthorizationCode(), redirect_uri)
+                .map(tokenResponse -> {
+                    ResponseCookie accessTokenCookie = cookieService.createAccessTokenCookie(
+                            tokenResponse.getAccessToken(), tokenResponse.getExpiresIn());
+                    ResponseCookie refreshTokenCookie = cookieService.createRefreshTokenCookie(
+                            tokenResponse.getRefreshToken());
+
+                    // 응답에서 토큰 제거
+                    TokenResponse responseWithoutTokens = TokenResponse.builder()
+                            .tokenType(tokenResponse.getTokenType())
+                            .expiresIn(tokenResponse.getExpiresIn())
+                            .user(tokenResponse.getUser())
+                            .build();
+
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.SET_COOKIE, accessTokenCookie.toString(), refreshTokenCookie.toString())
+                            .body(ApiResponse.success(
+                                    "login_success",
+                                    responseWithoutTokens
+                            ));
+                });
     }
 
     @PostMapping("/logout")
@@ -0,0 +1,55 @@
+package com.dolpin.domain.auth.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 카카오 OAuth 엔드포인트 스텁 (loadtest 프로필 전용)
+ * 외부 호출 없이 로그인 처리량을 측정하기 위해 토큰 발급/사용자 정보 응답을 흉내 낸다.
+ * 지연은 Mono.delay로 만들어 스텁 자체가 요청 스레드를 점유하지 않는다.
+ */
+@Profile("loadtest")
+@RestController
+@RequestMapping("/stub/kakao")
+public class KakaoOAuthStubController {
+
+    private static final String ACCESS_TOKEN_PREFIX = "stub-";
+
+    @Value("${kakao.stub.latency-ms:50}")
+    private long latencyMs;
+
+    @PostMapping("/oauth/token")
+    public Mono<Map<String, Object>> issueToken(@RequestParam("code") String code) {
+        return Mono.just(Map.<String, Object>of(
+                        "access_token", ACCESS_TOKEN_PREFIX + code,
+                        "token_type", "bearer",
+                        "expires_in", 21599))
+                .delayElement(Duration.ofMillis(latencyMs));
+    }
+
+    @PostMapping("/v2/user/me")
+    public Mono<Map<String, Object>> getUserInfo(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        String code = authorization.replaceFirst("^Bearer " + ACCESS_TOKEN_PREFIX, "");
+        return Mono.just(Map.<String, Object>of("id", toProviderId(code)))
+                .delayElement(Duration.ofMillis(latencyMs));
+    }
+
+    // 숫자 인증 코드는 그대로 회원 식별자로 사용해 가상 사용자 수를 조절할 수 있게 함
+    private long toProviderId(String code) {
+        try {
+            return Long.parseLong(code);
+        } catch (NumberFormatException e) {
+            return code.hashCode() & Integer.MAX_VALUE;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.dolpin.domain.auth.repository;
 import com.dolpin.domain.auth.entity.Token;
 import com.dolpin.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,4 +19,9 @@ public interface TokenRepository extends JpaRepository<Token, Long> {
 
     @Query("SELECT t FROM Token t WHERE t.user.id = :userId AND t.isRevoked = false AND t.expiredAt > CURRENT_TIMESTAMP")
     List<Token> findValidTokensByUserId(@Param("userId") Long userId);
+
+    // 사용자의 모든 토큰을 한 번의 UPDATE로 무효화 (토큰 수와 무관)
+    @Modifying
+    @Query("UPDATE Token t SET t.isRevoked = true WHERE t.user.id = :userId AND t.isRevoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
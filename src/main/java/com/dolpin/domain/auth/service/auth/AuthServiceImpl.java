@@ -22,6 +22,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 import java.util.Optional;
@@ -45,9 +47,14 @@ public class AuthServiceImpl implements AuthService {
         return new OAuthUrlResponse(urlProvider.getLoginUrl(redirectUri));
     }
 
+    /**
+     * OAuth 로그인 (제공자 호출은 논블로킹, 회원/토큰 처리는 별도 스레드에서 수행해 요청 스레드를 점유하지 않음)
+     * 회원 생성과 리프레시 토큰 저장은 각 서비스의 트랜잭션으로 처리한다. (원격 호출 동안 DB 커넥션을 잡지 않음)
+     * 회원 생성은 사용자명 충돌 시 새 트랜잭션으로 재시도하므로 바깥 트랜잭션으로 묶지 않는다.
+     * 토큰 저장만 실패하면 회원은 남지만 다음 로그인에서 기존 회원으로 조회되어 토큰이 다시 발급된다.
+     */
     @Override
-    @Transactional
-    public TokenResponse generateTokenByAuthorizationCode(String code, String redirectUri) {
+    public Mono<TokenResponse> generateTokenByAuthorizationCode(String code, String redirectUri) {
         // 임시적으로 Kakao로 설정 (향후 제공자 감지 로직 추가 필요)
         OAuthProvider provider = OAuthProvider.KAKAO;
 
@@ -57,17 +64,33 @@ public class AuthServiceImpl implements AuthService {
                 .findFirst()
                 .orElseThrow(() -> new BusinessException(ResponseStatus.OAUTH_PROVIDER_NOT_EXIST));
 
-        // 1. 인증 코드로 OAuth 액세스 토큰 요청
         OAuthLoginParams loginParams = createLoginParams(code, provider, redirectUri);
-        String oauthAccessToken = apiClient.requestAccessToken(loginParams);
 
-        if (oauthAccessToken == null || oauthAccessToken.isEmpty()) {
-            throw new BusinessException(ResponseStatus.UNAUTHORIZED.withMessage("OAuth 인증에 실패했습니다."));
-        }
+        // 1. 인증 코드로 OAuth 액세스 토큰 요청
+        return apiClient.requestAccessToken(loginParams)
+                .filter(oauthAccessToken -> !oauthAccessToken.isEmpty())
+                .switchIfEmpty(Mono.error(() -> new BusinessException(
+                        ResponseStatus.UNAUTHORIZED.withMessage("OAuth 인증에 실패했습니다."))))
+                // 2. OAuth 액세스 토큰으로 사용자 정보 요청
+                .flatMap(apiClient::requestUserInfo)
+                // 3~6. 회원 조회/생성 + 토큰 발급 (JPA 블로킹 작업은 이벤트 루프 밖에서)
+                .publishOn(Schedulers.boundedElastic())
+                .map(this::issueTokens);
+    }
 
-        // 2. OAuth 액세스 토큰으로 사용자 정보 요청
-        OAuthInfoResponse userInfo = apiClient.requestUserInfo(oauthAccessToken);
+    @Override
+    public RefreshTokenResponse refreshToken(String refreshToken) {
+        return tokenService.refreshAccessToken(refreshToken);
+    }
 
+    @Override
+    @Transactional
+    public void logout(String refreshToken) {
+        tokenService.invalidateRefreshToken(refreshToken);
+    }
+
+    // 사용자 정보로 회원 찾기 또는 생성 후 토큰 발급 (내부 메서드)
+    private TokenResponse issueTokens(OAuthInfoResponse userInfo) {
         // 3. 사용자 정보로 회원 찾기 또는 새로 생성
         boolean isNewUser = false;
         User user;
@@ -100,18 +123,6 @@ public class AuthServiceImpl implements AuthService {
         );
     }
 
-    @Override
-    @Transactional
-    public RefreshTokenResponse refreshToken(String refreshToken) {
-        return tokenService.refreshAccessToken(refreshToken);
-    }
-
-    @Override
-    @Transactional
-    public void logout(String refreshToken) {
-        tokenService.invalidateRefreshToken(refreshToken);
-    }
-
     // 사용자 찾기 또는 생성 (내부 메서드)
     private User findOrCreateUser(OAuthInfoResponse userInfo) {
         Optional<User> userOptional = userQueryService.findByProviderAndProviderId(
@@ -4,13 +4,13 @@ import com.dolpin.global.redis.service.RedisService;
 import com.dolpin.global.redis.util.CacheKeyUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -18,24 +18,69 @@ import java.util.stream.Collectors;
 public class RefreshTokenCacheService {
 
     private final RedisService redisService;
+    private final TokenBlacklistFilter tokenBlacklistFilter;
 
     // TTL 설정
     private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(14);    // 리프레시 토큰 14일
     private static final Duration USER_TOKENS_TTL = Duration.ofDays(15);      // 사용자 토큰 목록 15일
     private static final Duration BLACKLIST_TTL = Duration.ofDays(1);         // 블랙리스트 1일
 
+    private static final int CLEANUP_BATCH_SIZE = 500;
+    private static final int CLEANUP_MAX_BATCHES = 20;
+
+    // 토큰 저장 + 사용자 토큰 목록 추가 + 목록 TTL 연장 + 만료 인덱스 등록 (한 번의 왕복)
+    private static final DefaultRedisScript<Long> SAVE_TOKEN_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) " +
+            "redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+            "redis.call('ZADD', KEYS[3], ARGV[5], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    // (선택) 블랙리스트 등록/전파 + 토큰 삭제 + 만료 인덱스/사용자 토큰 목록에서 제거 (한 번의 왕복)
+    // KEYS: [토큰, 블랙리스트, 만료 인덱스, (사용자 토큰 목록)], ARGV: [토큰 해시, 블랙리스트 값, TTL, 채널]
+    private static final DefaultRedisScript<Long> REMOVE_TOKEN_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(ARGV[3]) > 0 then " +
+            "  redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3]) " +
+            "  redis.call('PUBLISH', cjson.decode(ARGV[4]), ARGV[1]) " +
+            "end " +
+            "redis.call('ZREM', KEYS[3], ARGV[1]) " +
+            "if KEYS[4] then redis.call('SREM', KEYS[4], ARGV[1]) end " +
+            "return redis.call('DEL', KEYS[1])",
+            Long.class);
+
+    // 조회해 둔 사용자 토큰 전체를 블랙리스트 등록/전파 + 삭제 (토큰 수와 무관하게 한 번의 왕복)
+    // KEYS: [사용자 토큰 목록, 만료 인덱스, 토큰 키 N개, 블랙리스트 키 N개], ARGV: [블랙리스트 값, TTL, 채널, 토큰 해시 N개]
+    // 조회 이후 새로 발급된 토큰은 목록에 남겨 두고, 목록이 비었을 때만 삭제한다
+    private static final DefaultRedisScript<Long> REVOKE_USER_TOKENS_SCRIPT = new DefaultRedisScript<>(
+            "local count = #ARGV - 3 " +
+            "local channel = cjson.decode(ARGV[3]) " +
+            "for i = 1, count do " +
+            "  local member = ARGV[3 + i] " +
+            "  redis.call('SET', KEYS[2 + count + i], ARGV[1], 'PX', ARGV[2]) " +
+            "  redis.call('PUBLISH', channel, member) " +
+            "  redis.call('DEL', KEYS[2 + i]) " +
+            "  redis.call('ZREM', KEYS[2], member) " +
+            "  redis.call('SREM', KEYS[1], member) " +
+            "end " +
+            "if redis.call('SCARD', KEYS[1]) == 0 then redis.call('DEL', KEYS[1]) end " +
+            "return count",
+            Long.class);
+
     // ===================== 리프레시 토큰 관리 =====================
 
     /**
-     * 리프레시 토큰 저장
+     * 리프레시 토큰 저장 (사용자 토큰 목록 갱신까지 원자적으로 처리)
      */
     public void saveRefreshToken(String tokenHash, RefreshTokenData tokenData) {
         String key = CacheKeyUtil.refreshToken(tokenHash);
+        String userTokensKey = CacheKeyUtil.userTokens(tokenData.getUserId());
+        long expiresAtMillis = System.currentTimeMillis() + REFRESH_TOKEN_TTL.toMillis();
         try {
-            redisService.set(key, tokenData, REFRESH_TOKEN_TTL);
-
-            // 사용자별 토큰 목록에도 추가
-            addToUserTokens(tokenData.getUserId(), tokenHash);
+            redisService.executeScript(SAVE_TOKEN_SCRIPT,
+                    List.of(key, userTokensKey, CacheKeyUtil.refreshTokenExpiryIndex()),
+                    tokenData, tokenHash, REFRESH_TOKEN_TTL.toMillis(), USER_TOKENS_TTL.toMillis(),
+                    expiresAtMillis);
 
             log.debug("리프레시 토큰 저장: userId={}, tokenHash={}",
                     tokenData.getUserId(), tokenHash.substring(0, 8) + "...");
@@ -69,119 +114,131 @@ public class RefreshTokenCacheService {
      * 리프레시 토큰 삭제
      */
     public void deleteRefreshToken(String tokenHash) {
-        String key = CacheKeyUtil.refreshToken(tokenHash);
-        try {
-            // 먼저 토큰 데이터 조회 (사용자 ID 필요)
-            RefreshTokenData tokenData = getRefreshToken(tokenHash);
-
-            // 토큰 삭제
-            redisService.delete(key);
-
-            // 사용자 토큰 목록에서도 제거
-            if (tokenData != null) {
-                removeFromUserTokens(tokenData.getUserId(), tokenHash);
-            }
+        removeRefreshToken(tokenHash, findUserId(tokenHash), Duration.ZERO);
+    }
 
-            log.debug("리프레시 토큰 삭제: tokenHash={}", tokenHash.substring(0, 8) + "...");
-        } catch (Exception e) {
-            log.warn("리프레시 토큰 삭제 실패: tokenHash={}", tokenHash, e);
-        }
+    /**
+     * 리프레시 토큰 폐기 (블랙리스트 등록 + 삭제를 한 번에 처리)
+     */
+    public void revokeRefreshToken(String tokenHash) {
+        removeRefreshToken(tokenHash, findUserId(tokenHash), BLACKLIST_TTL);
     }
 
     /**
-     * 토큰 유효성 검증
+     * 유효한 리프레시 토큰 조회 (블랙리스트/만료 시 null)
+     * 로컬 필터에 없으면 토큰 데이터만, 있으면 블랙리스트와 토큰 데이터를 MGET 한 번으로 함께 조회한다.
      */
-    public boolean isValidToken(String tokenHash) {
+    public RefreshTokenData getValidRefreshToken(String tokenHash) {
         try {
-            // 1. 블랙리스트 체크
-            if (isBlacklisted(tokenHash)) {
-                return false;
+            if (!tokenBlacklistFilter.mightBeBlacklisted(tokenHash)) {
+                return validateExpiry(tokenHash, redisService.get(CacheKeyUtil.refreshToken(tokenHash)));
             }
 
-            // 2. 토큰 데이터 조회
-            RefreshTokenData tokenData = getRefreshToken(tokenHash);
-            if (tokenData == null) {
-                return false;
+            List<Object> values = redisService.multiGet(
+                    List.of(CacheKeyUtil.blacklistToken(tokenHash), CacheKeyUtil.refreshToken(tokenHash)));
+            if (values.size() < 2) {
+                return null;
             }
 
-            // 3. 만료 시간 체크
-            if (tokenData.getExpiredAt().isBefore(LocalDateTime.now())) {
-                // 만료된 토큰은 비동기로 정리
-                deleteRefreshToken(tokenHash);
-                return false;
+            // 1. 블랙리스트 체크
+            if (values.get(0) != null) {
+                return null;
             }
 
-            return true;
+            // 2. 토큰 데이터 + 만료 시간 체크
+            return validateExpiry(tokenHash, values.get(1));
         } catch (Exception e) {
             log.warn("토큰 검증 실패: {}", tokenHash.substring(0, 8) + "...", e);
-            return false;
+            return null;
         }
     }
 
-    // ===================== 사용자별 토큰 관리 =====================
-
-    /**
-     * 사용자의 모든 토큰 무효화
-     */
-    public void invalidateUserTokens(Long userId) {
-        try {
-            Set<String> userTokenHashes = getUserTokens(userId);
-
-            // 각 토큰을 블랙리스트에 추가
-            for (String tokenHash : userTokenHashes) {
-                blacklistToken(tokenHash);
-                deleteRefreshToken(tokenHash);
-            }
-
-            // 사용자 토큰 목록 삭제
-            String userTokensKey = CacheKeyUtil.userTokens(userId);
-            redisService.delete(userTokensKey);
+    private RefreshTokenData validateExpiry(String tokenHash, Object value) {
+        if (!(value instanceof RefreshTokenData tokenData)) {
+            return null;
+        }
 
-            log.info("사용자 모든 토큰 무효화: userId={}, tokenCount={}", userId, userTokenHashes.size());
-        } catch (Exception e) {
-            log.error("사용자 토큰 무효화 실패: userId={}", userId, e);
+        if (tokenData.getExpiredAt().isBefore(LocalDateTime.now())) {
+            removeRefreshToken(tokenHash, tokenData.getUserId(), Duration.ZERO);
+            return null;
         }
+
+        return tokenData;
     }
 
     /**
-     * 사용자 토큰 목록 조회
+     * 토큰 유효성 검증
      */
-    @SuppressWarnings("unchecked")
-    private Set<String> getUserTokens(Long userId) {
-        String key = CacheKeyUtil.userTokens(userId);
-        try {
-            Set<Object> tokens = redisService.getSetMembers(key);
-            return tokens.stream()
-                    .map(Object::toString)
-                    .collect(Collectors.toSet());
-        } catch (Exception e) {
-            log.warn("사용자 토큰 목록 조회 실패: userId={}", userId, e);
-            return Collections.emptySet();
-        }
+    public boolean isValidToken(String tokenHash) {
+        return getValidRefreshToken(tokenHash) != null;
     }
 
-    /**
-     * 사용자 토큰 목록에 추가
-     */
-    private void addToUserTokens(Long userId, String tokenHash) {
-        String key = CacheKeyUtil.userTokens(userId);
+    // 사용자 토큰 목록 키도 KEYS로 넘기기 위해 토큰 값에서 userId를 먼저 조회
+    private Long findUserId(String tokenHash) {
+        RefreshTokenData tokenData = getRefreshToken(tokenHash);
+        return tokenData != null ? tokenData.getUserId() : null;
+    }
+
+    private void removeRefreshToken(String tokenHash, Long userId, Duration blacklistTtl) {
+        List<String> keys = new ArrayList<>(4);
+        keys.add(CacheKeyUtil.refreshToken(tokenHash));
+        keys.add(CacheKeyUtil.blacklistToken(tokenHash));
+        keys.add(CacheKeyUtil.refreshTokenExpiryIndex());
+        if (userId != null) {
+            keys.add(CacheKeyUtil.userTokens(userId));
+        }
+
         try {
-            redisService.addToSet(key, tokenHash);
-            redisService.expire(key, USER_TOKENS_TTL);
+            redisService.executeScript(REMOVE_TOKEN_SCRIPT, keys,
+                    tokenHash, true, blacklistTtl.toMillis(), CacheKeyUtil.blacklistTokenChannel());
+            if (!blacklistTtl.isZero()) {
+                tokenBlacklistFilter.add(tokenHash);
+            }
+
+            log.debug("리프레시 토큰 삭제: tokenHash={}, blacklisted={}",
+                    tokenHash.substring(0, 8) + "...", !blacklistTtl.isZero());
         } catch (Exception e) {
-            log.warn("사용자 토큰 목록 추가 실패: userId={}, tokenHash={}", userId, tokenHash, e);
+            log.warn("리프레시 토큰 삭제 실패: tokenHash={}", tokenHash, e);
         }
     }
 
+    // ===================== 사용자별 토큰 관리 =====================
+
     /**
-     * 사용자 토큰 목록에서 제거
+     * 사용자의 모든 토큰 무효화 (토큰 목록 조회 후 스크립트 한 번으로 블랙리스트 등록 + 삭제)
+     * 스크립트가 접근하는 키는 모두 KEYS로 넘긴다
      */
-    private void removeFromUserTokens(Long userId, String tokenHash) {
-        String key = CacheKeyUtil.userTokens(userId);
+    public void invalidateUserTokens(Long userId) {
+        String userTokensKey = CacheKeyUtil.userTokens(userId);
         try {
-            redisService.removeFromSet(key, tokenHash);
+            Set<Object> tokenHashes = redisService.getSetMembers(userTokensKey);
+            if (tokenHashes == null || tokenHashes.isEmpty()) {
+                return;
+            }
+
+            List<String> tokenKeys = new ArrayList<>(tokenHashes.size());
+            List<String> blacklistKeys = new ArrayList<>(tokenHashes.size());
+            List<Object> args = new ArrayList<>(tokenHashes.size() + 3);
+            args.add(true);
+            args.add(BLACKLIST_TTL.toMillis());
+            args.add(CacheKeyUtil.blacklistTokenChannel());
+            for (Object tokenHash : tokenHashes) {
+                tokenKeys.add(CacheKeyUtil.refreshToken(tokenHash.toString()));
+                blacklistKeys.add(CacheKeyUtil.blacklistToken(tokenHash.toString()));
+                args.add(tokenHash);
+            }
+
+            List<String> keys = new ArrayList<>(tokenHashes.size() * 2 + 2);
+            keys.add(userTokensKey);
+            keys.add(CacheKeyUtil.refreshTokenExpiryIndex());
+            keys.addAll(tokenKeys);
+            keys.addAll(blacklistKeys);
+
+            Long revokedCount = redisService.executeScript(REVOKE_USER_TOKENS_SCRIPT, keys, args.toArray());
+
+            log.info("사용자 모든 토큰 무효화: userId={}, tokenCount={}", userId, revokedCount);
         } catch (Exception e) {
-            log.warn("사용자 토큰 목록 제거 실패: userId={}, tokenHash={}", userId, tokenHash, e);
+            log.error("사용자 토큰 무효화 실패: userId={}", userId, e);
         }
     }
 
@@ -194,6 +251,8 @@ public class RefreshTokenCacheService {
         String key = CacheKeyUtil.blacklistToken(tokenHash);
         try {
             redisService.set(key, true, BLACKLIST_TTL);
+            tokenBlacklistFilter.add(tokenHash);
+            redisService.publish(CacheKeyUtil.blacklistTokenChannel(), tokenHash);
             log.debug("토큰 블랙리스트 추가: tokenHash={}", tokenHash.substring(0, 8) + "...");
         } catch (Exception e) {
             log.warn("토큰 블랙리스트 추가 실패: tokenHash={}", tokenHash, e);
@@ -201,9 +260,13 @@ public class RefreshTokenCacheService {
     }
 
     /**
-     * 토큰이 블랙리스트에 있는지 확인
+     * 토큰이 블랙리스트에 있는지 확인 (로컬 필터에 있을 때만 Redis 조회)
      */
     public boolean isBlacklisted(String tokenHash) {
+        if (!tokenBlacklistFilter.mightBeBlacklisted(tokenHash)) {
+            return false;
+        }
+
         String key = CacheKeyUtil.blacklistToken(tokenHash);
         try {
             return redisService.exists(key);
@@ -217,18 +280,28 @@ public class RefreshTokenCacheService {
 
     /**
      * 만료된 토큰 정리 (스케줄러에서 호출)
+     * 만료 인덱스에서 만료 시각이 지난 토큰만 배치 단위로 꺼내 파이프라인으로 삭제한다. (KEYS 전체 스캔 없음)
      */
     @Async("bookmarkCacheExecutor")
     public void cleanupExpiredTokens() {
+        String indexKey = CacheKeyUtil.refreshTokenExpiryIndex();
         try {
-            Set<String> tokenKeys = redisService.getKeysByPattern("refresh_token:*");
             int cleanedCount = 0;
+            for (int i = 0; i < CLEANUP_MAX_BATCHES; i++) {
+                Set<Object> expiredHashes = redisService.getSortedSetRangeByScore(
+                        indexKey, 0, System.currentTimeMillis(), CLEANUP_BATCH_SIZE);
+                if (expiredHashes.isEmpty()) {
+                    break;
+                }
+
+                List<String> tokenKeys = expiredHashes.stream()
+                        .map(tokenHash -> CacheKeyUtil.refreshToken(tokenHash.toString()))
+                        .toList();
+                redisService.deleteWithSortedSetMembers(tokenKeys, indexKey, expiredHashes);
+                cleanedCount += expiredHashes.size();
 
-            for (String key : tokenKeys) {
-                RefreshTokenData tokenData = redisService.get(key, RefreshTokenData.class);
-                if (tokenData != null && tokenData.getExpiredAt().isBefore(LocalDateTime.now())) {
-                    redisService.delete(key);
-                    cleanedCount++;
+                if (expiredHashes.size() < CLEANUP_BATCH_SIZE) {
+                    break;
                 }
             }
 
@@ -0,0 +1,109 @@
+package com.dolpin.domain.auth.service.cache;
+
+import com.dolpin.global.redis.service.RedisService;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import com.dolpin.global.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 블랙리스트 토큰 해시의 로컬 Bloom 필터
+ * 필터에 없으면 블랙리스트가 아님이 확실하므로 Redis 조회를 생략한다.
+ * 시작 시 SCAN으로 채우고, 이후 블랙리스트 등록은 Pub/Sub 채널로 모든 노드에 전파된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistFilter implements MessageListener {
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${auth.blacklist-filter.expected-insertions:100000}")
+    private int expectedInsertions = 100_000;
+
+    @Value("${auth.blacklist-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuildingFilter;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CacheKeyUtil.blacklistTokenChannel()));
+    }
+
+    /**
+     * 블랙리스트일 수 있는지 확인 (false면 Redis 조회 불필요, 필터 준비 전에는 항상 true)
+     */
+    public boolean mightBeBlacklisted(String tokenHash) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(tokenHash);
+    }
+
+    public void add(String tokenHash) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(tokenHash);
+        }
+        BloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) {
+            rebuilding.put(tokenHash);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object tokenHash = redisService.deserializeMessage(message.getBody());
+            if (tokenHash != null) {
+                add(tokenHash.toString());
+            }
+        } catch (Exception e) {
+            log.warn("블랙리스트 필터 동기화 메시지 처리 실패", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        rebuild();
+    }
+
+    /**
+     * Redis의 블랙리스트 키로 필터 재구성
+     * Bloom 필터는 삭제가 불가능하므로 TTL이 지난 항목이 쌓이지 않도록 주기적으로 새로 만든다.
+     */
+    @Scheduled(initialDelay = 21_600_000, fixedDelay = 21_600_000)
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = next;
+        try {
+            String prefix = CacheKeyUtil.blacklistTokenPrefix();
+            AtomicInteger count = new AtomicInteger();
+            redisService.scanKeys(prefix + "*", key -> {
+                next.put(key.substring(prefix.length()));
+                count.incrementAndGet();
+            });
+
+            filter = next;
+            log.info("블랙리스트 필터 재구성 완료: {}개", count.get());
+        } catch (Exception e) {
+            // 실패 시 기존 필터 유지 (준비 전이면 계속 Redis로 확인)
+            log.error("블랙리스트 필터 재구성 실패", e);
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+}
@@ -4,15 +4,32 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 public class CookieService {
 
+    private static final long REFRESH_TOKEN_MAX_AGE_SECONDS = 14 * 24 * 60 * 60;
+
     @Value("${cookie.domain:}")
     private String cookieDomain;
 
+    /**
+     * 액세스 토큰 Set-Cookie 헤더 값 (비동기 응답처럼 서블릿 응답 객체를 직접 다루지 않는 경우 ResponseEntity 헤더로 사용)
+     */
+    public ResponseCookie createAccessTokenCookie(String accessToken, long expiresIn) {
+        return createTokenCookie("access_token", accessToken, expiresIn);
+    }
+
+    /**
+     * 리프레시 토큰 Set-Cookie 헤더 값
+     */
+    public ResponseCookie createRefreshTokenCookie(String refreshToken) {
+        return createTokenCookie("refresh_token", refreshToken, REFRESH_TOKEN_MAX_AGE_SECONDS);
+    }
+
     public void addAccessTokenCookie(HttpServletResponse response, String accessToken, long expiresIn) {
         log.info("=== ACCESS TOKEN COOKIE DEBUG ===");
         log.info("cookieDomain from properties: '{}'", cookieDomain);
@@ -102,4 +119,18 @@ public class CookieService {
         log.info("Refresh token cookie deletion added");
         log.info("===================================");
     }
-}
\ No newline at end of file
+
+    private ResponseCookie createTokenCookie(String name, String value, long maxAgeSeconds) {
+        ResponseCookie.ResponseCookieBuilder builder = ResponseCookie.from(name, value)
+                .httpOnly(true)
+                .secure(true)
+                .path("/")
+                .maxAge(maxAgeSeconds)
+                .sameSite("None");
+
+        if (cookieDomain != null && !cookieDomain.isEmpty()) {
+            builder.domain(cookieDomain);
+        }
+        return builder.build();
+    }
+}
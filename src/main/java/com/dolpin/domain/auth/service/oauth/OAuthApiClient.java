@@ -1,13 +1,14 @@
 package com.dolpin.domain.auth.service.oauth;
 
 import com.dolpin.domain.auth.entity.enums.OAuthProvider;
+import reactor.core.publisher.Mono;
 
 public interface OAuthApiClient {
-    // 토큰 발급 요청
-    String requestAccessToken(OAuthLoginParams params);
+    // 토큰 발급 요청 (토큰이 없으면 빈 Mono)
+    Mono<String> requestAccessToken(OAuthLoginParams params);
 
     // 사용자 정보 요청
-    OAuthInfoResponse requestUserInfo(String accessToken);
+    Mono<OAuthInfoResponse> requestUserInfo(String accessToken);
 
     OAuthProvider oauthProvider();
 }
\ No newline at end of file
@@ -6,26 +6,28 @@ import com.dolpin.domain.auth.service.oauth.OAuthLoginParams;
 import com.dolpin.domain.auth.service.oauth.OAuthInfoResponse;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 /**
- * Kakao OAuth API Client
+ * Kakao OAuth API Client (커넥션 풀 기반 비동기 호출)
  */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class KakaoApiClient implements OAuthApiClient {
 
-    private final RestTemplate restTemplate;
+    private final WebClient webClient;
+
+    public KakaoApiClient(@Qualifier("oauthWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
 
     @Value("${kakao.oauth.authorization-uri}")
     private String authorizationUri;
@@ -45,13 +47,10 @@ public class KakaoApiClient implements OAuthApiClient {
     }
 
     @Override
-    public String requestAccessToken(OAuthLoginParams loginParams) {
+    public Mono<String> requestAccessToken(OAuthLoginParams loginParams) {
 
         String tokenUrl = authorizationUri.replace("/oauth/authorize", "/oauth/token");
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
         MultiValueMap<String, String> body = loginParams.makeBody();
         body.add("grant_type", "authorization_code");
         body.add("client_id", clientId);
@@ -69,24 +68,27 @@ public class KakaoApiClient implements OAuthApiClient {
         body.add("redirect_uri", actualRedirectUri);
         body.add("code", loginParams.getAuthorizationCode());
 
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(body, headers);
-        KakaoTokenResponse response = restTemplate.postForObject(tokenUrl, request, KakaoTokenResponse.class);
-        return (response != null) ? response.getAccessToken() : null;
+        return webClient.post()
+                .uri(tokenUrl)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(body))
+                .retrieve()
+                .bodyToMono(KakaoTokenResponse.class)
+                .mapNotNull(KakaoTokenResponse::getAccessToken);
     }
 
     @Override
-    public OAuthInfoResponse requestUserInfo(String accessToken) {
+    public Mono<OAuthInfoResponse> requestUserInfo(String accessToken) {
         String url = apiUrl + "/v2/user/me";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-        headers.setBearerAuth(accessToken);
-
-        MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
-        body.add("property_keys", "[\"kakao_account.email\",\"kakao_account.profile\"]");
-
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(body, headers);
-        return restTemplate.postForObject(url, request, KakaoInfoResponse.class);
+        return webClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .body(BodyInserters.fromFormData("property_keys", "[\"kakao_account.email\",\"kakao_account.profile\"]"))
+                .retrieve()
+                .bodyToMono(KakaoInfoResponse.class)
+                .cast(OAuthInfoResponse.class);
     }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -1,6 +1,7 @@
 package com.dolpin.domain.auth.service.token;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +24,9 @@ public class JwtTokenProvider {
 
     private SecretKey key; // Key 대신 SecretKey 사용
 
+    // 파서는 불변이고 스레드 안전하므로 한 번만 생성
+    private JwtParser parser;
+
     @PostConstruct
     public void init() {
         try {
@@ -32,6 +36,9 @@ public class JwtTokenProvider {
             }
             // SecretKey로 변환
             this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+            this.parser = Jwts.parser()
+                    .verifyWith(key)
+                    .build();
         } catch (Exception e) {
             log.error("JWT token provider initialization failed: {}", e.getMessage(), e);
             throw new RuntimeException("JWT token provider initialization failed", e);
@@ -51,21 +58,12 @@ public class JwtTokenProvider {
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key) // 이제 SecretKey로 정상 동작할 것입니다
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return Long.parseLong(claims.getSubject());
+        return Long.parseLong(parseClaims(token).getSubject());
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key) // 이제 SecretKey로 정상 동작할 것입니다
-                    .build()
-                    .parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (Exception e) {
             log.error("JWT token validation error: {}", e.getMessage());
@@ -73,7 +71,27 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * 토큰 검증과 사용자 ID 추출을 한 번의 파싱으로 처리 (유효하지 않으면 null)
+     */
+    public Long getVerifiedUserId(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(parseClaims(token).getSubject());
+        } catch (Exception e) {
+            log.error("JWT token validation error: {}", e.getMessage());
+            return null;
+        }
+    }
+
     public long getExpirationMs() {
         return expirationMs;
     }
-}
\ No newline at end of file
+
+    private Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
@@ -11,11 +11,11 @@ import com.dolpin.global.redis.util.CacheKeyUtil;
 import com.dolpin.global.response.ResponseStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,6 +27,10 @@ public class TokenService {
     private final RefreshTokenCacheService refreshTokenCacheService; // 새로 추가
     private final JwtTokenProvider jwtTokenProvider;
 
+    // 리프레시 토큰의 DB 이중 저장 여부 (검증은 Redis만 사용하므로 기본 비활성화)
+    @Value("${auth.refresh-token.db-write-enabled:false}")
+    private boolean dbWriteEnabled;
+
     @Transactional
     public Token createRefreshToken(User user) {
         // 1. 기존 유효한 토큰 확인 (Redis에서)
@@ -50,7 +54,7 @@ public class TokenService {
 
         refreshTokenCacheService.saveRefreshToken(tokenHash, tokenData);
 
-        // 4. DB에도 저장 (기존 호환성 유지 - 나중에 제거 가능)
+        // 4. DB 저장은 설정된 경우에만 (기존 호환성 유지용)
         Token dbToken = Token.builder()
                 .user(user)
                 .token(refreshToken)
@@ -61,25 +65,20 @@ public class TokenService {
                 .build();
 
         log.info("새 리프레시 토큰 생성: userId={}", user.getId());
-        return tokenRepository.save(dbToken);
+        return dbWriteEnabled ? tokenRepository.save(dbToken) : dbToken;
     }
 
-    @Transactional
+    // Redis만 사용하므로 DB 트랜잭션(커넥션 점유) 없이 처리
     public RefreshTokenResponse refreshAccessToken(String refreshToken) {
         String tokenHash = generateTokenHash(refreshToken);
 
-        // Redis에서 토큰 검증
-        if (!refreshTokenCacheService.isValidToken(tokenHash)) {
-            throw new BusinessException(
-                    ResponseStatus.UNAUTHORIZED.withMessage("리프레시 토큰이 유효하지 않습니다."));
-        }
-
+        // Redis에서 블랙리스트 확인과 토큰 조회를 한 번에 수행
         RefreshTokenCacheService.RefreshTokenData tokenData =
-                refreshTokenCacheService.getRefreshToken(tokenHash);
+                refreshTokenCacheService.getValidRefreshToken(tokenHash);
 
         if (tokenData == null) {
             throw new BusinessException(
-                    ResponseStatus.UNAUTHORIZED.withMessage("리프레시 토큰을 찾을 수 없습니다."));
+                    ResponseStatus.UNAUTHORIZED.withMessage("리프레시 토큰이 유효하지 않습니다."));
         }
 
         // 새 액세스 토큰 생성
@@ -96,9 +95,8 @@ public class TokenService {
     public void invalidateRefreshToken(String refreshToken) {
         String tokenHash = generateTokenHash(refreshToken);
 
-        // Redis에서 토큰 무효화
-        refreshTokenCacheService.blacklistToken(tokenHash);
-        refreshTokenCacheService.deleteRefreshToken(tokenHash);
+        // Redis에서 토큰 무효화 (블랙리스트 등록 + 삭제를 한 번에)
+        refreshTokenCacheService.revokeRefreshToken(tokenHash);
 
         // DB에서도 무효화 (기존 호환성)
         tokenRepository.findByToken(refreshToken).ifPresent(token -> {
@@ -114,12 +112,10 @@ public class TokenService {
         // Redis에서 사용자의 모든 토큰 무효화
         refreshTokenCacheService.invalidateUserTokens(user.getId());
 
-        // DB에서도 무효화 (기존 호환성)
-        List<Token> userTokens = tokenRepository.findAllByUser(user);
-        userTokens.forEach(Token::revoke);
-        tokenRepository.saveAll(userTokens);
+        // DB에서도 무효화 (기존 호환성, 토큰을 읽지 않고 단일 UPDATE)
+        int revokedRows = tokenRepository.revokeAllByUserId(user.getId());
 
-        log.info("사용자 모든 토큰 무효화 완료: userId={}", user.getId());
+        log.info("사용자 모든 토큰 무효화 완료: userId={}, revokedRows={}", user.getId(), revokedRows);
     }
 
     // ===================== 헬퍼 메서드 =====================
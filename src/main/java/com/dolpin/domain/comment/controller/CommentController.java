@@ -5,7 +5,7 @@ import com.dolpin.domain.comment.dto.response.CommentCreateResponse;
 import com.dolpin.domain.comment.dto.response.CommentListResponse;
 import com.dolpin.domain.comment.service.command.CommentCommandService;
 import com.dolpin.domain.comment.service.query.CommentQueryService;
-import com.dolpin.global.redis.service.DuplicatePreventionService;
+import com.dolpin.global.redis.service.IdempotencyService;
 import com.dolpin.global.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -26,7 +26,7 @@ public class CommentController {
 
     private final CommentQueryService commentQueryService;
     private final CommentCommandService commentCommandService;
-    private final DuplicatePreventionService duplicatePreventionService;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping("/{moment_id}/comments")
     public ResponseEntity<ApiResponse<CommentListResponse>> getComments(
@@ -41,31 +41,36 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success("get_comment_success", response));
     }
 
+    @GetMapping("/{moment_id}/comments/{comment_id}/replies")
+    public ResponseEntity<ApiResponse<CommentListResponse>> getReplies(
+            @PathVariable("moment_id") Long momentId,
+            @PathVariable("comment_id") Long commentId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Long currentUserId = userDetails != null ? Long.parseLong(userDetails.getUsername()) : null;
+        CommentListResponse response = commentQueryService.getRepliesByCommentId(momentId, commentId, limit, cursor, currentUserId);
+
+        return ResponseEntity.ok(ApiResponse.success("get_reply_success", response));
+    }
+
     @PostMapping("/{moment_id}/comments")
     public ResponseEntity<ApiResponse<CommentCreateResponse>> createComment(
             @PathVariable("moment_id") Long momentId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CommentCreateRequest request,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         Long userId = Long.parseLong(userDetails.getUsername());
 
-        // 1. 동시 요청 방지를 위한 락 키
-        String lockKey = duplicatePreventionService.generateKey(userId, "createComment", momentId);
-
-        // 2. 내용 중복 검증을 위한 키 (해시 기반)
-        String contentKey = duplicatePreventionService.generateContentKey(
-                userId, momentId, request.getContent());
-
-        // Redisson 락으로 중복 요청 방지 (대기 0초, 점유 3초)
-        return duplicatePreventionService.executeWithLock(lockKey, 0, 3, () -> {
-
-            // 내용 중복 검증
-            duplicatePreventionService.checkDuplicateContent(
-                    contentKey,
-                    "동일한 댓글이 이미 등록되어 있습니다.",
-                    Duration.ofMinutes(1)
-            );
+        // 클라이언트 키가 없으면 (기록, 부모 댓글, 내용) 해시로 중복 판단
+        String requestKey = idempotencyService.generateKey("createComment", userId, idempotencyKey,
+                momentId, request.getParentCommentId(),
+                request.getContent() != null ? request.getContent().trim() : null);
 
+        // 동일 댓글은 1분간 최초 응답을 재전송
+        return idempotencyService.execute(requestKey, Duration.ofMinutes(1), () -> {
             CommentCreateResponse response = commentCommandService.createComment(momentId, request, userId);
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success("comment_created", response));
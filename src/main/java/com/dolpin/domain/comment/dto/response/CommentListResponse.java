@@ -1,6 +1,7 @@
 package com.dolpin.domain.comment.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,7 +24,7 @@ public class CommentListResponse {
     private LinksDto links;
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     public static class CommentDto {
@@ -37,6 +38,13 @@ public class CommentListResponse {
         private LocalDateTime createdAt;
 
         private Boolean isOwner;
+
+        // 최상위 댓글에만 포함: 전체 대댓글 수와 앞쪽 일부 대댓글 (나머지는 대댓글 목록 API로 조회)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long replyCount;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private List<CommentDto> replies;
     }
 
     @Getter
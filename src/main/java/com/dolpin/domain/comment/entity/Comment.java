@@ -16,7 +16,8 @@ import java.util.List;
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_id_seq_generator")
+    @SequenceGenerator(name = "comment_id_seq_generator", sequenceName = "comment_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -36,6 +37,20 @@ public class Comment {
     @Builder.Default
     private Integer depth = 0;
 
+    // 스레드 정렬 키: 루트 댓글 ID와 루트 댓글 작성 시각 (대댓글은 부모 댓글의 스레드 값을 그대로 사용)
+    // 루트 댓글의 thread_root_id는 INSERT 직전에 CommentThreadRootListener가 채움
+    @Column(name = "thread_root_id")
+    private Long threadRootId;
+
+    @Column(name = "thread_created_at")
+    private LocalDateTime threadCreatedAt;
+
+    // 대댓글 수 (루트 댓글에만 집계, 스레드 전체 기준) - 대댓글 생성/삭제 트랜잭션에서 원자적으로 증감하며, 엔티티 저장 시에는 덮어쓰지 않음
+    @Column(name = "reply_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long replyCount = 0L;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -50,6 +65,9 @@ public class Comment {
         LocalDateTime now = LocalDateTime.now();
         this.createdAt = now;
         this.updatedAt = now;
+        if (this.threadCreatedAt == null) {
+            this.threadCreatedAt = now;
+        }
     }
 
     @PreUpdate
@@ -80,4 +98,9 @@ public class Comment {
     public boolean isReply() {
         return this.parentComment != null;
     }
+
+    // 루트 댓글은 자기 자신이 스레드 루트 (시퀀스 ID가 할당된 뒤 INSERT 직전에 호출됨)
+    void assignThreadRoot(Long id) {
+        this.threadRootId = id;
+    }
 }
@@ -0,0 +1,27 @@
+package com.dolpin.domain.comment.entity;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * 댓글 엔티티용 Hibernate 이벤트 리스너 등록
+ * (META-INF/services로 등록하므로 JPA 슬라이스 테스트에서도 동일하게 적용됨)
+ */
+public class CommentEventIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+                          SessionFactoryServiceRegistry serviceRegistry) {
+        serviceRegistry.getService(EventListenerRegistry.class)
+                .appendListeners(EventType.PRE_INSERT, new CommentThreadRootListener());
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // 해제할 자원 없음
+    }
+}
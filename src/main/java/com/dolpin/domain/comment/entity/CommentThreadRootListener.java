@@ -0,0 +1,33 @@
+package com.dolpin.domain.comment.entity;
+
+import org.hibernate.event.spi.PreInsertEvent;
+import org.hibernate.event.spi.PreInsertEventListener;
+
+/**
+ * 루트 댓글의 thread_root_id를 INSERT 문에 포함시키는 리스너
+ * 시퀀스 ID는 @PrePersist 이후에 할당되므로, ID가 정해진 INSERT 직전에 엔티티와 INSERT 상태 배열을 함께 채운다.
+ * (저장 후 엔티티만 바꾸면 같은 flush에서 UPDATE가 한 번 더 나가고, NOT NULL 제약에서는 INSERT 자체가 실패함)
+ */
+public class CommentThreadRootListener implements PreInsertEventListener {
+
+    private static final String THREAD_ROOT_ID = "threadRootId";
+
+    @Override
+    public boolean onPreInsert(PreInsertEvent event) {
+        if (!(event.getEntity() instanceof Comment comment) || comment.getThreadRootId() != null) {
+            return false;
+        }
+
+        Long id = (Long) event.getId();
+        comment.assignThreadRoot(id);
+
+        String[] propertyNames = event.getPersister().getPropertyNames();
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (THREAD_ROOT_ID.equals(propertyNames[i])) {
+                event.getState()[i] = id;
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package com.dolpin.domain.comment.event;
+
+import com.dolpin.domain.comment.service.cache.CommentPageCacheService;
+import com.dolpin.domain.moment.service.cache.MomentCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCacheEventListener {
+
+    private final MomentCacheService momentCacheService;
+    private final CommentPageCacheService commentPageCacheService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async("bookmarkCacheExecutor")
+    public void handleCommentChanged(CommentChangedEvent event) {
+        try {
+            // 커밋 이후 무효화하여 이전 댓글 수가 다시 캐시되지 않도록 함 (다음 조회는 moment.comment_count 단건 조회)
+            momentCacheService.invalidateCommentCount(event.getMomentId());
+            commentPageCacheService.invalidate(event.getMomentId());
+
+            log.debug("댓글 수 / 첫 페이지 캐시 무효화 완료: momentId={}, commentId={}, created={}",
+                    event.getMomentId(), event.getCommentId(), event.isCreated());
+
+        } catch (Exception e) {
+            log.error("댓글 수 캐시 무효화 실패: momentId={}", event.getMomentId(), e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.dolpin.domain.comment.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CommentChangedEvent {
+    private final Long momentId;
+    private final Long commentId;
+    private final boolean created; // true: 생성, false: 삭제
+
+    public static CommentChangedEvent created(Long momentId, Long commentId) {
+        return new CommentChangedEvent(momentId, commentId, true);
+    }
+
+    public static CommentChangedEvent deleted(Long momentId, Long commentId) {
+        return new CommentChangedEvent(momentId, commentId, false);
+    }
+}
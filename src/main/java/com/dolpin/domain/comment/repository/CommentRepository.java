@@ -4,6 +4,7 @@ import com.dolpin.domain.comment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,43 +16,85 @@ import java.util.Optional;
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    // 스레드 기반 정렬 - 첫 페이지용 (네이티브 쿼리)
+    // 루트 댓글 - 첫 페이지 (idx_comment_root_order 인덱스 순서 그대로 조회)
     @Query(value = "SELECT * FROM comment c " +
             "WHERE c.moment_id = :momentId " +
+            "AND c.parent_comment_id IS NULL " +
             "AND c.deleted_at IS NULL " +
-            "ORDER BY " +
-            "CASE WHEN c.parent_comment_id IS NULL THEN c.created_at " +
-            "     ELSE (SELECT parent.created_at FROM comment parent WHERE parent.id = c.parent_comment_id) " +
-            "END ASC, " +
-            "c.parent_comment_id ASC NULLS FIRST, " +
-            "c.created_at ASC " +
-            "LIMIT :limit OFFSET :offset",
+            "ORDER BY c.created_at ASC, c.id ASC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Comment> findRootsByMomentId(
+            @Param("momentId") Long momentId,
+            @Param("limit") int limit);
+
+    // 루트 댓글 - 커서(created_at, id) 이후 페이지
+    @Query(value = "SELECT * FROM comment c " +
+            "WHERE c.moment_id = :momentId " +
+            "AND c.parent_comment_id IS NULL " +
+            "AND c.deleted_at IS NULL " +
+            "AND (c.created_at, c.id) > (:createdAt, :id) " +
+            "ORDER BY c.created_at ASC, c.id ASC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Comment> findRootsByMomentIdAfter(
+            @Param("momentId") Long momentId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            @Param("limit") int limit);
+
+    // 루트 댓글별 앞쪽 대댓글 미리보기 - 스레드마다 idx_comment_thread_order 범위를 최대 :perThread건만 읽음
+    @Query(value = "SELECT r.* FROM comment p " +
+            "CROSS JOIN LATERAL (" +
+            "    SELECT * FROM comment c " +
+            "    WHERE c.moment_id = p.moment_id " +
+            "    AND c.thread_created_at = p.thread_created_at " +
+            "    AND c.thread_root_id = p.id " +
+            "    AND c.parent_comment_id IS NOT NULL " +
+            "    AND c.deleted_at IS NULL " +
+            "    ORDER BY c.created_at ASC, c.id ASC " +
+            "    LIMIT :perThread" +
+            ") r " +
+            "WHERE p.id IN (:rootIds) " +
+            "ORDER BY r.thread_root_id ASC, r.created_at ASC, r.id ASC",
+            nativeQuery = true)
+    List<Comment> findReplyPreviews(
+            @Param("rootIds") List<Long> rootIds,
+            @Param("perThread") int perThread);
+
+    // 대댓글 - 첫 페이지 (스레드 키가 모두 등치 조건이라 idx_comment_thread_order 범위 스캔)
+    @Query(value = "SELECT * FROM comment c " +
+            "WHERE c.moment_id = :momentId " +
+            "AND c.thread_created_at = :threadCreatedAt " +
+            "AND c.thread_root_id = :threadRootId " +
+            "AND c.parent_comment_id IS NOT NULL " +
+            "AND c.deleted_at IS NULL " +
+            "ORDER BY c.created_at ASC, c.id ASC " +
+            "LIMIT :limit",
             nativeQuery = true)
-    List<Comment> findByMomentIdAndNotDeletedWithPagination(
+    List<Comment> findRepliesByThread(
             @Param("momentId") Long momentId,
-            @Param("limit") int limit,
-            @Param("offset") int offset);
+            @Param("threadCreatedAt") LocalDateTime threadCreatedAt,
+            @Param("threadRootId") Long threadRootId,
+            @Param("limit") int limit);
 
-    // 스레드 기반 정렬 - 커서 기반 페이지네이션
+    // 대댓글 - 커서(created_at, id) 이후 페이지
     @Query(value = "SELECT * FROM comment c " +
             "WHERE c.moment_id = :momentId " +
+            "AND c.thread_created_at = :threadCreatedAt " +
+            "AND c.thread_root_id = :threadRootId " +
+            "AND c.parent_comment_id IS NOT NULL " +
             "AND c.deleted_at IS NULL " +
-            "AND (:cursor IS NULL OR " +
-            "     CASE WHEN c.parent_comment_id IS NULL " +
-            "          THEN c.created_at > CAST(:cursor AS timestamp) " +
-            "          ELSE (SELECT parent.created_at FROM comment parent WHERE parent.id = c.parent_comment_id) > CAST(:cursor AS timestamp) " +
-            "     END) " +
-            "ORDER BY " +
-            "CASE WHEN c.parent_comment_id IS NULL THEN c.created_at " +
-            "     ELSE (SELECT parent.created_at FROM comment parent WHERE parent.id = c.parent_comment_id) " +
-            "END ASC, " +
-            "c.parent_comment_id ASC NULLS FIRST, " +
-            "c.created_at ASC " +
+            "AND (c.created_at, c.id) > (:createdAt, :id) " +
+            "ORDER BY c.created_at ASC, c.id ASC " +
             "LIMIT :limit",
             nativeQuery = true)
-    List<Comment> findByMomentIdAndNotDeletedWithCursorNative(
+    List<Comment> findRepliesByThreadAfter(
             @Param("momentId") Long momentId,
-            @Param("cursor") String cursor,
+            @Param("threadCreatedAt") LocalDateTime threadCreatedAt,
+            @Param("threadRootId") Long threadRootId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
             @Param("limit") int limit);
 
     // 나머지 메서드들은 그대로 유지
@@ -69,14 +112,23 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             @Param("commentId") Long commentId,
             @Param("momentId") Long momentId);
 
-    @Query("SELECT COUNT(c) FROM Comment c " +
-            "WHERE c.momentId = :momentId " +
+    @Modifying
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt, c.updatedAt = :deletedAt " +
+            "WHERE c.id = :commentId " +
             "AND c.deletedAt IS NULL")
-    long countByMomentIdAndNotDeleted(@Param("momentId") Long momentId);
+    int softDeleteIfNotDeleted(@Param("commentId") Long commentId, @Param("deletedAt") LocalDateTime deletedAt);
 
-    @Query("SELECT c.momentId, COUNT(c) FROM Comment c " +
-            "WHERE c.momentId IN :momentIds " +
-            "AND c.deletedAt IS NULL " +
-            "GROUP BY c.momentId")
-    List<Object[]> countByMomentIds(@Param("momentIds") List<Long> momentIds);
+    // 대댓글 수 증감 (대댓글 생성과 같은 트랜잭션에서 스레드 루트 댓글에 대해 실행)
+    @Modifying
+    @Query(value = "UPDATE comment SET reply_count = GREATEST(reply_count + :delta, 0) WHERE id = :commentId",
+            nativeQuery = true)
+    int adjustReplyCount(@Param("commentId") Long commentId, @Param("delta") long delta);
+
+    // 대댓글 삭제 시 스레드 루트 댓글의 대댓글 수 감소 (루트 댓글이면 갱신 대상 없음)
+    @Modifying
+    @Query(value = "UPDATE comment SET reply_count = GREATEST(reply_count - 1, 0) " +
+            "WHERE id = (SELECT c.thread_root_id FROM comment c " +
+            "            WHERE c.id = :commentId AND c.parent_comment_id IS NOT NULL)",
+            nativeQuery = true)
+    int decrementThreadReplyCount(@Param("commentId") Long commentId);
 }
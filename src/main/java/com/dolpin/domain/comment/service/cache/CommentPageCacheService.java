@@ -0,0 +1,116 @@
+package com.dolpin.domain.comment.service.cache;
+
+import com.dolpin.domain.comment.dto.response.CommentListResponse;
+import com.dolpin.global.redis.service.RedisService;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 기록별 댓글 첫 페이지(커서 없음) 캐시
+ * 조회자와 무관한 내용만 저장하고 isOwner는 조회 시점에 채운다.
+ * 댓글 생성/삭제 커밋 후 버전을 바꿔 무효화하므로, 무효화 전에 시작된 재계산 결과는 이전 버전 키에만 저장된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentPageCacheService {
+
+    private final RedisService redisService;
+
+    // TTL 설정 (작성자 프로필 변경은 TTL 내에서만 지연 반영)
+    private static final Duration PAGE_TTL = Duration.ofMinutes(1);
+
+    // 버전 키는 페이지보다 길게 유지하여 만료 후 초기 버전으로 돌아가도 이전 페이지가 남아있지 않도록 함
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private static final String INITIAL_VERSION = "0";
+
+    // 같은 키에 대한 동시 재계산을 하나로 합침 (single-flight)
+    private final ConcurrentHashMap<String, CompletableFuture<CommentListResponse>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 댓글 첫 페이지 조회 (캐시 미스 시 loader로 재계산)
+     */
+    public CommentListResponse getFirstPage(Long momentId, Integer limit, Supplier<CommentListResponse> loader) {
+        String key = CacheKeyUtil.commentFirstPage(momentId, getVersion(momentId), limit);
+
+        CommentListResponse cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<CommentListResponse> flight = new CompletableFuture<>();
+        CompletableFuture<CommentListResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            log.debug("댓글 첫 페이지 재계산 대기: key={}", key);
+            return await(existing);
+        }
+
+        try {
+            CommentListResponse response = loader.get();
+            cache(key, response);
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 댓글 첫 페이지 캐시 무효화 (모든 limit의 페이지가 함께 무효화됨)
+     */
+    public void invalidate(Long momentId) {
+        try {
+            redisService.set(CacheKeyUtil.commentFirstPageVersion(momentId), UUID.randomUUID().toString(), VERSION_TTL);
+            log.debug("댓글 첫 페이지 캐시 무효화: momentId={}", momentId);
+        } catch (Exception e) {
+            log.warn("댓글 첫 페이지 캐시 무효화 실패: momentId={}", momentId, e);
+        }
+    }
+
+    private String getVersion(Long momentId) {
+        String version = redisService.get(CacheKeyUtil.commentFirstPageVersion(momentId), String.class);
+        return version != null ? version : INITIAL_VERSION;
+    }
+
+    private CommentListResponse getCached(String key) {
+        try {
+            return redisService.get(key, CommentListResponse.class);
+        } catch (Exception e) {
+            log.warn("댓글 첫 페이지 캐시 조회 실패: key={}", key, e);
+            return null;
+        }
+    }
+
+    private void cache(String key, CommentListResponse response) {
+        try {
+            redisService.set(key, response, PAGE_TTL);
+            log.debug("댓글 첫 페이지 캐시 저장: key={}", key);
+        } catch (Exception e) {
+            log.warn("댓글 첫 페이지 캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    private CommentListResponse await(CompletableFuture<CommentListResponse> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
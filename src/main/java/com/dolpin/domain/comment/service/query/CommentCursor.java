@@ -0,0 +1,80 @@
+package com.dolpin.domain.comment.service.query;
+
+import com.dolpin.domain.comment.entity.Comment;
+import com.dolpin.global.exception.BusinessException;
+import com.dolpin.global.response.ResponseStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 커서 (thread_created_at, thread_root_id, created_at, id)
+ * 최상위 댓글 목록은 스레드 키(thread_created_at, thread_root_id) 이후부터, 대댓글 목록은 (created_at, id) 이후부터 이어서 조회한다.
+ * 루트 댓글은 두 키가 같으므로 이전 스레드 혼합 목록에서 발급된 커서도 해당 스레드 다음부터 이어진다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime threadCreatedAt;
+    private final Long threadRootId;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static CommentCursor from(Comment comment) {
+        return new CommentCursor(comment.getThreadCreatedAt(), comment.getThreadRootId(),
+                comment.getCreatedAt(), comment.getId());
+    }
+
+    /**
+     * 커서 문자열 디코딩 (없으면 null = 첫 페이지)
+     */
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("invalid cursor parts");
+            }
+
+            return new CommentCursor(
+                    LocalDateTime.parse(parts[0]),
+                    Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]),
+                    Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return decodeLegacy(cursor);
+        }
+    }
+
+    /**
+     * 불투명 커서 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = threadCreatedAt + DELIMITER + threadRootId + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 이전 버전 클라이언트의 스레드 시각 단독 커서 호환 (해당 시각의 스레드까지 모두 건너뜀)
+    private static CommentCursor decodeLegacy(String cursor) {
+        String timestamp = cursor.endsWith("Z") ? cursor.substring(0, cursor.length() - 1) : cursor;
+        try {
+            LocalDateTime threadCreatedAt = LocalDateTime.parse(timestamp);
+            return new CommentCursor(threadCreatedAt, Long.MAX_VALUE, threadCreatedAt, Long.MAX_VALUE);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ResponseStatus.INVALID_PARAMETER.withMessage("유효하지 않은 커서입니다."));
+        }
+    }
+}
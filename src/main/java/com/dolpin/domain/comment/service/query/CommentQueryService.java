@@ -4,4 +4,6 @@ import com.dolpin.domain.comment.dto.response.CommentListResponse;
 
 public interface CommentQueryService {
     CommentListResponse getCommentsByMomentId(Long momentId, Integer limit, String cursor, Long currentUserId);
+
+    CommentListResponse getRepliesByCommentId(Long momentId, Long commentId, Integer limit, String cursor, Long currentUserId);
 }
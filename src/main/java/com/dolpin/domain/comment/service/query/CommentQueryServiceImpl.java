@@ -3,6 +3,7 @@ package com.dolpin.domain.comment.service.query;
 import com.dolpin.domain.comment.dto.response.CommentListResponse;
 import com.dolpin.domain.comment.entity.Comment;
 import com.dolpin.domain.comment.repository.CommentRepository;
+import com.dolpin.domain.comment.service.cache.CommentPageCacheService;
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.user.entity.User;
@@ -16,8 +17,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -31,30 +32,113 @@ public class CommentQueryServiceImpl implements CommentQueryService {
     private final CommentRepository commentRepository;
     private final MomentRepository momentRepository;
     private final UserQueryService userQueryService;
+    private final CommentPageCacheService commentPageCacheService;
 
     private static final int DEFAULT_LIMIT = 10;
     private static final int MAX_LIMIT = 50;
+    private static final int REPLY_PREVIEW_LIMIT = 3;
 
     @Override
     @Transactional(readOnly = true)
     public CommentListResponse getCommentsByMomentId(Long momentId, Integer limit, String cursor, Long currentUserId) {
         // 기록 존재 및 접근 권한 확인
-        Moment moment = validateMomentAccess(momentId, currentUserId);
+        validateMomentAccess(momentId, currentUserId);
+
+        int pageSize = validateAndGetLimit(limit);
+        CommentCursor commentCursor = CommentCursor.decode(cursor);
+
+        if (commentCursor == null) {
+            // 첫 페이지는 조회자와 무관한 내용으로 캐시하고 isOwner만 요청마다 채움
+            CommentListResponse firstPage = commentPageCacheService.getFirstPage(momentId, pageSize,
+                    () -> loadCommentPage(momentId, pageSize, null, null));
+            return applyOwnership(firstPage, currentUserId);
+        }
+
+        return loadCommentPage(momentId, pageSize, commentCursor, currentUserId);
+    }
+
+    private CommentListResponse loadCommentPage(Long momentId, int pageSize, CommentCursor commentCursor, Long currentUserId) {
+        int queryLimit = pageSize + 1; // hasNext 판단용
+
+        List<Comment> roots;
+
+        if (commentCursor != null) {
+            // 커서 기반 페이지네이션 - 커서의 스레드 위치 이후 루트 댓글만 조회
+            roots = commentRepository.findRootsByMomentIdAfter(
+                    momentId,
+                    commentCursor.getThreadCreatedAt(),
+                    commentCursor.getThreadRootId(),
+                    queryLimit);
+        } else {
+            // 첫 페이지 조회
+            roots = commentRepository.findRootsByMomentId(momentId, queryLimit);
+        }
+
+        boolean hasNext = roots.size() > pageSize;
+        List<Comment> actualRoots = hasNext ? roots.subList(0, pageSize) : roots;
+
+        // 루트 댓글별 앞쪽 대댓글 미리보기 (스레드 순서 유지)
+        Map<Long, List<Comment>> previewMap = getReplyPreviews(actualRoots);
+
+        List<Comment> allComments = new ArrayList<>(actualRoots);
+        previewMap.values().forEach(allComments::addAll);
+        Map<Long, User> userMap = getUserMap(allComments);
+
+        List<CommentListResponse.CommentDto> commentDtos = actualRoots.stream()
+                .map(root -> buildThreadDto(root, previewMap.getOrDefault(root.getId(), List.of()), userMap, currentUserId))
+                .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? CommentCursor.from(actualRoots.get(actualRoots.size() - 1)).encode() : null;
+
+        String baseUrl = String.format("/api/v1/moments/%d/comments", momentId);
+        return buildCommentListResponse(commentDtos, pageSize, hasNext, nextCursor, baseUrl);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentListResponse getRepliesByCommentId(Long momentId, Long commentId, Integer limit, String cursor, Long currentUserId) {
+        // 기록 존재 및 접근 권한 확인
+        validateMomentAccess(momentId, currentUserId);
+
+        Comment root = commentRepository.findByIdAndMomentIdAndNotDeleted(commentId, momentId)
+                .orElseThrow(() -> new BusinessException(ResponseStatus.USER_NOT_FOUND.withMessage("댓글을 찾을 수 없습니다.")));
+
+        if (root.isReply()) {
+            throw new BusinessException(ResponseStatus.INVALID_PARAMETER.withMessage("대댓글 목록은 최상위 댓글에서만 조회할 수 있습니다."));
+        }
 
         int pageSize = validateAndGetLimit(limit);
         int queryLimit = pageSize + 1; // hasNext 판단용
 
-        List<Comment> comments;
+        CommentCursor commentCursor = CommentCursor.decode(cursor);
 
-        if (cursor != null && !cursor.trim().isEmpty()) {
-            // 커서 기반 페이지네이션 (네이티브 쿼리)
-            comments = commentRepository.findByMomentIdAndNotDeletedWithCursorNative(momentId, cursor, queryLimit);
+        List<Comment> replies;
+
+        if (commentCursor != null) {
+            replies = commentRepository.findRepliesByThreadAfter(
+                    momentId,
+                    root.getThreadCreatedAt(),
+                    root.getId(),
+                    commentCursor.getCreatedAt(),
+                    commentCursor.getId(),
+                    queryLimit);
         } else {
-            // 첫 페이지 조회 - 스레드 정렬 사용
-            comments = commentRepository.findByMomentIdAndNotDeletedWithPagination(momentId, queryLimit, 0);
+            replies = commentRepository.findRepliesByThread(momentId, root.getThreadCreatedAt(), root.getId(), queryLimit);
         }
 
-        return buildCommentListResponse(comments, pageSize, currentUserId, momentId);
+        boolean hasNext = replies.size() > pageSize;
+        List<Comment> actualReplies = hasNext ? replies.subList(0, pageSize) : replies;
+
+        Map<Long, User> userMap = getUserMap(actualReplies);
+
+        List<CommentListResponse.CommentDto> commentDtos = actualReplies.stream()
+                .map(reply -> buildCommentDto(reply, userMap.get(reply.getUserId()), currentUserId))
+                .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? CommentCursor.from(actualReplies.get(actualReplies.size() - 1)).encode() : null;
+
+        String baseUrl = String.format("/api/v1/moments/%d/comments/%d/replies", momentId, commentId);
+        return buildCommentListResponse(commentDtos, pageSize, hasNext, nextCursor, baseUrl);
     }
 
     private Moment validateMomentAccess(Long momentId, Long currentUserId) {
@@ -68,31 +152,54 @@ public class CommentQueryServiceImpl implements CommentQueryService {
         return moment;
     }
 
-    private CommentListResponse buildCommentListResponse(List<Comment> comments, int pageSize, Long currentUserId, Long momentId) {
-        boolean hasNext = comments.size() > pageSize;
-        List<Comment> actualComments = hasNext ? comments.subList(0, pageSize) : comments;
-
-        // 사용자 정보 일괄 조회
-        List<Long> userIds = actualComments.stream()
-                .map(Comment::getUserId)
-                .distinct()
-                .collect(Collectors.toList());
+    // 캐시된 첫 페이지는 작성자 ID로 조회자 기준 isOwner를 다시 계산
+    private CommentListResponse applyOwnership(CommentListResponse page, Long currentUserId) {
+        return CommentListResponse.builder()
+                .comments(page.getComments().stream()
+                        .map(comment -> applyOwnership(comment, currentUserId))
+                        .collect(Collectors.toList()))
+                .meta(page.getMeta())
+                .links(page.getLinks())
+                .build();
+    }
 
-        Map<Long, User> userMap = userIds.stream()
-                .map(userQueryService::getUserById)
-                .collect(Collectors.toMap(User::getId, Function.identity()));
+    private CommentListResponse.CommentDto applyOwnership(CommentListResponse.CommentDto comment, Long currentUserId) {
+        return comment.toBuilder()
+                .isOwner(currentUserId != null && currentUserId.equals(comment.getUser().getId()))
+                .replies(comment.getReplies() != null
+                        ? comment.getReplies().stream()
+                                .map(reply -> applyOwnership(reply, currentUserId))
+                                .collect(Collectors.toList())
+                        : null)
+                .build();
+    }
 
-        List<CommentListResponse.CommentDto> commentDtos = actualComments.stream()
-                .map(comment -> buildCommentDto(comment, userMap.get(comment.getUserId()), currentUserId))
+    private Map<Long, List<Comment>> getReplyPreviews(List<Comment> roots) {
+        // 대댓글이 없는 스레드는 미리보기 조회 대상에서 제외
+        List<Long> rootIds = roots.stream()
+                .filter(root -> root.getReplyCount() > 0)
+                .map(Comment::getId)
                 .collect(Collectors.toList());
 
-        String nextCursor = null;
-        if (hasNext && !actualComments.isEmpty()) {
-            nextCursor = actualComments.get(actualComments.size() - 1)
-                    .getCreatedAt()
-                    .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
+        if (rootIds.isEmpty()) {
+            return Map.of();
         }
 
+        return commentRepository.findReplyPreviews(rootIds, REPLY_PREVIEW_LIMIT).stream()
+                .collect(Collectors.groupingBy(Comment::getThreadRootId, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    // 사용자 정보 일괄 조회
+    private Map<Long, User> getUserMap(List<Comment> comments) {
+        return comments.stream()
+                .map(Comment::getUserId)
+                .distinct()
+                .map(userQueryService::getUserById)
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private CommentListResponse buildCommentListResponse(List<CommentListResponse.CommentDto> commentDtos, int pageSize,
+                                                         boolean hasNext, String nextCursor, String baseUrl) {
         CommentListResponse.MetaDto meta = CommentListResponse.MetaDto.builder()
                 .pagination(CommentListResponse.PaginationDto.builder()
                         .limit(pageSize)
@@ -101,7 +208,6 @@ public class CommentQueryServiceImpl implements CommentQueryService {
                         .build())
                 .build();
 
-        String baseUrl = String.format("/api/v1/moments/%d/comments", momentId);
         CommentListResponse.LinksDto links = CommentListResponse.LinksDto.builder()
                 .self(CommentListResponse.LinkDto.builder()
                         .href(String.format("%s?limit=%d", baseUrl, pageSize))
@@ -118,14 +224,28 @@ public class CommentQueryServiceImpl implements CommentQueryService {
                 .build();
     }
 
+    private CommentListResponse.CommentDto buildThreadDto(Comment root, List<Comment> previews,
+                                                          Map<Long, User> userMap, Long currentUserId) {
+        List<CommentListResponse.CommentDto> replyDtos = previews.stream()
+                .map(reply -> buildCommentDto(reply, userMap.get(reply.getUserId()), currentUserId))
+                .collect(Collectors.toList());
+
+        return CommentListResponse.CommentDto.builder()
+                .id(root.getId())
+                .user(buildUserDto(userMap.get(root.getUserId())))
+                .content(root.getContent())
+                .depth(root.getDepth())
+                .createdAt(root.getCreatedAt())
+                .isOwner(root.isOwnedBy(currentUserId))
+                .replyCount(root.getReplyCount())
+                .replies(replyDtos)
+                .build();
+    }
+
     private CommentListResponse.CommentDto buildCommentDto(Comment comment, User user, Long currentUserId) {
         return CommentListResponse.CommentDto.builder()
                 .id(comment.getId())
-                .user(CommentListResponse.UserDto.builder()
-                        .id(user.getId())
-                        .nickname(user.getUsername())
-                        .profileImage(user.getImageUrl())
-                        .build())
+                .user(buildUserDto(user))
                 .content(comment.getContent())
                 .depth(comment.getDepth())
                 .parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
@@ -134,6 +254,14 @@ public class CommentQueryServiceImpl implements CommentQueryService {
                 .build();
     }
 
+    private CommentListResponse.UserDto buildUserDto(User user) {
+        return CommentListResponse.UserDto.builder()
+                .id(user.getId())
+                .nickname(user.getUsername())
+                .profileImage(user.getImageUrl())
+                .build();
+    }
+
     private int validateAndGetLimit(Integer limit) {
         if (limit == null) {
             return DEFAULT_LIMIT;
@@ -2,28 +2,29 @@ package com.dolpin.domain.comment.service.template;
 
 import com.dolpin.domain.comment.dto.response.CommentCreateResponse;
 import com.dolpin.domain.comment.entity.Comment;
+import com.dolpin.domain.comment.event.CommentChangedEvent;
 import com.dolpin.domain.comment.repository.CommentRepository;
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
-import com.dolpin.domain.moment.service.cache.MomentCacheService;
 import com.dolpin.domain.user.entity.User;
 import com.dolpin.domain.user.service.UserQueryService;
 import com.dolpin.global.exception.BusinessException;
 import com.dolpin.global.response.ResponseStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 public class CommentCreateOperation extends CommentOperationTemplate {
 
-    private final MomentCacheService momentCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommentCreateOperation(CommentRepository commentRepository,
                                   MomentRepository momentRepository,
-                                  UserQueryService userQueryService, MomentCacheService momentCacheService) {
+                                  UserQueryService userQueryService, ApplicationEventPublisher eventPublisher) {
         super(commentRepository, momentRepository, userQueryService);
-        this.momentCacheService = momentCacheService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -70,17 +71,26 @@ public class CommentCreateOperation extends CommentOperationTemplate {
                 .content(context.getContent())
                 .depth(0); // 기본값
 
-        // 2. 대댓글 처리
+        // 2. 대댓글 처리 (대댓글에 단 답글도 부모가 속한 루트 댓글의 스레드에 붙음)
         if (context.getParentCommentId() != null) {
             Comment parentComment = getValidatedParentComment(context.getParentCommentId(), context.getMomentId());
-            commentBuilder.parentComment(parentComment).depth(1);
+            commentBuilder.parentComment(parentComment)
+                    .depth(1)
+                    .threadRootId(parentComment.getThreadRootId())
+                    .threadCreatedAt(parentComment.getThreadCreatedAt());
         }
 
-        // 3. 저장
+        // 3. 저장 (루트 댓글의 스레드 키는 INSERT 시점에 함께 기록됨)
         Comment comment = commentBuilder.build();
         Comment savedComment = commentRepository.save(comment);
 
-        // 4. 응답 DTO 생성
+        // 4. 기록의 댓글 수 / 스레드 루트 댓글의 대댓글 수 증가 (같은 트랜잭션, 대댓글에 단 답글도 루트에 집계)
+        momentRepository.adjustCommentCount(context.getMomentId(), 1);
+        if (savedComment.isReply()) {
+            commentRepository.adjustReplyCount(savedComment.getThreadRootId(), 1);
+        }
+
+        // 5. 응답 DTO 생성
         CommentCreateResponse response = CommentCreateResponse.from(savedComment, user, true);
 
         return (T) response;
@@ -97,10 +107,7 @@ public class CommentCreateOperation extends CommentOperationTemplate {
                     response.getId(), context.getMomentId(), context.getUserId(),
                     context.getParentCommentId() != null);
 
-            momentCacheService.invalidateCommentCount(context.getMomentId());
-
-            // 필요시 이벤트 발행
-            // eventPublisher.publishEvent(new CommentCreatedEvent(response.getId(), context.getMomentId()));
+            eventPublisher.publishEvent(CommentChangedEvent.created(context.getMomentId(), response.getId()));
         }
     }
 
@@ -1,28 +1,31 @@
 package com.dolpin.domain.comment.service.template;
 
 import com.dolpin.domain.comment.entity.Comment;
+import com.dolpin.domain.comment.event.CommentChangedEvent;
 import com.dolpin.domain.comment.repository.CommentRepository;
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
-import com.dolpin.domain.moment.service.cache.MomentCacheService;
 import com.dolpin.domain.user.entity.User;
 import com.dolpin.domain.user.service.UserQueryService;
 import com.dolpin.global.exception.BusinessException;
 import com.dolpin.global.response.ResponseStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Component
 public class CommentDeleteOperation extends CommentOperationTemplate {
 
-    private final MomentCacheService momentCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommentDeleteOperation(CommentRepository commentRepository,
                                   MomentRepository momentRepository,
-                                  UserQueryService userQueryService, MomentCacheService momentCacheService) {
+                                  UserQueryService userQueryService, ApplicationEventPublisher eventPublisher) {
         super(commentRepository, momentRepository, userQueryService);
-        this.momentCacheService = momentCacheService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -56,17 +59,16 @@ public class CommentDeleteOperation extends CommentOperationTemplate {
     @Override
     @SuppressWarnings("unchecked")
     protected <T> T executeBusinessLogic(CommentOperationContext context, Moment moment, User user) {
-        // 1. 댓글 조회
-        Comment comment = commentRepository.findByIdAndMomentIdAndNotDeleted(context.getCommentId(), context.getMomentId())
-                .orElseThrow(() -> new BusinessException(ResponseStatus.USER_NOT_FOUND.withMessage("댓글을 찾을 수 없습니다.")));
+        // 1. Soft Delete 실행 (동시 삭제 요청 중 하나만 반영되도록 조건부 업데이트)
+        int deletedRows = commentRepository.softDeleteIfNotDeleted(context.getCommentId(), LocalDateTime.now());
 
-        // 2. Soft Delete 실행
-        comment.softDelete();
-
-        // 3. 저장
-        commentRepository.save(comment);
+        // 2. 실제로 삭제된 경우에만 기록의 댓글 수 / 스레드 루트 댓글의 대댓글 수 감소 (같은 트랜잭션)
+        if (deletedRows > 0) {
+            momentRepository.adjustCommentCount(context.getMomentId(), -1);
+            commentRepository.decrementThreadReplyCount(context.getCommentId());
+        }
 
-        // 4. 삭제 작업은 반환값이 없음
+        // 3. 삭제 작업은 반환값이 없음
         return null;
     }
 
@@ -79,9 +81,6 @@ public class CommentDeleteOperation extends CommentOperationTemplate {
         log.info("댓글 삭제 완료: commentId={}, momentId={}, userId={}",
                 context.getCommentId(), context.getMomentId(), context.getUserId());
 
-        momentCacheService.invalidateCommentCount(context.getMomentId());
-
-        // 필요시 이벤트 발행
-        // eventPublisher.publishEvent(new CommentDeletedEvent(context.getCommentId(), context.getMomentId()));
+        eventPublisher.publishEvent(CommentChangedEvent.deleted(context.getMomentId(), context.getCommentId()));
     }
 }
@@ -4,52 +4,32 @@ import com.dolpin.domain.moment.dto.request.AiMomentGenerationRequest;
 import com.dolpin.domain.moment.dto.response.AiMomentGenerationResponse;
 import com.dolpin.global.exception.BusinessException;
 import com.dolpin.global.response.ResponseStatus;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class MomentAiClient {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final WebClient webClient;
 
     @Value("${ai.service.url}")
     private String aiServiceUrl;
 
     public AiMomentGenerationResponse generateMomentFromPlace(AiMomentGenerationRequest request) {
-        String url = aiServiceUrl + "/v1/moment/generate";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        HttpEntity<AiMomentGenerationRequest> entity = new HttpEntity<>(request, headers);
-
         try {
-            log.info("Requesting AI moment generation for place: {} (ID: {})",
-                    request.getName(), request.getId());
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.POST, entity, String.class
-            );
-            AiMomentGenerationResponse result = objectMapper.readValue(response.getBody(), AiMomentGenerationResponse.class);
+            AiMomentGenerationResponse result = generateMomentFromPlaceAsync(request).block();
 
-            System.out.println(request);
-
-            if (result != null) {
-                log.info("AI generated moment successfully: title={}, placeId={}",
-                        result.getTitle(), result.getPlaceId());
-            } else {
+            if (result == null) {
                 log.warn("AI returned null response for place: {}", request.getName());
             }
 
@@ -62,4 +42,40 @@ public class MomentAiClient {
                     "AI 기록 생성 서비스 호출 실패");
         }
     }
+
+    // 배치 생성용 비동기 버전 (공유 커넥션 풀 사용)
+    public Mono<AiMomentGenerationResponse> generateMomentFromPlaceAsync(AiMomentGenerationRequest request) {
+        log.info("Requesting AI moment generation for place: {} (ID: {})",
+                request.getName(), request.getId());
+
+        return webClient.post()
+                .uri(aiServiceUrl + "/v1/moment/generate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError,
+                        response -> {
+                            log.error("AI moment service client error: {}", response.statusCode());
+                            return Mono.error(new BusinessException(
+                                    ResponseStatus.INTERNAL_SERVER_ERROR, "AI 기록 생성 서비스 클라이언트 에러"));
+                        })
+                .onStatus(HttpStatusCode::is5xxServerError,
+                        response -> {
+                            log.error("AI moment service server error: {}", response.statusCode());
+                            return Mono.error(new BusinessException(
+                                    ResponseStatus.INTERNAL_SERVER_ERROR, "AI 기록 생성 서비스 서버 에러"));
+                        })
+                .bodyToMono(AiMomentGenerationResponse.class)
+                .timeout(Duration.ofSeconds(30))
+                .retry(2)
+                .doOnSuccess(result -> {
+                    if (result != null) {
+                        log.info("AI generated moment successfully: title={}, placeId={}",
+                                result.getTitle(), result.getPlaceId());
+                    }
+                })
+                .doOnError(error -> log.error("AI moment generation failed: placeId={}, error={}",
+                        request.getId(), error.getMessage()));
+    }
 }
@@ -7,7 +7,7 @@ import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.moment.service.command.MomentCommandService;
 import com.dolpin.domain.moment.service.query.MomentQueryService;
 import com.dolpin.global.exception.BusinessException;
-import com.dolpin.global.redis.service.DuplicatePreventionService;
+import com.dolpin.global.redis.service.IdempotencyService;
 import com.dolpin.global.response.ApiResponse;
 import com.dolpin.global.response.ResponseStatus;
 import jakarta.validation.Valid;
@@ -30,7 +30,7 @@ public class MomentController {
 
     private final MomentQueryService momentQueryService;
     private final MomentCommandService momentCommandService;
-    private final DuplicatePreventionService duplicatePreventionService;
+    private final IdempotencyService idempotencyService;
     private final MomentRepository momentRepository;
 
     @GetMapping("/users/moments")
@@ -75,6 +75,18 @@ public class MomentController {
         return ResponseEntity.ok(ApiResponse.success("place_moment_list_get_success", response));
     }
 
+    @GetMapping("/moments/search")
+    public ResponseEntity<ApiResponse<MomentListResponse>> searchMoments(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+
+        Long userId = userDetails != null ? Long.parseLong(userDetails.getUsername()) : null;
+        MomentListResponse response = momentQueryService.searchMoments(userId, keyword, limit, cursor);
+        return ResponseEntity.ok(ApiResponse.success("moment_search_success", response));
+    }
+
     @GetMapping("/moments/{moment_id}")
     public ResponseEntity<ApiResponse<MomentDetailResponse>> getMomentDetail(
             @AuthenticationPrincipal UserDetails userDetails,
@@ -88,30 +100,17 @@ public class MomentController {
     @PostMapping("/users/moments")
     public ResponseEntity<ApiResponse<MomentCreateResponse>> createMoment(
             @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody MomentCreateRequest request) {
 
         Long userId = Long.parseLong(userDetails.getUsername());
-        String lockKey = duplicatePreventionService.generateKey(userId, "createMoment");
+        String requestKey = idempotencyService.generateKey("createMoment", userId, idempotencyKey,
+                trim(request.getTitle()), trim(request.getContent()), request.getPlaceId(), request.getImages());
 
         log.info("Moment 생성 요청: userId={}, title={}", userId, request.getTitle());
 
-        // Redisson 락으로 중복 요청 방지 (대기 0초, 점유 5초)
-        return duplicatePreventionService.executeWithLock(lockKey, 0, 5, () -> {
-
-            log.debug("락 획득 후 중복 체크 시작: userId={}", userId);
-
-            // 컨텐츠 중복 체크 - 3개 파라미터 전달
-            String contentKey = duplicatePreventionService.generateContentKey(
-                    userId, 0L, request.getTitle() + ":" + request.getContent()); // placeId 대신 0L 사용
-
-            duplicatePreventionService.checkDuplicateContent(
-                    contentKey,
-                    "동일한 내용의 기록이 최근에 등록되었습니다.",
-                    Duration.ofMinutes(5)
-            );
-
-            log.debug("중복 체크 완료, 비즈니스 로직 실행: userId={}", userId);
-
+        // 동일 요청은 5분간 최초 응답을 재전송
+        return idempotencyService.execute(requestKey, Duration.ofMinutes(5), () -> {
             MomentCreateResponse response = momentCommandService.createMoment(userId, request);
 
             log.info("Moment 생성 완료: userId={}, momentId={}, title={}",
@@ -125,19 +124,18 @@ public class MomentController {
     @PatchMapping("/users/moments/{moment_id}")
     public ResponseEntity<ApiResponse<MomentUpdateResponse>> updateMoment(
             @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable("moment_id") Long momentId,
             @Valid @RequestBody MomentUpdateRequest request) {
 
         Long userId = Long.parseLong(userDetails.getUsername());
-        String lockKey = duplicatePreventionService.generateKey(userId, "updateMoment", momentId);
+        String requestKey = idempotencyService.generateKey("updateMoment", userId, idempotencyKey,
+                momentId, request.getTitle(), request.getContent(), request.getPlaceId(),
+                request.getPlaceName(), request.getImages(), request.getIsPublic());
 
         log.info("Moment 수정 요청: userId={}, momentId={}", userId, momentId);
 
-        // Redisson 락으로 중복 요청 방지 (대기 0초, 점유 3초)
-        return duplicatePreventionService.executeWithLock(lockKey, 0, 3, () -> {
-
-            log.debug("락 획득 후 수정 로직 실행: userId={}, momentId={}", userId, momentId);
-
+        return idempotencyService.execute(requestKey, Duration.ofSeconds(10), () -> {
             MomentUpdateResponse response = momentCommandService.updateMoment(userId, momentId, request);
 
             log.info("Moment 수정 완료: userId={}, momentId={}", userId, momentId);
@@ -149,18 +147,15 @@ public class MomentController {
     @DeleteMapping("/users/moments/{moment_id}")
     public ResponseEntity<ApiResponse<Void>> deleteMoment(
             @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable("moment_id") Long momentId) {
 
         Long userId = Long.parseLong(userDetails.getUsername());
-        String lockKey = duplicatePreventionService.generateKey(userId, "deleteMoment", momentId);
+        String requestKey = idempotencyService.generateKey("deleteMoment", userId, idempotencyKey, momentId);
 
         log.info("Moment 삭제 요청: userId={}, momentId={}", userId, momentId);
 
-        // Redisson 락으로 중복 요청 방지 (대기 0초, 점유 2초)
-        return duplicatePreventionService.executeWithLock(lockKey, 0, 2, () -> {
-
-            log.debug("락 획득 후 삭제 로직 실행: userId={}, momentId={}", userId, momentId);
-
+        return idempotencyService.execute(requestKey, Duration.ofSeconds(10), () -> {
             momentCommandService.deleteMoment(userId, momentId);
 
             log.info("Moment 삭제 완료: userId={}, momentId={}", userId, momentId);
@@ -169,4 +164,8 @@ public class MomentController {
                     .body(ApiResponse.success("moment_deleted", null));
         });
     }
+
+    private String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
 }
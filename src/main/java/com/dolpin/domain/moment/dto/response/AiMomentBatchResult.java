@@ -0,0 +1,17 @@
+package com.dolpin.domain.moment.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiMomentBatchResult {
+    private int requested;
+    private int created;
+    private int failed;
+    private long elapsedMillis;
+}
@@ -9,14 +9,41 @@ import java.util.List;
 
 @Entity
 @Table(name = "moment")
+// 검색 결과는 기록과 함께 ts_rank(real)를 돌려주어 (rank, created_at, id) 커서를 추가 조회 없이 만든다
+@SqlResultSetMapping(name = "MomentSearchResult",
+        entities = @EntityResult(entityClass = Moment.class),
+        columns = @ColumnResult(name = "search_rank", type = Float.class))
+@NamedNativeQuery(name = "Moment.searchFirstPage",
+        query = "SELECT m.*, ts_rank(CAST(m.search_document AS tsvector), CAST(:query AS tsquery)) AS search_rank " +
+                "FROM moment m " +
+                "WHERE CAST(m.search_document AS tsvector) @@ CAST(:query AS tsquery) " +
+                "AND (m.is_public = true OR m.user_id = :currentUserId) " +
+                "ORDER BY search_rank DESC, m.created_at DESC, m.id DESC " +
+                "LIMIT :limit",
+        resultSetMapping = "MomentSearchResult")
+// 커서 rank는 real로 되돌려 비교 (float8로 넓혀 비교하면 같은 rank 행이 커서와 일치하지 않음)
+@NamedNativeQuery(name = "Moment.searchAfterCursor",
+        query = "SELECT * FROM (" +
+                "  SELECT m.*, ts_rank(CAST(m.search_document AS tsvector), CAST(:query AS tsquery)) AS search_rank " +
+                "  FROM moment m " +
+                "  WHERE CAST(m.search_document AS tsvector) @@ CAST(:query AS tsquery) " +
+                "  AND (m.is_public = true OR m.user_id = :currentUserId)" +
+                ") ranked " +
+                "WHERE (ranked.search_rank, ranked.created_at, ranked.id) " +
+                "    < (CAST(:cursorRank AS real), :cursorCreatedAt, :cursorId) " +
+                "ORDER BY ranked.search_rank DESC, ranked.created_at DESC, ranked.id DESC " +
+                "LIMIT :limit",
+        resultSetMapping = "MomentSearchResult")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Moment {
 
+    // 기존 IDENTITY 컬럼의 시퀀스를 그대로 사용하되 pooled 할당으로 JDBC 배치 INSERT 허용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "moment_id_seq_generator")
+    @SequenceGenerator(name = "moment_id_seq_generator", sequenceName = "moment_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "place_id", nullable = true)
@@ -43,6 +70,12 @@ public class Moment {
     @Builder.Default
     private Long viewCount = 0L;
 
+    // 댓글 수 - 댓글 생성/삭제 트랜잭션에서 원자적으로 증감하며, 엔티티 저장 시에는 덮어쓰지 않음
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long commentCount = 0L;
+
     @OneToMany(mappedBy = "moment", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @OrderBy("imageSequence ASC")
     @Builder.Default
@@ -54,11 +87,16 @@ public class Moment {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 검색용 2-gram tsvector 리터럴 (제목/내용 변경 시 갱신)
+    @Column(name = "search_document", columnDefinition = "TEXT")
+    private String searchDocument;
+
     @PrePersist
     public void prePersist() {
         LocalDateTime now = LocalDateTime.now();
         this.createdAt = now;
         this.updatedAt = now;
+        refreshSearchDocument();
 
         // view_count가 null이면 0으로 초기화
         if (this.viewCount == null) {
@@ -69,6 +107,7 @@ public class Moment {
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
+        refreshSearchDocument();
 
         // view_count가 null이면 0으로 초기화
         if (this.viewCount == null) {
@@ -98,6 +137,10 @@ public class Moment {
         }
     }
 
+    public void refreshSearchDocument() {
+        this.searchDocument = MomentSearchDocument.of(this.title, this.content);
+    }
+
     // 조회수 증가 메서드
     public void incrementViewCount() {
         if (this.viewCount == null) {
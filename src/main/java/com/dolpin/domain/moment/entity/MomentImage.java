@@ -12,7 +12,8 @@ import lombok.*;
 public class MomentImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "moment_image_id_seq_generator")
+    @SequenceGenerator(name = "moment_image_id_seq_generator", sequenceName = "moment_image_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
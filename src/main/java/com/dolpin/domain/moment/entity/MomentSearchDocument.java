@@ -0,0 +1,108 @@
+package com.dolpin.domain.moment.entity;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 기록 검색용 2-gram 문서/쿼리 생성
+ * 한국어는 형태소 분석 없이 bigram으로 색인하고, 단어 안의 bigram은 구문(<->) 검색으로 연결한다.
+ * 문서는 PostgreSQL tsvector 리터럴 형식으로 저장되어 CAST(search_document AS tsvector) GIN 인덱스로 검색된다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MomentSearchDocument {
+
+    private static final int MAX_POSITION = 16383;
+    private static final int MAX_POSITIONS_PER_LEXEME = 256;
+
+    private static final char TITLE_WEIGHT = 'A';
+
+    /**
+     * 제목(가중치 A) + 본문(기본 가중치) tsvector 리터럴 생성
+     */
+    public static String of(String title, String content) {
+        Map<String, List<String>> lexemes = new LinkedHashMap<>();
+        int position = 1;
+        position = collect(lexemes, title, position, String.valueOf(TITLE_WEIGHT));
+        collect(lexemes, content, position, "");
+
+        StringBuilder document = new StringBuilder();
+        lexemes.forEach((lexeme, positions) -> {
+            if (document.length() > 0) {
+                document.append(' ');
+            }
+            document.append('\'').append(lexeme).append("':").append(String.join(",", positions));
+        });
+        return document.toString();
+    }
+
+    /**
+     * 검색어를 tsquery 문자열로 변환 (검색 가능한 문자가 없으면 null)
+     */
+    public static String toQuery(String keyword) {
+        List<String> clauses = new ArrayList<>();
+        for (String word : splitWords(keyword)) {
+            if (word.length() == 1) {
+                // 한 글자는 해당 글자로 시작하는 bigram 접두어 검색
+                clauses.add("'" + word + "':*");
+                continue;
+            }
+            List<String> grams = bigrams(word).stream()
+                    .map(gram -> "'" + gram + "'")
+                    .toList();
+            clauses.add(grams.size() == 1 ? grams.get(0) : "(" + String.join(" <-> ", grams) + ")");
+        }
+        return clauses.isEmpty() ? null : String.join(" & ", clauses);
+    }
+
+    private static int collect(Map<String, List<String>> lexemes, String text, int position, String weight) {
+        for (String word : splitWords(text)) {
+            List<String> grams = word.length() == 1 ? List.of(word) : bigrams(word);
+            for (String gram : grams) {
+                List<String> positions = lexemes.computeIfAbsent(gram, key -> new ArrayList<>());
+                if (positions.size() < MAX_POSITIONS_PER_LEXEME) {
+                    positions.add(Math.min(position, MAX_POSITION) + weight);
+                }
+                position++;
+            }
+            // 단어 경계를 넘는 구문 일치 방지
+            position++;
+        }
+        return position;
+    }
+
+    private static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        StringBuilder current = new StringBuilder();
+        text.toLowerCase(Locale.ROOT).codePoints().forEach(codePoint -> {
+            if (Character.isLetterOrDigit(codePoint)) {
+                current.appendCodePoint(codePoint);
+            } else if (current.length() > 0) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        });
+        if (current.length() > 0) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+
+    private static List<String> bigrams(String word) {
+        int[] codePoints = word.codePoints().toArray();
+        List<String> grams = new ArrayList<>(codePoints.length - 1);
+        for (int i = 0; i < codePoints.length - 1; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,62 @@
+package com.dolpin.domain.moment.event;
+
+import com.dolpin.domain.moment.service.cache.MomentDetailCacheService;
+import com.dolpin.domain.moment.service.cache.MomentFeedCacheService;
+import com.dolpin.domain.moment.service.cache.PlaceMomentCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MomentCacheEventListener {
+
+    private final MomentFeedCacheService momentFeedCacheService;
+    private final MomentDetailCacheService momentDetailCacheService;
+    private final PlaceMomentCountService placeMomentCountService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async("bookmarkCacheExecutor")
+    public void handleMomentChanged(MomentChangedEvent event) {
+        try {
+            // 기록 상세 캐시 무효화
+            momentDetailCacheService.evict(event.getMomentId());
+
+            // 전체 피드 첫 페이지 캐시 무효화
+            momentFeedCacheService.invalidateAnonymousFeed();
+
+            // 변경 전/후 장소 피드 첫 페이지 캐시 무효화
+            if (event.getPreviousPlaceId() != null) {
+                momentFeedCacheService.invalidatePlaceFeed(event.getPreviousPlaceId());
+            }
+            if (event.getPlaceId() != null && !event.getPlaceId().equals(event.getPreviousPlaceId())) {
+                momentFeedCacheService.invalidatePlaceFeed(event.getPlaceId());
+            }
+
+            log.debug("기록 상세/피드 캐시 무효화 완료: momentId={}, placeId={}, previousPlaceId={}",
+                    event.getMomentId(), event.getPlaceId(), event.getPreviousPlaceId());
+
+        } catch (Exception e) {
+            log.error("기록 상세/피드 캐시 무효화 실패: momentId={}", event.getMomentId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async("bookmarkCacheExecutor")
+    public void handleMomentCountChanged(MomentChangedEvent event) {
+        try {
+            // 장소별 공개 기록 수 증감
+            placeMomentCountService.applyChange(event);
+
+            log.debug("장소별 기록 수 동기화 완료: momentId={}, placeId={}, previousPlaceId={}",
+                    event.getMomentId(), event.getPlaceId(), event.getPreviousPlaceId());
+
+        } catch (Exception e) {
+            log.error("장소별 기록 수 동기화 실패: momentId={}", event.getMomentId(), e);
+        }
+    }
+}
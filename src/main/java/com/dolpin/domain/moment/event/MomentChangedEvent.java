@@ -0,0 +1,31 @@
+package com.dolpin.domain.moment.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MomentChangedEvent {
+    private final Long momentId;
+
+    // 변경 전 상태 (생성 시 없음)
+    private final Long previousPlaceId;
+    private final boolean previousPublic;
+
+    // 변경 후 상태 (삭제 시 없음)
+    private final Long placeId;
+    private final boolean isPublic;
+
+    public static MomentChangedEvent created(Long momentId, Long placeId, boolean isPublic) {
+        return new MomentChangedEvent(momentId, null, false, placeId, isPublic);
+    }
+
+    public static MomentChangedEvent updated(Long momentId, Long previousPlaceId, boolean previousPublic,
+                                             Long placeId, boolean isPublic) {
+        return new MomentChangedEvent(momentId, previousPlaceId, previousPublic, placeId, isPublic);
+    }
+
+    public static MomentChangedEvent deleted(Long momentId, Long placeId, boolean isPublic) {
+        return new MomentChangedEvent(momentId, placeId, isPublic, null, false);
+    }
+}
@@ -19,53 +19,159 @@ public interface MomentRepository extends JpaRepository<Moment, Long> {
     @Query("SELECT m FROM Moment m WHERE m.id = :id")
     Optional<Moment> findBasicMomentById(@Param("id") Long id);
 
+    // 조회 수만 조회 (조회 수 카운터 초기화용)
+    @Query("SELECT m.viewCount FROM Moment m WHERE m.id = :id")
+    Optional<Long> findViewCountById(@Param("id") Long id);
+
+    // 댓글 수만 조회 (상세 조회 댓글 수 캐시 미스용)
+    @Query("SELECT m.commentCount FROM Moment m WHERE m.id = :id")
+    Optional<Long> findCommentCountById(@Param("id") Long id);
+
     // Moment + 이미지 정보 함께 조회
     @Query("SELECT m FROM Moment m " +
             "LEFT JOIN FETCH m.images " +
             "WHERE m.id = :id")
     Optional<Moment> findByIdWithImages(@Param("id") Long id);
 
-    // 네이티브 쿼리로 공개 + 사용자 기록 조회 (커서 기반)
+    // 공개 기록 조회 (비로그인) - 첫 페이지
+    @Query(value = "SELECT * FROM moment m " +
+            "WHERE m.is_public = true " +
+            "ORDER BY m.created_at DESC, m.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Moment> findPublicMomentsFirstPage(@Param("limit") int limit);
+
+    // 공개 기록 조회 (비로그인) - (created_at, id) 커서 이후
+    @Query(value = "SELECT * FROM moment m " +
+            "WHERE m.is_public = true " +
+            "AND (m.created_at, m.id) < (:cursorCreatedAt, :cursorId) " +
+            "ORDER BY m.created_at DESC, m.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Moment> findPublicMomentsAfterCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              @Param("limit") int limit);
+
+    // 공개 + 사용자 비공개 기록 조회 - 첫 페이지
+    // OR 조건 대신 두 인덱스 정렬 스트림(공개 / 본인 비공개)을 UNION ALL로 병합
+    @Query(value = "SELECT * FROM (" +
+            "(SELECT * FROM moment m " +
+            " WHERE m.is_public = true " +
+            " ORDER BY m.created_at DESC, m.id DESC LIMIT :limit) " +
+            "UNION ALL " +
+            "(SELECT * FROM moment m " +
+            " WHERE m.user_id = :currentUserId AND m.is_public = false " +
+            " ORDER BY m.created_at DESC, m.id DESC LIMIT :limit)" +
+            ") feed " +
+            "ORDER BY feed.created_at DESC, feed.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Moment> findPublicMomentsWithUserPrivateFirstPage(@Param("currentUserId") Long currentUserId,
+                                                           @Param("limit") int limit);
+
+    // 공개 + 사용자 비공개 기록 조회 - (created_at, id) 커서 이후
+    @Query(value = "SELECT * FROM (" +
+            "(SELECT * FROM moment m " +
+            " WHERE m.is_public = true " +
+            " AND (m.created_at, m.id) < (:cursorCreatedAt, :cursorId) " +
+            " ORDER BY m.created_at DESC, m.id DESC LIMIT :limit) " +
+            "UNION ALL " +
+            "(SELECT * FROM moment m " +
+            " WHERE m.user_id = :currentUserId AND m.is_public = false " +
+            " AND (m.created_at, m.id) < (:cursorCreatedAt, :cursorId) " +
+            " ORDER BY m.created_at DESC, m.id DESC LIMIT :limit)" +
+            ") feed " +
+            "ORDER BY feed.created_at DESC, feed.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Moment> findPublicMomentsWithUserPrivateAfterCursor(@Param("currentUserId") Long currentUserId,
+                                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                             @Param("cursorId") Long cursorId,
+                                                             @Param("limit") int limit);
+
+    // 사용자 기록 조회 (비공개 포함) - 첫 페이지
+    @Query(value = "SELECT * FROM moment m " +
+            "WHERE m.user_id = :userId " +
+            "ORDER BY m.created_at DESC, m.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Moment> findByUserIdFirstPage(@Param("userId") Long userId,
+                                       @Param("limit") int limit);
+
+    // 사용자 기록 조회 (비공개 포함) - (created_at, id) 커서 이후
+    @Query(value = "SELECT * FROM moment m " +
+            "WHERE m.user_id = :userId " +
+            "AND (m.created_at, m.id) < (:cursorCreatedAt, :cursorId) " +
+            "ORDER BY m.created_at DESC, m.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Moment> findByUserIdAfterCursor(@Param("userId") Long userId,
+                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                         @Param("cursorId") Long cursorId,
+                                         @Param("limit") int limit);
+
+    // 사용자 공개 기록 조회 - 첫 페이지
     @Query(value = "SELECT * FROM moment m " +
-            "WHERE (m.is_public = true OR m.user_id = :currentUserId) " +
-            "AND (:cursor IS NULL OR m.created_at < CAST(:cursor AS timestamp)) " +
-            "ORDER BY m.created_at DESC " +
+            "WHERE m.user_id = :userId " +
+            "AND m.is_public = true " +
+            "ORDER BY m.created_at DESC, m.id DESC " +
             "LIMIT :limit",
             nativeQuery = true)
-    List<Moment> findPublicMomentsWithUserPrivateNative(@Param("currentUserId") Long currentUserId,
-                                                        @Param("cursor") String cursor,
-                                                        @Param("limit") int limit);
+    List<Moment> findPublicByUserIdFirstPage(@Param("userId") Long userId,
+                                             @Param("limit") int limit);
 
-    // 네이티브 쿼리로 사용자 기록 조회 (커서 기반)
+    // 사용자 공개 기록 조회 - (created_at, id) 커서 이후
     @Query(value = "SELECT * FROM moment m " +
             "WHERE m.user_id = :userId " +
-            "AND (:includePrivate = true OR m.is_public = true) " +
-            "AND (:cursor IS NULL OR m.created_at < CAST(:cursor AS timestamp)) " +
-            "ORDER BY m.created_at DESC " +
+            "AND m.is_public = true " +
+            "AND (m.created_at, m.id) < (:cursorCreatedAt, :cursorId) " +
+            "ORDER BY m.created_at DESC, m.id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Moment> findPublicByUserIdAfterCursor(@Param("userId") Long userId,
+                                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                               @Param("cursorId") Long cursorId,
+                                               @Param("limit") int limit);
+
+    // 특정 장소의 공개 기록 조회 - 첫 페이지
+    @Query(value = "SELECT * FROM moment m " +
+            "WHERE m.place_id = :placeId " +
+            "AND m.is_public = true " +
+            "ORDER BY m.created_at DESC, m.id DESC " +
             "LIMIT :limit",
             nativeQuery = true)
-    List<Moment> findByUserIdWithVisibilityNative(@Param("userId") Long userId,
-                                                  @Param("includePrivate") boolean includePrivate,
-                                                  @Param("cursor") String cursor,
-                                                  @Param("limit") int limit);
+    List<Moment> findPublicMomentsByPlaceIdFirstPage(@Param("placeId") Long placeId,
+                                                     @Param("limit") int limit);
 
-    // 특정 장소의 공개 Moment 목록 조회 (기존 유지)
+    // 특정 장소의 공개 기록 조회 - (created_at, id) 커서 이후
     @Query(value = "SELECT * FROM moment m " +
             "WHERE m.place_id = :placeId " +
             "AND m.is_public = true " +
-            "AND (:cursor IS NULL OR m.created_at < CAST(:cursor AS timestamp)) " +
-            "ORDER BY m.created_at DESC " +
+            "AND (m.created_at, m.id) < (:cursorCreatedAt, :cursorId) " +
+            "ORDER BY m.created_at DESC, m.id DESC " +
             "LIMIT :limit",
             nativeQuery = true)
-    List<Moment> findPublicMomentsByPlaceIdNative(@Param("placeId") Long placeId,
-                                                  @Param("cursor") String cursor,
-                                                  @Param("limit") int limit);
+    List<Moment> findPublicMomentsByPlaceIdAfterCursor(@Param("placeId") Long placeId,
+                                                       @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                       @Param("cursorId") Long cursorId,
+                                                       @Param("limit") int limit);
 
     // 나머지 메서드들은 기존과 동일...
     @Modifying
     @Query("UPDATE Moment m SET m.viewCount = m.viewCount + 1 WHERE m.id = :momentId")
     int incrementViewCount(@Param("momentId") Long momentId);
 
+    // 누적된 조회 수를 한 번에 반영 (조회 수 일괄 반영 스케줄러용)
+    @Modifying
+    @Query("UPDATE Moment m SET m.viewCount = m.viewCount + :delta WHERE m.id = :momentId")
+    int addViewCount(@Param("momentId") Long momentId, @Param("delta") long delta);
+
+    // 댓글 수 증감 (댓글 생성/삭제와 같은 트랜잭션에서 실행)
+    @Modifying
+    @Query(value = "UPDATE moment SET comment_count = GREATEST(comment_count + :delta, 0) WHERE id = :momentId",
+            nativeQuery = true)
+    int adjustCommentCount(@Param("momentId") Long momentId, @Param("delta") long delta);
+
     @Query("SELECT COUNT(m) FROM Moment m " +
             "WHERE m.userId = :userId " +
             "AND (:includePrivate = true OR m.isPublic = true)")
@@ -119,4 +225,31 @@ public interface MomentRepository extends JpaRepository<Moment, Long> {
             "AND m.createdAt > :afterTime")
     long countByUserIdAndCreatedAtAfter(@Param("userId") Long userId,
                                         @Param("afterTime") LocalDateTime afterTime);
+
+    // 검색 (2-gram tsvector, 공개 + 본인 기록) - 첫 페이지
+    // Moment 엔티티의 named native query 사용, 각 행은 [Moment, Float rank]
+    List<Object[]> searchFirstPage(@Param("query") String query,
+                                   @Param("currentUserId") Long currentUserId,
+                                   @Param("limit") int limit);
+
+    // 검색 - (rank, created_at, id) 커서 이후, 각 행은 [Moment, Float rank]
+    List<Object[]> searchAfterCursor(@Param("query") String query,
+                                     @Param("currentUserId") Long currentUserId,
+                                     @Param("cursorRank") Float cursorRank,
+                                     @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                     @Param("cursorId") Long cursorId,
+                                     @Param("limit") int limit);
+
+    // 검색 문서가 없는 기록 (기존 데이터 색인용)
+    @Query(value = "SELECT m.id, m.title, m.content FROM moment m " +
+            "WHERE m.search_document IS NULL " +
+            "ORDER BY m.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> findWithoutSearchDocument(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE moment SET search_document = :searchDocument WHERE id = :momentId",
+            nativeQuery = true)
+    int updateSearchDocument(@Param("momentId") Long momentId, @Param("searchDocument") String searchDocument);
 }
@@ -0,0 +1,39 @@
+package com.dolpin.domain.moment.service;
+
+import com.dolpin.domain.moment.entity.MomentSearchDocument;
+import com.dolpin.domain.moment.repository.MomentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MomentSearchIndexService {
+
+    private final MomentRepository momentRepository;
+
+    /**
+     * 검색 문서가 없는 기존 기록을 한 배치 색인 (updated_at은 변경하지 않음)
+     *
+     * @return 색인한 기록 수
+     */
+    @Transactional
+    public int indexMissingDocuments(int batchSize) {
+        List<Object[]> rows = momentRepository.findWithoutSearchDocument(batchSize);
+
+        for (Object[] row : rows) {
+            Long momentId = ((Number) row[0]).longValue();
+            String document = MomentSearchDocument.of((String) row[1], (String) row[2]);
+            momentRepository.updateSearchDocument(momentId, document);
+        }
+
+        if (!rows.isEmpty()) {
+            log.debug("기록 검색 문서 색인: count={}", rows.size());
+        }
+        return rows.size();
+    }
+}
@@ -11,6 +11,9 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -19,6 +22,10 @@ public class MomentViewService {
 
     private final MomentRepository momentRepository;
     private final MomentCacheService momentCacheService; // 추가
+    private final TransactionTemplate transactionTemplate;
+
+    // 기록별 DB 미반영 조회 수
+    private final ConcurrentHashMap<Long, Long> pendingViewIncrements = new ConcurrentHashMap<>();
 
     @Transactional
     @Retryable(value = {Exception.class}, maxAttempts = 3, backoff = @Backoff(delay = 100))
@@ -42,6 +49,62 @@ public class MomentViewService {
         }
     }
 
+    /**
+     * 조회 수 카운터(Redis)를 증가시키고 증가된 값을 반환 (DB 트랜잭션 없음)
+     * 카운터가 없으면 DB 값 + 이번 조회분으로 초기화한다. DB 반영분은 bufferViewIncrement로 따로 적립
+     */
+    public Long recordView(Long momentId) {
+        Long viewCount = momentCacheService.incrementViewCountIfCached(momentId);
+        if (viewCount != null) {
+            return viewCount;
+        }
+
+        Long initialViewCount = momentRepository.findViewCountById(momentId).orElse(0L) + 1;
+        if (momentCacheService.initViewCountIfAbsent(momentId, initialViewCount)) {
+            log.debug("조회수 카운터 초기화: momentId={}, count={}", momentId, initialViewCount);
+            return initialViewCount;
+        }
+
+        // 다른 요청이 먼저 초기화한 경우 그 값에 이어서 증가
+        Long racedViewCount = momentCacheService.incrementViewCountIfCached(momentId);
+        return racedViewCount != null ? racedViewCount : initialViewCount;
+    }
+
+    /**
+     * 조회 수 DB 반영분 적립 (요청 경로에서는 메모리에만 더하고 DB 반영은 flushViewIncrements에서 일괄 처리)
+     */
+    public void bufferViewIncrement(Long momentId) {
+        pendingViewIncrements.merge(momentId, 1L, Long::sum);
+    }
+
+    /**
+     * 적립된 조회 수를 기록별 UPDATE 한 번으로 DB에 반영하고 반영한 기록 수를 반환
+     * 반영에 실패한 기록은 다음 주기에 다시 반영하도록 되돌려 놓는다.
+     */
+    public int flushViewIncrements() {
+        int flushed = 0;
+        for (Long momentId : pendingViewIncrements.keySet()) {
+            // remove는 원자적이라 이후 조회분은 새 항목으로 쌓임
+            Long delta = pendingViewIncrements.remove(momentId);
+            if (delta == null || delta == 0) {
+                continue;
+            }
+
+            try {
+                Integer updatedRows = transactionTemplate.execute(status -> momentRepository.addViewCount(momentId, delta));
+                if (updatedRows == null || updatedRows == 0) {
+                    log.warn("Failed to persist view count - momentId: {}", momentId);
+                    continue;
+                }
+                flushed++;
+            } catch (Exception e) {
+                pendingViewIncrements.merge(momentId, delta, Long::sum);
+                log.warn("조회 수 DB 반영 실패, 다음 주기에 재시도: momentId={}, delta={}", momentId, delta, e);
+            }
+        }
+        return flushed;
+    }
+
     // 캐시된 조회수 실시간 업데이트
     private void updateViewCountCache(Long momentId) {
         try {
@@ -1,5 +1,9 @@
 package com.dolpin.domain.moment.service.ai;
 
+import com.dolpin.domain.moment.dto.response.AiMomentBatchResult;
+
 public interface AiMomentGenerationService {
     void generateDailyMoment();
+
+    AiMomentBatchResult generateMomentBatch(int count);
 }
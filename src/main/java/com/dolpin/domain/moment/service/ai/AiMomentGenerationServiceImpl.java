@@ -2,6 +2,7 @@ package com.dolpin.domain.moment.service.ai;
 
 import com.dolpin.domain.moment.client.MomentAiClient;
 import com.dolpin.domain.moment.dto.request.AiMomentGenerationRequest;
+import com.dolpin.domain.moment.dto.response.AiMomentBatchResult;
 import com.dolpin.domain.moment.dto.response.AiMomentGenerationResponse;
 import com.dolpin.domain.moment.dto.request.MomentCreateRequest;
 import com.dolpin.domain.moment.dto.response.MomentCreateResponse;
@@ -10,14 +11,23 @@ import com.dolpin.domain.place.dto.response.PlaceDetailResponse;
 import com.dolpin.domain.place.repository.PlaceRepository;
 import com.dolpin.domain.place.service.query.PlaceQueryService;
 import com.dolpin.global.constants.SystemUserConstants;
+import com.dolpin.global.exception.BusinessException;
+import com.dolpin.global.response.ResponseStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +38,17 @@ public class AiMomentGenerationServiceImpl implements AiMomentGenerationService
     private final PlaceRepository placeRepository;
     private final MomentCommandService momentCommandService;
     private final MomentAiClient momentAiClient;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private static final String METRIC_RESULT = "ai.moment.generation.result";
+    private static final String METRIC_BATCH_DURATION = "ai.moment.generation.batch.duration";
+
+    @Value("${ai.moment.batch.concurrency:8}")
+    private int aiConcurrency;
+
+    @Value("${ai.moment.batch.insert-size:20}")
+    private int insertBatchSize;
 
     @Override
     @Transactional
@@ -43,6 +64,108 @@ public class AiMomentGenerationServiceImpl implements AiMomentGenerationService
         }
     }
 
+    @Override
+    public AiMomentBatchResult generateMomentBatch(int count) {
+        log.info("Starting batch AI moment generation: count={}", count);
+        long startedAt = System.nanoTime();
+
+        // 1. 랜덤 장소 일괄 선택 (단일 쿼리)
+        List<Long> placeIds = placeRepository.findRandomPlaceIds(count);
+        if (placeIds.isEmpty()) {
+            log.warn("No places available for AI moment generation");
+            return buildBatchResult(count, 0, 0, startedAt);
+        }
+
+        // 2. 장소 상세 정보 일괄 조회
+        List<PlaceDetailResponse> placeDetails = placeQueryService.getPlaceDetailsWithoutBookmark(placeIds);
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger(placeIds.size() - placeDetails.size());
+
+        // 3. AI 호출은 동시성 제한을 두고 병렬 실행, 4. 성공분은 묶어서 저장
+        Flux.fromIterable(placeDetails)
+                .flatMap(placeDetail -> requestMoment(placeDetail)
+                                .onErrorResume(e -> {
+                                    failed.incrementAndGet();
+                                    recordResult("ai_failure");
+                                    log.warn("AI moment generation skipped: placeId={}, reason={}",
+                                            placeDetail.getId(), e.getMessage());
+                                    return Mono.empty();
+                                }),
+                        Math.max(1, aiConcurrency))
+                .buffer(Math.max(1, insertBatchSize))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(batch -> {
+                    insertBatch(batch, created, failed);
+                    log.info("Batch AI moment progress: created={}, failed={}, total={}",
+                            created.get(), failed.get(), placeIds.size());
+                })
+                .then()
+                .block();
+
+        AiMomentBatchResult result = buildBatchResult(count, created.get(), failed.get(), startedAt);
+        log.info("Batch AI moment generation completed: requested={}, created={}, failed={}, elapsed={}ms",
+                result.getRequested(), result.getCreated(), result.getFailed(), result.getElapsedMillis());
+        return result;
+    }
+
+    private Mono<MomentCreateRequest> requestMoment(PlaceDetailResponse placeDetail) {
+        return momentAiClient.generateMomentFromPlaceAsync(buildAiRequest(placeDetail))
+                .switchIfEmpty(Mono.error(new BusinessException(
+                        ResponseStatus.INTERNAL_SERVER_ERROR, "AI 기록 생성 결과가 비어 있습니다.")))
+                .map(aiResponse -> buildMomentCreateRequest(aiResponse, placeDetail));
+    }
+
+    /**
+     * 한 트랜잭션으로 묶어 저장하고, 실패하면 건별로 다시 저장하여 실패 범위를 해당 건으로 한정
+     */
+    private void insertBatch(List<MomentCreateRequest> batch, AtomicInteger created, AtomicInteger failed) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(request ->
+                    momentCommandService.createMoment(SystemUserConstants.DOLPIN_USER_ID, request)));
+            created.addAndGet(batch.size());
+            recordResult("created", batch.size());
+            return;
+        } catch (Exception e) {
+            log.warn("Batch moment insert failed, retrying one by one: size={}, reason={}",
+                    batch.size(), e.getMessage());
+        }
+
+        for (MomentCreateRequest request : batch) {
+            try {
+                momentCommandService.createMoment(SystemUserConstants.DOLPIN_USER_ID, request);
+                created.incrementAndGet();
+                recordResult("created");
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                recordResult("insert_failure");
+                log.warn("AI moment insert failed: placeId={}, reason={}", request.getPlaceId(), e.getMessage());
+            }
+        }
+    }
+
+    private void recordResult(String result) {
+        recordResult(result, 1);
+    }
+
+    private void recordResult(String result, int amount) {
+        meterRegistry.counter(METRIC_RESULT, "result", result).increment(amount);
+    }
+
+    private AiMomentBatchResult buildBatchResult(int requested, int created, int failed, long startedAt) {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        Timer.builder(METRIC_BATCH_DURATION)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        return AiMomentBatchResult.builder()
+                .requested(requested)
+                .created(created)
+                .failed(failed)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .build();
+    }
+
     private void generateSingleMomentFromRandomPlace() {
         // 1. 랜덤 장소 선택
         Long randomPlaceId = selectRandomPlace();
@@ -69,14 +192,7 @@ public class AiMomentGenerationServiceImpl implements AiMomentGenerationService
                 aiResponse.getPlaceId(), randomPlaceId);
 
         // 5. AI 응답으로 기록 생성
-        MomentCreateRequest momentRequest = MomentCreateRequest.builder()
-                .title(aiResponse.getTitle())
-                .content(aiResponse.getContent())
-                .placeId(aiResponse.getPlaceId())
-                .placeName(placeDetail.getName())
-                .images(aiResponse.getImages())
-                .isPublic(aiResponse.getIsPublic())
-                .build();
+        MomentCreateRequest momentRequest = buildMomentCreateRequest(aiResponse, placeDetail);
 
         // 6. 돌핀 유저로 기록 생성
         MomentCreateResponse response = momentCommandService.createMoment(
@@ -98,6 +214,18 @@ public class AiMomentGenerationServiceImpl implements AiMomentGenerationService
         return randomPlaceIds.get(0);
     }
 
+    private MomentCreateRequest buildMomentCreateRequest(AiMomentGenerationResponse aiResponse,
+                                                         PlaceDetailResponse placeDetail) {
+        return MomentCreateRequest.builder()
+                .title(aiResponse.getTitle())
+                .content(aiResponse.getContent())
+                .placeId(aiResponse.getPlaceId())
+                .placeName(placeDetail.getName())
+                .images(aiResponse.getImages())
+                .isPublic(aiResponse.getIsPublic())
+                .build();
+    }
+
     private AiMomentGenerationRequest buildAiRequest(PlaceDetailResponse placeDetail) {
         return AiMomentGenerationRequest.builder()
                 .id(placeDetail.getId())
@@ -36,37 +36,6 @@ public class MomentCacheService {
         }
     }
 
-    /**
-     * 여러 기록의 댓글 수 배치 조회
-     */
-    public Map<Long, Long> getCommentCounts(List<Long> momentIds) {
-        if (momentIds == null || momentIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        try {
-            List<String> keys = momentIds.stream()
-                    .map(CacheKeyUtil::commentCount)
-                    .collect(Collectors.toList());
-
-            List<Object> values = redisService.multiGet(keys);
-            Map<Long, Long> result = new HashMap<>();
-
-            for (int i = 0; i < momentIds.size(); i++) {
-                Object value = values.get(i);
-                if (value instanceof Number) {
-                    result.put(momentIds.get(i), ((Number) value).longValue());
-                }
-            }
-
-            log.debug("댓글 수 배치 조회: {}/{} 히트", result.size(), momentIds.size());
-            return result;
-        } catch (Exception e) {
-            log.warn("댓글 수 배치 조회 실패", e);
-            return Collections.emptyMap();
-        }
-    }
-
     /**
      * 댓글 수 배치 캐싱
      */
@@ -82,7 +51,7 @@ public class MomentCacheService {
                             Map.Entry::getValue
                     ));
 
-            redisService.batchSetWithTtlSimple(cacheData, COMMENT_COUNT_TTL);
+            redisService.multiSetWithTtl(cacheData, COMMENT_COUNT_TTL);
             log.debug("댓글 수 배치 캐시: count={}", commentCounts.size());
         } catch (Exception e) {
             log.warn("댓글 수 배치 캐시 실패: count={}", commentCounts.size(), e);
@@ -105,6 +74,32 @@ public class MomentCacheService {
         }
     }
 
+    /**
+     * 캐시된 조회 수가 있을 때만 1 증가 (없으면 null)
+     */
+    public Long incrementViewCountIfCached(Long momentId) {
+        String key = CacheKeyUtil.momentViewCount(momentId);
+        try {
+            return redisService.incrementIfPresent(key, VIEW_COUNT_TTL);
+        } catch (Exception e) {
+            log.warn("조회 수 증가 실패: momentId={}", momentId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 조회 수 카운터 초기화 (이미 있으면 false)
+     */
+    public boolean initViewCountIfAbsent(Long momentId, Long viewCount) {
+        String key = CacheKeyUtil.momentViewCount(momentId);
+        try {
+            return redisService.setIfAbsent(key, viewCount, VIEW_COUNT_TTL);
+        } catch (Exception e) {
+            log.warn("조회 수 카운터 초기화 실패: momentId={}", momentId, e);
+            return false;
+        }
+    }
+
     /**
      * 조회 수 조회
      */
@@ -164,7 +159,7 @@ public class MomentCacheService {
                             Map.Entry::getValue
                     ));
 
-            redisService.batchSetWithTtlSimple(cacheData, VIEW_COUNT_TTL);
+            redisService.multiSetWithTtl(cacheData, VIEW_COUNT_TTL);
             log.debug("조회 수 배치 캐시: count={}", viewCounts.size());
         } catch (Exception e) {
             log.warn("조회 수 배치 캐시 실패: count={}", viewCounts.size(), e);
@@ -0,0 +1,80 @@
+package com.dolpin.domain.moment.service.cache;
+
+import com.dolpin.global.redis.service.RedisService;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 기록 상세의 불변 부분(본문/이미지/작성자) 캐시
+ * 기록 수정/삭제 커밋 후 버전을 바꿔 무효화하므로, 무효화 전에 조회한 스냅샷은 이전 버전 키에만 저장된다.
+ * 작성자 프로필 변경은 TTL 내에서만 지연 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MomentDetailCacheService {
+
+    private final RedisService redisService;
+
+    // TTL 설정 (버전 변경이 실패해도 공개 여부 등이 오래 남지 않도록 짧게 유지)
+    private static final Duration DETAIL_TTL = Duration.ofMinutes(1);
+
+    // 버전 키는 스냅샷보다 길게 유지하여 만료 후 초기 버전으로 돌아가도 이전 스냅샷이 남아있지 않도록 함
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private static final String INITIAL_VERSION = "0";
+
+    /**
+     * 기록 상세 스냅샷 조회 (캐시 미스 시 loader로 조회 후 저장)
+     */
+    public MomentDetailSnapshot getSnapshot(Long momentId, Supplier<MomentDetailSnapshot> loader) {
+        // 버전을 DB 조회보다 먼저 읽어야 무효화 이전 데이터가 새 버전 키에 저장되지 않음
+        String key = CacheKeyUtil.momentDetail(momentId, getVersion(momentId));
+
+        MomentDetailSnapshot cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        MomentDetailSnapshot snapshot = loader.get();
+        try {
+            redisService.set(key, snapshot, DETAIL_TTL);
+            log.debug("기록 상세 캐시 저장: momentId={}, version={}", momentId, snapshot.getUpdatedAt());
+        } catch (Exception e) {
+            log.warn("기록 상세 캐시 저장 실패: momentId={}", momentId, e);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 기록 상세 캐시 무효화 (버전 변경)
+     */
+    public void evict(Long momentId) {
+        try {
+            redisService.set(CacheKeyUtil.momentDetailVersion(momentId), UUID.randomUUID().toString(), VERSION_TTL);
+            log.debug("기록 상세 캐시 무효화: momentId={}", momentId);
+        } catch (Exception e) {
+            log.warn("기록 상세 캐시 무효화 실패: momentId={}", momentId, e);
+        }
+    }
+
+    private String getVersion(Long momentId) {
+        String version = redisService.get(CacheKeyUtil.momentDetailVersion(momentId), String.class);
+        return version != null ? version : INITIAL_VERSION;
+    }
+
+    private MomentDetailSnapshot getCached(String key) {
+        try {
+            return redisService.get(key, MomentDetailSnapshot.class);
+        } catch (Exception e) {
+            log.warn("기록 상세 캐시 조회 실패: key={}", key, e);
+            return null;
+        }
+    }
+}
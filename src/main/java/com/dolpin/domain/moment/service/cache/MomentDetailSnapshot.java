@@ -0,0 +1,91 @@
+package com.dolpin.domain.moment.service.cache;
+
+import com.dolpin.domain.moment.dto.response.MomentDetailResponse;
+import com.dolpin.domain.moment.entity.Moment;
+import com.dolpin.domain.moment.entity.MomentImage;
+import com.dolpin.domain.user.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 기록 상세 중 조회자와 무관하게 변하지 않는 부분 (본문, 이미지, 장소, 작성자)
+ * 조회 수 / 댓글 수 / 소유 여부는 조회 시점에 따로 채운다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MomentDetailSnapshot {
+
+    private Long id;
+    private Long userId;
+    private String title;
+    private String content;
+    private List<String> images;
+    private Long placeId;
+    private String placeName;
+    private Boolean isPublic;
+    private LocalDateTime createdAt;
+
+    // 스냅샷 버전 (기록 수정 시각)
+    private LocalDateTime updatedAt;
+
+    private MomentDetailResponse.AuthorDto author;
+
+    public static MomentDetailSnapshot of(Moment moment, User author) {
+        return MomentDetailSnapshot.builder()
+                .id(moment.getId())
+                .userId(moment.getUserId())
+                .title(moment.getTitle())
+                .content(moment.getContent())
+                .images(moment.getImages().stream()
+                        .map(MomentImage::getImageUrl)
+                        .collect(Collectors.toList()))
+                .placeId(moment.getPlaceId())
+                .placeName(moment.getPlaceName())
+                .isPublic(moment.getIsPublic())
+                .createdAt(moment.getCreatedAt())
+                .updatedAt(moment.getUpdatedAt())
+                .author(MomentDetailResponse.AuthorDto.builder()
+                        .id(author.getId())
+                        .nickname(author.getUsername())
+                        .profileImage(author.getImageUrl())
+                        .build())
+                .build();
+    }
+
+    public boolean isOwnedBy(Long currentUserId) {
+        return userId != null && userId.equals(currentUserId);
+    }
+
+    public boolean canBeViewedBy(Long currentUserId) {
+        return Boolean.TRUE.equals(isPublic) || isOwnedBy(currentUserId);
+    }
+
+    public MomentDetailResponse toResponse(Long currentUserId, Long commentCount, Long viewCount) {
+        return MomentDetailResponse.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .images(images)
+                .place(placeId != null ?
+                        MomentDetailResponse.PlaceDetailDto.builder()
+                                .id(placeId)
+                                .name(placeName)
+                                .build()
+                        : null)
+                .isPublic(isPublic)
+                .isOwner(isOwnedBy(currentUserId))
+                .createdAt(createdAt)
+                .commentCount(commentCount)
+                .viewCount(viewCount)
+                .author(author)
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package com.dolpin.domain.moment.service.cache;
+
+import com.dolpin.domain.moment.dto.response.MomentListResponse;
+import com.dolpin.domain.moment.service.template.MomentQueryTemplate;
+import com.dolpin.global.redis.service.RedisService;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 비로그인 전체 피드 / 장소 피드의 첫 페이지(커서 없음) 응답 캐시
+ * 짧은 TTL로 유지하고, 기록 생성/수정/삭제 이벤트에서 무효화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MomentFeedCacheService {
+
+    private final RedisService redisService;
+
+    // TTL 설정
+    private static final Duration FEED_TTL = Duration.ofSeconds(5);
+
+    // 키 목록은 캐시보다 조금 더 길게 유지하여 무효화 누락 방지
+    private static final Duration FEED_KEYS_TTL = Duration.ofMinutes(1);
+
+    // 같은 키에 대한 동시 재계산을 하나로 합침 (single-flight)
+    private final ConcurrentHashMap<String, CompletableFuture<MomentListResponse>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 비로그인 전체 피드 첫 페이지 조회 (캐시 미스 시 loader로 재계산)
+     */
+    public MomentListResponse getAnonymousFeed(Integer limit, Supplier<MomentListResponse> loader) {
+        Integer pageSize = cacheablePageSize(limit);
+        if (pageSize == null) {
+            return loader.get();
+        }
+        return getOrLoad(CacheKeyUtil.momentFeedAnonymous(pageSize), CacheKeyUtil.momentFeedAnonymousKeys(), loader);
+    }
+
+    /**
+     * 장소 피드 첫 페이지 조회 (캐시 미스 시 loader로 재계산)
+     */
+    public MomentListResponse getPlaceFeed(Long placeId, Integer limit, Supplier<MomentListResponse> loader) {
+        Integer pageSize = cacheablePageSize(limit);
+        if (pageSize == null) {
+            return loader.get();
+        }
+        return getOrLoad(CacheKeyUtil.momentFeedPlace(placeId, pageSize), CacheKeyUtil.momentFeedPlaceKeys(placeId), loader);
+    }
+
+    /**
+     * 비로그인 전체 피드 캐시 무효화
+     */
+    public void invalidateAnonymousFeed() {
+        invalidate(CacheKeyUtil.momentFeedAnonymousKeys());
+    }
+
+    /**
+     * 장소 피드 캐시 무효화
+     */
+    public void invalidatePlaceFeed(Long placeId) {
+        invalidate(CacheKeyUtil.momentFeedPlaceKeys(placeId));
+    }
+
+    private MomentListResponse getOrLoad(String key, String keysKey, Supplier<MomentListResponse> loader) {
+        MomentListResponse cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<MomentListResponse> flight = new CompletableFuture<>();
+        CompletableFuture<MomentListResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            log.debug("피드 캐시 재계산 대기: key={}", key);
+            return await(existing);
+        }
+
+        try {
+            MomentListResponse response = loader.get();
+            cache(key, keysKey, response);
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // 실제 조회에 쓰이는 페이지 크기로 키를 만들어 limit 생략/기본값 요청이 같은 캐시를 쓰게 함
+    // 범위를 벗어난 limit은 캐시하지 않고 loader의 검증 예외를 그대로 전달
+    private Integer cacheablePageSize(Integer limit) {
+        if (limit == null) {
+            return MomentQueryTemplate.DEFAULT_LIMIT;
+        }
+        if (limit <= 0 || limit > MomentQueryTemplate.MAX_LIMIT) {
+            return null;
+        }
+        return limit;
+    }
+
+    private MomentListResponse getCached(String key) {
+        try {
+            return redisService.get(key, MomentListResponse.class);
+        } catch (Exception e) {
+            log.warn("피드 캐시 조회 실패: key={}", key, e);
+            return null;
+        }
+    }
+
+    private void cache(String key, String keysKey, MomentListResponse response) {
+        try {
+            redisService.set(key, response, FEED_TTL);
+            redisService.addToSet(keysKey, key);
+            redisService.expire(keysKey, FEED_KEYS_TTL);
+            log.debug("피드 캐시 저장: key={}", key);
+        } catch (Exception e) {
+            log.warn("피드 캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    private void invalidate(String keysKey) {
+        try {
+            Set<Object> members = redisService.getSetMembers(keysKey);
+            List<String> keys = new ArrayList<>();
+            members.forEach(member -> keys.add(member.toString()));
+            keys.add(keysKey);
+
+            redisService.delete(keys);
+            log.debug("피드 캐시 무효화: keysKey={}, count={}", keysKey, keys.size() - 1);
+        } catch (Exception e) {
+            log.warn("피드 캐시 무효화 실패: keysKey={}", keysKey, e);
+        }
+    }
+
+    private MomentListResponse await(CompletableFuture<MomentListResponse> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.dolpin.domain.moment.service.cache;
+
+import com.dolpin.domain.moment.event.MomentChangedEvent;
+import com.dolpin.domain.moment.repository.MomentRepository;
+import com.dolpin.global.redis.service.RedisService;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 장소별 공개 기록 수 카운터 (Redis Hash, field = placeId, 버전 field = placeId:v, 만료 시각 field = placeId:e)
+ * 기록 변경 이벤트로 증감하고, 없거나 만료 시각이 지난 필드는 DB 집계로 채운다.
+ * DB 집계 전에 읽은 버전이 저장 시점까지 그대로일 때만 채워서 집계 도중 들어온 증감이 유실되거나 중복되지 않게 하고,
+ * 이벤트가 집계보다 늦게 도착해 생길 수 있는 오차는 장소별 만료 시각이 지나 DB 기준으로 다시 채워지며 사라진다.
+ * 만료 시각은 장소마다 지터를 더해 저장하므로 여러 장소가 한꺼번에 DB 집계로 몰리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceMomentCountService {
+
+    private final RedisService redisService;
+    private final MomentRepository momentRepository;
+
+    private static final Duration COUNTS_TTL = Duration.ofHours(1);
+    private static final Duration COUNTS_TTL_JITTER = Duration.ofMinutes(10);
+    // Hash 키 자체의 TTL (쓰기마다 연장, 쓰기가 끊긴 Hash만 정리)
+    private static final Duration HASH_TTL = Duration.ofDays(1);
+    private static final String VERSION_SUFFIX = ":v";
+    private static final String EXPIRE_AT_SUFFIX = ":e";
+
+    // 장소별 만료 판정용 시계 (테스트에서 교체)
+    private LongSupplier clock = System::currentTimeMillis;
+
+    /**
+     * 여러 장소의 공개 기록 수 조회 (HMGET 1회, 미스/만료 장소만 DB 집계)
+     */
+    public Map<Long, Long> getPublicMomentCounts(List<Long> placeIds) {
+        if (placeIds == null || placeIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        String key = CacheKeyUtil.placeMomentCounts();
+        List<String> fields = new ArrayList<>();
+        placeIds.forEach(placeId -> fields.add(String.valueOf(placeId)));
+        placeIds.forEach(placeId -> fields.add(versionField(placeId)));
+        placeIds.forEach(placeId -> fields.add(expireAtField(placeId)));
+
+        // 값, 버전, 만료 시각을 HMGET 1회로 함께 조회
+        List<Object> values = redisService.hashMultiGet(key, fields);
+        Map<Long, Long> result = new HashMap<>();
+        Map<Long, String> missingVersions = new LinkedHashMap<>();
+        long now = clock.getAsLong();
+
+        for (int i = 0; i < placeIds.size(); i++) {
+            Long count = i < values.size() ? parseCount(values.get(i)) : null;
+            int expireAtIndex = placeIds.size() * 2 + i;
+            Long expireAt = expireAtIndex < values.size() ? parseCount(values.get(expireAtIndex)) : null;
+            if (count != null && expireAt != null && expireAt > now) {
+                result.put(placeIds.get(i), count);
+            } else {
+                int versionIndex = placeIds.size() + i;
+                Object version = versionIndex < values.size() ? values.get(versionIndex) : null;
+                missingVersions.put(placeIds.get(i), version != null ? version.toString() : "0");
+            }
+        }
+
+        if (!missingVersions.isEmpty()) {
+            result.putAll(loadAndBackfill(key, missingVersions));
+        }
+
+        log.debug("장소별 기록 수 조회: {}/{} 히트", placeIds.size() - missingVersions.size(), placeIds.size());
+        return result;
+    }
+
+    /**
+     * 기록 생성/삭제/공개 여부 변경/장소 변경 반영
+     */
+    public void applyChange(MomentChangedEvent event) {
+        Map<Long, Long> deltas = new HashMap<>();
+        if (event.getPreviousPlaceId() != null && event.isPreviousPublic()) {
+            deltas.merge(event.getPreviousPlaceId(), -1L, Long::sum);
+        }
+        if (event.getPlaceId() != null && event.isPublic()) {
+            deltas.merge(event.getPlaceId(), 1L, Long::sum);
+        }
+
+        String key = CacheKeyUtil.placeMomentCounts();
+        deltas.forEach((placeId, delta) -> {
+            if (delta == 0) {
+                return;
+            }
+            try {
+                redisService.hashIncrementVersioned(
+                        key, String.valueOf(placeId), versionField(placeId), delta, HASH_TTL);
+            } catch (Exception e) {
+                // 증감 실패 시 필드를 제거하여 다음 조회 때 DB 집계로 복구
+                log.warn("장소별 기록 수 증감 실패: placeId={}, delta={}", placeId, delta, e);
+                redisService.hashDelete(key, String.valueOf(placeId));
+            }
+        });
+    }
+
+    private Map<Long, Long> loadAndBackfill(String key, Map<Long, String> missingVersions) {
+        List<Long> placeIds = new ArrayList<>(missingVersions.keySet());
+        Map<Long, Long> counts = new HashMap<>();
+        placeIds.forEach(placeId -> counts.put(placeId, 0L));
+
+        for (Object[] row : momentRepository.countPublicMomentsByPlaceIds(placeIds)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+
+        // 집계 도중 증감이 들어왔거나 다른 인스턴스가 먼저 채운 필드는 저장하지 않음 (다음 조회에서 다시 집계)
+        long now = clock.getAsLong();
+        Map<String, List<String>> fieldValues = new LinkedHashMap<>();
+        placeIds.forEach(placeId -> fieldValues.put(
+                String.valueOf(placeId),
+                List.of(versionField(placeId), missingVersions.get(placeId), String.valueOf(counts.get(placeId)),
+                        expireAtField(placeId), String.valueOf(now + jitteredTtlMillis()))));
+        Long stored = redisService.hashPutAllIfVersionUnchanged(key, fieldValues, now, HASH_TTL);
+
+        log.debug("장소별 기록 수 백필: {}/{} 저장", stored, placeIds.size());
+        return counts;
+    }
+
+    private String versionField(Long placeId) {
+        return placeId + VERSION_SUFFIX;
+    }
+
+    private String expireAtField(Long placeId) {
+        return placeId + EXPIRE_AT_SUFFIX;
+    }
+
+    private long jitteredTtlMillis() {
+        return COUNTS_TTL.toMillis() + ThreadLocalRandom.current().nextLong(COUNTS_TTL_JITTER.toMillis() + 1);
+    }
+
+    private Long parseCount(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
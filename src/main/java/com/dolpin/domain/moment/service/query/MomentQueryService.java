@@ -14,5 +14,7 @@ public interface MomentQueryService {
 
     MomentListResponse getPlaceMoments(Long placeId, Integer limit, String cursor);
 
+    MomentListResponse searchMoments(Long currentUserId, String keyword, Integer limit, String cursor);
+
     MomentDetailResponse getMomentDetail(Long momentId, Long currentUserId);
 }
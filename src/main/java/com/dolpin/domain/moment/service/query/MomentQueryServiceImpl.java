@@ -1,12 +1,14 @@
 package com.dolpin.domain.moment.service.query;
 
-import com.dolpin.domain.comment.repository.CommentRepository;
 import com.dolpin.domain.moment.dto.response.MomentDetailResponse;
 import com.dolpin.domain.moment.dto.response.MomentListResponse;
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.moment.service.MomentViewService;
 import com.dolpin.domain.moment.service.cache.MomentCacheService;
+import com.dolpin.domain.moment.service.cache.MomentDetailCacheService;
+import com.dolpin.domain.moment.service.cache.MomentDetailSnapshot;
+import com.dolpin.domain.moment.service.cache.MomentFeedCacheService;
 import com.dolpin.domain.moment.service.template.*;
 import com.dolpin.domain.user.entity.User;
 import com.dolpin.domain.user.service.UserQueryService;
@@ -17,6 +19,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -24,20 +28,28 @@ public class MomentQueryServiceImpl implements MomentQueryService {
 
     private final MomentRepository momentRepository;
     private final UserQueryService userQueryService;
-    private final CommentRepository commentRepository;
     private final MomentViewService momentViewService;
     private final MomentCacheService momentCacheService;
+    private final MomentFeedCacheService momentFeedCacheService;
+    private final MomentDetailCacheService momentDetailCacheService;
 
     // Template Method 패턴 Operation들
     private final MomentAllQueryOperation momentAllQueryOperation;
     private final MomentMyQueryOperation momentMyQueryOperation;
     private final MomentUserQueryOperation momentUserQueryOperation;
     private final MomentPlaceQueryOperation momentPlaceQueryOperation;
+    private final MomentSearchQueryOperation momentSearchQueryOperation;
 
     @Override
     @Transactional(readOnly = true)
     public MomentListResponse getAllMoments(Long currentUserId, Integer limit, String cursor) {
         MomentQueryContext context = MomentQueryContext.forAllMoments(currentUserId, limit, cursor);
+
+        // 비로그인 사용자의 첫 페이지는 모두 같은 응답이므로 짧게 캐시
+        if (currentUserId == null && cursor == null) {
+            return momentFeedCacheService.getAnonymousFeed(limit,
+                    () -> momentAllQueryOperation.executeMomentQuery(context));
+        }
         return momentAllQueryOperation.executeMomentQuery(context);
     }
 
@@ -59,26 +71,60 @@ public class MomentQueryServiceImpl implements MomentQueryService {
     @Transactional(readOnly = true)
     public MomentListResponse getPlaceMoments(Long placeId, Integer limit, String cursor) {
         MomentQueryContext context = MomentQueryContext.forPlaceMoments(placeId, limit, cursor);
+
+        if (cursor == null) {
+            return momentFeedCacheService.getPlaceFeed(placeId, limit,
+                    () -> momentPlaceQueryOperation.executeMomentQuery(context));
+        }
         return momentPlaceQueryOperation.executeMomentQuery(context);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public MomentListResponse searchMoments(Long currentUserId, String keyword, Integer limit, String cursor) {
+        MomentQueryContext context = MomentQueryContext.forSearch(currentUserId, keyword, limit, cursor);
+        return momentSearchQueryOperation.executeMomentQuery(context);
+    }
+
+    /**
+     * 기록 상세 조회 - 쓰기 트랜잭션 없이 처리
+     * 본문/이미지/작성자는 캐시(미스 시 2회 조회), 조회 수는 카운터 저장소, 댓글 수는 캐시 우선으로 조회한다.
+     */
+    @Override
     public MomentDetailResponse getMomentDetail(Long momentId, Long currentUserId) {
-        Moment moment = momentRepository.findByIdWithImages(momentId)
-                .orElseThrow(() -> new BusinessException(ResponseStatus.USER_NOT_FOUND.withMessage("기록을 찾을 수 없습니다.")));
+        MomentDetailSnapshot snapshot = momentDetailCacheService.getSnapshot(momentId,
+                () -> loadDetailSnapshot(momentId));
 
-        if (!moment.canBeViewedBy(currentUserId)) {
+        if (!snapshot.canBeViewedBy(currentUserId)) {
             throw new BusinessException(ResponseStatus.FORBIDDEN.withMessage("접근 권한이 없습니다."));
         }
 
-        momentViewService.incrementViewCount(momentId);
+        // 조회 수는 카운터에서 증가시킨 값을 바로 사용하고 DB 반영분은 적립해 주기적으로 일괄 반영
+        Long viewCount = momentViewService.recordView(momentId);
+        momentViewService.bufferViewIncrement(momentId);
+
+        Long commentCount = getCommentCountWithCache(momentId);
+
+        return snapshot.toResponse(currentUserId, commentCount, viewCount);
+    }
+
+    private MomentDetailSnapshot loadDetailSnapshot(Long momentId) {
+        Moment moment = momentRepository.findByIdWithImages(momentId)
+                .orElseThrow(() -> new BusinessException(ResponseStatus.USER_NOT_FOUND.withMessage("기록을 찾을 수 없습니다.")));
         User author = userQueryService.getUserById(moment.getUserId());
 
-        boolean isOwner = moment.isOwnedBy(currentUserId);
-        Long commentCount = commentRepository.countByMomentIdAndNotDeleted(momentId);
-        Long viewCount = momentViewService.getViewCount(momentId);
+        return MomentDetailSnapshot.of(moment, author);
+    }
+
+    private Long getCommentCountWithCache(Long momentId) {
+        Long cachedCommentCount = momentCacheService.getCommentCount(momentId);
+        if (cachedCommentCount != null) {
+            return cachedCommentCount;
+        }
 
-        return MomentDetailResponse.from(moment, isOwner, commentCount, viewCount, author);
+        // 캐시 미스 시에도 댓글을 집계하지 않고 기록의 comment_count 컬럼만 조회
+        Long commentCount = momentRepository.findCommentCountById(momentId).orElse(0L);
+        momentCacheService.cacheCommentCountsBatch(Map.of(momentId, commentCount));
+        return commentCount;
     }
 }
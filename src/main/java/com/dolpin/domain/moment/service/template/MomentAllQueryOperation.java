@@ -1,6 +1,5 @@
 package com.dolpin.domain.moment.service.template;
 
-import com.dolpin.domain.comment.repository.CommentRepository;
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.moment.service.MomentViewService;
@@ -13,21 +12,34 @@ import java.util.List;
 
 @Slf4j
 @Component
-public class MomentAllQueryOperation extends MomentQueryTemplate {
+public class MomentAllQueryOperation extends MomentTimelineQueryTemplate {
 
     public MomentAllQueryOperation(MomentRepository momentRepository,
                                    UserQueryService userQueryService,
-                                   CommentRepository commentRepository,
                                    MomentViewService momentViewService,
                                    MomentCacheService momentCacheService) {
-        super(momentRepository, userQueryService, commentRepository, momentViewService, momentCacheService);
+        super(momentRepository, userQueryService, momentViewService, momentCacheService);
     }
 
     @Override
-    protected List<Moment> fetchMoments(MomentQueryContext context, int queryLimit) {
-        return momentRepository.findPublicMomentsWithUserPrivateNative(
+    protected List<Moment> fetchMoments(MomentQueryContext context, MomentCursor cursor, int queryLimit) {
+        // 비로그인 사용자는 공개 기록 스트림만 조회
+        if (context.getCurrentUserId() == null) {
+            return cursor == null
+                    ? momentRepository.findPublicMomentsFirstPage(queryLimit)
+                    : momentRepository.findPublicMomentsAfterCursor(cursor.getCreatedAt(), cursor.getId(), queryLimit);
+        }
+
+        if (cursor == null) {
+            return momentRepository.findPublicMomentsWithUserPrivateFirstPage(
+                    context.getCurrentUserId(),
+                    queryLimit
+            );
+        }
+        return momentRepository.findPublicMomentsWithUserPrivateAfterCursor(
                 context.getCurrentUserId(),
-                context.getCursor(),
+                cursor.getCreatedAt(),
+                cursor.getId(),
                 queryLimit
         );
     }
@@ -2,12 +2,14 @@ package com.dolpin.domain.moment.service.template;
 
 import com.dolpin.domain.moment.dto.response.MomentCreateResponse;
 import com.dolpin.domain.moment.entity.Moment;
+import com.dolpin.domain.moment.event.MomentChangedEvent;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.user.entity.User;
 import com.dolpin.domain.user.service.UserQueryService;
 import com.dolpin.global.exception.BusinessException;
 import com.dolpin.global.response.ResponseStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -15,8 +17,9 @@ import org.springframework.stereotype.Component;
 public class MomentCreateOperation extends MomentOperationTemplate {
 
     public MomentCreateOperation(MomentRepository momentRepository,
-                                 UserQueryService userQueryService) {
-        super(momentRepository, userQueryService);
+                                 UserQueryService userQueryService,
+                                 ApplicationEventPublisher eventPublisher) {
+        super(momentRepository, userQueryService, eventPublisher);
     }
 
     @Override
@@ -69,7 +72,11 @@ public class MomentCreateOperation extends MomentOperationTemplate {
         // 3. Moment 저장 (Cascade로 이미지도 함께 저장됨)
         Moment savedMoment = momentRepository.save(newMoment);
 
-        // 4. 응답 생성
+        // 4. 변경 이벤트 발행 (커밋 후 피드 캐시 무효화)
+        eventPublisher.publishEvent(MomentChangedEvent.created(
+                savedMoment.getId(), savedMoment.getPlaceId(), Boolean.TRUE.equals(savedMoment.getIsPublic())));
+
+        // 5. 응답 생성
         return (T) MomentCreateResponse.builder()
                 .id(savedMoment.getId())
                 .createdAt(savedMoment.getCreatedAt())
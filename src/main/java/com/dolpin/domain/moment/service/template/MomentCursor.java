@@ -0,0 +1,73 @@
+package com.dolpin.domain.moment.service.template;
+
+import com.dolpin.domain.moment.entity.Moment;
+import com.dolpin.global.exception.BusinessException;
+import com.dolpin.global.response.ResponseStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 기록 목록 커서 (created_at, id)
+ * 같은 시각에 생성된 기록도 id로 구분하여 누락 없이 페이지를 넘긴다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MomentCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static MomentCursor from(Moment moment) {
+        return new MomentCursor(moment.getCreatedAt(), moment.getId());
+    }
+
+    /**
+     * 커서 문자열 디코딩 (없으면 null = 첫 페이지)
+     */
+    public static MomentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new IllegalArgumentException("delimiter not found");
+            }
+
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, delimiterIndex));
+            Long id = Long.parseLong(decoded.substring(delimiterIndex + 1));
+            return new MomentCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return decodeLegacy(cursor);
+        }
+    }
+
+    /**
+     * 불투명 커서 문자열로 인코딩 (created_at은 마이크로초 정밀도 그대로 유지)
+     */
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 이전 버전 클라이언트가 보관 중인 created_at 단독 커서 호환
+    private static MomentCursor decodeLegacy(String cursor) {
+        String timestamp = cursor.endsWith("Z") ? cursor.substring(0, cursor.length() - 1) : cursor;
+        try {
+            return new MomentCursor(LocalDateTime.parse(timestamp), Long.MAX_VALUE);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ResponseStatus.INVALID_PARAMETER.withMessage("유효하지 않은 커서입니다."));
+        }
+    }
+}
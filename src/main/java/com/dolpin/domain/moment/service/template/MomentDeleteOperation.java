@@ -1,12 +1,14 @@
 package com.dolpin.domain.moment.service.template;
 
 import com.dolpin.domain.moment.entity.Moment;
+import com.dolpin.domain.moment.event.MomentChangedEvent;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.user.entity.User;
 import com.dolpin.domain.user.service.UserQueryService;
 import com.dolpin.global.exception.BusinessException;
 import com.dolpin.global.response.ResponseStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -14,8 +16,9 @@ import org.springframework.stereotype.Component;
 public class MomentDeleteOperation extends MomentOperationTemplate {
 
     public MomentDeleteOperation(MomentRepository momentRepository,
-                                 UserQueryService userQueryService) {
-        super(momentRepository, userQueryService);
+                                 UserQueryService userQueryService,
+                                 ApplicationEventPublisher eventPublisher) {
+        super(momentRepository, userQueryService, eventPublisher);
     }
 
     @Override
@@ -44,7 +47,11 @@ public class MomentDeleteOperation extends MomentOperationTemplate {
         // 2. Moment 삭제 (Cascade로 관련 이미지도 함께 삭제됨)
         momentRepository.delete(moment);
 
-        // 3. 삭제 작업은 반환값이 없음 (void)
+        // 3. 변경 이벤트 발행 (커밋 후 피드 캐시 무효화)
+        eventPublisher.publishEvent(MomentChangedEvent.deleted(
+                moment.getId(), moment.getPlaceId(), Boolean.TRUE.equals(moment.getIsPublic())));
+
+        // 4. 삭제 작업은 반환값이 없음 (void)
         log.debug("Moment 엔티티 삭제 완료: momentId={}, title={}, imageCount={}",
                 context.getMomentId(), momentTitle, imageCount);
 
@@ -1,6 +1,5 @@
 package com.dolpin.domain.moment.service.template;
 
-import com.dolpin.domain.comment.repository.CommentRepository;
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.moment.service.MomentViewService;
@@ -13,22 +12,28 @@ import java.util.List;
 
 @Slf4j
 @Component
-public class MomentMyQueryOperation extends MomentQueryTemplate {
+public class MomentMyQueryOperation extends MomentTimelineQueryTemplate {
 
     public MomentMyQueryOperation(MomentRepository momentRepository,
                                   UserQueryService userQueryService,
-                                  CommentRepository commentRepository,
                                   MomentViewService momentViewService,
                                   MomentCacheService momentCacheService) {
-        super(momentRepository, userQueryService, commentRepository, momentViewService, momentCacheService);
+        super(momentRepository, userQueryService, momentViewService, momentCacheService);
     }
 
     @Override
-    protected List<Moment> fetchMoments(MomentQueryContext context, int queryLimit) {
-        return momentRepository.findByUserIdWithVisibilityNative(
+    protected List<Moment> fetchMoments(MomentQueryContext context, MomentCursor cursor, int queryLimit) {
+        // 내 기록은 비공개도 포함
+        if (cursor == null) {
+            return momentRepository.findByUserIdFirstPage(
+                    context.getCurrentUserId(),
+                    queryLimit
+            );
+        }
+        return momentRepository.findByUserIdAfterCursor(
                 context.getCurrentUserId(),
-                true, // includePrivate = true (내 기록은 비공개도 포함)
-                context.getCursor(),
+                cursor.getCreatedAt(),
+                cursor.getId(),
                 queryLimit
         );
     }
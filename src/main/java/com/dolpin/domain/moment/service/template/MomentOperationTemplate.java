@@ -8,6 +8,7 @@ import com.dolpin.global.exception.BusinessException;
 import com.dolpin.global.response.ResponseStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -16,6 +17,7 @@ public abstract class MomentOperationTemplate {
 
     protected final MomentRepository momentRepository;
     protected final UserQueryService userQueryService;
+    protected final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public <T> T executeMomentOperation(MomentOperationContext context) {
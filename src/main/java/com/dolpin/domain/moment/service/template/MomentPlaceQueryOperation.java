@@ -1,6 +1,5 @@
 package com.dolpin.domain.moment.service.template;
 
-import com.dolpin.domain.comment.repository.CommentRepository;
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.moment.service.MomentViewService;
@@ -13,21 +12,27 @@ import java.util.List;
 
 @Slf4j
 @Component
-public class MomentPlaceQueryOperation extends MomentQueryTemplate {
+public class MomentPlaceQueryOperation extends MomentTimelineQueryTemplate {
 
     public MomentPlaceQueryOperation(MomentRepository momentRepository,
                                      UserQueryService userQueryService,
-                                     CommentRepository commentRepository,
                                      MomentViewService momentViewService,
                                      MomentCacheService momentCacheService) {
-        super(momentRepository, userQueryService, commentRepository, momentViewService, momentCacheService);
+        super(momentRepository, userQueryService, momentViewService, momentCacheService);
     }
 
     @Override
-    protected List<Moment> fetchMoments(MomentQueryContext context, int queryLimit) {
-        return momentRepository.findPublicMomentsByPlaceIdNative(
+    protected List<Moment> fetchMoments(MomentQueryContext context, MomentCursor cursor, int queryLimit) {
+        if (cursor == null) {
+            return momentRepository.findPublicMomentsByPlaceIdFirstPage(
+                    context.getPlaceId(),
+                    queryLimit
+            );
+        }
+        return momentRepository.findPublicMomentsByPlaceIdAfterCursor(
                 context.getPlaceId(),
-                context.getCursor(),
+                cursor.getCreatedAt(),
+                cursor.getId(),
                 queryLimit
         );
     }
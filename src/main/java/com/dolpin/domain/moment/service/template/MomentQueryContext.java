@@ -12,6 +12,7 @@ public class MomentQueryContext {
     private Long placeId;
     private Integer limit;
     private String cursor;
+    private String keyword;
 
     // 편의 메서드들
     public static MomentQueryContext forAllMoments(Long currentUserId, Integer limit, String cursor) {
@@ -49,4 +50,14 @@ public class MomentQueryContext {
                 .cursor(cursor)
                 .build();
     }
+
+    public static MomentQueryContext forSearch(Long currentUserId, String keyword, Integer limit, String cursor) {
+        return MomentQueryContext.builder()
+                .queryType(MomentQueryType.SEARCH_MOMENTS)
+                .currentUserId(currentUserId)
+                .keyword(keyword)
+                .limit(limit)
+                .cursor(cursor)
+                .build();
+    }
 }
@@ -1,6 +1,5 @@
 package com.dolpin.domain.moment.service.template;
 
-import com.dolpin.domain.comment.repository.CommentRepository;
 import com.dolpin.domain.moment.dto.response.MomentListResponse;
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
@@ -14,25 +13,28 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 기록 목록 조회 템플릿
+ *
+ * @param <C> 커서 타입 (요청 커서 문자열을 해석한 값)
+ * @param <R> 조회 행 타입 (기록과 다음 커서를 만드는 데 필요한 정렬 키를 담음)
+ */
 @Slf4j
 @RequiredArgsConstructor
-public abstract class MomentQueryTemplate {
+public abstract class MomentQueryTemplate<C, R> {
 
     protected final MomentRepository momentRepository;
     protected final UserQueryService userQueryService;
-    protected final CommentRepository commentRepository;
     protected final MomentViewService momentViewService;
     protected final MomentCacheService momentCacheService;
 
-    private static final int DEFAULT_LIMIT = 10;
-    private static final int MAX_LIMIT = 50;
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
 
     @Transactional(readOnly = true)
     public MomentListResponse executeMomentQuery(MomentQueryContext context) {
@@ -46,12 +48,16 @@ public abstract class MomentQueryTemplate {
         int pageSize = validateAndGetLimit(context.getLimit());
         int queryLimit = pageSize + 1;
 
-        // 3. 데이터 조회 (각 구현체에서 정의)
-        List<Moment> moments = fetchMoments(context, queryLimit);
+        // 3. 커서 해석 (null이면 첫 페이지)
+        C cursor = decodeCursor(context);
 
-        // 4. 응답 빌드 (공통 로직)
+        // 4. 데이터 조회 (각 구현체에서 정의)
+        List<R> rows = fetchMoments(context, cursor, queryLimit);
+
+        // 5. 응답 빌드 (공통 로직)
         return buildMomentListResponse(
-                moments,
+                context,
+                rows,
                 pageSize,
                 shouldIncludeAuthor(context),
                 context.getCursor(),
@@ -59,10 +65,19 @@ public abstract class MomentQueryTemplate {
         );
     }
 
-    protected abstract List<Moment> fetchMoments(MomentQueryContext context, int queryLimit);
+    protected abstract List<R> fetchMoments(MomentQueryContext context, C cursor, int queryLimit);
 
     protected abstract String generateBaseUrl(MomentQueryContext context);
 
+    // 커서 문자열 해석 (없으면 null = 첫 페이지)
+    protected abstract C decodeCursor(MomentQueryContext context);
+
+    // 조회 행에서 기록 추출
+    protected abstract Moment toMoment(R row);
+
+    // 현재 페이지 마지막 행 다음부터 조회하는 커서 생성
+    protected abstract String generateCursor(MomentQueryContext context, R lastRow);
+
     protected void validateBeforeQuery(MomentQueryContext context) {
         // 기본 구현: 아무것도 하지 않음
     }
@@ -85,19 +100,19 @@ public abstract class MomentQueryTemplate {
         return limit;
     }
 
-    private MomentListResponse buildMomentListResponse(List<Moment> moments, int pageSize,
+    private MomentListResponse buildMomentListResponse(MomentQueryContext context, List<R> rows, int pageSize,
                                                        boolean includeAuthor, String currentCursor, String baseUrl) {
-        boolean hasNext = moments.size() > pageSize;
-        List<Moment> actualMoments = hasNext ? moments.subList(0, pageSize) : moments;
+        boolean hasNext = rows.size() > pageSize;
+        List<R> actualRows = hasNext ? rows.subList(0, pageSize) : rows;
 
-        if (actualMoments.isEmpty()) {
+        if (actualRows.isEmpty()) {
             return buildEmptyMomentListResponse(pageSize, baseUrl);
         }
 
-        String nextCursor = hasNext ? generateCursor(moments.get(pageSize)) : null;
+        // 다음 페이지는 현재 페이지의 마지막 기록 이후부터 조회
+        String nextCursor = hasNext ? generateCursor(context, actualRows.get(pageSize - 1)) : null;
 
-        // 댓글 수 조회 (캐시 우선)
-        Map<Long, Long> commentCountMap = getCommentCountMapWithCache(actualMoments);
+        List<Moment> actualMoments = actualRows.stream().map(this::toMoment).collect(Collectors.toList());
 
         // 조회 수 조회 (캐시 우선)
         Map<Long, Long> viewCountMap = getViewCountMapWithCache(actualMoments);
@@ -118,7 +133,6 @@ public abstract class MomentQueryTemplate {
         }
 
         // final 변수로 선언하여 lambda에서 사용 가능하게 함
-        final Map<Long, Long> finalCommentCountMap = commentCountMap;
         final Map<Long, Long> finalViewCountMap = viewCountMap;
         final Map<Long, User> finalAuthorMap = authorMap;
 
@@ -127,7 +141,6 @@ public abstract class MomentQueryTemplate {
                 .map(moment -> buildMomentSummaryDto(
                         moment,
                         includeAuthor,
-                        finalCommentCountMap,
                         finalViewCountMap,
                         finalAuthorMap
                 ))
@@ -145,10 +158,10 @@ public abstract class MomentQueryTemplate {
         // Links 정보 생성
         MomentListResponse.LinksDto links = MomentListResponse.LinksDto.builder()
                 .self(MomentListResponse.LinkDto.builder()
-                        .href(baseUrl + buildQueryParams(currentCursor, pageSize))
+                        .href(buildHref(baseUrl, currentCursor, pageSize))
                         .build())
                 .next(hasNext ? MomentListResponse.LinkDto.builder()
-                        .href(baseUrl + buildQueryParams(nextCursor, pageSize))
+                        .href(buildHref(baseUrl, nextCursor, pageSize))
                         .build() : null)
                 .build();
 
@@ -159,42 +172,6 @@ public abstract class MomentQueryTemplate {
                 .build();
     }
 
-    private Map<Long, Long> getCommentCountMapWithCache(List<Moment> moments) {
-        List<Long> momentIds = moments.stream().map(Moment::getId).collect(Collectors.toList());
-
-        if (momentIds.isEmpty()) {
-            return new HashMap<>();
-        }
-
-        // 1. 캐시에서 댓글 수 조회
-        Map<Long, Long> cachedCommentCounts = momentCacheService.getCommentCounts(momentIds);
-
-        // 2. 캐시에 없는 기록 ID 찾기
-        List<Long> missedMomentIds = momentIds.stream()
-                .filter(momentId -> !cachedCommentCounts.containsKey(momentId))
-                .collect(Collectors.toList());
-
-        Map<Long, Long> result = new HashMap<>(cachedCommentCounts);
-
-        // 3. 캐시 미스 데이터는 DB에서 조회
-        if (!missedMomentIds.isEmpty()) {
-            List<Object[]> commentCountResults = commentRepository.countByMomentIds(missedMomentIds);
-            Map<Long, Long> dbCommentCounts = commentCountResults.stream()
-                    .collect(Collectors.toMap(
-                            row -> (Long) row[0],    // momentId
-                            row -> (Long) row[1]     // commentCount
-                    ));
-
-            // 4. 결과에 추가
-            result.putAll(dbCommentCounts);
-
-            // 5. 조회된 데이터를 캐시에 저장 (비동기)
-            momentCacheService.cacheCommentCountsBatch(dbCommentCounts);
-        }
-
-        return result;
-    }
-
     private Map<Long, Long> getViewCountMapWithCache(List<Moment> moments) {
         List<Long> momentIds = moments.stream().map(Moment::getId).collect(Collectors.toList());
 
@@ -232,7 +209,6 @@ public abstract class MomentQueryTemplate {
     }
 
     private MomentListResponse.MomentSummaryDto buildMomentSummaryDto(Moment moment, boolean includeAuthor,
-                                                                      Map<Long, Long> commentCountMap,
                                                                       Map<Long, Long> viewCountMap,
                                                                       Map<Long, User> authorMap) {
         String thumbnail = moment.getThumbnailUrl();
@@ -245,7 +221,7 @@ public abstract class MomentQueryTemplate {
                 .imagesCount(moment.getImageCount())
                 .isPublic(moment.getIsPublic())
                 .createdAt(moment.getCreatedAt())
-                .commentCount(commentCountMap.getOrDefault(moment.getId(), 0L))
+                .commentCount(moment.getCommentCount()) // 댓글 생성/삭제 시 증감되는 컬럼 (집계 없음)
                 .viewCount(viewCountMap.getOrDefault(moment.getId(), moment.getViewCount()));
 
         if (includeAuthor) {
@@ -273,7 +249,7 @@ public abstract class MomentQueryTemplate {
 
         MomentListResponse.LinksDto links = MomentListResponse.LinksDto.builder()
                 .self(MomentListResponse.LinkDto.builder()
-                        .href(baseUrl + "?limit=" + pageSize)
+                        .href(buildHref(baseUrl, null, pageSize))
                         .build())
                 .next(null)
                 .build();
@@ -285,15 +261,14 @@ public abstract class MomentQueryTemplate {
                 .build();
     }
 
-    private String generateCursor(Moment moment) {
-        return moment.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS"));
-    }
-
-    private String buildQueryParams(String cursor, int limit) {
-        StringBuilder params = new StringBuilder("?limit=" + limit);
+    private String buildHref(String baseUrl, String cursor, int limit) {
+        // 검색처럼 baseUrl에 이미 쿼리 파라미터가 있으면 이어 붙임
+        StringBuilder href = new StringBuilder(baseUrl)
+                .append(baseUrl.contains("?") ? "&" : "?")
+                .append("limit=").append(limit);
         if (cursor != null) {
-            params.append("&cursor=").append(cursor);
+            href.append("&cursor=").append(cursor);
         }
-        return params.toString();
+        return href.toString();
     }
 }
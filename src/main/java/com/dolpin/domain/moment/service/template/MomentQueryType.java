@@ -1,5 +1,5 @@
 package com.dolpin.domain.moment.service.template;
 
 public enum MomentQueryType {
-    ALL_MOMENTS, MY_MOMENTS, USER_MOMENTS, PLACE_MOMENTS
+    ALL_MOMENTS, MY_MOMENTS, USER_MOMENTS, PLACE_MOMENTS, SEARCH_MOMENTS
 }
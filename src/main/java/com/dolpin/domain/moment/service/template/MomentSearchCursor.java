@@ -0,0 +1,67 @@
+package com.dolpin.domain.moment.service.template;
+
+import com.dolpin.domain.moment.entity.Moment;
+import com.dolpin.global.exception.BusinessException;
+import com.dolpin.global.response.ResponseStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 기록 검색 커서 (rank, created_at, id)
+ * 관련도 순 정렬에서도 같은 rank의 기록을 누락 없이 넘긴다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MomentSearchCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final Float rank;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static MomentSearchCursor from(MomentSearchRow row) {
+        Moment moment = row.getMoment();
+        return new MomentSearchCursor(row.getRank(), moment.getCreatedAt(), moment.getId());
+    }
+
+    /**
+     * 커서 문자열 디코딩 (없으면 null = 첫 페이지)
+     */
+    public static MomentSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(Pattern.quote(DELIMITER));
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("invalid part count");
+            }
+
+            return new MomentSearchCursor(
+                    Float.parseFloat(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ResponseStatus.INVALID_PARAMETER.withMessage("유효하지 않은 커서입니다."));
+        }
+    }
+
+    /**
+     * 불투명 커서 문자열로 인코딩 (rank는 float 값을 그대로 보존)
+     */
+    public String encode() {
+        String raw = rank + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,89 @@
+package com.dolpin.domain.moment.service.template;
+
+import com.dolpin.domain.moment.entity.Moment;
+import com.dolpin.domain.moment.entity.MomentSearchDocument;
+import com.dolpin.domain.moment.repository.MomentRepository;
+import com.dolpin.domain.moment.service.MomentViewService;
+import com.dolpin.domain.moment.service.cache.MomentCacheService;
+import com.dolpin.domain.user.service.UserQueryService;
+import com.dolpin.global.exception.BusinessException;
+import com.dolpin.global.response.ResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class MomentSearchQueryOperation extends MomentQueryTemplate<MomentSearchCursor, MomentSearchRow> {
+
+    private static final int MAX_KEYWORD_LENGTH = 50;
+
+    public MomentSearchQueryOperation(MomentRepository momentRepository,
+                                      UserQueryService userQueryService,
+                                      MomentViewService momentViewService,
+                                      MomentCacheService momentCacheService) {
+        super(momentRepository, userQueryService, momentViewService, momentCacheService);
+    }
+
+    @Override
+    protected void validateBeforeQuery(MomentQueryContext context) {
+        String keyword = context.getKeyword();
+        if (keyword == null || keyword.isBlank()) {
+            throw new BusinessException(ResponseStatus.INVALID_PARAMETER.withMessage("검색어가 필요합니다."));
+        }
+        if (keyword.length() > MAX_KEYWORD_LENGTH) {
+            throw new BusinessException(ResponseStatus.INVALID_PARAMETER.withMessage(
+                    "검색어는 " + MAX_KEYWORD_LENGTH + "자 이내여야 합니다."));
+        }
+        if (MomentSearchDocument.toQuery(keyword) == null) {
+            throw new BusinessException(ResponseStatus.INVALID_PARAMETER.withMessage("검색어에 문자나 숫자가 포함되어야 합니다."));
+        }
+    }
+
+    @Override
+    protected MomentSearchCursor decodeCursor(MomentQueryContext context) {
+        return MomentSearchCursor.decode(context.getCursor());
+    }
+
+    @Override
+    protected List<MomentSearchRow> fetchMoments(MomentQueryContext context, MomentSearchCursor cursor, int queryLimit) {
+        String query = MomentSearchDocument.toQuery(context.getKeyword());
+
+        List<Object[]> rows = cursor == null
+                ? momentRepository.searchFirstPage(query, context.getCurrentUserId(), queryLimit)
+                : momentRepository.searchAfterCursor(
+                        query,
+                        context.getCurrentUserId(),
+                        cursor.getRank(),
+                        cursor.getCreatedAt(),
+                        cursor.getId(),
+                        queryLimit
+                );
+        return rows.stream().map(MomentSearchRow::from).collect(Collectors.toList());
+    }
+
+    @Override
+    protected Moment toMoment(MomentSearchRow row) {
+        return row.getMoment();
+    }
+
+    @Override
+    protected String generateCursor(MomentQueryContext context, MomentSearchRow lastRow) {
+        // 목록 쿼리가 계산한 rank를 그대로 커서에 담음
+        return MomentSearchCursor.from(lastRow).encode();
+    }
+
+    @Override
+    protected String generateBaseUrl(MomentQueryContext context) {
+        return "/api/v1/moments/search?keyword=" + URLEncoder.encode(context.getKeyword(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldIncludeAuthor(MomentQueryContext context) {
+        return true; // 검색 결과에 작성자 정보 포함
+    }
+}
@@ -0,0 +1,21 @@
+package com.dolpin.domain.moment.service.template;
+
+import com.dolpin.domain.moment.entity.Moment;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 조회 행 (기록 + 검색 쿼리가 계산한 ts_rank)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MomentSearchRow {
+
+    private final Moment moment;
+    private final Float rank;
+
+    public static MomentSearchRow from(Object[] row) {
+        return new MomentSearchRow((Moment) row[0], (Float) row[1]);
+    }
+}
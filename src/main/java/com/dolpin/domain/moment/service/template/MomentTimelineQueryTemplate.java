@@ -0,0 +1,35 @@
+package com.dolpin.domain.moment.service.template;
+
+import com.dolpin.domain.moment.entity.Moment;
+import com.dolpin.domain.moment.repository.MomentRepository;
+import com.dolpin.domain.moment.service.MomentViewService;
+import com.dolpin.domain.moment.service.cache.MomentCacheService;
+import com.dolpin.domain.user.service.UserQueryService;
+
+/**
+ * 작성 시각 순 기록 목록 조회 템플릿 ((created_at, id) 커서)
+ */
+public abstract class MomentTimelineQueryTemplate extends MomentQueryTemplate<MomentCursor, Moment> {
+
+    protected MomentTimelineQueryTemplate(MomentRepository momentRepository,
+                                          UserQueryService userQueryService,
+                                          MomentViewService momentViewService,
+                                          MomentCacheService momentCacheService) {
+        super(momentRepository, userQueryService, momentViewService, momentCacheService);
+    }
+
+    @Override
+    protected MomentCursor decodeCursor(MomentQueryContext context) {
+        return MomentCursor.decode(context.getCursor());
+    }
+
+    @Override
+    protected Moment toMoment(Moment row) {
+        return row;
+    }
+
+    @Override
+    protected String generateCursor(MomentQueryContext context, Moment lastRow) {
+        return MomentCursor.from(lastRow).encode();
+    }
+}
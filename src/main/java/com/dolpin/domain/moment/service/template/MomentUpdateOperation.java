@@ -2,12 +2,14 @@ package com.dolpin.domain.moment.service.template;
 
 import com.dolpin.domain.moment.dto.response.MomentUpdateResponse;
 import com.dolpin.domain.moment.entity.Moment;
+import com.dolpin.domain.moment.event.MomentChangedEvent;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.user.entity.User;
 import com.dolpin.domain.user.service.UserQueryService;
 import com.dolpin.global.exception.BusinessException;
 import com.dolpin.global.response.ResponseStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -15,8 +17,9 @@ import org.springframework.stereotype.Component;
 public class MomentUpdateOperation extends MomentOperationTemplate {
 
     public MomentUpdateOperation(MomentRepository momentRepository,
-                                 UserQueryService userQueryService) {
-        super(momentRepository, userQueryService);
+                                 UserQueryService userQueryService,
+                                 ApplicationEventPublisher eventPublisher) {
+        super(momentRepository, userQueryService, eventPublisher);
     }
 
     @Override
@@ -75,6 +78,10 @@ public class MomentUpdateOperation extends MomentOperationTemplate {
     @Override
     @SuppressWarnings("unchecked")
     protected <T> T executeBusinessLogic(MomentOperationContext context, User user, Moment moment) {
+        // 변경 전 장소/공개 여부 (이벤트용)
+        Long previousPlaceId = moment.getPlaceId();
+        boolean previousPublic = Boolean.TRUE.equals(moment.getIsPublic());
+
         // 1. 도메인 메서드를 사용한 내용 업데이트
         if (hasContentUpdate(context)) {
             moment.updateContent(
@@ -97,7 +104,12 @@ public class MomentUpdateOperation extends MomentOperationTemplate {
         // 4. 저장 (Cascade로 이미지 변경사항도 함께 저장됨)
         Moment updatedMoment = momentRepository.save(moment);
 
-        // 5. 응답 생성
+        // 5. 변경 이벤트 발행 (커밋 후 피드 캐시 무효화)
+        eventPublisher.publishEvent(MomentChangedEvent.updated(
+                updatedMoment.getId(), previousPlaceId, previousPublic,
+                updatedMoment.getPlaceId(), Boolean.TRUE.equals(updatedMoment.getIsPublic())));
+
+        // 6. 응답 생성
         return (T) MomentUpdateResponse.builder()
                 .id(updatedMoment.getId())
                 .updatedAt(updatedMoment.getUpdatedAt())
@@ -117,12 +129,6 @@ public class MomentUpdateOperation extends MomentOperationTemplate {
                     moment.getImageCount(),
                     response.getUpdatedAt());
         }
-
-        // 필요시 이벤트 발행
-        // eventPublisher.publishEvent(new MomentUpdatedEvent(context.getMomentId(), context.getUserId()));
-
-        // 필요시 캐시 무효화
-        // cacheService.invalidateMomentCache(context.getMomentId());
     }
 
     private boolean hasContentUpdate(MomentOperationContext context) {
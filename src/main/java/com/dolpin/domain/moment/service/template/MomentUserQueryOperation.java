@@ -1,6 +1,5 @@
 package com.dolpin.domain.moment.service.template;
 
-import com.dolpin.domain.comment.repository.CommentRepository;
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.moment.service.MomentViewService;
@@ -13,14 +12,13 @@ import java.util.List;
 
 @Slf4j
 @Component
-public class MomentUserQueryOperation extends MomentQueryTemplate {
+public class MomentUserQueryOperation extends MomentTimelineQueryTemplate {
 
     public MomentUserQueryOperation(MomentRepository momentRepository,
                                     UserQueryService userQueryService,
-                                    CommentRepository commentRepository,
                                     MomentViewService momentViewService,
                                     MomentCacheService momentCacheService) {
-        super(momentRepository, userQueryService, commentRepository, momentViewService, momentCacheService);
+        super(momentRepository, userQueryService, momentViewService, momentCacheService);
     }
 
     @Override
@@ -30,11 +28,18 @@ public class MomentUserQueryOperation extends MomentQueryTemplate {
     }
 
     @Override
-    protected List<Moment> fetchMoments(MomentQueryContext context, int queryLimit) {
-        return momentRepository.findByUserIdWithVisibilityNative(
+    protected List<Moment> fetchMoments(MomentQueryContext context, MomentCursor cursor, int queryLimit) {
+        // 다른 사용자의 비공개 기록은 제외
+        if (cursor == null) {
+            return momentRepository.findPublicByUserIdFirstPage(
+                    context.getTargetUserId(),
+                    queryLimit
+            );
+        }
+        return momentRepository.findPublicByUserIdAfterCursor(
                 context.getTargetUserId(),
-                false, // includePrivate = false (다른 사용자의 비공개 기록은 제외)
-                context.getCursor(),
+                cursor.getCreatedAt(),
+                cursor.getId(),
                 queryLimit
         );
     }
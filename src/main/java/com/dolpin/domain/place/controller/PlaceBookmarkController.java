@@ -3,7 +3,7 @@ package com.dolpin.domain.place.controller;
 import com.dolpin.domain.place.dto.response.BookmarkResponse;
 import com.dolpin.domain.place.service.command.PlaceBookmarkCommandService;
 import com.dolpin.domain.place.service.query.PlaceBookmarkQueryService;
-import com.dolpin.global.redis.service.DuplicatePreventionService;
+import com.dolpin.global.redis.service.IdempotencyService;
 import com.dolpin.global.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +12,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.Map;
 
 @RestController
@@ -22,18 +23,19 @@ public class PlaceBookmarkController {
 
     private final PlaceBookmarkCommandService bookmarkCommandService;
     private final PlaceBookmarkQueryService bookmarkQueryService;
-    private final DuplicatePreventionService duplicatePreventionService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/{place_id}")
     public ResponseEntity<ApiResponse<Map<String, Boolean>>> toggleBookmark(
             @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable("place_id") Long placeId) {
 
         Long userId = Long.parseLong(userDetails.getUsername());
-        String lockKey = duplicatePreventionService.generateKey(userId, "toggleBookmark", placeId);
+        String requestKey = idempotencyService.generateKey("toggleBookmark", userId, idempotencyKey, placeId);
 
-        // Redisson 락으로 중복 요청 방지 (대기 0초, 점유 1초)
-        return duplicatePreventionService.executeWithLock(lockKey, 0, 1, () -> {
+        // 연속 탭으로 인한 이중 토글 방지 (1초간 최초 응답 재전송)
+        return idempotencyService.execute(requestKey, Duration.ofSeconds(1), () -> {
             boolean isBookmarked = bookmarkCommandService.toggleBookmark(userId, placeId);
             Map<String, Boolean> responseData = Map.of("is_bookmarked", isBookmarked);
             return ResponseEntity.ok(ApiResponse.success("toggle_bookmark_success", responseData));
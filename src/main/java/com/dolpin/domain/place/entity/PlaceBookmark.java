@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class PlaceBookmark {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "place_bookmark_id_seq_generator")
+    @SequenceGenerator(name = "place_bookmark_id_seq_generator", sequenceName = "place_bookmark_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
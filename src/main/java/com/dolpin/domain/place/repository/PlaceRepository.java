@@ -40,6 +40,16 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
             "WHERE p.id IN :ids")
     List<Place> findByIdsWithKeywords(@Param("ids") List<Long> ids);
 
+    @Query("SELECT DISTINCT p FROM Place p " +
+            "LEFT JOIN FETCH p.menus " +
+            "WHERE p.id IN :ids")
+    List<Place> findByIdsWithMenus(@Param("ids") List<Long> ids);
+
+    @Query("SELECT DISTINCT p FROM Place p " +
+            "LEFT JOIN FETCH p.hours " +
+            "WHERE p.id IN :ids")
+    List<Place> findByIdsWithHours(@Param("ids") List<Long> ids);
+
     // 이름 기반 검색 추가
     @Query("SELECT p.id FROM Place p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :query, '%'))")
     List<Long> findPlaceIdsByNameContaining(@Param("query") String query);
@@ -1,8 +1,10 @@
 package com.dolpin.domain.place.service.cache;
 
+import com.dolpin.global.redis.codec.CacheCodec;
+import com.dolpin.global.redis.codec.CompressingCacheCodec;
+import com.dolpin.global.redis.codec.SmileCacheCodec;
 import com.dolpin.global.redis.service.RedisService;
 import com.dolpin.global.redis.util.CacheKeyUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -19,12 +21,14 @@ import java.util.stream.Collectors;
 public class BookmarkCacheService {
 
     private final RedisService redisService;
-    private final ObjectMapper objectMapper;
 
     // TTL 설정
     private static final Duration BOOKMARK_STATUS_TTL = Duration.ofHours(1);      // 개별 북마크 상태
     private static final Duration BOOKMARK_LIST_TTL = Duration.ofMinutes(15);     // 북마크 목록
 
+    private static final CacheCodec<List<UserBookmarkCacheItem>> BOOKMARK_LIST_CODEC =
+            new CompressingCacheCodec<>(SmileCacheCodec.forList(UserBookmarkCacheItem.class), 4 * 1024);
+
     // ===================== 1. 개별 북마크 상태 캐시 =====================
 
     /**
@@ -94,8 +98,7 @@ public class BookmarkCacheService {
     public void cacheUserBookmarkList(Long userId, List<UserBookmarkCacheItem> bookmarkItems) {
         String key = CacheKeyUtil.generateCompositeKey("bookmark:list", userId);
         try {
-            String jsonData = objectMapper.writeValueAsString(bookmarkItems);
-            redisService.set(key, jsonData, BOOKMARK_LIST_TTL);
+            redisService.setBytes(key, BOOKMARK_LIST_CODEC.encode(bookmarkItems), BOOKMARK_LIST_TTL);
             log.debug("북마크 목록 캐시 저장: userId={}, count={}", userId, bookmarkItems.size());
         } catch (Exception e) {
             log.warn("북마크 목록 캐시 저장 실패: userId={}", userId, e);
@@ -108,11 +111,9 @@ public class BookmarkCacheService {
     public List<UserBookmarkCacheItem> getCachedUserBookmarkList(Long userId) {
         String key = CacheKeyUtil.generateCompositeKey("bookmark:list", userId);
         try {
-            Object data = redisService.get(key);
+            byte[] data = redisService.getBytes(key);
             if (data != null) {
-                String jsonData = data.toString();
-                UserBookmarkCacheItem[] items = objectMapper.readValue(jsonData, UserBookmarkCacheItem[].class);
-                List<UserBookmarkCacheItem> result = Arrays.asList(items);
+                List<UserBookmarkCacheItem> result = BOOKMARK_LIST_CODEC.decode(data);
                 log.debug("북마크 목록 캐시 히트: userId={}, count={}", userId, result.size());
                 return result;
             }
@@ -153,32 +154,20 @@ public class BookmarkCacheService {
     // ===================== 배치 처리 메서드 추가 =====================
 
     /**
-     * 북마크 상태 배치 캐싱 (동기)
+     * 북마크 상태 배치 캐싱 (동기, 값과 TTL을 한 번의 파이프라인으로 저장)
      */
     public void cacheBookmarkStatusesBatch(Long userId, Map<Long, Boolean> bookmarkStatuses) {
         if (bookmarkStatuses.isEmpty()) return;
 
-        int chunkSize = 20;
-        List<Map.Entry<Long, Boolean>> entries = new ArrayList<>(bookmarkStatuses.entrySet());
-
-        for (int i = 0; i < entries.size(); i += chunkSize) {
-            int end = Math.min(i + chunkSize, entries.size());
-            Map<String, Object> chunkData = new HashMap<>();
-
-            for (int j = i; j < end; j++) {
-                Map.Entry<Long, Boolean> entry = entries.get(j);
-                String key = CacheKeyUtil.bookmarkStatus(userId, entry.getKey());
-                chunkData.put(key, entry.getValue());
-            }
-
-            try {
-                redisService.batchSetWithTtlSimple(chunkData, BOOKMARK_STATUS_TTL);
-                log.debug("북마크 상태 청크 캐시: userId={}, chunk={}/{}",
-                        userId, (i/chunkSize + 1), (entries.size() + chunkSize - 1) / chunkSize);
-            } catch (Exception e) {
-                log.warn("북마크 상태 청크 캐시 실패: userId={}, chunk={}", userId, i/chunkSize + 1, e);
+        Map<String, Object> cacheData = new HashMap<>();
+        bookmarkStatuses.forEach((placeId, isBookmarked) ->
+                cacheData.put(CacheKeyUtil.bookmarkStatus(userId, placeId), isBookmarked));
 
-            }
+        try {
+            redisService.multiSetWithTtl(cacheData, BOOKMARK_STATUS_TTL);
+            log.debug("북마크 상태 배치 캐시: userId={}, count={}", userId, cacheData.size());
+        } catch (Exception e) {
+            log.warn("북마크 상태 배치 캐시 실패: userId={}, count={}", userId, cacheData.size(), e);
         }
     }
 
@@ -1,7 +1,11 @@
 // src/main/java/com/dolpin/domain/place/service/cache/PlaceCacheService.java
 package com.dolpin.domain.place.service.cache;
 
-import com.dolpin.global.redis.service.RedisService;
+import com.dolpin.global.redis.codec.CacheCodec;
+import com.dolpin.global.redis.codec.CompressingCacheCodec;
+import com.dolpin.global.redis.codec.SmileCacheCodec;
+import com.dolpin.global.redis.service.NearCacheNamespace;
+import com.dolpin.global.redis.service.NearCacheService;
 import com.dolpin.global.redis.util.CacheKeyUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,12 +20,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PlaceCacheService {
 
-    private final RedisService redisService;
+    private final NearCacheService nearCacheService;
 
     // TTL 설정 - 카테고리는 자주 변경되지 않으므로 24시간
     private static final Duration CATEGORIES_TTL = Duration.ofHours(24);
     private static final Duration CATEGORY_SEARCH_TTL = Duration.ofMinutes(30);
 
+    private static final CacheCodec<List<CategorySearchCacheItem>> CATEGORY_SEARCH_CODEC =
+            new CompressingCacheCodec<>(SmileCacheCodec.forList(CategorySearchCacheItem.class), 4 * 1024);
+
     // ===================== 카테고리 캐시 =====================
 
     /**
@@ -31,7 +38,7 @@ public class PlaceCacheService {
     public void cacheCategories(List<String> categories) {
         String key = CacheKeyUtil.placeCategories();
         try {
-            redisService.set(key, categories, CATEGORIES_TTL);
+            nearCacheService.put(NearCacheNamespace.PLACE_CATEGORIES, key, categories, CATEGORIES_TTL);
             log.debug("카테고리 목록 캐시 저장: count={}", categories.size());
         } catch (Exception e) {
             log.warn("카테고리 목록 캐시 저장 실패", e);
@@ -39,13 +46,13 @@ public class PlaceCacheService {
     }
 
     /**
-     * 카테고리 목록 캐시 조회
+     * 카테고리 목록 캐시 조회 (로컬 캐시 우선)
      */
     @SuppressWarnings("unchecked")
     public List<String> getCachedCategories() {
         String key = CacheKeyUtil.placeCategories();
         try {
-            Object cached = redisService.get(key);
+            Object cached = nearCacheService.get(NearCacheNamespace.PLACE_CATEGORIES, key);
             if (cached instanceof List) {
                 List<String> categories = (List<String>) cached;
                 log.debug("카테고리 목록 캐시 히트: count={}", categories.size());
@@ -58,13 +65,13 @@ public class PlaceCacheService {
     }
 
     /**
-     * 카테고리 캐시 무효화 (비동기)
+     * 카테고리 캐시 무효화 (비동기, 모든 노드의 로컬 캐시 포함)
      */
     @Async("bookmarkCacheExecutor")
     public void invalidateCategories() {
         String key = CacheKeyUtil.placeCategories();
         try {
-            redisService.delete(key);
+            nearCacheService.evict(NearCacheNamespace.PLACE_CATEGORIES, key);
             log.debug("카테고리 캐시 무효화 완료");
         } catch (Exception e) {
             log.warn("카테고리 캐시 무효화 실패", e);
@@ -81,7 +88,8 @@ public class PlaceCacheService {
                                           List<CategorySearchCacheItem> searchResult) {
         String key = CacheKeyUtil.placeRegion(category, lat, lng);
         try {
-            redisService.set(key, searchResult, CATEGORY_SEARCH_TTL);
+            nearCacheService.putWithTags(NearCacheNamespace.PLACE_CATEGORY_SEARCH, key, searchResult,
+                    CATEGORY_SEARCH_CODEC, CATEGORY_SEARCH_TTL, CacheKeyUtil.placeCategoryTag(category));
             log.debug("카테고리 검색 결과 캐시 저장: category={}, lat={}, lng={}, count={}",
                     category, lat, lng, searchResult.size());
         } catch (Exception e) {
@@ -91,15 +99,14 @@ public class PlaceCacheService {
     }
 
     /**
-     * 카테고리별 검색 결과 캐시 조회
+     * 카테고리별 검색 결과 캐시 조회 (로컬 캐시 우선)
      */
-    @SuppressWarnings("unchecked")
     public List<CategorySearchCacheItem> getCachedCategorySearchResult(String category, Double lat, Double lng) {
         String key = CacheKeyUtil.placeRegion(category, lat, lng);
         try {
-            Object cached = redisService.get(key);
-            if (cached instanceof List) {
-                List<CategorySearchCacheItem> result = (List<CategorySearchCacheItem>) cached;
+            List<CategorySearchCacheItem> result =
+                    nearCacheService.get(NearCacheNamespace.PLACE_CATEGORY_SEARCH, key, CATEGORY_SEARCH_CODEC);
+            if (result != null) {
                 log.debug("카테고리 검색 결과 캐시 히트: category={}, lat={}, lng={}, count={}",
                         category, lat, lng, result.size());
                 return result;
@@ -112,14 +119,14 @@ public class PlaceCacheService {
     }
 
     /**
-     * 특정 카테고리의 모든 캐시 무효화 (비동기)
+     * 특정 카테고리의 모든 캐시 무효화 (비동기, 카테고리 태그에 등록된 키만 삭제)
      */
     @Async("bookmarkCacheExecutor")
     public void invalidateCategorySearchCache(String category) {
-        String pattern = "place:region:" + category + ":*";
         try {
-            redisService.deleteByPattern(pattern);
-            log.debug("카테고리 검색 캐시 무효화 완료: category={}", category);
+            Long deleted = nearCacheService.evictTag(NearCacheNamespace.PLACE_CATEGORY_SEARCH,
+                    CacheKeyUtil.placeCategoryTag(category));
+            log.debug("카테고리 검색 캐시 무효화 완료: category={}, count={}", category, deleted);
         } catch (Exception e) {
             log.warn("카테고리 검색 캐시 무효화 실패: category={}", category, e);
         }
@@ -6,12 +6,16 @@ import com.dolpin.domain.place.dto.response.PlaceDetailResponse;
 import com.dolpin.domain.place.dto.response.PlaceSearchResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface PlaceQueryService {
 
     PlaceDetailResponse getPlaceDetail(Long placeId, Long userId);
 
     PlaceDetailResponse getPlaceDetailWithoutBookmark(Long placeId);
 
+    List<PlaceDetailResponse> getPlaceDetailsWithoutBookmark(List<Long> placeIds);
+
     PlaceCategoryResponse getAllCategories();
 
     Mono<PlaceSearchResponse> searchPlacesAsync(String query, Double lat, Double lng, String category, Long userId);
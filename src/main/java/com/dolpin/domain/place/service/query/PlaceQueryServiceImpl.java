@@ -113,6 +113,12 @@ public class PlaceQueryServiceImpl implements PlaceQueryService {
         return simplePlaceDetailQuery.getPlaceDetail(placeId, null);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlaceDetailResponse> getPlaceDetailsWithoutBookmark(List<Long> placeIds) {
+        return simplePlaceDetailQuery.getPlaceDetails(placeIds);
+    }
+
     private final SimpleBusinessStatusQuery simpleBusinessStatusQuery;
 
     @Override
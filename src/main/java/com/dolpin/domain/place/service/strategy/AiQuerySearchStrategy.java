@@ -1,6 +1,6 @@
 package com.dolpin.domain.place.service.strategy;
 
-import com.dolpin.domain.moment.repository.MomentRepository;
+import com.dolpin.domain.moment.service.cache.PlaceMomentCountService;
 import com.dolpin.domain.place.client.PlaceAiClient;
 import com.dolpin.domain.place.dto.response.PlaceAiResponse;
 import com.dolpin.domain.place.dto.response.PlaceSearchResponse;
@@ -26,16 +26,16 @@ public class AiQuerySearchStrategy implements PlaceSearchStrategy {
 
     private final PlaceAiClient placeAiClient;
     private final PlaceRepository placeRepository;
-    private final MomentRepository momentRepository;
+    private final PlaceMomentCountService placeMomentCountService;
     private final PlaceBookmarkQueryService bookmarkQueryService;
 
     public AiQuerySearchStrategy(PlaceAiClient placeAiClient,
                                  PlaceRepository placeRepository,
-                                 MomentRepository momentRepository,
+                                 PlaceMomentCountService placeMomentCountService,
                                  PlaceBookmarkQueryService bookmarkQueryService) {
         this.placeAiClient = placeAiClient;
         this.placeRepository = placeRepository;
-        this.momentRepository = momentRepository;
+        this.placeMomentCountService = placeMomentCountService;
         this.bookmarkQueryService = bookmarkQueryService;
     }
 
@@ -203,22 +203,8 @@ public class AiQuerySearchStrategy implements PlaceSearchStrategy {
                 .collect(Collectors.toList());
     }
 
-    // TODO: 다음 단계에서 별도 클래스로 분리 예정
     private Map<Long, Long> getMomentCountMap(List<Long> placeIds) {
-        if (placeIds.isEmpty()) {
-            return new HashMap<>();
-        }
-
-        List<Object[]> results = momentRepository.countPublicMomentsByPlaceIds(placeIds);
-        Map<Long, Long> momentCountMap = new HashMap<>();
-
-        for (Object[] result : results) {
-            Long placeId = (Long) result[0];
-            Long count = (Long) result[1];
-            momentCountMap.put(placeId, count);
-        }
-
-        return momentCountMap;
+        return placeMomentCountService.getPublicMomentCounts(placeIds);
     }
 
     // TODO: 다음 단계에서 Factory 패턴으로 분리 예정
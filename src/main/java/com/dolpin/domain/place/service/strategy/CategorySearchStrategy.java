@@ -1,6 +1,6 @@
 package com.dolpin.domain.place.service.strategy;
 
-import com.dolpin.domain.moment.repository.MomentRepository;
+import com.dolpin.domain.moment.service.cache.PlaceMomentCountService;
 import com.dolpin.domain.place.dto.response.PlaceSearchResponse;
 import com.dolpin.domain.place.dto.response.PlaceWithDistance;
 import com.dolpin.domain.place.entity.Place;
@@ -26,7 +26,7 @@ import java.util.stream.Collectors;
 public class CategorySearchStrategy implements PlaceSearchStrategy {
 
     private final PlaceRepository placeRepository;
-    private final MomentRepository momentRepository;
+    private final PlaceMomentCountService placeMomentCountService;
     private final PlaceBookmarkQueryService bookmarkQueryService;
     private final PlaceCacheService placeCacheService;
 
@@ -34,11 +34,11 @@ public class CategorySearchStrategy implements PlaceSearchStrategy {
     private double defaultSearchRadius;
 
     public CategorySearchStrategy(PlaceRepository placeRepository,
-                                  MomentRepository momentRepository,
+                                  PlaceMomentCountService placeMomentCountService,
                                   PlaceBookmarkQueryService bookmarkQueryService,
                                   PlaceCacheService placeCacheService) {
         this.placeRepository = placeRepository;
-        this.momentRepository = momentRepository;
+        this.placeMomentCountService = placeMomentCountService;
         this.bookmarkQueryService = bookmarkQueryService;
         this.placeCacheService = placeCacheService;
     }
@@ -154,22 +154,8 @@ public class CategorySearchStrategy implements PlaceSearchStrategy {
                 .collect(Collectors.toList());
     }
 
-    // TODO: 다음 단계에서 공통 유틸리티로 분리
     private Map<Long, Long> getMomentCountMap(List<Long> placeIds) {
-        if (placeIds.isEmpty()) {
-            return new HashMap<>();
-        }
-
-        List<Object[]> results = momentRepository.countPublicMomentsByPlaceIds(placeIds);
-        Map<Long, Long> momentCountMap = new HashMap<>();
-
-        for (Object[] result : results) {
-            Long placeId = (Long) result[0];
-            Long count = (Long) result[1];
-            momentCountMap.put(placeId, count);
-        }
-
-        return momentCountMap;
+        return placeMomentCountService.getPublicMomentCounts(placeIds);
     }
 
     private PlaceSearchResponse.PlaceDto convertCacheItemToDto(
@@ -47,6 +47,42 @@ public abstract class PlaceDetailQueryTemplate {
         return response;
     }
 
+    /**
+     * 여러 Place 상세 일괄 조회 (북마크 제외)
+     * 컬렉션별 IN 쿼리 한 번씩만 실행하며, 존재하지 않는 ID는 결과에서 제외된다.
+     */
+    public final List<PlaceDetailResponse> getPlaceDetails(List<Long> placeIds) {
+        if (placeIds == null || placeIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Place> placesWithKeywords = toPlaceMap(placeRepository.findByIdsWithKeywords(placeIds));
+        Map<Long, Place> placesWithMenus = toPlaceMap(placeRepository.findByIdsWithMenus(placeIds));
+        Map<Long, Place> placesWithHours = toPlaceMap(placeRepository.findByIdsWithHours(placeIds));
+
+        List<PlaceDetailResponse> responses = new ArrayList<>();
+        for (Long placeId : placeIds) {
+            Place place = placesWithKeywords.get(placeId);
+            if (place == null) {
+                log.warn("일괄 상세 조회 대상 장소 없음: placeId={}", placeId);
+                continue;
+            }
+
+            PlaceDetailContext context = PlaceDetailContext.builder()
+                    .placeId(placeId)
+                    .keywords(toKeywordNames(place))
+                    .menus(toMenuResponses(placesWithMenus.getOrDefault(placeId, place)))
+                    .hours(placesWithHours.getOrDefault(placeId, place).getHours())
+                    .isBookmarked(null)
+                    .build();
+
+            responses.add(buildDetailResponse(place, context));
+        }
+
+        log.debug("Place 상세 일괄 조회 완료: requested={}, found={}", placeIds.size(), responses.size());
+        return responses;
+    }
+
     // ============= Abstract Methods (구현체에서 정의) =============
 
     /**
@@ -73,9 +109,7 @@ public abstract class PlaceDetailQueryTemplate {
                 .orElseThrow(() -> new BusinessException(ResponseStatus.PLACE_NOT_FOUND,
                         "장소를 찾을 수 없습니다: " + placeId));
 
-        return placeWithKeywords.getKeywords().stream()
-                .map(pk -> pk.getKeyword().getKeyword())
-                .collect(Collectors.toList());
+        return toKeywordNames(placeWithKeywords);
     }
 
     /**
@@ -86,12 +120,7 @@ public abstract class PlaceDetailQueryTemplate {
                 .orElseThrow(() -> new BusinessException(ResponseStatus.PLACE_NOT_FOUND,
                         "장소를 찾을 수 없습니다: " + placeId));
 
-        return placeWithMenus.getMenus().stream()
-                .map(menu -> PlaceDetailResponse.Menu.builder()
-                        .name(menu.getMenuName())
-                        .price(menu.getPrice())
-                        .build())
-                .collect(Collectors.toList());
+        return toMenuResponses(placeWithMenus);
     }
 
     /**
@@ -105,6 +134,26 @@ public abstract class PlaceDetailQueryTemplate {
         return placeWithHours.getHours();
     }
 
+    private List<String> toKeywordNames(Place place) {
+        return place.getKeywords().stream()
+                .map(pk -> pk.getKeyword().getKeyword())
+                .collect(Collectors.toList());
+    }
+
+    private List<PlaceDetailResponse.Menu> toMenuResponses(Place place) {
+        return place.getMenus().stream()
+                .map(menu -> PlaceDetailResponse.Menu.builder()
+                        .name(menu.getMenuName())
+                        .price(menu.getPrice())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Place> toPlaceMap(List<Place> places) {
+        return places.stream()
+                .collect(Collectors.toMap(Place::getId, place -> place, (first, second) -> first));
+    }
+
     /**
      * 북마크 정보 조회
      */
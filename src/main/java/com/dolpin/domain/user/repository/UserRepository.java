@@ -2,12 +2,19 @@ package com.dolpin.domain.user.repository;
 
 import com.dolpin.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByProviderAndProviderId(String provider, Long providerId);
     boolean existsByUsername(String username);
+
+    // 접두사로 시작하는 사용자명 일괄 조회 (LIKE 특수문자는 Spring Data가 이스케이프)
+    @Query("SELECT u.username FROM User u WHERE u.username LIKE :prefix%")
+    List<String> findUsernamesStartingWith(@Param("prefix") String prefix);
 }
\ No newline at end of file
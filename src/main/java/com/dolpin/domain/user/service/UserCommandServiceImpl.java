@@ -9,8 +9,13 @@ import com.dolpin.global.exception.BusinessException;
 import com.dolpin.global.response.ResponseStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -21,9 +26,15 @@ public class UserCommandServiceImpl implements UserCommandService {
     private final UserQueryService userQueryService;
     private final TokenRepository tokenRepository;
     private final TokenService tokenService;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int CREATE_USER_MAX_ATTEMPTS = 3;
 
+    /**
+     * 소셜 로그인 사용자 생성
+     * 동시 가입으로 같은 사용자명이 먼저 저장되면(유니크 제약 위반) 사용자명을 다시 생성해 새 트랜잭션으로 재시도한다.
+     */
     @Override
-    @Transactional
     public User createUser(OAuthInfoResponse oAuthInfo) {
 
         // 유효한 providerId 확인
@@ -33,8 +44,20 @@ public class UserCommandServiceImpl implements UserCommandService {
 
         // 2자로 설정하여 베이스명이 6자가 되도록 조정
         String tempUsername = "user" + oAuthInfo.getProviderId().substring(0, Math.min(2, oAuthInfo.getProviderId().length()));
-        String username = generateUniqueUsername(tempUsername);
 
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> saveNewUser(oAuthInfo, generateUniqueUsername(tempUsername)));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= CREATE_USER_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("사용자명 충돌로 사용자 생성 재시도: base={}, attempt={}", tempUsername, attempt);
+            }
+        }
+    }
+
+    private User saveNewUser(OAuthInfoResponse oAuthInfo, String username) {
         User user = User.builder()
                 .providerId(Long.parseLong(oAuthInfo.getProviderId()))
                 .provider(oAuthInfo.getProvider())
@@ -108,11 +131,15 @@ public class UserCommandServiceImpl implements UserCommandService {
             nickname = nickname.substring(0, 6);
         }
 
+        // 기본명으로 시작하는 사용자명을 한 번에 조회하고 첫 번째 빈 접미사는 메모리에서 찾음
+        String baseNickname = nickname;
+        Set<String> takenUsernames = new HashSet<>(userRepository.findUsernamesStartingWith(baseNickname));
+
         String candidateUsername = nickname;
         String suffix = "";
         int attempt = 0;
 
-        while (userRepository.existsByUsername(candidateUsername)) {
+        while (isTaken(candidateUsername, baseNickname, takenUsernames)) {
             attempt++;
             suffix = generateAlphanumericSuffix(attempt);
 
@@ -127,6 +154,14 @@ public class UserCommandServiceImpl implements UserCommandService {
         return candidateUsername;
     }
 
+    // 기본명이 줄어든 후보는 일괄 조회 범위 밖이므로 개별 확인
+    private boolean isTaken(String candidateUsername, String baseNickname, Set<String> takenUsernames) {
+        if (candidateUsername.startsWith(baseNickname)) {
+            return takenUsernames.contains(candidateUsername);
+        }
+        return userRepository.existsByUsername(candidateUsername);
+    }
+
     private String generateAlphanumericSuffix(int number) {
         StringBuilder suffix = new StringBuilder();
 
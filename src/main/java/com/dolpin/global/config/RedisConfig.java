@@ -5,7 +5,10 @@ import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -24,6 +27,7 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -57,8 +61,27 @@ public class RedisConfig {
     private int redisDatabase;
 
 
-    @Value("${spring.data.redis.timeout:15000}")
-    private long redisTimeoutMs;
+    // 명령 단위 타임아웃 (Redis가 느릴 때 요청이 오래 붙잡히지 않도록 짧게 유지)
+    @Value("${redis.command-timeout-ms:500}")
+    private long commandTimeoutMs;
+
+    // 연결 타임아웃 (spring.data.redis.timeout을 따르지 않고 명령 타임아웃 수준으로 유지)
+    @Value("${redis.connect-timeout-ms:500}")
+    private long connectTimeoutMs;
+
+    // 커스텀 연결 팩토리는 spring.data.redis.lettuce.pool.* 자동 설정을 쓰지 않으므로 직접 적용
+    @Value("${spring.data.redis.lettuce.pool.max-active:8}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    // 풀 고갈/Redis 정지 시 무한 대기하지 않고 PoolException으로 실패해야 서킷 브레이커가 열림
+    @Value("${spring.data.redis.lettuce.pool.max-wait:300ms}")
+    private Duration poolMaxWait;
 
     @Bean(destroyMethod = "shutdown")
     public RedissonClient redissonClient() {
@@ -68,10 +91,10 @@ public class RedisConfig {
         SingleServerConfig single = config.useSingleServer()
                 .setAddress(address)
                 .setDatabase(redisDatabase)
-                .setTimeout((int) redisTimeoutMs)
-                .setConnectTimeout((int) redisTimeoutMs)
-                .setRetryAttempts(5)
-                .setRetryInterval(3000)
+                .setTimeout((int) commandTimeoutMs)
+                .setConnectTimeout((int) connectTimeoutMs)
+                .setRetryAttempts(1)
+                .setRetryInterval(200)
                 .setPingConnectionInterval(30_000)
                 .setSslEnableEndpointIdentification(true);
 
@@ -82,7 +105,8 @@ public class RedisConfig {
             single.setPassword(redisPassword);
         }
 
-        log.info("Redisson configured to {} with TLS, db={} (timeout={}ms)", address, redisDatabase, redisTimeoutMs);
+        log.info("Redisson configured to {} with TLS, db={} (timeout={}ms, connectTimeout={}ms)",
+                address, redisDatabase, commandTimeoutMs, connectTimeoutMs);
         return Redisson.create(config);
     }
 
@@ -97,8 +121,18 @@ public class RedisConfig {
             serverConfig.setPassword(redisPassword);
         }
 
+        // 연결이 끊긴 동안 명령을 큐에 쌓지 않고 즉시 실패 (서킷 브레이커가 장애를 빠르게 감지)
+        ClientOptions clientOptions = ClientOptions.builder()
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                        .build())
+                .build();
+
         LettucePoolingClientConfiguration clientConfig = LettucePoolingClientConfiguration.builder()
-                .commandTimeout(Duration.ofMillis(redisTimeoutMs))
+                .commandTimeout(Duration.ofMillis(commandTimeoutMs))
+                .poolConfig(poolConfig())
+                .clientOptions(clientOptions)
                 .shutdownTimeout(Duration.ofSeconds(3))
                 .useSsl() // TLS
                 .build();
@@ -127,6 +161,14 @@ public class RedisConfig {
         return new StringRedisTemplate(connectionFactory);
     }
 
+    // 노드 간 로컬 캐시 동기화용 Pub/Sub 구독 컨테이너
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
 
     @Bean
     public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
@@ -140,6 +182,15 @@ public class RedisConfig {
                 .build();
     }
 
+    private GenericObjectPoolConfig<?> poolConfig() {
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(poolMaxWait);
+        return poolConfig;
+    }
+
     private ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
@@ -9,7 +9,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -50,9 +49,25 @@ public class WebConfig implements WebMvcConfigurer {
                 .build();
     }
 
+    // OAuth 제공자 호출용 WebClient (로그인 급증 시에도 커넥션 재사용, 짧은 타임아웃으로 빠르게 실패)
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate(); // 기본 설정 사용
+    public WebClient oauthWebClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("oauth-pool")
+                .maxConnections(200)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .maxLifeTime(Duration.ofSeconds(300))
+                .pendingAcquireTimeout(Duration.ofSeconds(3))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 3000)
+                .responseTimeout(Duration.ofSeconds(5));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 
     @Override
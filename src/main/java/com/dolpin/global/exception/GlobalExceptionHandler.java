@@ -116,7 +116,7 @@ public class GlobalExceptionHandler {
         else if (isAiServiceError(e)) {
             errorMessage = "AI 서비스 연동 중 오류가 발생했습니다.";
         }
-        // RestTemplate 관련 에러 (외부 API 호출 에러)
+        // RestTemplate / WebClient 관련 에러 (외부 API 호출 에러)
         else if (isExternalApiError(e)) {
             errorMessage = "외부 서비스 연동 중 오류가 발생했습니다.";
         }
@@ -161,8 +161,9 @@ public class GlobalExceptionHandler {
     }
 
     private boolean isExternalApiError(Exception e) {
-        // RestTemplate 관련 예외들
+        // RestTemplate / WebClient 관련 예외들
         return e instanceof org.springframework.web.client.RestClientException ||
+                e instanceof org.springframework.web.reactive.function.client.WebClientException ||
                 e instanceof org.springframework.web.client.HttpClientErrorException ||
                 e instanceof org.springframework.web.client.HttpServerErrorException ||
                 e instanceof org.springframework.web.client.ResourceAccessException ||
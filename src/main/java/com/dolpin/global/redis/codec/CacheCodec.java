@@ -0,0 +1,11 @@
+package com.dolpin.global.redis.codec;
+
+/**
+ * 캐시 값 직렬화 방식 (RedisTemplate 기본 JSON 직렬화 대신 값 종류별로 선택)
+ */
+public interface CacheCodec<T> {
+
+    byte[] encode(T value);
+
+    T decode(byte[] bytes);
+}
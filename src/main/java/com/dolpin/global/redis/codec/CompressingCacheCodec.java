@@ -0,0 +1,95 @@
+package com.dolpin.global.redis.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 인코딩 결과가 임계값 이상일 때만 압축하는 코덱 데코레이터
+ * 첫 바이트로 압축 여부를 표시한다. (0: 원본, 1: deflate)
+ */
+public class CompressingCacheCodec<T> implements CacheCodec<T> {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+
+    private final CacheCodec<T> delegate;
+    private final int thresholdBytes;
+
+    public CompressingCacheCodec(CacheCodec<T> delegate, int thresholdBytes) {
+        this.delegate = delegate;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        byte[] encoded = delegate.encode(value);
+        if (encoded.length >= thresholdBytes) {
+            byte[] compressed = deflate(encoded);
+            // 압축 효과가 없으면 원본 유지
+            if (compressed.length < encoded.length) {
+                return withHeader(DEFLATED, compressed);
+            }
+        }
+        return withHeader(RAW, encoded);
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        if (bytes.length == 0) {
+            throw new IllegalStateException("빈 캐시 값");
+        }
+        byte[] body = Arrays.copyOfRange(bytes, 1, bytes.length);
+        return switch (bytes[0]) {
+            case RAW -> delegate.decode(body);
+            case DEFLATED -> delegate.decode(inflate(body));
+            default -> throw new IllegalStateException("알 수 없는 캐시 값 헤더: " + bytes[0]);
+        };
+    }
+
+    private static byte[] withHeader(byte header, byte[] body) {
+        byte[] result = new byte[body.length + 1];
+        result[0] = header;
+        System.arraycopy(body, 0, result, 1, body.length);
+        return result;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("잘린 압축 캐시 값");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축 캐시 값 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.dolpin.global.redis.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Smile(바이너리 JSON) 코덱
+ * 타입을 코덱이 알고 있으므로 값마다 클래스명을 싣지 않고, 반복되는 필드명/짧은 문자열은 백참조로 한 번만 기록한다.
+ */
+public class SmileCacheCodec<T> implements CacheCodec<T> {
+
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .addModule(new JavaTimeModule())
+            .build();
+
+    private final JavaType type;
+
+    private SmileCacheCodec(JavaType type) {
+        this.type = type;
+    }
+
+    public static <E> SmileCacheCodec<List<E>> forList(Class<E> elementType) {
+        return new SmileCacheCodec<>(SMILE_MAPPER.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        try {
+            return SMILE_MAPPER.writerFor(type).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException("캐시 값 직렬화 실패: " + type, e);
+        }
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        try {
+            return SMILE_MAPPER.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new IllegalStateException("캐시 값 역직렬화 실패: " + type, e);
+        }
+    }
+}
@@ -2,12 +2,10 @@ package com.dolpin.global.redis.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RBucket;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -16,23 +14,16 @@ import java.util.concurrent.TimeUnit;
 public class DuplicatePreventionService {
 
     private final RedissonClient redissonClient;
+    private final RedisCircuitBreaker circuitBreaker;
 
     private static final String LOCK_PREFIX = "duplicate_request:";
-    private static final String CONTENT_PREFIX = "duplicate_content:";
 
     public <T> T executeWithLock(String key, int waitTime, int leaseTime, LockAction<T> action) {
         RLock lock = redissonClient.getLock(LOCK_PREFIX + key);
+        boolean locked = false;
 
         try {
-            // tryLock(waitTime, leaseTime, TimeUnit) - 대기시간, 점유시간 설정
-            boolean acquired = lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS);
-
-            if (!acquired) {
-                log.warn("중복 요청 감지 - 락 획득 실패: key={}", key);
-                throw new RuntimeException("동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
-            }
-
-            log.debug("락 획득 성공: key={}", key);
+            locked = tryLock(lock, key, waitTime, leaseTime);
             return action.execute();
 
         } catch (InterruptedException e) {
@@ -43,14 +34,56 @@ public class DuplicatePreventionService {
             log.error("락 실행 중 오류: key={}", key, e);
             throw new RuntimeException("요청 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
         } finally {
-            // 락이 현재 스레드에 의해 점유되어 있을 때만 해제
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-                log.debug("락 해제 완료: key={}", key);
+            // 락을 잡은 경우에만 해제 (Redis 장애로 락 없이 진행한 경우 제외)
+            if (locked) {
+                unlock(lock, key);
             }
         }
     }
 
+    /**
+     * 락 획득 (서킷 브레이커 적용)
+     * 다른 요청이 락을 점유 중이면 예외를 던지고, Redis 장애로 락을 잡지 못하면 false를 반환해 락 없이 진행한다.
+     */
+    private boolean tryLock(RLock lock, String key, int waitTime, int leaseTime) throws InterruptedException {
+        if (circuitBreaker.isOpen()) {
+            log.debug("Redis 서킷 브레이커 열림, 중복 검사 없이 진행: key={}", key);
+            return false;
+        }
+
+        boolean acquired;
+        try {
+            // tryLock(waitTime, leaseTime, TimeUnit) - 대기시간, 점유시간 설정
+            acquired = lock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS);
+            circuitBreaker.recordSuccess();
+        } catch (RuntimeException e) {
+            // Redis 장애 시 중복 방지보다 요청 처리를 우선
+            circuitBreaker.recordFailure(e);
+            log.warn("락 획득 실패, 중복 검사 없이 진행: key={}", key, e);
+            return false;
+        }
+
+        if (!acquired) {
+            log.warn("중복 요청 감지 - 락 획득 실패: key={}", key);
+            throw new RuntimeException("동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.debug("락 획득 성공: key={}", key);
+        return true;
+    }
+
+    // 해제에 실패해도 점유시간이 지나면 풀리므로 요청 결과에는 영향을 주지 않음
+    private void unlock(RLock lock, String key) {
+        try {
+            lock.unlock();
+            circuitBreaker.recordSuccess();
+            log.debug("락 해제 완료: key={}", key);
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(e);
+            log.warn("락 해제 실패: key={}", key, e);
+        }
+    }
+
     public <T> T executeWithLock(String key, LockAction<T> action) {
         return executeWithLock(key, 0, 3, action);
     }
@@ -63,28 +96,6 @@ public class DuplicatePreventionService {
         return String.format("%d:%s:%d", userId, action, resourceId);
     }
 
-    public String generateContentKey(Long userId, Long resourceId, String content) {
-        String contentHash = generateContentHash(content);
-        return String.format("content:%d:%d:%s", userId, resourceId, contentHash);
-    }
-
-    private String generateContentHash(String content) {
-        return String.valueOf(Math.abs(content.trim().hashCode()));
-    }
-
-    public void checkDuplicateContent(String contentKey, String errorMessage, Duration blockDuration) {
-        RBucket<Boolean> bucket = redissonClient.getBucket(CONTENT_PREFIX + contentKey);
-
-        if (bucket.isExists()) {
-            log.warn("중복 내용 감지: key={}", contentKey);
-            throw new IllegalArgumentException(errorMessage);
-        }
-
-        // 중복 방지 마킹 (TTL 설정)
-        bucket.set(true, blockDuration);
-        log.debug("내용 중복 방지 마킹: key={}, duration={}", contentKey, blockDuration);
-    }
-
     @FunctionalInterface
     public interface LockAction<T> {
         T execute();
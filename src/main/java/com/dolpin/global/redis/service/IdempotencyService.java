@@ -0,0 +1,165 @@
+package com.dolpin.global.redis.service;
+
+import com.dolpin.global.exception.BusinessException;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import com.dolpin.global.response.ApiResponse;
+import com.dolpin.global.response.ResponseStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 쓰기 요청 멱등성 처리
+ * 요청마다 SET NX PX 한 번으로 선점하고, 처리된 응답을 저장해 두었다가 중복 요청에 그대로 재전송한다.
+ * 키는 클라이언트의 Idempotency-Key 헤더가 있으면 그 값, 없으면 요청 내용의 SHA-256 해시로 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 멱등성 키 생성 (클라이언트 키 우선, 없으면 요청 내용 해시)
+     */
+    public String generateKey(String action, Long userId, String idempotencyKey, Object... requestParts) {
+        String source = idempotencyKey != null && !idempotencyKey.isBlank()
+                ? "key:" + idempotencyKey.trim()
+                : "content:" + fingerprint(requestParts);
+        return CacheKeyUtil.idempotency(action, userId, sha256(source));
+    }
+
+    /**
+     * 선점에 성공하면 action을 실행하고 응답을 ttl 동안 저장
+     * 이미 처리된 요청이면 저장된 응답을 재전송하고, 처리 중이면 DUPLICATE_REQUEST 예외
+     */
+    public <T> ResponseEntity<ApiResponse<T>> execute(String key, Duration ttl,
+                                                      Supplier<ResponseEntity<ApiResponse<T>>> action) {
+        if (!tryAcquire(key, ttl)) {
+            return replay(key);
+        }
+
+        ResponseEntity<ApiResponse<T>> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            // 실패한 요청은 재시도할 수 있도록 선점 해제
+            release(key);
+            throw e;
+        }
+
+        saveResponse(key, ttl, response);
+        return response;
+    }
+
+    private boolean tryAcquire(String key, Duration ttl) {
+        try {
+            return redisService.setIfAbsent(key, IN_PROGRESS, ttl);
+        } catch (Exception e) {
+            // Redis 장애 시 중복 방지보다 요청 처리를 우선
+            log.warn("멱등성 키 선점 실패, 중복 검사 없이 진행: key={}", key, e);
+            return true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<ApiResponse<T>> replay(String key) {
+        String stored = redisService.get(key, String.class);
+        if (stored == null || IN_PROGRESS.equals(stored)) {
+            log.warn("중복 요청 감지 - 처리 중: key={}", key);
+            throw new BusinessException(ResponseStatus.DUPLICATE_REQUEST);
+        }
+
+        try {
+            StoredResponse storedResponse = objectMapper.readValue(stored, StoredResponse.class);
+            ApiResponse<Object> body = storedResponse.getCode() != null
+                    ? ApiResponse.success(ResponseStatus.valueOf(storedResponse.getCode()), storedResponse.getData())
+                    : ApiResponse.success(storedResponse.getMessage(), storedResponse.getData());
+
+            log.info("중복 요청 감지 - 저장된 응답 재전송: key={}", key);
+            return (ResponseEntity<ApiResponse<T>>) (ResponseEntity<?>) ResponseEntity
+                    .status(storedResponse.getStatus())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(body);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("저장된 응답 복원 실패: key={}", key, e);
+            throw new BusinessException(ResponseStatus.DUPLICATE_REQUEST);
+        }
+    }
+
+    private <T> void saveResponse(String key, Duration ttl, ResponseEntity<ApiResponse<T>> response) {
+        try {
+            ApiResponse<T> body = response.getBody();
+            StoredResponse storedResponse = new StoredResponse(
+                    response.getStatusCode().value(),
+                    body != null ? body.getMessage() : null,
+                    body != null ? body.getCode() : null,
+                    body != null ? objectMapper.valueToTree(body.getData()) : null
+            );
+            redisService.set(key, objectMapper.writeValueAsString(storedResponse), ttl);
+        } catch (Exception e) {
+            // 선점 표시가 남으면 TTL 동안 재시도가 DUPLICATE_REQUEST로 거절되므로 해제 (재시도는 다시 처리됨)
+            log.warn("멱등성 응답 저장 실패, 선점 해제: key={}", key, e);
+            release(key);
+        }
+    }
+
+    private void release(String key) {
+        try {
+            redisService.delete(key);
+        } catch (Exception e) {
+            log.warn("멱등성 키 해제 실패: key={}", key, e);
+        }
+    }
+
+    private String fingerprint(Object... requestParts) {
+        StringBuilder builder = new StringBuilder();
+        for (Object part : requestParts) {
+            String value = Objects.toString(part, "");
+            // 구분자 충돌 방지를 위해 길이를 함께 기록
+            builder.append(value.length()).append(':').append(value).append('|');
+        }
+        return builder.toString();
+    }
+
+    private String sha256(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not found", e);
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class StoredResponse {
+        private int status;
+        private String message;
+        private String code;
+        private JsonNode data;
+    }
+}
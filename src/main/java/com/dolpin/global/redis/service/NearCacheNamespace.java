@@ -0,0 +1,21 @@
+package com.dolpin.global.redis.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 로컬 캐시(near cache) 네임스페이스별 최대 크기와 로컬 TTL
+ * 로컬 TTL은 무효화 메시지를 놓쳤을 때 오래된 값이 남을 수 있는 최대 시간이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NearCacheNamespace {
+
+    PLACE_CATEGORIES(1, Duration.ofMinutes(10)),
+    PLACE_CATEGORY_SEARCH(1_000, Duration.ofSeconds(30));
+
+    private final int maxSize;
+    private final Duration localTtl;
+}
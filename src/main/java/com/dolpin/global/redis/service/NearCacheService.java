@@ -0,0 +1,143 @@
+package com.dolpin.global.redis.service;
+
+import com.dolpin.global.redis.codec.CacheCodec;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import com.dolpin.global.util.LocalLruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 로컬 LRU + Redis 2단 캐시
+ * 조회는 로컬 → Redis 순으로 하고, 무효화는 Redis에서 삭제한 뒤 Pub/Sub 채널로 모든 노드의 로컬 캐시에 전파한다.
+ * 로컬에 저장된 객체는 여러 요청이 공유하므로 호출자가 수정하면 안 된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NearCacheService implements MessageListener {
+
+    // 메시지 형식: "네임스페이스" (전체 비우기) 또는 "네임스페이스|키"
+    private static final char MESSAGE_SEPARATOR = '|';
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Map<NearCacheNamespace, LocalLruCache<String, Object>> localCaches = new EnumMap<>(NearCacheNamespace.class);
+
+    // 로컬 TTL 판정용 시계 (테스트에서 교체)
+    private LongSupplier nanoClock = System::nanoTime;
+
+    @PostConstruct
+    public void init() {
+        for (NearCacheNamespace namespace : NearCacheNamespace.values()) {
+            localCaches.put(namespace, new LocalLruCache<>(namespace.getMaxSize(), namespace.getLocalTtl(), nanoClock));
+        }
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CacheKeyUtil.nearCacheInvalidationChannel()));
+    }
+
+    /**
+     * 캐시 조회 (로컬 히트면 네트워크 호출 없음, Redis 히트면 로컬에도 저장, 없으면 null)
+     */
+    public Object get(NearCacheNamespace namespace, String key) {
+        LocalLruCache<String, Object> local = localCaches.get(namespace);
+        Object value = local.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = redisService.get(key);
+        if (value != null) {
+            local.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 코덱으로 저장한 값 조회 (로컬에는 디코딩된 객체를 두므로 로컬 히트 시 역직렬화 비용도 없음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(NearCacheNamespace namespace, String key, CacheCodec<T> codec) {
+        LocalLruCache<String, Object> local = localCaches.get(namespace);
+        Object cached = local.get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        byte[] bytes = redisService.getBytes(key);
+        if (bytes == null) {
+            return null;
+        }
+        T value = codec.decode(bytes);
+        local.put(key, value);
+        return value;
+    }
+
+    /**
+     * Redis와 로컬 캐시에 함께 저장
+     */
+    public void put(NearCacheNamespace namespace, String key, Object value, Duration ttl) {
+        redisService.set(key, value, ttl);
+        localCaches.get(namespace).put(key, value);
+    }
+
+    /**
+     * 코덱으로 인코딩해 Redis에 저장하고 Redis 키를 태그 집합에 등록 (로컬 캐시에는 객체 그대로 저장)
+     */
+    public <T> void putWithTags(NearCacheNamespace namespace, String key, T value, CacheCodec<T> codec,
+                                Duration ttl, String... tagKeys) {
+        redisService.setWithTags(key, codec.encode(value), ttl, tagKeys);
+        localCaches.get(namespace).put(key, value);
+    }
+
+    /**
+     * 키 하나를 Redis와 모든 노드의 로컬 캐시에서 삭제
+     */
+    public void evict(NearCacheNamespace namespace, String key) {
+        redisService.delete(key);
+        localCaches.get(namespace).remove(key);
+        redisService.publish(CacheKeyUtil.nearCacheInvalidationChannel(), namespace.name() + MESSAGE_SEPARATOR + key);
+    }
+
+    /**
+     * Redis 태그에 등록된 키를 삭제하고 모든 노드의 해당 네임스페이스 로컬 캐시를 비움
+     * (로컬 캐시는 태그 인덱스를 두지 않으므로 네임스페이스 단위로 비운다)
+     */
+    public Long evictTag(NearCacheNamespace namespace, String tagKey) {
+        Long deleted = redisService.invalidateTag(tagKey);
+        localCaches.get(namespace).clear();
+        redisService.publish(CacheKeyUtil.nearCacheInvalidationChannel(), namespace.name());
+        return deleted;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object body = redisService.deserializeMessage(message.getBody());
+            if (body == null) {
+                return;
+            }
+
+            String payload = body.toString();
+            int separator = payload.indexOf(MESSAGE_SEPARATOR);
+            if (separator < 0) {
+                localCaches.get(NearCacheNamespace.valueOf(payload)).clear();
+            } else {
+                NearCacheNamespace namespace = NearCacheNamespace.valueOf(payload.substring(0, separator));
+                localCaches.get(namespace).remove(payload.substring(separator + 1));
+            }
+        } catch (Exception e) {
+            log.warn("로컬 캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.dolpin.global.redis.service;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.client.RedisTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.PoolException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 장애 감지용 서킷 브레이커
+ * 연결 실패/타임아웃이 연속으로 쌓이면 열리고, 열린 동안 RedisService는 Redis를 호출하지 않고 즉시 실패한다.
+ * Redisson 분산 락(DuplicatePreventionService)도 같은 브레이커를 공유한다.
+ * 복구는 요청 트래픽이 아닌 백그라운드 PING으로 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCircuitBreaker {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    @Value("${redis.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold = 5;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile boolean open;
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    public void recordSuccess() {
+        // 성공이 대부분이므로 실패가 쌓였을 때만 쓰기
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    /**
+     * 실패 기록 (명령 오류 등 Redis 가용성과 무관한 예외는 세지 않음)
+     */
+    public void recordFailure(Throwable e) {
+        if (!isUnavailable(e)) {
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && !open) {
+            open = true;
+            log.warn("Redis 서킷 브레이커 열림: 연속 실패 {}회 - {}", consecutiveFailures.get(), e.getMessage());
+        }
+    }
+
+    /**
+     * 열린 동안 주기적으로 PING 하여 응답하면 닫음
+     */
+    @Scheduled(fixedDelayString = "${redis.circuit-breaker.probe-interval-ms:1000}")
+    public void probe() {
+        if (!open) {
+            return;
+        }
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.ping();
+            consecutiveFailures.set(0);
+            open = false;
+            log.info("Redis 서킷 브레이커 닫힘: PING 응답 확인");
+        } catch (Exception e) {
+            log.debug("Redis 복구 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean isUnavailable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RedisConnectionFailureException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof PoolException
+                    || cause instanceof RedisCommandTimeoutException
+                    || cause instanceof RedisConnectionException
+                    || cause instanceof RedisTimeoutException
+                    || cause instanceof org.redisson.client.RedisConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
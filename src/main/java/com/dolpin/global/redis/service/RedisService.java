@@ -2,13 +2,24 @@ package com.dolpin.global.redis.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -17,32 +28,111 @@ public class RedisService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    private static final int SCAN_COUNT = 500;
+
+    private static final RedisSerializer<Long> LONG_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    // 버전 필드는 항상 올리고, 값 필드는 이미 있을 때만 증감 (없는 필드를 부분 값으로 만들지 않음)
+    // 키 TTL은 쓰기마다 연장 (필드별 재집계는 만료 시각 필드로 판단하므로 키 전체가 한꺼번에 식지 않게 함)
+    private static final DefaultRedisScript<Long> HASH_INCREMENT_VERSIONED_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HINCRBY', KEYS[1], ARGV[2], 1) " +
+            "local result = nil " +
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then " +
+            "  result = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[3]) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "return result",
+            Long.class);
+
+    // (값 필드, 버전 필드, 읽었던 버전, 값, 만료 시각 필드, 만료 시각) 묶음마다
+    // 값 필드가 없거나 만료 시각이 지났고 버전이 그대로일 때만 값과 새 만료 시각을 저장
+    // 원본 조회 중에 증감이 들어왔으면 저장하지 않아 증감 유실/중복 반영을 막음
+    private static final DefaultRedisScript<Long> HASH_PUT_IF_VERSION_UNCHANGED_SCRIPT = new DefaultRedisScript<>(
+            "local stored = 0 " +
+            "for i = 3, #ARGV, 6 do " +
+            "  local version = redis.call('HGET', KEYS[1], ARGV[i + 1]) or '0' " +
+            "  local expireAt = tonumber(redis.call('HGET', KEYS[1], ARGV[i + 4]) or '0') or 0 " +
+            "  local stale = redis.call('HEXISTS', KEYS[1], ARGV[i]) == 0 or expireAt <= tonumber(ARGV[2]) " +
+            "  if version == ARGV[i + 2] and stale then " +
+            "    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 3], ARGV[i + 4], ARGV[i + 5]) " +
+            "    stored = stored + 1 " +
+            "  end " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return stored",
+            Long.class);
+
+    // 키가 이미 있을 때만 증가시키고 TTL 연장 (없는 키를 1부터 시작하지 않음)
+    private static final DefaultRedisScript<Long> INCREMENT_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  local value = redis.call('INCR', KEYS[1]) " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "  return value " +
+            "end " +
+            "return nil",
+            Long.class);
+
+    // 값을 TTL과 함께 저장하고 태그 집합마다 키를 등록 (태그 집합은 가장 오래 남는 키보다 먼저 만료되지 않게 연장)
+    private static final DefaultRedisScript<Long> SET_WITH_TAGS_SCRIPT = new DefaultRedisScript<>(
+            "local ttl = tonumber(ARGV[2]) " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ttl) " +
+            "for i = 2, #KEYS do " +
+            "  redis.call('SADD', KEYS[i], KEYS[1]) " +
+            "  if redis.call('PTTL', KEYS[i]) < ttl then " +
+            "    redis.call('PEXPIRE', KEYS[i], ttl) " +
+            "  end " +
+            "end " +
+            "return #KEYS - 1",
+            Long.class);
+
+    // 태그에 등록된 키와 태그 집합을 함께 삭제 (등록과 원자적으로 섞이지 않아 무효화 도중 추가된 키도 누락되지 않음)
+    private static final DefaultRedisScript<Long> INVALIDATE_TAG_SCRIPT = new DefaultRedisScript<>(
+            "local members = redis.call('SMEMBERS', KEYS[1]) " +
+            "for i = 1, #members, 500 do " +
+            "  redis.call('DEL', unpack(members, i, math.min(i + 499, #members))) " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return #members",
+            Long.class);
 
     // ===================== 핵심 기본 조작 =====================
 
     public void set(String key, Object value) {
         try {
-            redisTemplate.opsForValue().set(key, value);
+            run(() -> redisTemplate.opsForValue().set(key, value));
             log.debug("Redis SET: {}", key);
         } catch (Exception e) {
-            log.error("Redis SET failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis SET failed: {} - {}", key, e.getMessage());
             throw new RuntimeException("Redis 저장 실패", e);
         }
     }
 
     public void set(String key, Object value, Duration ttl) {
         try {
-            redisTemplate.opsForValue().set(key, value, ttl);
+            run(() -> redisTemplate.opsForValue().set(key, value, ttl));
             log.debug("Redis SET with TTL: {} ({})", key, ttl);
         } catch (Exception e) {
-            log.error("Redis SET with TTL failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis SET with TTL failed: {} - {}", key, e.getMessage());
+            throw new RuntimeException("Redis 저장 실패", e);
+        }
+    }
+
+    public boolean setIfAbsent(String key, Object value, Duration ttl) {
+        try {
+            Boolean result = call(() -> redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
+            log.debug("Redis SETNX with TTL: {} ({}) -> {}", key, ttl, result);
+            return Boolean.TRUE.equals(result);
+        } catch (Exception e) {
+            logFailure(e, "Redis SETNX failed: {} - {}", key, e.getMessage());
             throw new RuntimeException("Redis 저장 실패", e);
         }
     }
 
     public <T> T get(String key, Class<T> clazz) {
         try {
-            Object value = redisTemplate.opsForValue().get(key);
+            Object value = call(() -> redisTemplate.opsForValue().get(key));
             if (value == null) {
                 log.debug("Redis GET miss: {}", key);
                 return null;
@@ -50,14 +140,14 @@ public class RedisService {
             log.debug("Redis GET hit: {}", key);
             return clazz.cast(value);
         } catch (Exception e) {
-            log.error("Redis GET failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis GET failed: {} - {}", key, e.getMessage());
             return null;
         }
     }
 
     public Object get(String key) {
         try {
-            Object value = redisTemplate.opsForValue().get(key);
+            Object value = call(() -> redisTemplate.opsForValue().get(key));
             if (value != null) {
                 log.debug("Redis GET hit: {}", key);
             } else {
@@ -65,45 +155,72 @@ public class RedisService {
             }
             return value;
         } catch (Exception e) {
-            log.error("Redis GET failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis GET failed: {} - {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 코덱으로 인코딩한 값 저장 (값 직렬화기를 거치지 않고 바이트 그대로 저장)
+     */
+    public void setBytes(String key, byte[] value, Duration ttl) {
+        try {
+            run(() -> redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(
+                    key.getBytes(StandardCharsets.UTF_8), value, Expiration.from(ttl), RedisStringCommands.SetOption.upsert())));
+            log.debug("Redis SET bytes: {} ({} bytes, {})", key, value.length, ttl);
+        } catch (Exception e) {
+            logFailure(e, "Redis SET bytes failed: {} - {}", key, e.getMessage());
+            throw new RuntimeException("Redis 저장 실패", e);
+        }
+    }
+
+    /**
+     * 코덱으로 인코딩해 저장한 값 조회 (없으면 null)
+     */
+    public byte[] getBytes(String key) {
+        try {
+            return call(() -> redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8))));
+        } catch (Exception e) {
+            logFailure(e, "Redis GET bytes failed: {} - {}", key, e.getMessage());
             return null;
         }
     }
 
     public void delete(String key) {
         try {
-            Boolean deleted = redisTemplate.delete(key);
+            Boolean deleted = call(() -> redisTemplate.delete(key));
             log.debug("Redis DELETE: {} ({})", key, deleted);
         } catch (Exception e) {
-            log.error("Redis DELETE failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis DELETE failed: {} - {}", key, e.getMessage());
         }
     }
 
     public void delete(Collection<String> keys) {
         try {
-            Long deleted = redisTemplate.delete(keys);
+            Long deleted = call(() -> redisTemplate.delete(keys));
             log.debug("Redis DELETE batch: {} keys deleted", deleted);
         } catch (Exception e) {
-            log.error("Redis DELETE batch failed: {}", e.getMessage());
+            logFailure(e, "Redis DELETE batch failed: {}", e.getMessage());
         }
     }
 
     public boolean exists(String key) {
         try {
-            Boolean exists = redisTemplate.hasKey(key);
+            Boolean exists = call(() -> redisTemplate.hasKey(key));
             return Boolean.TRUE.equals(exists);
         } catch (Exception e) {
-            log.error("Redis EXISTS failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis EXISTS failed: {} - {}", key, e.getMessage());
             return false;
         }
     }
 
     public void expire(String key, Duration ttl) {
         try {
-            redisTemplate.expire(key, ttl);
+            run(() -> redisTemplate.expire(key, ttl));
             log.debug("Redis EXPIRE: {} ({})", key, ttl);
         } catch (Exception e) {
-            log.error("Redis EXPIRE failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis EXPIRE failed: {} - {}", key, e.getMessage());
         }
     }
 
@@ -111,21 +228,21 @@ public class RedisService {
 
     public List<Object> multiGet(Collection<String> keys) {
         try {
-            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+            List<Object> values = call(() -> redisTemplate.opsForValue().multiGet(keys));
             log.debug("Redis MGET: {} keys", keys.size());
             return values != null ? values : Collections.emptyList();
         } catch (Exception e) {
-            log.error("Redis MGET failed: {}", e.getMessage());
+            logFailure(e, "Redis MGET failed: {}", e.getMessage());
             return Collections.emptyList();
         }
     }
 
     public void multiSet(Map<String, Object> keyValueMap) {
         try {
-            redisTemplate.opsForValue().multiSet(keyValueMap);
+            run(() -> redisTemplate.opsForValue().multiSet(keyValueMap));
             log.debug("Redis MSET: {} keys", keyValueMap.size());
         } catch (Exception e) {
-            log.error("Redis MSET failed: {}", e.getMessage());
+            logFailure(e, "Redis MSET failed: {}", e.getMessage());
             throw new RuntimeException("Redis 배치 저장 실패", e);
         }
     }
@@ -134,117 +251,357 @@ public class RedisService {
 
     public Long addToSet(String key, Object... values) {
         try {
-            Long added = redisTemplate.opsForSet().add(key, values);
+            Long added = call(() -> redisTemplate.opsForSet().add(key, values));
             log.debug("Redis SADD: {} -> {} items added", key, added);
             return added;
         } catch (Exception e) {
-            log.error("Redis SADD failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis SADD failed: {} - {}", key, e.getMessage());
             throw new RuntimeException("Redis Set 추가 실패", e);
         }
     }
 
     public Long removeFromSet(String key, Object... values) {
         try {
-            Long removed = redisTemplate.opsForSet().remove(key, values);
+            Long removed = call(() -> redisTemplate.opsForSet().remove(key, values));
             log.debug("Redis SREM: {} -> {} items removed", key, removed);
             return removed;
         } catch (Exception e) {
-            log.error("Redis SREM failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis SREM failed: {} - {}", key, e.getMessage());
             return 0L;
         }
     }
 
     public Set<Object> getSetMembers(String key) {
         try {
-            Set<Object> members = redisTemplate.opsForSet().members(key);
+            Set<Object> members = call(() -> redisTemplate.opsForSet().members(key));
             log.debug("Redis SMEMBERS: {} -> {} items", key, members != null ? members.size() : 0);
             return members != null ? members : Collections.emptySet();
         } catch (Exception e) {
-            log.error("Redis SMEMBERS failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis SMEMBERS failed: {} - {}", key, e.getMessage());
+            return Collections.emptySet();
+        }
+    }
+
+    // ===================== Sorted Set 조작 (만료 인덱스용) =====================
+
+    public Set<Object> getSortedSetRangeByScore(String key, double min, double max, long count) {
+        try {
+            Set<Object> members = call(() -> redisTemplate.opsForZSet().rangeByScore(key, min, max, 0, count));
+            log.debug("Redis ZRANGEBYSCORE: {} -> {} items", key, members != null ? members.size() : 0);
+            return members != null ? members : Collections.emptySet();
+        } catch (Exception e) {
+            logFailure(e, "Redis ZRANGEBYSCORE failed: {} - {}", key, e.getMessage());
             return Collections.emptySet();
         }
     }
 
+    /**
+     * 키 삭제와 Sorted Set 멤버 제거를 한 번의 파이프라인으로 처리
+     */
+    public void deleteWithSortedSetMembers(Collection<String> keys, String sortedSetKey, Collection<?> members) {
+        if (keys.isEmpty() && members.isEmpty()) {
+            return;
+        }
+        try {
+            RedisSerializer<Object> valueSerializer = valueSerializer();
+            run(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                if (!keys.isEmpty()) {
+                    connection.keyCommands().del(keys.stream()
+                            .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                            .toArray(byte[][]::new));
+                }
+                if (!members.isEmpty()) {
+                    connection.zSetCommands().zRem(sortedSetKey.getBytes(StandardCharsets.UTF_8),
+                            members.stream().map(valueSerializer::serialize).toArray(byte[][]::new));
+                }
+                return null;
+            }));
+            log.debug("Redis DEL + ZREM pipeline: {} keys, {} -> {} members", keys.size(), sortedSetKey, members.size());
+        } catch (Exception e) {
+            logFailure(e, "Redis DEL + ZREM pipeline failed: {} - {}", sortedSetKey, e.getMessage());
+        }
+    }
+
     // ===================== 숫자 조작 (카운터용) =====================
 
     public Long increment(String key) {
         try {
-            Long result = stringRedisTemplate.opsForValue().increment(key);
+            Long result = call(() -> stringRedisTemplate.opsForValue().increment(key));
             log.debug("Redis INCR: {} -> {}", key, result);
             return result;
         } catch (Exception e) {
-            log.error("Redis INCR failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis INCR failed: {} - {}", key, e.getMessage());
+            throw new RuntimeException("Redis 증가 실패", e);
+        }
+    }
+
+    public Long incrementIfPresent(String key, Duration ttl) {
+        try {
+            Long result = call(() -> stringRedisTemplate.execute(
+                    INCREMENT_IF_PRESENT_SCRIPT, List.of(key), String.valueOf(ttl.toMillis())));
+            log.debug("Redis INCR (if present): {} -> {}", key, result);
+            return result;
+        } catch (Exception e) {
+            logFailure(e, "Redis INCR (if present) failed: {} - {}", key, e.getMessage());
             throw new RuntimeException("Redis 증가 실패", e);
         }
     }
 
     public Long decrement(String key) {
         try {
-            Long result = stringRedisTemplate.opsForValue().decrement(key);
+            Long result = call(() -> stringRedisTemplate.opsForValue().decrement(key));
             log.debug("Redis DECR: {} -> {}", key, result);
             return result;
         } catch (Exception e) {
-            log.error("Redis DECR failed: {} - {}", key, e.getMessage());
+            logFailure(e, "Redis DECR failed: {} - {}", key, e.getMessage());
             throw new RuntimeException("Redis 감소 실패", e);
         }
     }
 
+    // ===================== Hash 조작 (카운터용) =====================
+
+    public List<Object> hashMultiGet(String key, Collection<String> fields) {
+        try {
+            List<Object> values = call(() -> stringRedisTemplate.opsForHash().multiGet(key, new ArrayList<>(fields)));
+            log.debug("Redis HMGET: {} -> {} fields", key, fields.size());
+            return values;
+        } catch (Exception e) {
+            logFailure(e, "Redis HMGET failed: {} - {}", key, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 비었거나 만료된 필드 중 읽어 둔 버전이 그대로인 필드만 저장
+     * (fieldValues의 각 항목은 값 필드 -> [버전 필드, 읽었던 버전, 값, 만료 시각 필드, 만료 시각(epoch ms)])
+     */
+    public Long hashPutAllIfVersionUnchanged(String key, Map<String, List<String>> fieldValues,
+                                             long nowMillis, Duration ttl) {
+        if (fieldValues.isEmpty()) {
+            return 0L;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(String.valueOf(nowMillis));
+        fieldValues.forEach((field, versionAndValue) -> {
+            args.add(field);
+            args.addAll(versionAndValue);
+        });
+        try {
+            Long stored = call(() -> stringRedisTemplate.execute(
+                    HASH_PUT_IF_VERSION_UNCHANGED_SCRIPT, List.of(key), args.toArray()));
+            log.debug("Redis HSET (if version unchanged): {} -> {}/{} fields", key, stored, fieldValues.size());
+            return stored;
+        } catch (Exception e) {
+            logFailure(e, "Redis HSET (if version unchanged) failed: {} - {}", key, e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 버전 필드를 올리고 값 필드가 있을 때만 증감 (값 필드가 없으면 null)
+     */
+    public Long hashIncrementVersioned(String key, String field, String versionField, long delta, Duration ttl) {
+        try {
+            Long result = call(() -> stringRedisTemplate.execute(
+                    HASH_INCREMENT_VERSIONED_SCRIPT, List.of(key),
+                    field, versionField, String.valueOf(delta), String.valueOf(ttl.toMillis())));
+            log.debug("Redis HINCRBY (versioned): {}.{} -> {}", key, field, result);
+            return result;
+        } catch (Exception e) {
+            logFailure(e, "Redis HINCRBY failed: {}.{} - {}", key, field, e.getMessage());
+            throw new RuntimeException("Redis Hash 증감 실패", e);
+        }
+    }
+
+    public void hashDelete(String key, String... fields) {
+        try {
+            Long deleted = call(() -> stringRedisTemplate.opsForHash().delete(key, (Object[]) fields));
+            log.debug("Redis HDEL: {} -> {} fields deleted", key, deleted);
+        } catch (Exception e) {
+            logFailure(e, "Redis HDEL failed: {} - {}", key, e.getMessage());
+        }
+    }
+
     // ===================== 패턴 조작 (관리용) =====================
 
+    /**
+     * 패턴에 맞는 키 조회 (KEYS 대신 커서 기반 SCAN으로 서버를 막지 않음)
+     */
     public Set<String> getKeysByPattern(String pattern) {
         try {
-            Set<String> keys = redisTemplate.keys(pattern);
-            log.debug("Redis KEYS: {} -> {} matches", pattern, keys != null ? keys.size() : 0);
-            return keys != null ? keys : Collections.emptySet();
+            Set<String> keys = new HashSet<>();
+            scanKeys(pattern, keys::add);
+            return keys;
         } catch (Exception e) {
-            log.error("Redis KEYS failed: {} - {}", pattern, e.getMessage());
             return Collections.emptySet();
         }
     }
 
-    public void deleteByPattern(String pattern) {
+    /**
+     * 패턴에 맞는 키를 SCAN 하면서 하나씩 전달 (실패 시 예외, 결과 누락 여부를 호출자가 알아야 할 때 사용)
+     */
+    public void scanKeys(String pattern, Consumer<String> consumer) {
         try {
-            Set<String> keys = getKeysByPattern(pattern);
-            if (!keys.isEmpty()) {
-                delete(keys);
-                log.info("Redis deleted {} keys with pattern: {}", keys.size(), pattern);
-            }
+            Long scanned = call(() -> redisTemplate.execute((RedisCallback<Long>) connection -> {
+                long count = 0;
+                ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    while (cursor.hasNext()) {
+                        consumer.accept(new String(cursor.next(), StandardCharsets.UTF_8));
+                        count++;
+                    }
+                }
+                return count;
+            }));
+            log.debug("Redis SCAN: {} -> {} matches", pattern, scanned);
+        } catch (Exception e) {
+            logFailure(e, "Redis SCAN failed: {} - {}", pattern, e.getMessage());
+            throw new RuntimeException("Redis 키 스캔 실패", e);
+        }
+    }
+
+    // ===================== 태그 기반 무효화 =====================
+
+    /**
+     * 코덱으로 인코딩한 값을 TTL과 함께 저장하고 주어진 태그 집합에 키를 등록 (invalidateTag로 태그 단위 삭제)
+     */
+    public void setWithTags(String key, byte[] value, Duration ttl, String... tagKeys) {
+        List<String> keys = new ArrayList<>(tagKeys.length + 1);
+        keys.add(key);
+        keys.addAll(Arrays.asList(tagKeys));
+
+        try {
+            // 값은 그대로, TTL은 숫자 문자열로 전달 (값 직렬화기를 거치지 않음)
+            run(() -> redisTemplate.execute(SET_WITH_TAGS_SCRIPT, RedisSerializer.byteArray(), LONG_RESULT_SERIALIZER,
+                    keys, value, Long.toString(ttl.toMillis()).getBytes(StandardCharsets.UTF_8)));
+            log.debug("Redis SET with tags: {} {} ({} bytes, {})", key, Arrays.toString(tagKeys), value.length, ttl);
+        } catch (Exception e) {
+            logFailure(e, "Redis SET with tags failed: {} - {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 태그에 등록된 키를 모두 삭제 (키 공간 스캔 없이 태그에 속한 키 수만큼만 처리)
+     */
+    public Long invalidateTag(String tagKey) {
+        try {
+            Long deleted = call(() -> redisTemplate.execute(INVALIDATE_TAG_SCRIPT, List.of(tagKey)));
+            log.debug("Redis tag invalidated: {} -> {} keys", tagKey, deleted);
+            return deleted;
+        } catch (Exception e) {
+            logFailure(e, "Redis tag invalidation failed: {} - {}", tagKey, e.getMessage());
+            return 0L;
+        }
+    }
+
+    // ===================== Pub/Sub =====================
+
+    public void publish(String channel, Object message) {
+        try {
+            run(() -> redisTemplate.convertAndSend(channel, message));
+            log.debug("Redis PUBLISH: {}", channel);
         } catch (Exception e) {
-            log.error("Redis delete by pattern failed: {} - {}", pattern, e.getMessage());
+            logFailure(e, "Redis PUBLISH failed: {} - {}", channel, e.getMessage());
         }
     }
 
+    /**
+     * 구독 메시지 본문 역직렬화 (publish/스크립트 인자와 같은 값 직렬화기 사용)
+     */
+    public Object deserializeMessage(byte[] body) {
+        return redisTemplate.getValueSerializer().deserialize(body);
+    }
+
     // ===================== Pipeline 및 고급 기능 =====================
 
+    /**
+     * Lua 스크립트 실행 (인자는 값 직렬화기로 직렬화되므로 스크립트에서 저장하는 값도 get()으로 그대로 읽을 수 있음)
+     */
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args) {
+        try {
+            T result = call(() -> redisTemplate.execute(script, keys, args));
+            log.debug("Redis EVAL: keys={} -> {}", keys, result);
+            return result;
+        } catch (Exception e) {
+            logFailure(e, "Redis EVAL failed: keys={} - {}", keys, e.getMessage());
+            throw new RuntimeException("Redis 스크립트 실행 실패", e);
+        }
+    }
+
     public List<Object> executePipelined(RedisCallback<Object> callback) {
         try {
-            List<Object> results = redisTemplate.executePipelined(callback);
+            List<Object> results = call(() -> redisTemplate.executePipelined(callback));
             log.debug("Redis Pipeline executed: {} operations", results.size());
             return results;
         } catch (Exception e) {
-            log.error("Redis Pipeline execution failed", e);
+            logFailure(e, "Redis Pipeline execution failed", e);
             return Collections.emptyList();
         }
     }
 
-    public void batchSetWithTtlSimple(Map<String, Object> keyValueMap, Duration ttl) {
+    /**
+     * 여러 키를 TTL과 함께 한 번의 파이프라인으로 저장 (키마다 SET PX라 TTL 없는 구간이 없음)
+     */
+    public void multiSetWithTtl(Map<String, ?> keyValueMap, Duration ttl) {
+        if (keyValueMap.isEmpty()) {
+            return;
+        }
         try {
-            // 1. 먼저 모든 키-값을 배치로 저장
-            redisTemplate.opsForValue().multiSet(keyValueMap);
-
-            // 2. 각 키에 TTL 설정
-            keyValueMap.keySet().forEach(key -> {
-                try {
-                    redisTemplate.expire(key, ttl);
-                } catch (Exception e) {
-                    log.warn("TTL 설정 실패: {}", key, e);
-                }
-            });
-
-            log.debug("Redis batch set with TTL: {} keys", keyValueMap.size());
+            RedisSerializer<Object> valueSerializer = valueSerializer();
+            Expiration expiration = Expiration.from(ttl);
+            run(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                keyValueMap.forEach((key, value) -> connection.stringCommands().set(
+                        key.getBytes(StandardCharsets.UTF_8),
+                        valueSerializer.serialize(value),
+                        expiration,
+                        RedisStringCommands.SetOption.upsert()));
+                return null;
+            }));
+            log.debug("Redis pipelined SET with TTL: {} keys ({})", keyValueMap.size(), ttl);
         } catch (Exception e) {
-            log.error("Redis batch set with TTL failed: {}", e.getMessage());
+            logFailure(e, "Redis pipelined SET with TTL failed: {}", e.getMessage());
             throw new RuntimeException("Redis 배치 저장 실패", e);
         }
     }
+
+    // ===================== 서킷 브레이커 =====================
+
+    /**
+     * Redis 호출 (서킷이 열려 있으면 호출하지 않고 즉시 RedisUnavailableException, 결과는 서킷 브레이커에 기록)
+     */
+    private <T> T call(Supplier<T> action) {
+        if (circuitBreaker.isOpen()) {
+            throw new RedisUnavailableException();
+        }
+        try {
+            T result = action.get();
+            circuitBreaker.recordSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(e);
+            throw e;
+        }
+    }
+
+    private void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // 서킷이 열린 동안 생략된 호출은 매 요청마다 에러 로그를 남기지 않음
+    private void logFailure(Exception e, String format, Object... args) {
+        if (e instanceof RedisUnavailableException) {
+            log.debug(format, args);
+        } else {
+            log.error(format, args);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer() {
+        return (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+    }
 }
@@ -0,0 +1,11 @@
+package com.dolpin.global.redis.service;
+
+/**
+ * 서킷 브레이커가 열려 Redis 호출을 생략했을 때 발생 (매 호출마다 생기므로 스택 트레이스를 만들지 않음)
+ */
+public class RedisUnavailableException extends RuntimeException {
+
+    public RedisUnavailableException() {
+        super("Redis 서킷 브레이커 열림", null, false, false);
+    }
+}
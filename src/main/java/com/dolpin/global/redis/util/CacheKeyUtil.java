@@ -33,6 +33,15 @@ public class CacheKeyUtil {
         return ENV_PREFIX + String.format("place:region:%s:%d:%d", category, latGrid, lngGrid);
     }
 
+    // 카테고리별 검색 결과 캐시 키를 모아 두는 태그 집합 (카테고리 단위 무효화)
+    public static String placeCategoryTag(String category) {
+        return ENV_PREFIX + "tag:category:" + category;
+    }
+
+    public static String placeMomentCounts() {
+        return ENV_PREFIX + "place:moment_count";
+    }
+
     // 북마크 관련 
     public static String bookmarkStatus(Long userId, Long placeId) {
         return ENV_PREFIX + String.format("bookmark:status:%d:%d", userId, placeId);
@@ -47,17 +56,84 @@ public class CacheKeyUtil {
         return ENV_PREFIX + "moment:view_count:" + momentId;
     }
 
+    // 기록 상세 (본문/이미지/작성자) 관련 (버전이 바뀌면 이전 스냅샷 키는 더 이상 조회되지 않음)
+    public static String momentDetail(Long momentId, String version) {
+        return ENV_PREFIX + "moment:detail:" + momentId + ":" + version;
+    }
+
+    public static String momentDetailVersion(Long momentId) {
+        return ENV_PREFIX + "moment:detail:" + momentId + ":version";
+    }
+
+    // 기록 피드 첫 페이지 관련
+    public static String momentFeedAnonymous(int limit) {
+        return ENV_PREFIX + "moment:feed:all:anonymous:" + limit;
+    }
+
+    public static String momentFeedPlace(Long placeId, int limit) {
+        return ENV_PREFIX + String.format("moment:feed:place:%d:%d", placeId, limit);
+    }
+
+    public static String momentFeedAnonymousKeys() {
+        return ENV_PREFIX + "moment:feed:all:anonymous:keys";
+    }
+
+    public static String momentFeedPlaceKeys(Long placeId) {
+        return ENV_PREFIX + "moment:feed:place:" + placeId + ":keys";
+    }
+
+    // 댓글 첫 페이지 관련 (버전이 바뀌면 이전 페이지 키는 더 이상 조회되지 않음)
+    public static String commentFirstPage(Long momentId, String version, Integer limit) {
+        return ENV_PREFIX + String.format("comment:first_page:%d:%s:%d", momentId, version, limit);
+    }
+
+    public static String commentFirstPageVersion(Long momentId) {
+        return ENV_PREFIX + "comment:first_page:" + momentId + ":version";
+    }
+
     // 토큰 관련 
     public static String refreshToken(String tokenHash) {
-        return ENV_PREFIX + "refresh_token:" + tokenHash;
+        return refreshTokenPrefix() + tokenHash;
+    }
+
+    public static String refreshTokenPrefix() {
+        return ENV_PREFIX + "refresh_token:";
     }
 
     public static String userTokens(Long userId) {
-        return ENV_PREFIX + "user_tokens:" + userId;
+        return userTokensPrefix() + userId;
+    }
+
+    public static String userTokensPrefix() {
+        return ENV_PREFIX + "user_tokens:";
+    }
+
+    // 리프레시 토큰 만료 인덱스 (score = 만료 시각 epoch ms, member = 토큰 해시)
+    public static String refreshTokenExpiryIndex() {
+        return ENV_PREFIX + "refresh_token_expiry";
     }
 
     public static String blacklistToken(String tokenHash) {
-        return ENV_PREFIX + "blacklist_token:" + tokenHash;
+        return blacklistTokenPrefix() + tokenHash;
+    }
+
+    public static String blacklistTokenPrefix() {
+        return ENV_PREFIX + "blacklist_token:";
+    }
+
+    // 블랙리스트 등록 알림 채널 (각 노드의 로컬 Bloom 필터 동기화)
+    public static String blacklistTokenChannel() {
+        return ENV_PREFIX + "channel:blacklist_token";
+    }
+
+    // 로컬 캐시(near cache) 무효화 알림 채널
+    public static String nearCacheInvalidationChannel() {
+        return ENV_PREFIX + "channel:near_cache";
+    }
+
+    // 쓰기 요청 멱등성 관련
+    public static String idempotency(String action, Long userId, String requestHash) {
+        return ENV_PREFIX + String.format("idempotency:%s:%d:%s", action, userId, requestHash);
     }
     
 
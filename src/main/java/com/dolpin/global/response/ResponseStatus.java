@@ -29,6 +29,7 @@ public enum ResponseStatus {
 
     // 호출
     TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "너무 많은 요청이 발생했습니다"),
+    DUPLICATE_REQUEST(HttpStatus.CONFLICT, "동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
 
     // 기록
     MOMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "기록을 찾을 수 없습니다.");
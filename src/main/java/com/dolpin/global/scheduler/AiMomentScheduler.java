@@ -1,11 +1,13 @@
 // src/main/java/com/dolpin/global/scheduler/AiMomentScheduler.java
 package com.dolpin.global.scheduler;
 
+import com.dolpin.domain.moment.dto.response.AiMomentBatchResult;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.moment.service.ai.AiMomentGenerationService;
 import com.dolpin.global.constants.SystemUserConstants;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -19,6 +21,9 @@ public class AiMomentScheduler {
     private final AiMomentGenerationService aiMomentGenerationService;
     private final MomentRepository momentRepository;
 
+    @Value("${ai.moment.batch.count:1}")
+    private int dailyMomentCount;
+
     @Scheduled(cron = "0 0 5 * * *")
     public void generateDailyAiMoment() {
 
@@ -29,8 +34,9 @@ public class AiMomentScheduler {
         }
 
         try {
-            aiMomentGenerationService.generateDailyMoment();
-            log.info("Daily AI moment generation scheduler completed successfully");
+            AiMomentBatchResult result = aiMomentGenerationService.generateMomentBatch(dailyMomentCount);
+            log.info("Daily AI moment generation scheduler completed: created={}, failed={}",
+                    result.getCreated(), result.getFailed());
         } catch (Exception e) {
             log.error("Daily AI moment generation scheduler failed", e);
             // 실패해도 스케줄러는 계속 동작하도록 예외를 삼킴
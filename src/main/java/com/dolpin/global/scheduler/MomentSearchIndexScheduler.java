@@ -0,0 +1,39 @@
+package com.dolpin.global.scheduler;
+
+import com.dolpin.domain.moment.service.MomentSearchIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MomentSearchIndexScheduler {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final MomentSearchIndexService momentSearchIndexService;
+
+    // 검색 문서 컬럼 추가 이전에 작성된 기록 색인
+    @Scheduled(initialDelay = 60_000, fixedDelay = 600_000)
+    public void indexMissingSearchDocuments() {
+        try {
+            int total = 0;
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int indexed = momentSearchIndexService.indexMissingDocuments(BATCH_SIZE);
+                total += indexed;
+                if (indexed < BATCH_SIZE) {
+                    break;
+                }
+            }
+
+            if (total > 0) {
+                log.info("Moment search document backfill completed: {} moments", total);
+            }
+        } catch (Exception e) {
+            log.error("Moment search document backfill failed", e);
+        }
+    }
+}
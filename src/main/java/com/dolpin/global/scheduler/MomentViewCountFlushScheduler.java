@@ -0,0 +1,35 @@
+package com.dolpin.global.scheduler;
+
+import com.dolpin.domain.moment.service.MomentViewService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MomentViewCountFlushScheduler {
+
+    private final MomentViewService momentViewService;
+
+    // 상세 조회에서 적립된 조회 수를 기록별로 모아 DB에 반영
+    @Scheduled(initialDelay = 5_000, fixedDelay = 5_000)
+    public void flushViewCounts() {
+        try {
+            int flushed = momentViewService.flushViewIncrements();
+            if (flushed > 0) {
+                log.debug("View count flush completed: {} moments", flushed);
+            }
+        } catch (Exception e) {
+            log.error("View count flush failed", e);
+        }
+    }
+
+    // 종료 시 남은 조회 수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
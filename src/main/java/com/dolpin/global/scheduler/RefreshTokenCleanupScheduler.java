@@ -0,0 +1,19 @@
+package com.dolpin.global.scheduler;
+
+import com.dolpin.domain.auth.service.cache.RefreshTokenCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenCleanupScheduler {
+
+    private final RefreshTokenCacheService refreshTokenCacheService;
+
+    // 만료 인덱스 기준으로 만료된 리프레시 토큰 정리
+    @Scheduled(initialDelay = 120_000, fixedDelay = 3_600_000)
+    public void cleanupExpiredRefreshTokens() {
+        refreshTokenCacheService.cleanupExpiredTokens();
+    }
+}
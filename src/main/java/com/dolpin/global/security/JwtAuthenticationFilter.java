@@ -37,8 +37,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractToken(request);
 
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            // 검증과 사용자 ID 추출을 한 번에 처리 (최근 검증된 토큰은 해시 조회만 수행)
+            Long userId = StringUtils.hasText(token) ? jwtTokenProvider.getVerifiedUserId(token) : null;
+
+            if (userId != null) {
 
                 // UserDetails 생성
                 UserDetails userDetails = new User(
@@ -0,0 +1,31 @@
+-- 대댓글 접힘 목록 (comment.reply_count, 루트 댓글 부분 인덱스)
+-- 컬럼은 JPA 엔티티로 생성되며, 이후 대댓글 생성/삭제 트랜잭션에서 CommentRepository.adjustReplyCount / decrementThreadReplyCount로 증감한다.
+-- 대댓글 수는 스레드 루트 댓글에만 집계한다. (대댓글에 단 답글 포함, comment_thread_order.sql의 thread_root_id 백필 이후 실행)
+-- 대댓글 목록과 미리보기는 comment_thread_order.sql의 idx_comment_thread_order를 그대로 사용한다.
+
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS reply_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 대댓글 수 백필 (값이 어긋났을 때도 같은 UPDATE로 다시 맞출 수 있다)
+UPDATE comment p
+SET reply_count = counted.cnt
+FROM (
+    SELECT c.thread_root_id, COUNT(*) AS cnt
+    FROM comment c
+    WHERE c.parent_comment_id IS NOT NULL
+      AND c.deleted_at IS NULL
+    GROUP BY c.thread_root_id
+) counted
+WHERE p.id = counted.thread_root_id
+  AND p.reply_count <> counted.cnt;
+
+-- 예전에 중간 대댓글에 쌓인 값 정리
+UPDATE comment
+SET reply_count = 0
+WHERE parent_comment_id IS NOT NULL
+  AND reply_count <> 0;
+
+-- 최상위 댓글 목록 (CommentRepository.findRootsByMomentId*) 의 ORDER BY / keyset 조건과 같은 컬럼 순서
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comment_root_order
+    ON comment (moment_id, created_at, id)
+    WHERE parent_comment_id IS NULL
+      AND deleted_at IS NULL;
@@ -0,0 +1,38 @@
+-- 댓글 스레드 정렬 키 (thread_root_id, thread_created_at)
+-- 컬럼은 JPA 엔티티로 생성되지만, 기존 댓글 백필과 부분 인덱스는 수동으로 적용한다.
+-- 댓글 목록 쿼리(CommentRepository.findRepliesByThread*, findReplyPreviews)의 ORDER BY / keyset 조건과 같은 컬럼 순서여야 인덱스를 탄다.
+
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS thread_root_id BIGINT;
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS thread_created_at TIMESTAMP(6);
+
+-- 루트 댓글: 자기 자신이 스레드 루트
+UPDATE comment
+SET thread_root_id = id,
+    thread_created_at = created_at
+WHERE parent_comment_id IS NULL
+  AND thread_root_id IS NULL;
+
+-- 대댓글: 부모를 따라 올라가 루트 댓글의 스레드를 따름 (대댓글에 단 답글 포함)
+WITH RECURSIVE thread AS (
+    SELECT id, id AS root_id, created_at AS root_created_at
+    FROM comment
+    WHERE parent_comment_id IS NULL
+    UNION ALL
+    SELECT c.id, t.root_id, t.root_created_at
+    FROM comment c
+    JOIN thread t ON c.parent_comment_id = t.id
+)
+UPDATE comment c
+SET thread_root_id = t.root_id,
+    thread_created_at = t.root_created_at
+FROM thread t
+WHERE c.id = t.id
+  AND c.parent_comment_id IS NOT NULL
+  AND c.thread_root_id IS NULL;
+
+ALTER TABLE comment ALTER COLUMN thread_root_id SET NOT NULL;
+ALTER TABLE comment ALTER COLUMN thread_created_at SET NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comment_thread_order
+    ON comment (moment_id, thread_created_at, thread_root_id, created_at, id)
+    WHERE deleted_at IS NULL;
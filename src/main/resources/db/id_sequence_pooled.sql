@@ -0,0 +1,19 @@
+-- 기록/기록 이미지/댓글/북마크 ID 시퀀스를 pooled 할당(allocationSize = 50)에 맞춤
+-- 엔티티가 IDENTITY -> SEQUENCE(pooled)로 바뀌면서 Hibernate가 시퀀스 값 하나로 50개 ID를 할당하고 INSERT를 JDBC 배치로 묶는다.
+-- serial / identity 컬럼 모두 pg_get_serial_sequence로 기존 시퀀스를 찾으며, 컬럼 DEFAULT(nextval)는 그대로 유지된다.
+-- 적용 전에는 increment_size_mismatch_strategy=fix 설정으로 allocationSize가 1로 동작한다.
+
+DO $$
+DECLARE
+    target RECORD;
+    seq_name TEXT;
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES ('moment'), ('moment_image'), ('comment'), ('place_bookmark')) AS t(table_name)
+    LOOP
+        seq_name := pg_get_serial_sequence(target.table_name, 'id');
+        IF seq_name IS NOT NULL THEN
+            EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50', seq_name);
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,16 @@
+-- 기록별 댓글 수 컬럼 (moment.comment_count)
+-- 컬럼은 JPA 엔티티로 생성되며, 이후 댓글 생성/삭제 트랜잭션에서 MomentRepository.adjustCommentCount로 증감한다.
+-- 컬럼 추가 직후 기존 댓글 수를 채우고, 값이 어긋났을 때도 같은 UPDATE로 다시 맞출 수 있다.
+
+ALTER TABLE moment ADD COLUMN IF NOT EXISTS comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE moment m
+SET comment_count = counted.cnt
+FROM (
+    SELECT c.moment_id, COUNT(*) AS cnt
+    FROM comment c
+    WHERE c.deleted_at IS NULL
+    GROUP BY c.moment_id
+) counted
+WHERE m.id = counted.moment_id
+  AND m.comment_count <> counted.cnt;
@@ -0,0 +1,33 @@
+-- 기록 피드 keyset 페이지네이션 인덱스 (created_at DESC, id DESC)
+-- 운영은 ddl-auto=validate라 JPA로 인덱스가 생성되지 않고, 부분 인덱스는 JPA로 선언할 수도 없어 수동으로 적용한다.
+-- 피드 쿼리(MomentRepository.find*FirstPage / find*AfterCursor)의 WHERE / ORDER BY와 같은 조건·컬럼 순서여야 index-only 범위 스캔을 탄다.
+
+-- 전체 피드 공개 스트림 (findPublicMoments*, findPublicMomentsWithUserPrivate* 의 공개 분기)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_moment_public_feed
+    ON moment (created_at DESC, id DESC)
+    WHERE is_public = true;
+
+-- 사용자 피드 (findByUserId*, 본인 조회)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_moment_user_feed
+    ON moment (user_id, created_at DESC, id DESC);
+
+-- 전체 피드 본인 비공개 스트림 (findPublicMomentsWithUserPrivate* 의 본인 분기)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_moment_user_private_feed
+    ON moment (user_id, created_at DESC, id DESC)
+    WHERE is_public = false;
+
+-- 다른 사용자 피드 (findPublicByUserId*)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_moment_user_public_feed
+    ON moment (user_id, created_at DESC, id DESC)
+    WHERE is_public = true;
+
+-- 장소 피드 (findPublicMomentsByPlaceId*)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_moment_place_public_feed
+    ON moment (place_id, created_at DESC, id DESC)
+    WHERE is_public = true;
+
+-- dev/local(ddl-auto=update)에서 엔티티 선언으로 생성됐던 인덱스 정리
+DROP INDEX CONCURRENTLY IF EXISTS idx_moment_public_created_at_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_moment_user_created_at_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_moment_user_public_created_at_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_moment_place_public_created_at_id;
@@ -0,0 +1,8 @@
+-- 기록 검색용 2-gram tsvector GIN 인덱스
+-- search_document 컬럼은 JPA 엔티티로 생성되지만, 표현식 GIN 인덱스는 JPA로 선언할 수 없어 수동으로 적용한다.
+-- 검색 쿼리(MomentRepository.search*)의 CAST(m.search_document AS tsvector)와 같은 표현식이어야 인덱스를 탄다.
+
+ALTER TABLE moment ADD COLUMN IF NOT EXISTS search_document TEXT;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_moment_search_document
+    ON moment USING gin (CAST(search_document AS tsvector));
@@ -0,0 +1,4 @@
+-- 가입 시 사용자명 생성 (UserRepository.findUsernamesStartingWith) 의 접두사 LIKE 조회용 인덱스
+-- 기본 collation이 C가 아니면 일반 B-tree 인덱스는 LIKE 'prefix%' 에 쓰이지 않으므로 pattern_ops 사용
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_username_prefix
+    ON users (username varchar_pattern_ops);
@@ -19,9 +19,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -39,6 +43,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("AuthController 테스트")
 class AuthControllerTest {
 
+    private static final ResponseCookie ACCESS_TOKEN_COOKIE =
+            ResponseCookie.from("access_token", AuthTestConstants.JWT_ACCESS_TOKEN).httpOnly(true).path("/").build();
+    private static final ResponseCookie REFRESH_TOKEN_COOKIE =
+            ResponseCookie.from("refresh_token", AuthTestConstants.REFRESH_TOKEN_VALUE).httpOnly(true).path("/").build();
+
     private MockMvc mockMvc;
 
     private ObjectMapper objectMapper;
@@ -162,12 +171,17 @@ class AuthControllerTest {
             // given
             given(authService.generateTokenByAuthorizationCode(
                     AuthTestConstants.TEST_AUTH_CODE, null))
-                    .willReturn(tokenResponse);
+                    .willReturn(Mono.just(tokenResponse));
+            givenTokenCookies();
 
             // when & then
-            mockMvc.perform(post("/api/v1/auth/tokens")
+            MvcResult result = mockMvc.perform(post("/api/v1/auth/tokens")
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(tokenRequest)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.message").value("login_success"))
                     .andExpect(jsonPath("$.data.tokenType").value("Cookie"))
@@ -175,11 +189,15 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.data.user.id").value(AuthTestConstants.TEST_USER_ID))
                     .andExpect(jsonPath("$.data.user.username").value(AuthTestConstants.TEST_USERNAME))
                     .andExpect(jsonPath("$.data.accessToken").doesNotExist())
-                    .andExpect(jsonPath("$.data.refreshToken").doesNotExist());
+                    .andExpect(jsonPath("$.data.refreshToken").doesNotExist())
+                    .andExpect(header().stringValues(HttpHeaders.SET_COOKIE,
+                            ACCESS_TOKEN_COOKIE.toString(), REFRESH_TOKEN_COOKIE.toString()));
 
             verify(authService).generateTokenByAuthorizationCode(AuthTestConstants.TEST_AUTH_CODE, null);
-            verify(cookieService).addAccessTokenCookie(any(), eq(AuthTestConstants.JWT_ACCESS_TOKEN), eq(AuthTestConstants.ACCESS_TOKEN_EXPIRES_IN));
-            verify(cookieService).addRefreshTokenCookie(any(), eq(AuthTestConstants.REFRESH_TOKEN_VALUE));
+            verify(cookieService).createAccessTokenCookie(AuthTestConstants.JWT_ACCESS_TOKEN, AuthTestConstants.ACCESS_TOKEN_EXPIRES_IN);
+            verify(cookieService).createRefreshTokenCookie(AuthTestConstants.REFRESH_TOKEN_VALUE);
+            verify(cookieService, never()).addAccessTokenCookie(any(), anyString(), anyLong());
+            verify(cookieService, never()).addRefreshTokenCookie(any(), anyString());
         }
 
         @Test
@@ -189,13 +207,18 @@ class AuthControllerTest {
             String redirectUri = AuthTestConstants.TEST_REDIRECT_URI;
             given(authService.generateTokenByAuthorizationCode(
                     AuthTestConstants.TEST_AUTH_CODE, redirectUri))
-                    .willReturn(tokenResponse);
+                    .willReturn(Mono.just(tokenResponse));
+            givenTokenCookies();
 
             // when & then
-            mockMvc.perform(post("/api/v1/auth/tokens")
+            MvcResult result = mockMvc.perform(post("/api/v1/auth/tokens")
                             .param("redirect_uri", redirectUri)
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(tokenRequest)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.message").value("login_success"));
 
@@ -220,8 +243,33 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.message").value(AuthTestConstants.OAUTH_AUTH_FAILED_MESSAGE));
 
             verify(authService).generateTokenByAuthorizationCode(AuthTestConstants.INVALID_AUTH_CODE, null);
-            verify(cookieService, never()).addAccessTokenCookie(any(), anyString(), anyLong());
-            verify(cookieService, never()).addRefreshTokenCookie(any(), anyString());
+            verify(cookieService, never()).createAccessTokenCookie(anyString(), anyLong());
+            verify(cookieService, never()).createRefreshTokenCookie(anyString());
+        }
+
+        @Test
+        @DisplayName("실패: OAuth 제공자 응답 처리 중 인증 실패")
+        void getTokens_Fail_AsyncOAuthFailure() throws Exception {
+            // given
+            given(authService.generateTokenByAuthorizationCode(
+                    AuthTestConstants.TEST_AUTH_CODE, null))
+                    .willReturn(Mono.error(new BusinessException(ResponseStatus.UNAUTHORIZED,
+                            AuthTestConstants.OAUTH_AUTH_FAILED_MESSAGE)));
+
+            // when & then
+            MvcResult result = mockMvc.perform(post("/api/v1/auth/tokens")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(tokenRequest)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message").value(AuthTestConstants.OAUTH_AUTH_FAILED_MESSAGE))
+                    .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE));
+
+            verify(cookieService, never()).createAccessTokenCookie(anyString(), anyLong());
+            verify(cookieService, never()).createRefreshTokenCookie(anyString());
         }
 
         @Test
@@ -406,6 +454,14 @@ class AuthControllerTest {
         }
     }
 
+    private void givenTokenCookies() {
+        given(cookieService.createAccessTokenCookie(
+                AuthTestConstants.JWT_ACCESS_TOKEN, AuthTestConstants.ACCESS_TOKEN_EXPIRES_IN))
+                .willReturn(ACCESS_TOKEN_COOKIE);
+        given(cookieService.createRefreshTokenCookie(AuthTestConstants.REFRESH_TOKEN_VALUE))
+                .willReturn(REFRESH_TOKEN_COOKIE);
+    }
+
     private jakarta.servlet.http.Cookie createRefreshTokenCookie(String value) {
         return new jakarta.servlet.http.Cookie("refresh_token", value);
     }
@@ -288,6 +288,33 @@ class TokenRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("revokeAllByUserId 메서드 테스트")
+    class RevokeAllByUserIdTest {
+
+        @Test
+        @DisplayName("사용자의 유효한 토큰만 한 번의 UPDATE로 무효화한다")
+        void revokeAllByUserId_RevokesOnlyActiveUserTokens() {
+            // given
+            User user1 = persistUser(TEST_USERNAME_2, TEST_PROVIDER_ID);
+            User user2 = persistUser(TEST_USERNAME_3, TEST_PROVIDER_ID_2);
+
+            persistToken(user1, VALID_TOKEN_VALUE + "-1", LocalDateTime.now().plusDays(1), false);
+            persistToken(user1, VALID_TOKEN_VALUE + "-2", LocalDateTime.now().plusDays(2), false);
+            persistToken(user1, REVOKED_TOKEN_VALUE, LocalDateTime.now().plusDays(1), true);
+            persistToken(user2, "user2-token", LocalDateTime.now().plusDays(1), false);
+
+            // when
+            int revokedRows = tokenRepository.revokeAllByUserId(user1.getId());
+            testEntityManager.clear();
+
+            // then
+            assertThat(revokedRows).isEqualTo(2);
+            assertThat(tokenRepository.findAllByUser(user1)).allMatch(Token::isRevoked);
+            assertThat(tokenRepository.findValidTokensByUserId(user2.getId())).hasSize(1);
+        }
+    }
+
     @Nested
     @DisplayName("기본 JPA 동작 검증")
     class BasicJpaTest {
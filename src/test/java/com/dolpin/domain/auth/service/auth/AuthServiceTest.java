@@ -24,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Optional;
@@ -140,7 +141,7 @@ class AuthServiceTest {
             setupTokenGenerationMocks(existingUser, refreshToken);
 
             // when
-            TokenResponse result = authService.generateTokenByAuthorizationCode(TEST_AUTH_CODE, TEST_REDIRECT_URI);
+            TokenResponse result = authService.generateTokenByAuthorizationCode(TEST_AUTH_CODE, TEST_REDIRECT_URI).block();
 
             // then
             assertThat(result.getAccessToken()).isEqualTo(JWT_ACCESS_TOKEN);
@@ -167,7 +168,7 @@ class AuthServiceTest {
             setupTokenGenerationMocks(newUser, refreshToken);
 
             // when
-            TokenResponse result = authService.generateTokenByAuthorizationCode(TEST_AUTH_CODE, TEST_REDIRECT_URI);
+            TokenResponse result = authService.generateTokenByAuthorizationCode(TEST_AUTH_CODE, TEST_REDIRECT_URI).block();
 
             // then
             assertThat(result.getAccessToken()).isEqualTo(JWT_ACCESS_TOKEN);
@@ -185,10 +186,10 @@ class AuthServiceTest {
         void generateTokenByAuthorizationCode_WithOAuthTokenFailure_ThrowsException() {
             // given
             setupOAuthApiClientMocks();
-            given(oAuthApiClient.requestAccessToken(any())).willReturn(null);
+            given(oAuthApiClient.requestAccessToken(any())).willReturn(Mono.empty());
 
             // when & then
-            assertThatThrownBy(() -> authService.generateTokenByAuthorizationCode(INVALID_AUTH_CODE, TEST_REDIRECT_URI))
+            assertThatThrownBy(() -> authService.generateTokenByAuthorizationCode(INVALID_AUTH_CODE, TEST_REDIRECT_URI).block())
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining(OAUTH_AUTH_FAILED_MESSAGE);
         }
@@ -198,10 +199,10 @@ class AuthServiceTest {
         void generateTokenByAuthorizationCode_WithEmptyOAuthToken_ThrowsException() {
             // given
             setupOAuthApiClientMocks();
-            given(oAuthApiClient.requestAccessToken(any())).willReturn("");
+            given(oAuthApiClient.requestAccessToken(any())).willReturn(Mono.just(""));
 
             // when & then
-            assertThatThrownBy(() -> authService.generateTokenByAuthorizationCode(TEST_AUTH_CODE, TEST_REDIRECT_URI))
+            assertThatThrownBy(() -> authService.generateTokenByAuthorizationCode(TEST_AUTH_CODE, TEST_REDIRECT_URI).block())
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining(OAUTH_AUTH_FAILED_MESSAGE);
         }
@@ -223,8 +224,8 @@ class AuthServiceTest {
         }
 
         private void setupOAuthFlowMocks() {
-            given(oAuthApiClient.requestAccessToken(any())).willReturn(OAUTH_ACCESS_TOKEN);
-            given(oAuthApiClient.requestUserInfo(OAUTH_ACCESS_TOKEN)).willReturn(oAuthInfoResponse);
+            given(oAuthApiClient.requestAccessToken(any())).willReturn(Mono.just(OAUTH_ACCESS_TOKEN));
+            given(oAuthApiClient.requestUserInfo(OAUTH_ACCESS_TOKEN)).willReturn(Mono.just(oAuthInfoResponse));
             given(oAuthInfoResponse.getProvider()).willReturn(KAKAO_PROVIDER);
             given(oAuthInfoResponse.getProviderId()).willReturn(TEST_PROVIDER_ID.toString());
         }
@@ -349,7 +350,7 @@ class AuthServiceTest {
             assertThat(urlResponse.getRedirectUrl()).isEqualTo(loginUrl);
 
             // 2. 토큰 발급
-            TokenResponse tokenResponse = authService.generateTokenByAuthorizationCode(TEST_AUTH_CODE, TEST_REDIRECT_URI);
+            TokenResponse tokenResponse = authService.generateTokenByAuthorizationCode(TEST_AUTH_CODE, TEST_REDIRECT_URI).block();
             assertThat(tokenResponse.getAccessToken()).isEqualTo(JWT_ACCESS_TOKEN);
             assertThat(tokenResponse.getRefreshToken()).isEqualTo(REFRESH_TOKEN_VALUE);
 
@@ -373,8 +374,8 @@ class AuthServiceTest {
             // 토큰 발급 설정
             given(oAuthApiClients.stream()).willReturn(List.of(oAuthApiClient).stream());
             given(oAuthApiClient.oauthProvider()).willReturn(OAuthProvider.KAKAO);
-            given(oAuthApiClient.requestAccessToken(any())).willReturn(OAUTH_ACCESS_TOKEN);
-            given(oAuthApiClient.requestUserInfo(OAUTH_ACCESS_TOKEN)).willReturn(oAuthInfoResponse);
+            given(oAuthApiClient.requestAccessToken(any())).willReturn(Mono.just(OAUTH_ACCESS_TOKEN));
+            given(oAuthApiClient.requestUserInfo(OAUTH_ACCESS_TOKEN)).willReturn(Mono.just(oAuthInfoResponse));
             given(oAuthInfoResponse.getProvider()).willReturn(KAKAO_PROVIDER);
             given(oAuthInfoResponse.getProviderId()).willReturn(TEST_PROVIDER_ID.toString());
             given(userQueryService.findByProviderAndProviderId(KAKAO_PROVIDER, TEST_PROVIDER_ID))
@@ -0,0 +1,239 @@
+package com.dolpin.domain.auth.service.cache;
+
+import com.dolpin.global.redis.service.RedisService;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenCacheService 테스트")
+class RefreshTokenCacheServiceTest {
+
+    private static final String INDEX_KEY = CacheKeyUtil.refreshTokenExpiryIndex();
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES = 20;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private TokenBlacklistFilter tokenBlacklistFilter;
+
+    private RefreshTokenCacheService refreshTokenCacheService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenCacheService = new RefreshTokenCacheService(redisService, tokenBlacklistFilter);
+    }
+
+    @Nested
+    @DisplayName("cleanupExpiredTokens 메서드 테스트")
+    class CleanupExpiredTokensTest {
+
+        @Test
+        @DisplayName("만료된 토큰이 없으면 삭제하지 않고 종료한다")
+        void cleanupExpiredTokens_EmptyBatch_DeletesNothing() {
+            // given
+            given(redisService.getSortedSetRangeByScore(eq(INDEX_KEY), eq(0d), anyDouble(), eq((long) BATCH_SIZE)))
+                    .willReturn(Set.of());
+
+            // when
+            refreshTokenCacheService.cleanupExpiredTokens();
+
+            // then
+            then(redisService).should(times(1)).getSortedSetRangeByScore(eq(INDEX_KEY), anyDouble(), anyDouble(), anyLong());
+            then(redisService).should(never()).deleteWithSortedSetMembers(anyList(), any(), any());
+        }
+
+        @Test
+        @DisplayName("배치 크기보다 적게 조회되면 한 번 삭제하고 더 조회하지 않는다")
+        void cleanupExpiredTokens_PartialBatch_DeletesOnceAndStops() {
+            // given
+            Set<Object> expired = tokenHashes(0, 3);
+            given(redisService.getSortedSetRangeByScore(eq(INDEX_KEY), eq(0d), anyDouble(), eq((long) BATCH_SIZE)))
+                    .willReturn(expired);
+
+            // when
+            refreshTokenCacheService.cleanupExpiredTokens();
+
+            // then
+            then(redisService).should(times(1)).getSortedSetRangeByScore(eq(INDEX_KEY), anyDouble(), anyDouble(), anyLong());
+            then(redisService).should().deleteWithSortedSetMembers(
+                    List.of(CacheKeyUtil.refreshToken("hash-0"),
+                            CacheKeyUtil.refreshToken("hash-1"),
+                            CacheKeyUtil.refreshToken("hash-2")),
+                    INDEX_KEY,
+                    expired);
+        }
+
+        @Test
+        @DisplayName("배치가 가득 차면 다음 배치를 이어서 조회하고, 덜 찬 배치에서 종료한다")
+        void cleanupExpiredTokens_FullThenPartialBatch_ContinuesUntilPartial() {
+            // given
+            Set<Object> fullBatch = tokenHashes(0, BATCH_SIZE);
+            Set<Object> lastBatch = tokenHashes(BATCH_SIZE, 2);
+            given(redisService.getSortedSetRangeByScore(eq(INDEX_KEY), eq(0d), anyDouble(), eq((long) BATCH_SIZE)))
+                    .willReturn(fullBatch, lastBatch);
+
+            // when
+            refreshTokenCacheService.cleanupExpiredTokens();
+
+            // then
+            then(redisService).should(times(2)).getSortedSetRangeByScore(eq(INDEX_KEY), anyDouble(), anyDouble(), anyLong());
+            then(redisService).should().deleteWithSortedSetMembers(anyList(), eq(INDEX_KEY), eq(fullBatch));
+            then(redisService).should().deleteWithSortedSetMembers(anyList(), eq(INDEX_KEY), eq(lastBatch));
+        }
+
+        @Test
+        @DisplayName("계속 가득 찬 배치가 조회되어도 최대 배치 수에서 멈춘다")
+        void cleanupExpiredTokens_AlwaysFullBatch_StopsAtMaxBatches() {
+            // given
+            given(redisService.getSortedSetRangeByScore(eq(INDEX_KEY), eq(0d), anyDouble(), eq((long) BATCH_SIZE)))
+                    .willReturn(tokenHashes(0, BATCH_SIZE));
+
+            // when
+            refreshTokenCacheService.cleanupExpiredTokens();
+
+            // then
+            then(redisService).should(times(MAX_BATCHES))
+                    .getSortedSetRangeByScore(eq(INDEX_KEY), anyDouble(), anyDouble(), anyLong());
+            then(redisService).should(times(MAX_BATCHES)).deleteWithSortedSetMembers(anyList(), eq(INDEX_KEY), any());
+        }
+
+        @Test
+        @DisplayName("삭제 중 예외가 발생해도 스케줄러로 전파하지 않는다")
+        void cleanupExpiredTokens_DeleteFails_DoesNotThrow() {
+            // given
+            given(redisService.getSortedSetRangeByScore(eq(INDEX_KEY), eq(0d), anyDouble(), eq((long) BATCH_SIZE)))
+                    .willReturn(tokenHashes(0, BATCH_SIZE));
+            willThrow(new RuntimeException("Redis 삭제 실패"))
+                    .given(redisService).deleteWithSortedSetMembers(anyList(), eq(INDEX_KEY), any());
+
+            // when & then
+            assertThatCode(() -> refreshTokenCacheService.cleanupExpiredTokens()).doesNotThrowAnyException();
+            then(redisService).should(times(1)).getSortedSetRangeByScore(eq(INDEX_KEY), anyDouble(), anyDouble(), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("revokeRefreshToken 메서드 테스트")
+    class RevokeRefreshTokenTest {
+
+        private static final String TOKEN_HASH = "0123456789abcdef";
+        private static final Long USER_ID = 1L;
+
+        @Test
+        @DisplayName("토큰 값에서 찾은 사용자 토큰 목록 키까지 모두 KEYS로 넘긴다")
+        void revokeRefreshToken_PassesUserTokensKeyThroughKeys() {
+            // given
+            given(redisService.get(CacheKeyUtil.refreshToken(TOKEN_HASH), RefreshTokenCacheService.RefreshTokenData.class))
+                    .willReturn(RefreshTokenCacheService.RefreshTokenData.builder().userId(USER_ID).build());
+
+            // when
+            refreshTokenCacheService.revokeRefreshToken(TOKEN_HASH);
+
+            // then
+            ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+            then(redisService).should().executeScript(any(), keys.capture(), any(Object[].class));
+            assertThat(keys.getValue()).containsExactly(
+                    CacheKeyUtil.refreshToken(TOKEN_HASH),
+                    CacheKeyUtil.blacklistToken(TOKEN_HASH),
+                    INDEX_KEY,
+                    CacheKeyUtil.userTokens(USER_ID));
+            then(tokenBlacklistFilter).should().add(TOKEN_HASH);
+        }
+
+        @Test
+        @DisplayName("토큰 값이 이미 없으면 사용자 토큰 목록 키 없이 블랙리스트 등록과 정리만 한다")
+        void revokeRefreshToken_TokenMissing_OmitsUserTokensKey() {
+            // given
+            given(redisService.get(CacheKeyUtil.refreshToken(TOKEN_HASH), RefreshTokenCacheService.RefreshTokenData.class))
+                    .willReturn(null);
+
+            // when
+            refreshTokenCacheService.revokeRefreshToken(TOKEN_HASH);
+
+            // then
+            ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+            then(redisService).should().executeScript(any(), keys.capture(), any(Object[].class));
+            assertThat(keys.getValue()).containsExactly(
+                    CacheKeyUtil.refreshToken(TOKEN_HASH),
+                    CacheKeyUtil.blacklistToken(TOKEN_HASH),
+                    INDEX_KEY);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidateUserTokens 메서드 테스트")
+    class InvalidateUserTokensTest {
+
+        private static final Long USER_ID = 1L;
+
+        @Test
+        @DisplayName("스크립트가 접근하는 토큰/블랙리스트 키를 모두 KEYS로 넘긴다")
+        void invalidateUserTokens_PassesAllKeysThroughKeys() {
+            // given
+            given(redisService.getSetMembers(CacheKeyUtil.userTokens(USER_ID))).willReturn(tokenHashes(0, 2));
+
+            // when
+            refreshTokenCacheService.invalidateUserTokens(USER_ID);
+
+            // then
+            ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+            ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+            then(redisService).should().executeScript(any(), keys.capture(), args.capture());
+            assertThat(keys.getValue()).containsExactly(
+                    CacheKeyUtil.userTokens(USER_ID),
+                    INDEX_KEY,
+                    CacheKeyUtil.refreshToken("hash-0"),
+                    CacheKeyUtil.refreshToken("hash-1"),
+                    CacheKeyUtil.blacklistToken("hash-0"),
+                    CacheKeyUtil.blacklistToken("hash-1"));
+            assertThat(args.getValue()).endsWith("hash-0", "hash-1");
+        }
+
+        @Test
+        @DisplayName("토큰 목록이 비어 있으면 스크립트를 실행하지 않는다")
+        void invalidateUserTokens_NoTokens_SkipsScript() {
+            // given
+            given(redisService.getSetMembers(CacheKeyUtil.userTokens(USER_ID))).willReturn(Set.of());
+
+            // when
+            refreshTokenCacheService.invalidateUserTokens(USER_ID);
+
+            // then
+            then(redisService).should(never()).executeScript(any(), anyList(), any(Object[].class));
+        }
+    }
+
+    private Set<Object> tokenHashes(int from, int count) {
+        return IntStream.range(from, from + count)
+                .mapToObj(i -> (Object) ("hash-" + i))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,192 @@
+package com.dolpin.domain.auth.service.cache;
+
+import com.dolpin.global.redis.service.RedisService;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenBlacklistFilter 테스트")
+class TokenBlacklistFilterTest {
+
+    private static final String PREFIX = CacheKeyUtil.blacklistTokenPrefix();
+    private static final String SCAN_PATTERN = PREFIX + "*";
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private Message message;
+
+    private TokenBlacklistFilter tokenBlacklistFilter;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklistFilter = new TokenBlacklistFilter(redisService, redisMessageListenerContainer);
+    }
+
+    @Nested
+    @DisplayName("시작 시 채우기 테스트")
+    class SeedTest {
+
+        @Test
+        @DisplayName("필터가 준비되기 전에는 항상 Redis로 확인하도록 true를 반환한다")
+        void mightBeBlacklisted_BeforeSeed_ReturnsTrue() {
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("unknown-hash")).isTrue();
+        }
+
+        @Test
+        @DisplayName("ApplicationReadyEvent 시 SCAN한 블랙리스트 키로 필터를 채운다")
+        void seed_ScansBlacklistKeys() {
+            // given
+            givenScannedHashes("hash-a", "hash-b");
+
+            // when
+            tokenBlacklistFilter.seed();
+
+            // then
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("hash-a")).isTrue();
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("hash-b")).isTrue();
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("hash-unknown")).isFalse();
+        }
+
+        @Test
+        @DisplayName("생성 시 블랙리스트 채널을 구독한다")
+        void subscribe_RegistersChannelListener() {
+            // when
+            tokenBlacklistFilter.subscribe();
+
+            // then
+            then(redisMessageListenerContainer).should().addMessageListener(
+                    tokenBlacklistFilter, new ChannelTopic(CacheKeyUtil.blacklistTokenChannel()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pub/Sub 동기화 테스트")
+    class OnMessageTest {
+
+        @Test
+        @DisplayName("다른 노드에서 전파된 블랙리스트 토큰을 필터에 추가한다")
+        void onMessage_AddsPublishedHash() {
+            // given
+            givenScannedHashes();
+            tokenBlacklistFilter.seed();
+            byte[] body = "\"hash-published\"".getBytes();
+            given(message.getBody()).willReturn(body);
+            given(redisService.deserializeMessage(body)).willReturn("hash-published");
+
+            // when
+            boolean before = tokenBlacklistFilter.mightBeBlacklisted("hash-published");
+            tokenBlacklistFilter.onMessage(message, null);
+
+            // then
+            assertThat(before).isFalse();
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("hash-published")).isTrue();
+        }
+
+        @Test
+        @DisplayName("메시지 역직렬화에 실패해도 예외를 전파하지 않는다")
+        void onMessage_DeserializeFails_IsIgnored() {
+            // given
+            given(message.getBody()).willReturn(new byte[]{1});
+            given(redisService.deserializeMessage(any())).willThrow(new IllegalStateException("invalid"));
+
+            // when
+            tokenBlacklistFilter.onMessage(message, null);
+
+            // then
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("any-hash")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("주기적 재구성 테스트")
+    class RebuildTest {
+
+        @Test
+        @DisplayName("재구성하면 Redis에서 만료된 토큰은 필터에서 빠진다")
+        void rebuild_SwapsToFreshFilter() {
+            // given
+            givenScannedHashes("hash-expired", "hash-alive");
+            tokenBlacklistFilter.seed();
+            givenScannedHashes("hash-alive");
+
+            // when
+            tokenBlacklistFilter.rebuild();
+
+            // then
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("hash-alive")).isTrue();
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("hash-expired")).isFalse();
+        }
+
+        @Test
+        @DisplayName("재구성 중에 추가된 토큰은 교체된 새 필터에도 남는다")
+        void rebuild_AddDuringScan_KeptAfterSwap() {
+            // given
+            givenScannedHashes();
+            tokenBlacklistFilter.seed();
+            willAnswer(invocation -> {
+                Consumer<String> consumer = invocation.getArgument(1);
+                consumer.accept(PREFIX + "hash-scanned");
+                // SCAN 도중 Pub/Sub으로 새 블랙리스트 토큰 도착
+                tokenBlacklistFilter.add("hash-during-rebuild");
+                return null;
+            }).given(redisService).scanKeys(eq(SCAN_PATTERN), any());
+
+            // when
+            tokenBlacklistFilter.rebuild();
+
+            // then
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("hash-scanned")).isTrue();
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("hash-during-rebuild")).isTrue();
+        }
+
+        @Test
+        @DisplayName("재구성이 실패하면 기존 필터를 그대로 유지한다")
+        void rebuild_ScanFails_KeepsPreviousFilter() {
+            // given
+            givenScannedHashes("hash-a");
+            tokenBlacklistFilter.seed();
+            willThrow(new RuntimeException("Redis 키 스캔 실패"))
+                    .given(redisService).scanKeys(eq(SCAN_PATTERN), any());
+
+            // when
+            tokenBlacklistFilter.rebuild();
+
+            // then
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("hash-a")).isTrue();
+            assertThat(tokenBlacklistFilter.mightBeBlacklisted("hash-unknown")).isFalse();
+        }
+    }
+
+    private void givenScannedHashes(String... tokenHashes) {
+        willAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            List.of(tokenHashes).forEach(tokenHash -> consumer.accept(PREFIX + tokenHash));
+            return null;
+        }).given(redisService).scanKeys(eq(SCAN_PATTERN), any());
+    }
+}
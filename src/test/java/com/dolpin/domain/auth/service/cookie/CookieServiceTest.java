@@ -17,8 +17,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseCookie;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -340,6 +342,51 @@ class CookieServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Set-Cookie 헤더 값 생성 테스트")
+    class CreateResponseCookieTest {
+
+        @Test
+        @DisplayName("액세스 토큰 쿠키는 만료 시간과 보안 속성, 도메인을 포함한다")
+        void createAccessTokenCookie_WithDomain() {
+            // given
+            ReflectionTestUtils.setField(cookieService, "cookieDomain", AuthTestConstants.TEST_COOKIE_DOMAIN);
+
+            // when
+            ResponseCookie cookie = cookieService.createAccessTokenCookie(
+                    AuthTestConstants.JWT_ACCESS_TOKEN, AuthTestConstants.ACCESS_TOKEN_EXPIRES_IN);
+
+            // then
+            assertThat(cookie.getName()).isEqualTo("access_token");
+            assertThat(cookie.getValue()).isEqualTo(AuthTestConstants.JWT_ACCESS_TOKEN);
+            assertThat(cookie.isHttpOnly()).isTrue();
+            assertThat(cookie.isSecure()).isTrue();
+            assertThat(cookie.getPath()).isEqualTo("/");
+            assertThat(cookie.getMaxAge()).isEqualTo(Duration.ofSeconds(AuthTestConstants.ACCESS_TOKEN_EXPIRES_IN));
+            assertThat(cookie.getSameSite()).isEqualTo("None");
+            assertThat(cookie.getDomain()).isEqualTo(AuthTestConstants.TEST_COOKIE_DOMAIN);
+        }
+
+        @Test
+        @DisplayName("리프레시 토큰 쿠키는 14일 동안 유지되고 도메인이 없으면 지정하지 않는다")
+        void createRefreshTokenCookie_WithoutDomain() {
+            // given
+            ReflectionTestUtils.setField(cookieService, "cookieDomain", "");
+
+            // when
+            ResponseCookie cookie = cookieService.createRefreshTokenCookie(AuthTestConstants.REFRESH_TOKEN_VALUE);
+
+            // then
+            assertThat(cookie.getName()).isEqualTo("refresh_token");
+            assertThat(cookie.getValue()).isEqualTo(AuthTestConstants.REFRESH_TOKEN_VALUE);
+            assertThat(cookie.isHttpOnly()).isTrue();
+            assertThat(cookie.isSecure()).isTrue();
+            assertThat(cookie.getMaxAge()).isEqualTo(Duration.ofDays(14));
+            assertThat(cookie.getDomain()).isNull();
+            then(response).shouldHaveNoInteractions();
+        }
+    }
+
     @Nested
     @DisplayName("로깅 검증 테스트")
     class LoggingVerificationTest {
@@ -243,6 +243,68 @@ class JwtTokenProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("getVerifiedUserId 메서드 테스트")
+    class GetVerifiedUserIdTest {
+
+        @Test
+        @DisplayName("유효한 토큰이면 사용자 ID를 반환하고 반복 조회도 같은 결과를 반환한다")
+        void getVerifiedUserId_WithValidToken_ReturnsUserId() {
+            // given
+            String token = jwtTokenProvider.generateToken(TEST_USER_ID);
+
+            // when
+            Long first = jwtTokenProvider.getVerifiedUserId(token);
+            Long second = jwtTokenProvider.getVerifiedUserId(token);
+
+            // then
+            assertThat(first).isEqualTo(TEST_USER_ID);
+            assertThat(second).isEqualTo(TEST_USER_ID);
+        }
+
+        @Test
+        @DisplayName("다른 키로 서명된 토큰이면 null을 반환한다")
+        void getVerifiedUserId_WithTokenSignedByDifferentKey_ReturnsNull() {
+            // given
+            String tokenWithDifferentKey = AuthTestHelper.createTokenWithDifferentKey(TEST_EXPIRATION_MS);
+
+            // when & then
+            assertThat(jwtTokenProvider.getVerifiedUserId(tokenWithDifferentKey)).isNull();
+        }
+
+        @Test
+        @DisplayName("만료된 토큰이면 null을 반환한다")
+        void getVerifiedUserId_WithExpiredToken_ReturnsNull() {
+            // given
+            String expiredToken = AuthTestHelper.createExpiredJwtToken(TEST_SECRET_KEY);
+
+            // when & then
+            assertThat(jwtTokenProvider.getVerifiedUserId(expiredToken)).isNull();
+        }
+
+        @Test
+        @DisplayName("한 번 검증된 토큰도 만료 시각이 지나면 거부한다")
+        void getVerifiedUserId_TokenAfterExpiry_ReturnsNull() throws InterruptedException {
+            // given
+            ReflectionTestUtils.setField(jwtTokenProvider, "expirationMs", 1000L);
+            String token = jwtTokenProvider.generateToken(TEST_USER_ID);
+            assertThat(jwtTokenProvider.getVerifiedUserId(token)).isEqualTo(TEST_USER_ID);
+
+            // when
+            Thread.sleep(1100);
+
+            // then
+            assertThat(jwtTokenProvider.getVerifiedUserId(token)).isNull();
+        }
+
+        @Test
+        @DisplayName("null 또는 빈 토큰이면 null을 반환한다")
+        void getVerifiedUserId_WithEmptyToken_ReturnsNull() {
+            assertThat(jwtTokenProvider.getVerifiedUserId(null)).isNull();
+            assertThat(jwtTokenProvider.getVerifiedUserId("")).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("getExpirationMs 메서드 테스트")
     class GetExpirationMsTest {
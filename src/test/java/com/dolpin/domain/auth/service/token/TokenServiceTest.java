@@ -14,9 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,6 +55,7 @@ class TokenServiceTest {
         @DisplayName("새 토큰을 생성하고 Redis와 DB에 저장한다")
         void createRefreshToken_CreatesNewTokenAndSavesToRedisAndDB() {
             // given
+            ReflectionTestUtils.setField(tokenService, "dbWriteEnabled", true);
             User user = AuthTestHelper.createUser();
             Token newToken = AuthTestHelper.createValidToken(user, REFRESH_TOKEN_VALUE);
 
@@ -77,17 +78,32 @@ class TokenServiceTest {
             verify(jwtTokenProvider).generateToken(user.getId());
         }
 
+        @Test
+        @DisplayName("DB 저장이 비활성화되어 있으면 Redis에만 저장한다")
+        void createRefreshToken_WithDbWriteDisabled_SavesToRedisOnly() {
+            // given
+            User user = AuthTestHelper.createUser();
+
+            given(jwtTokenProvider.generateToken(user.getId()))
+                    .willReturn(REFRESH_TOKEN_VALUE);
+
+            // when
+            Token result = tokenService.createRefreshToken(user);
+
+            // then
+            assertThat(result.getToken()).isEqualTo(REFRESH_TOKEN_VALUE);
+            verify(refreshTokenCacheService).saveRefreshToken(anyString(), any(RefreshTokenCacheService.RefreshTokenData.class));
+            verify(tokenRepository, never()).save(any(Token.class));
+        }
+
         @Test
         @DisplayName("토큰 생성 시 만료된 토큰들을 정리한다")
         void createRefreshToken_CleansUpExpiredTokens() {
             // given
             User user = AuthTestHelper.createUser();
-            Token newToken = AuthTestHelper.createValidToken(user, REFRESH_TOKEN_VALUE);
 
             given(jwtTokenProvider.generateToken(user.getId()))
                     .willReturn(REFRESH_TOKEN_VALUE);
-            given(tokenRepository.save(any(Token.class)))
-                    .willReturn(newToken);
 
             // when
             tokenService.createRefreshToken(user);
@@ -116,9 +132,7 @@ class TokenServiceTest {
                             .isRevoked(false)
                             .build();
 
-            given(refreshTokenCacheService.isValidToken(anyString()))
-                    .willReturn(true);
-            given(refreshTokenCacheService.getRefreshToken(anyString()))
+            given(refreshTokenCacheService.getValidRefreshToken(anyString()))
                     .willReturn(tokenData);
             given(jwtTokenProvider.generateToken(user.getId()))
                     .willReturn(NEW_ACCESS_TOKEN);
@@ -132,8 +146,8 @@ class TokenServiceTest {
             assertThat(result.getNewAccessToken()).isEqualTo(NEW_ACCESS_TOKEN);
             assertThat(result.getExpiresIn()).isEqualTo(TEST_EXPIRATION_MS / 1000);
 
-            verify(refreshTokenCacheService).isValidToken(anyString());
-            verify(refreshTokenCacheService).getRefreshToken(anyString());
+            verify(refreshTokenCacheService).getValidRefreshToken(anyString());
+            verify(refreshTokenCacheService, never()).getRefreshToken(anyString());
             verify(jwtTokenProvider).generateToken(user.getId());
         }
 
@@ -141,8 +155,8 @@ class TokenServiceTest {
         @DisplayName("유효하지 않은 리프레시 토큰으로 갱신 시 예외가 발생한다")
         void refreshAccessToken_WithInvalidToken_ThrowsException() {
             // given
-            given(refreshTokenCacheService.isValidToken(anyString()))
-                    .willReturn(false);
+            given(refreshTokenCacheService.getValidRefreshToken(anyString()))
+                    .willReturn(null);
 
             // when & then
             assertThatThrownBy(() -> tokenService.refreshAccessToken(NON_EXISTENT_TOKEN_VALUE))
@@ -151,18 +165,17 @@ class TokenServiceTest {
         }
 
         @Test
-        @DisplayName("토큰 데이터를 찾을 수 없는 경우 예외가 발생한다")
-        void refreshAccessToken_WithTokenDataNotFound_ThrowsException() {
+        @DisplayName("블랙리스트된 토큰은 토큰 데이터가 남아 있어도 갱신할 수 없다")
+        void refreshAccessToken_WithBlacklistedToken_ThrowsException() {
             // given
-            given(refreshTokenCacheService.isValidToken(anyString()))
-                    .willReturn(true);
-            given(refreshTokenCacheService.getRefreshToken(anyString()))
+            given(refreshTokenCacheService.getValidRefreshToken(anyString()))
                     .willReturn(null);
 
             // when & then
             assertThatThrownBy(() -> tokenService.refreshAccessToken(VALID_REFRESH_TOKEN))
                     .isInstanceOf(BusinessException.class)
-                    .hasMessageContaining("리프레시 토큰을 찾을 수 없습니다");
+                    .hasMessageContaining("리프레시 토큰이 유효하지 않습니다");
+            verify(jwtTokenProvider, never()).generateToken(any());
         }
     }
 
@@ -185,8 +198,7 @@ class TokenServiceTest {
 
             // then
             // Redis에서 블랙리스트 추가 및 삭제
-            verify(refreshTokenCacheService).blacklistToken(anyString());
-            verify(refreshTokenCacheService).deleteRefreshToken(anyString());
+            verify(refreshTokenCacheService).revokeRefreshToken(anyString());
 
             // DB에서도 무효화 (호환성)
             verify(tokenRepository).save(eq(refreshToken));
@@ -204,8 +216,7 @@ class TokenServiceTest {
 
             // then
             // Redis 무효화는 실행됨
-            verify(refreshTokenCacheService).blacklistToken(anyString());
-            verify(refreshTokenCacheService).deleteRefreshToken(anyString());
+            verify(refreshTokenCacheService).revokeRefreshToken(anyString());
 
             // DB 저장은 실행되지 않음
             verify(tokenRepository, never()).save(any(Token.class));
@@ -221,11 +232,9 @@ class TokenServiceTest {
         void invalidateUserTokens_InvalidatesAllUserTokensInRedisAndDB() {
             // given
             User user = AuthTestHelper.createUser();
-            Token token1 = AuthTestHelper.createValidToken(user, VALID_TOKEN_VALUE + "-1");
-            Token token2 = AuthTestHelper.createValidToken(user, VALID_TOKEN_VALUE + "-2");
 
-            given(tokenRepository.findAllByUser(user))
-                    .willReturn(List.of(token1, token2));
+            given(tokenRepository.revokeAllByUserId(user.getId()))
+                    .willReturn(2);
 
             // when
             tokenService.invalidateUserTokens(user);
@@ -234,8 +243,10 @@ class TokenServiceTest {
             // Redis에서 사용자 토큰 무효화
             verify(refreshTokenCacheService).invalidateUserTokens(user.getId());
 
-            // DB에서도 무효화 (호환성)
-            verify(tokenRepository).saveAll(anyList());
+            // DB에서도 단일 UPDATE로 무효화 (개별 조회/저장 없음)
+            verify(tokenRepository).revokeAllByUserId(user.getId());
+            verify(tokenRepository, never()).findAllByUser(any());
+            verify(tokenRepository, never()).saveAll(anyList());
         }
 
         @Test
@@ -244,8 +255,8 @@ class TokenServiceTest {
             // given
             User user = AuthTestHelper.createUser();
 
-            given(tokenRepository.findAllByUser(user))
-                    .willReturn(Collections.emptyList());
+            given(tokenRepository.revokeAllByUserId(user.getId()))
+                    .willReturn(0);
 
             // when
             tokenService.invalidateUserTokens(user);
@@ -254,8 +265,8 @@ class TokenServiceTest {
             // Redis 무효화는 실행됨
             verify(refreshTokenCacheService).invalidateUserTokens(user.getId());
 
-            // DB 저장도 실행됨 (빈 리스트)
-            verify(tokenRepository).saveAll(Collections.emptyList());
+            // DB 무효화도 실행됨 (영향받은 행 없음)
+            verify(tokenRepository).revokeAllByUserId(user.getId());
         }
     }
 
@@ -320,8 +331,6 @@ class TokenServiceTest {
 
             given(jwtTokenProvider.generateToken(user.getId()))
                     .willReturn(REFRESH_TOKEN_VALUE);
-            given(tokenRepository.save(any(Token.class)))
-                    .willReturn(AuthTestHelper.createValidToken(user, REFRESH_TOKEN_VALUE));
 
             // when
             tokenService.createRefreshToken(user);
@@ -339,8 +348,6 @@ class TokenServiceTest {
 
             given(jwtTokenProvider.generateToken(user.getId()))
                     .willReturn(REFRESH_TOKEN_VALUE);
-            given(tokenRepository.save(any(Token.class)))
-                    .willReturn(AuthTestHelper.createValidToken(user, REFRESH_TOKEN_VALUE));
 
             // when
             tokenService.createRefreshToken(user);
@@ -8,7 +8,8 @@ import com.dolpin.domain.comment.service.command.CommentCommandService;
 import com.dolpin.domain.comment.service.query.CommentQueryService;
 import com.dolpin.global.constants.CommentTestConstants;
 import com.dolpin.global.exception.BusinessException;
-import com.dolpin.global.redis.service.DuplicatePreventionService;
+import com.dolpin.global.redis.service.IdempotencyService;
+import com.dolpin.global.response.ApiResponse;
 import com.dolpin.global.response.ResponseStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,18 +20,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Duration;
+import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -54,7 +60,7 @@ class CommentControllerTest {
     private CommentCommandService commentCommandService;
 
     @MockitoBean
-    private DuplicatePreventionService duplicatePreventionService;
+    private IdempotencyService idempotencyService;
 
     private CommentTestFixture fixture;
 
@@ -63,34 +69,17 @@ class CommentControllerTest {
         fixture = new CommentTestFixture();
     }
 
-    // DuplicatePreventionService 기본 모킹 설정
-    private void setupSuccessfulDuplicatePreventionService() {
-        String lockKey = fixture.createLockKey();
-        String contentKey = "content:1:1:12345"; // 테스트용 content key
-
-        // generateKey 모킹
-        given(duplicatePreventionService.generateKey(
-                CommentTestConstants.TEST_USER_ID,
-                "createComment",
-                CommentTestConstants.TEST_MOMENT_ID
-        )).willReturn(lockKey);
-
-        // generateContentKey 모킹
-        given(duplicatePreventionService.generateContentKey(
-                CommentTestConstants.TEST_USER_ID,
-                CommentTestConstants.TEST_MOMENT_ID,
-                CommentTestConstants.TEST_COMMENT_CONTENT
-        )).willReturn(contentKey);
-
-        // checkDuplicateContent 모킹 (아무것도 하지 않음 - 정상 케이스)
-        willDoNothing().given(duplicatePreventionService)
-                .checkDuplicateContent(eq(contentKey), anyString(), any(Duration.class));
-
-        // executeWithLock 모킹
-        given(duplicatePreventionService.executeWithLock(eq(lockKey), eq(0), eq(3), any()))
+    // IdempotencyService 기본 모킹 설정 (선점 성공 - action 실행)
+    private void setupSuccessfulIdempotencyService(Long userId) {
+        String requestKey = "idempotency:createComment:" + userId;
+
+        given(idempotencyService.generateKey(eq("createComment"), eq(userId), any(), any(Object[].class)))
+                .willReturn(requestKey);
+
+        given(idempotencyService.execute(eq(requestKey), eq(Duration.ofMinutes(1)), any()))
                 .willAnswer(invocation -> {
-                    DuplicatePreventionService.LockAction<?> action = invocation.getArgument(3);
-                    return action.execute();
+                    Supplier<?> action = invocation.getArgument(2);
+                    return action.get();
                 });
     }
 
@@ -173,6 +162,51 @@ class CommentControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("대댓글 목록 조회")
+    class GetRepliesTest {
+
+        @Test
+        @DisplayName("성공 - 커서 페이지네이션")
+        @WithMockUser(username = "1")
+        void getReplies_Success_WithCursor() throws Exception {
+            // given
+            CommentListResponse response = fixture.createCommentListResponseWithCursor();
+            given(commentQueryService.getRepliesByCommentId(
+                    CommentTestConstants.TEST_MOMENT_ID,
+                    CommentTestConstants.PARENT_COMMENT_ID,
+                    CommentTestConstants.CUSTOM_PAGE_LIMIT,
+                    CommentTestConstants.TEST_CURSOR,
+                    CommentTestConstants.TEST_USER_ID
+            )).willReturn(response);
+
+            // when & then
+            mockMvc.perform(get(CommentTestConstants.COMMENT_REPLIES_PATH,
+                            CommentTestConstants.TEST_MOMENT_ID, CommentTestConstants.PARENT_COMMENT_ID)
+                            .param(CommentTestConstants.LIMIT_PARAM, String.valueOf(CommentTestConstants.CUSTOM_PAGE_LIMIT))
+                            .param(CommentTestConstants.CURSOR_PARAM, CommentTestConstants.TEST_CURSOR))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath(CommentTestConstants.MESSAGE_JSON_PATH).value(CommentTestConstants.GET_REPLY_SUCCESS_MESSAGE))
+                    .andExpect(jsonPath(CommentTestConstants.LIMIT_JSON_PATH).value(CommentTestConstants.CUSTOM_PAGE_LIMIT));
+        }
+
+        @Test
+        @DisplayName("실패 - 대댓글을 기준으로 조회")
+        @WithMockUser(username = "1")
+        void getReplies_Fail_ReplyTarget() throws Exception {
+            // given
+            given(commentQueryService.getRepliesByCommentId(anyLong(), anyLong(), any(), any(), anyLong()))
+                    .willThrow(new BusinessException(ResponseStatus.INVALID_PARAMETER));
+
+            // when & then
+            mockMvc.perform(get(CommentTestConstants.COMMENT_REPLIES_PATH,
+                            CommentTestConstants.TEST_MOMENT_ID, CommentTestConstants.REPLY_COMMENT_ID))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("댓글 생성")
     class CreateCommentTest {
@@ -185,7 +219,7 @@ class CommentControllerTest {
             CommentCreateRequest request = fixture.createCommentCreateRequest();
             CommentCreateResponse response = fixture.createCommentCreateResponse();
 
-            setupSuccessfulDuplicatePreventionService();
+            setupSuccessfulIdempotencyService(CommentTestConstants.TEST_USER_ID);
             given(commentCommandService.createComment(any(), any(), any())).willReturn(response);
 
             // when & then
@@ -210,7 +244,7 @@ class CommentControllerTest {
             CommentCreateRequest request = fixture.createReplyCommentCreateRequest();
             CommentCreateResponse response = fixture.createReplyCommentCreateResponse();
 
-            setupSuccessfulDuplicatePreventionService();
+            setupSuccessfulIdempotencyService(CommentTestConstants.TEST_USER_ID);
             given(commentCommandService.createComment(any(), any(), any())).willReturn(response);
 
             // when & then
@@ -226,21 +260,17 @@ class CommentControllerTest {
         }
 
         @Test
-        @DisplayName("실패 - 중복 요청")
+        @DisplayName("실패 - 동일 요청 처리 중")
         @WithMockUser(username = "1")
-        void createComment_Fail_DuplicateRequest() throws Exception {
+        void createComment_Fail_DuplicateRequestInProgress() throws Exception {
             // given
             CommentCreateRequest request = fixture.createCommentCreateRequest();
-            String lockKey = fixture.createLockKey();
-
-            given(duplicatePreventionService.generateKey(
-                    CommentTestConstants.TEST_USER_ID,
-                    "createComment",
-                    CommentTestConstants.TEST_MOMENT_ID
-            )).willReturn(lockKey);
+            String requestKey = "idempotency:createComment:1";
 
-            given(duplicatePreventionService.executeWithLock(eq(lockKey), eq(0), eq(3), any()))
-                    .willThrow(new RuntimeException("동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+            given(idempotencyService.generateKey(eq("createComment"), eq(CommentTestConstants.TEST_USER_ID), any(), any(Object[].class)))
+                    .willReturn(requestKey);
+            given(idempotencyService.execute(eq(requestKey), any(Duration.class), any()))
+                    .willThrow(new BusinessException(ResponseStatus.DUPLICATE_REQUEST));
 
             // when & then
             mockMvc.perform(post(CommentTestConstants.COMMENTS_BASE_PATH, CommentTestConstants.TEST_MOMENT_ID)
@@ -248,49 +278,38 @@ class CommentControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
                     .andDo(print())
-                    .andExpect(status().isInternalServerError());
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.code").value("DUPLICATE_REQUEST"));
+
+            verify(commentCommandService, never()).createComment(any(), any(), any());
         }
 
         @Test
-        @DisplayName("실패 - 중복 내용")
+        @DisplayName("성공 - 중복 내용은 저장된 응답 재전송")
         @WithMockUser(username = "1")
-        void createComment_Fail_DuplicateContent() throws Exception {
+        void createComment_DuplicateContent_ReplaysStoredResponse() throws Exception {
             // given
             CommentCreateRequest request = fixture.createCommentCreateRequest();
-            String lockKey = fixture.createLockKey();
-            String contentKey = "content:1:1:12345";
-
-            given(duplicatePreventionService.generateKey(
-                    CommentTestConstants.TEST_USER_ID,
-                    "createComment",
-                    CommentTestConstants.TEST_MOMENT_ID
-            )).willReturn(lockKey);
-
-            given(duplicatePreventionService.generateContentKey(
-                    CommentTestConstants.TEST_USER_ID,
-                    CommentTestConstants.TEST_MOMENT_ID,
-                    CommentTestConstants.TEST_COMMENT_CONTENT
-            )).willReturn(contentKey);
-
-            given(duplicatePreventionService.executeWithLock(eq(lockKey), eq(0), eq(3), any()))
-                    .willAnswer(invocation -> {
-                        DuplicatePreventionService.LockAction<?> action = invocation.getArgument(3);
-                        return action.execute();
-                    });
+            CommentCreateResponse response = fixture.createCommentCreateResponse();
+            String requestKey = "idempotency:createComment:1";
 
-            // checkDuplicateContent에서 예외 발생
-            willThrow(new IllegalArgumentException("동일한 댓글이 이미 등록되어 있습니다."))
-                    .given(duplicatePreventionService)
-                    .checkDuplicateContent(eq(contentKey), anyString(), any(Duration.class));
+            given(idempotencyService.generateKey(eq("createComment"), eq(CommentTestConstants.TEST_USER_ID), any(), any(Object[].class)))
+                    .willReturn(requestKey);
+            given(idempotencyService.execute(eq(requestKey), any(Duration.class), any()))
+                    .willAnswer(invocation -> ResponseEntity.status(HttpStatus.CREATED)
+                            .body(ApiResponse.success(CommentTestConstants.COMMENT_CREATED_MESSAGE, response)));
 
-            // when & then - IllegalArgumentException은 400으로 처리됨
+            // when & then
             mockMvc.perform(post(CommentTestConstants.COMMENTS_BASE_PATH, CommentTestConstants.TEST_MOMENT_ID)
                             .with(csrf())
+                            .header(IdempotencyService.HEADER, "client-key-1")
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
                     .andDo(print())
-                    .andExpect(status().isBadRequest()) // 400으로 변경
-                    .andExpect(jsonPath("$.message").value("동일한 댓글이 이미 등록되어 있습니다."));
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath(CommentTestConstants.COMMENT_ID_JSON_PATH).value(CommentTestConstants.TEST_COMMENT_ID));
+
+            verify(commentCommandService, never()).createComment(any(), any(), any());
         }
 
         @Test
@@ -331,22 +350,7 @@ class CommentControllerTest {
         void createComment_Fail_PrivateMomentAccess() throws Exception {
             // given
             CommentCreateRequest request = fixture.createCommentCreateRequest();
-            String lockKey = fixture.createOtherUserLockKey();
-
-            given(duplicatePreventionService.generateKey(999L, "createComment", CommentTestConstants.TEST_MOMENT_ID))
-                    .willReturn(lockKey);
-
-            given(duplicatePreventionService.generateContentKey(999L, CommentTestConstants.TEST_MOMENT_ID, CommentTestConstants.TEST_COMMENT_CONTENT))
-                    .willReturn("content:999:1:12345");
-
-            willDoNothing().given(duplicatePreventionService)
-                    .checkDuplicateContent(anyString(), anyString(), any(Duration.class));
-
-            given(duplicatePreventionService.executeWithLock(eq(lockKey), eq(0), eq(3), any()))
-                    .willAnswer(invocation -> {
-                        DuplicatePreventionService.LockAction<?> action = invocation.getArgument(3);
-                        return action.execute();
-                    });
+            setupSuccessfulIdempotencyService(999L);
 
             given(commentCommandService.createComment(anyLong(), any(), anyLong()))
                     .willThrow(new BusinessException(ResponseStatus.FORBIDDEN));
@@ -367,7 +371,7 @@ class CommentControllerTest {
             // given
             CommentCreateRequest request = fixture.createInvalidParentCommentCreateRequest();
 
-            setupSuccessfulDuplicatePreventionService();
+            setupSuccessfulIdempotencyService(CommentTestConstants.TEST_USER_ID);
             given(commentCommandService.createComment(anyLong(), any(), anyLong()))
                     .willThrow(new BusinessException(ResponseStatus.INVALID_PARAMETER));
 
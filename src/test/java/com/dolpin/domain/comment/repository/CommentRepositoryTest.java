@@ -0,0 +1,210 @@
+package com.dolpin.domain.comment.repository;
+
+import com.dolpin.domain.comment.entity.Comment;
+import com.dolpin.global.constants.CommentTestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@DisplayName("CommentRepository 테스트")
+class CommentRepositoryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("dolpin_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.properties.hibernate.spatial.enabled", () -> "true");
+    }
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Comment rootA;
+    private Comment rootB;
+    private Comment replyA1;
+    private Comment replyB1;
+    private Comment replyA2;
+
+    @BeforeEach
+    void setUp() {
+        // 작성 순서: A, B, A의 답글, B의 답글, A의 두 번째 답글
+        rootA = persistRoot("A");
+        rootB = persistRoot("B");
+        replyA1 = persistReply(rootA, "A-1");
+        replyB1 = persistReply(rootB, "B-1");
+        replyA2 = persistReply(rootA, "A-2");
+
+        Comment deleted = persistReply(rootA, "삭제된 답글");
+        deleted.softDelete();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("최상위 댓글 목록에는 루트 댓글만 작성 순으로 조회된다")
+    void findRootsByMomentId_ReturnsOnlyRoots() {
+        // when
+        List<Comment> comments = commentRepository.findRootsByMomentId(CommentTestConstants.TEST_MOMENT_ID, 10);
+
+        // then
+        assertThat(comments).extracting(Comment::getId)
+                .containsExactly(rootA.getId(), rootB.getId());
+    }
+
+    @Test
+    @DisplayName("최상위 댓글은 keyset 커서로 누락/중복 없이 페이지를 넘긴다")
+    void findRootsByMomentIdAfter_PagesWithoutGaps() {
+        // given
+        List<Long> collected = new ArrayList<>();
+
+        // when
+        List<Comment> page = commentRepository.findRootsByMomentId(CommentTestConstants.TEST_MOMENT_ID, 1);
+        while (!page.isEmpty()) {
+            page.forEach(comment -> collected.add(comment.getId()));
+            Comment last = page.get(page.size() - 1);
+            page = commentRepository.findRootsByMomentIdAfter(
+                    CommentTestConstants.TEST_MOMENT_ID, last.getCreatedAt(), last.getId(), 1);
+        }
+
+        // then
+        assertThat(collected).containsExactly(rootA.getId(), rootB.getId());
+    }
+
+    @Test
+    @DisplayName("대댓글 미리보기는 스레드마다 지정한 개수까지만 조회된다")
+    void findReplyPreviews_LimitsPerThread() {
+        // when
+        List<Comment> previews = commentRepository.findReplyPreviews(List.of(rootA.getId(), rootB.getId()), 1);
+
+        // then
+        assertThat(previews).extracting(Comment::getId)
+                .containsExactly(replyA1.getId(), replyB1.getId());
+    }
+
+    @Test
+    @DisplayName("대댓글 목록은 해당 스레드의 삭제되지 않은 대댓글만 keyset 커서로 조회한다")
+    void findRepliesByThread_PagesWithinThread() {
+        // given
+        Comment root = commentRepository.findById(rootA.getId()).orElseThrow();
+
+        // when
+        List<Comment> firstPage = commentRepository.findRepliesByThread(
+                CommentTestConstants.TEST_MOMENT_ID, root.getThreadCreatedAt(), root.getId(), 1);
+        Comment last = firstPage.get(0);
+        List<Comment> secondPage = commentRepository.findRepliesByThreadAfter(
+                CommentTestConstants.TEST_MOMENT_ID, root.getThreadCreatedAt(), root.getId(),
+                last.getCreatedAt(), last.getId(), 10);
+
+        // then
+        assertThat(firstPage).extracting(Comment::getId).containsExactly(replyA1.getId());
+        assertThat(secondPage).extracting(Comment::getId).containsExactly(replyA2.getId());
+    }
+
+    @Test
+    @DisplayName("대댓글 수는 증감 쿼리로 갱신되고 0 미만으로 내려가지 않는다")
+    void replyCount_AdjustsAtomically() {
+        // when
+        commentRepository.adjustReplyCount(rootB.getId(), 1);
+        commentRepository.decrementThreadReplyCount(replyB1.getId());
+        commentRepository.decrementThreadReplyCount(replyB1.getId());
+        int rootUpdated = commentRepository.decrementThreadReplyCount(rootB.getId());
+        entityManager.clear();
+
+        // then
+        assertThat(commentRepository.findById(rootB.getId()).orElseThrow().getReplyCount()).isZero();
+        assertThat(rootUpdated).isZero();
+    }
+
+    @Test
+    @DisplayName("대댓글에 단 답글을 삭제하면 직속 부모가 아닌 스레드 루트 댓글의 대댓글 수가 줄어든다")
+    void decrementThreadReplyCount_NestedReply_DecrementsThreadRoot() {
+        // given
+        Comment nested = persistReply(replyA1, "A-1-1");
+        commentRepository.adjustReplyCount(rootA.getId(), 3);
+        entityManager.clear();
+
+        // when
+        int updated = commentRepository.decrementThreadReplyCount(nested.getId());
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(commentRepository.findById(rootA.getId()).orElseThrow().getReplyCount()).isEqualTo(2L);
+        assertThat(commentRepository.findById(replyA1.getId()).orElseThrow().getReplyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("루트 댓글은 INSERT 시점에 자기 ID를 스레드 루트로 기록한다")
+    void persistRoot_WritesThreadRootIdInInsert() {
+        // given - 마이그레이션과 같은 NOT NULL 제약 (INSERT 후 UPDATE로 채우면 여기서 실패)
+        entityManager.getEntityManager()
+                .createNativeQuery("ALTER TABLE comment ALTER COLUMN thread_root_id SET NOT NULL")
+                .executeUpdate();
+
+        // when
+        Comment root = persistRoot("C");
+
+        // then
+        Object threadRootId = entityManager.getEntityManager()
+                .createNativeQuery("SELECT thread_root_id FROM comment WHERE id = :id")
+                .setParameter("id", root.getId())
+                .getSingleResult();
+        assertThat(((Number) threadRootId).longValue()).isEqualTo(root.getId());
+        assertThat(root.getThreadRootId()).isEqualTo(root.getId());
+    }
+
+    private Comment persistRoot(String content) {
+        Comment comment = Comment.builder()
+                .userId(CommentTestConstants.TEST_USER_ID)
+                .momentId(CommentTestConstants.TEST_MOMENT_ID)
+                .content(content)
+                .depth(CommentTestConstants.ROOT_COMMENT_DEPTH)
+                .build();
+        entityManager.persist(comment);
+        entityManager.flush();
+        return comment;
+    }
+
+    private Comment persistReply(Comment parent, String content) {
+        Comment comment = Comment.builder()
+                .userId(CommentTestConstants.OTHER_USER_ID)
+                .momentId(CommentTestConstants.TEST_MOMENT_ID)
+                .content(content)
+                .parentComment(parent)
+                .depth(CommentTestConstants.REPLY_COMMENT_DEPTH)
+                .threadRootId(parent.getThreadRootId())
+                .threadCreatedAt(parent.getThreadCreatedAt())
+                .build();
+        entityManager.persist(comment);
+        entityManager.flush();
+        return comment;
+    }
+}
@@ -0,0 +1,63 @@
+package com.dolpin.domain.comment.service.query;
+
+import com.dolpin.domain.comment.entity.Comment;
+import com.dolpin.global.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CommentCursor 테스트")
+class CommentCursorTest {
+
+    @Test
+    @DisplayName("커서는 스레드 정렬 키 전체를 그대로 복원한다")
+    void encodeAndDecode() {
+        // given
+        LocalDateTime threadCreatedAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 30, 15, 654_321_000);
+        Comment reply = Comment.builder()
+                .id(42L)
+                .threadRootId(7L)
+                .threadCreatedAt(threadCreatedAt)
+                .createdAt(createdAt)
+                .build();
+
+        // when
+        CommentCursor cursor = CommentCursor.decode(CommentCursor.from(reply).encode());
+
+        // then
+        assertThat(cursor.getThreadCreatedAt()).isEqualTo(threadCreatedAt);
+        assertThat(cursor.getThreadRootId()).isEqualTo(7L);
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)")
+    void decode_Blank() {
+        assertThat(CommentCursor.decode(null)).isNull();
+        assertThat(CommentCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("기존 시각 단독 커서는 해당 시각의 스레드까지 건너뛴다")
+    void decode_LegacyTimestamp() {
+        // when
+        CommentCursor cursor = CommentCursor.decode("2024-01-01T00:00:00.000Z");
+
+        // then
+        assertThat(cursor.getThreadCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThat(cursor.getThreadRootId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 예외")
+    void decode_Invalid() {
+        assertThatThrownBy(() -> CommentCursor.decode("not-a-cursor"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -3,6 +3,7 @@ package com.dolpin.domain.comment.service.query;
 import com.dolpin.domain.comment.dto.response.CommentListResponse;
 import com.dolpin.domain.comment.entity.Comment;
 import com.dolpin.domain.comment.repository.CommentRepository;
+import com.dolpin.domain.comment.service.cache.CommentPageCacheService;
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.user.entity.User;
@@ -10,6 +11,7 @@ import com.dolpin.domain.user.service.UserQueryService;
 import com.dolpin.global.constants.CommentTestConstants;
 import com.dolpin.global.exception.BusinessException;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -19,11 +21,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CommentQueryService 테스트")
@@ -41,20 +50,32 @@ class CommentQueryServiceImplTest {
     @Mock
     private UserQueryService userQueryService;
 
+    @Mock
+    private CommentPageCacheService commentPageCacheService;
+
+    // 첫 페이지 캐시 미스 - loader로 재계산
+    private void givenFirstPageCacheMiss() {
+        given(commentPageCacheService.getFirstPage(anyLong(), anyInt(), any()))
+                .willAnswer(invocation -> {
+                    Supplier<?> loader = invocation.getArgument(2);
+                    return loader.get();
+                });
+    }
+
     @Test
     @DisplayName("댓글 목록 조회 성공 - 첫 페이지")
     void getCommentsByMomentId_FirstPage_Success() {
         // given
+        givenFirstPageCacheMiss();
         Moment publicMoment = createPublicMoment();
         List<Comment> comments = createCommentList();
         List<User> users = createUserList();
 
         given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
                 .willReturn(Optional.of(publicMoment));
-        given(commentRepository.findByMomentIdAndNotDeletedWithPagination(
+        given(commentRepository.findRootsByMomentId(
                 CommentTestConstants.TEST_MOMENT_ID,
-                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1,
-                CommentTestConstants.TEST_OFFSET
+                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1
         )).willReturn(comments);
         given(userQueryService.getUserById(CommentTestConstants.TEST_USER_ID))
                 .willReturn(users.get(0));
@@ -82,10 +103,9 @@ class CommentQueryServiceImplTest {
         assertThat(firstComment.getDepth()).isEqualTo(CommentTestConstants.ROOT_COMMENT_DEPTH);
         assertThat(firstComment.getIsOwner()).isEqualTo(CommentTestConstants.IS_OWNER);
 
-        then(commentRepository).should().findByMomentIdAndNotDeletedWithPagination(
+        then(commentRepository).should().findRootsByMomentId(
                 CommentTestConstants.TEST_MOMENT_ID,
-                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1,
-                CommentTestConstants.TEST_OFFSET
+                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1
         );
     }
 
@@ -99,9 +119,11 @@ class CommentQueryServiceImplTest {
 
         given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
                 .willReturn(Optional.of(publicMoment));
-        given(commentRepository.findByMomentIdAndNotDeletedWithCursorNative(
+        LocalDateTime legacyCursorTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        given(commentRepository.findRootsByMomentIdAfter(
                 CommentTestConstants.TEST_MOMENT_ID,
-                CommentTestConstants.TEST_CURSOR,
+                legacyCursorTime,
+                Long.MAX_VALUE,
                 CommentTestConstants.DEFAULT_PAGE_LIMIT + 1
         )).willReturn(comments);
         given(userQueryService.getUserById(CommentTestConstants.TEST_USER_ID))
@@ -121,9 +143,10 @@ class CommentQueryServiceImplTest {
         assertThat(response.getComments()).hasSize(CommentTestConstants.COMMENT_LIST_SIZE);
         assertThat(response.getMeta().getPagination().getLimit()).isEqualTo(CommentTestConstants.DEFAULT_PAGE_LIMIT);
 
-        then(commentRepository).should().findByMomentIdAndNotDeletedWithCursorNative(
+        then(commentRepository).should().findRootsByMomentIdAfter(
                 CommentTestConstants.TEST_MOMENT_ID,
-                CommentTestConstants.TEST_CURSOR,
+                legacyCursorTime,
+                Long.MAX_VALUE,
                 CommentTestConstants.DEFAULT_PAGE_LIMIT + 1
         );
     }
@@ -132,16 +155,16 @@ class CommentQueryServiceImplTest {
     @DisplayName("댓글 목록 조회 성공 - hasNext가 true인 경우")
     void getCommentsByMomentId_HasNext_Success() {
         // given
+        givenFirstPageCacheMiss();
         Moment publicMoment = createPublicMoment();
         List<Comment> commentsWithNext = createCommentListWithNext();
         List<User> users = createUserList();
 
         given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
                 .willReturn(Optional.of(publicMoment));
-        given(commentRepository.findByMomentIdAndNotDeletedWithPagination(
+        given(commentRepository.findRootsByMomentId(
                 CommentTestConstants.TEST_MOMENT_ID,
-                CommentTestConstants.CUSTOM_PAGE_LIMIT + 1,
-                CommentTestConstants.TEST_OFFSET
+                CommentTestConstants.CUSTOM_PAGE_LIMIT + 1
         )).willReturn(commentsWithNext);
         given(userQueryService.getUserById(CommentTestConstants.TEST_USER_ID))
                 .willReturn(users.get(0));
@@ -166,15 +189,15 @@ class CommentQueryServiceImplTest {
     @DisplayName("댓글 목록 조회 성공 - 빈 목록")
     void getCommentsByMomentId_EmptyList_Success() {
         // given
+        givenFirstPageCacheMiss();
         Moment publicMoment = createPublicMoment();
         List<Comment> emptyComments = List.of();
 
         given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
                 .willReturn(Optional.of(publicMoment));
-        given(commentRepository.findByMomentIdAndNotDeletedWithPagination(
+        given(commentRepository.findRootsByMomentId(
                 CommentTestConstants.TEST_MOMENT_ID,
-                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1,
-                CommentTestConstants.TEST_OFFSET
+                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1
         )).willReturn(emptyComments);
 
         // when
@@ -192,20 +215,24 @@ class CommentQueryServiceImplTest {
     }
 
     @Test
-    @DisplayName("댓글 목록 조회 성공 - 대댓글 포함")
+    @DisplayName("댓글 목록 조회 성공 - 대댓글은 최상위 댓글 아래에 접혀서 포함")
     void getCommentsByMomentId_WithReplies_Success() {
         // given
+        givenFirstPageCacheMiss();
         Moment publicMoment = createPublicMoment();
         List<Comment> commentsWithReplies = createCommentsWithReplies();
+        Comment parent = commentsWithReplies.get(0);
+        Comment reply = commentsWithReplies.get(1);
         List<User> users = createUserList();
 
         given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
                 .willReturn(Optional.of(publicMoment));
-        given(commentRepository.findByMomentIdAndNotDeletedWithPagination(
+        given(commentRepository.findRootsByMomentId(
                 CommentTestConstants.TEST_MOMENT_ID,
-                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1,
-                CommentTestConstants.TEST_OFFSET
-        )).willReturn(commentsWithReplies);
+                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1
+        )).willReturn(List.of(parent));
+        given(commentRepository.findReplyPreviews(List.of(CommentTestConstants.PARENT_COMMENT_ID), 3))
+                .willReturn(List.of(reply));
         given(userQueryService.getUserById(CommentTestConstants.TEST_USER_ID))
                 .willReturn(users.get(0));
         given(userQueryService.getUserById(CommentTestConstants.OTHER_USER_ID))
@@ -220,19 +247,226 @@ class CommentQueryServiceImplTest {
         );
 
         // then
-        assertThat(response.getComments()).hasSize(2);
+        assertThat(response.getComments()).hasSize(1);
 
         // 부모 댓글 검증
         CommentListResponse.CommentDto parentComment = response.getComments().get(0);
         assertThat(parentComment.getId()).isEqualTo(CommentTestConstants.PARENT_COMMENT_ID);
         assertThat(parentComment.getDepth()).isEqualTo(CommentTestConstants.ROOT_COMMENT_DEPTH);
         assertThat(parentComment.getParentCommentId()).isNull();
+        assertThat(parentComment.getReplyCount()).isEqualTo(1L);
 
-        // 대댓글 검증
-        CommentListResponse.CommentDto replyComment = response.getComments().get(1);
+        // 대댓글 미리보기 검증
+        assertThat(parentComment.getReplies()).hasSize(1);
+        CommentListResponse.CommentDto replyComment = parentComment.getReplies().get(0);
         assertThat(replyComment.getId()).isEqualTo(CommentTestConstants.REPLY_COMMENT_ID);
         assertThat(replyComment.getDepth()).isEqualTo(CommentTestConstants.REPLY_COMMENT_DEPTH);
         assertThat(replyComment.getParentCommentId()).isEqualTo(CommentTestConstants.PARENT_COMMENT_ID);
+        assertThat(replyComment.getReplies()).isNull();
+    }
+
+    @Test
+    @DisplayName("대댓글이 없는 스레드만 있으면 미리보기를 조회하지 않는다")
+    void getCommentsByMomentId_NoReplies_SkipsPreviewQuery() {
+        // given
+        givenFirstPageCacheMiss();
+        Moment publicMoment = createPublicMoment();
+        List<Comment> comments = createCommentList();
+        List<User> users = createUserList();
+
+        given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
+                .willReturn(Optional.of(publicMoment));
+        given(commentRepository.findRootsByMomentId(
+                CommentTestConstants.TEST_MOMENT_ID,
+                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1
+        )).willReturn(comments);
+        given(userQueryService.getUserById(CommentTestConstants.TEST_USER_ID))
+                .willReturn(users.get(0));
+        given(userQueryService.getUserById(CommentTestConstants.OTHER_USER_ID))
+                .willReturn(users.get(1));
+
+        // when
+        CommentListResponse response = commentQueryService.getCommentsByMomentId(
+                CommentTestConstants.TEST_MOMENT_ID,
+                CommentTestConstants.DEFAULT_PAGE_LIMIT,
+                null,
+                CommentTestConstants.TEST_USER_ID
+        );
+
+        // then
+        assertThat(response.getComments()).allSatisfy(comment -> {
+            assertThat(comment.getReplyCount()).isZero();
+            assertThat(comment.getReplies()).isEmpty();
+        });
+        then(commentRepository).should(never()).findReplyPreviews(anyList(), anyInt());
+    }
+
+    @Test
+    @DisplayName("첫 페이지 캐시 적중 시 DB 조회 없이 조회자 기준으로 isOwner를 채운다")
+    void getCommentsByMomentId_FirstPageCacheHit_AppliesOwnership() {
+        // given
+        CommentListResponse.CommentDto reply = CommentListResponse.CommentDto.builder()
+                .id(CommentTestConstants.REPLY_COMMENT_ID)
+                .user(CommentListResponse.UserDto.builder().id(CommentTestConstants.TEST_USER_ID).build())
+                .isOwner(false)
+                .build();
+        CommentListResponse.CommentDto root = CommentListResponse.CommentDto.builder()
+                .id(CommentTestConstants.PARENT_COMMENT_ID)
+                .user(CommentListResponse.UserDto.builder().id(CommentTestConstants.OTHER_USER_ID).build())
+                .isOwner(false)
+                .replyCount(1L)
+                .replies(List.of(reply))
+                .build();
+        CommentListResponse cachedPage = CommentListResponse.builder()
+                .comments(List.of(root))
+                .build();
+
+        given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
+                .willReturn(Optional.of(createPublicMoment()));
+        given(commentPageCacheService.getFirstPage(
+                eq(CommentTestConstants.TEST_MOMENT_ID), eq(CommentTestConstants.DEFAULT_PAGE_LIMIT), any()))
+                .willReturn(cachedPage);
+
+        // when
+        CommentListResponse response = commentQueryService.getCommentsByMomentId(
+                CommentTestConstants.TEST_MOMENT_ID,
+                null,
+                null,
+                CommentTestConstants.TEST_USER_ID
+        );
+
+        // then
+        CommentListResponse.CommentDto rootDto = response.getComments().get(0);
+        assertThat(rootDto.getIsOwner()).isFalse();
+        assertThat(rootDto.getReplies().get(0).getIsOwner()).isTrue();
+        then(commentRepository).shouldHaveNoInteractions();
+    }
+
+    @Nested
+    @DisplayName("대댓글 목록 조회")
+    class GetRepliesTest {
+
+        @Test
+        @DisplayName("최상위 댓글의 대댓글을 스레드 키로 조회한다")
+        void getRepliesByCommentId_Success() {
+            // given
+            List<Comment> commentsWithReplies = createCommentsWithReplies();
+            Comment parent = commentsWithReplies.get(0);
+            Comment reply = commentsWithReplies.get(1);
+            List<User> users = createUserList();
+
+            given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(createPublicMoment()));
+            given(commentRepository.findByIdAndMomentIdAndNotDeleted(
+                    CommentTestConstants.PARENT_COMMENT_ID, CommentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(parent));
+            given(commentRepository.findRepliesByThread(
+                    CommentTestConstants.TEST_MOMENT_ID,
+                    parent.getThreadCreatedAt(),
+                    CommentTestConstants.PARENT_COMMENT_ID,
+                    CommentTestConstants.DEFAULT_PAGE_LIMIT + 1
+            )).willReturn(List.of(reply));
+            given(userQueryService.getUserById(CommentTestConstants.TEST_USER_ID))
+                    .willReturn(users.get(0));
+
+            // when
+            CommentListResponse response = commentQueryService.getRepliesByCommentId(
+                    CommentTestConstants.TEST_MOMENT_ID,
+                    CommentTestConstants.PARENT_COMMENT_ID,
+                    null,
+                    null,
+                    CommentTestConstants.TEST_USER_ID
+            );
+
+            // then
+            assertThat(response.getComments()).extracting(CommentListResponse.CommentDto::getId)
+                    .containsExactly(CommentTestConstants.REPLY_COMMENT_ID);
+            assertThat(response.getMeta().getPagination().getHasNext()).isFalse();
+            assertThat(response.getLinks().getSelf().getHref())
+                    .startsWith("/api/v1/moments/" + CommentTestConstants.TEST_MOMENT_ID
+                            + "/comments/" + CommentTestConstants.PARENT_COMMENT_ID + "/replies");
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 커서의 (created_at, id) 이후 대댓글을 조회한다")
+        void getRepliesByCommentId_WithCursor() {
+            // given
+            Comment parent = createCommentsWithReplies().get(0);
+            LocalDateTime legacyCursorTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+            given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(createPublicMoment()));
+            given(commentRepository.findByIdAndMomentIdAndNotDeleted(
+                    CommentTestConstants.PARENT_COMMENT_ID, CommentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(parent));
+            given(commentRepository.findRepliesByThreadAfter(
+                    CommentTestConstants.TEST_MOMENT_ID,
+                    parent.getThreadCreatedAt(),
+                    CommentTestConstants.PARENT_COMMENT_ID,
+                    legacyCursorTime,
+                    Long.MAX_VALUE,
+                    CommentTestConstants.DEFAULT_PAGE_LIMIT + 1
+            )).willReturn(List.of());
+
+            // when
+            CommentListResponse response = commentQueryService.getRepliesByCommentId(
+                    CommentTestConstants.TEST_MOMENT_ID,
+                    CommentTestConstants.PARENT_COMMENT_ID,
+                    CommentTestConstants.DEFAULT_PAGE_LIMIT,
+                    CommentTestConstants.TEST_CURSOR,
+                    CommentTestConstants.TEST_USER_ID
+            );
+
+            // then
+            assertThat(response.getComments()).isEmpty();
+            assertThat(response.getMeta().getPagination().getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("대댓글을 기준으로 대댓글 목록을 조회하면 예외")
+        void getRepliesByCommentId_ReplyTarget_ThrowsException() {
+            // given
+            Comment reply = createCommentsWithReplies().get(1);
+
+            given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(createPublicMoment()));
+            given(commentRepository.findByIdAndMomentIdAndNotDeleted(
+                    CommentTestConstants.REPLY_COMMENT_ID, CommentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(reply));
+
+            // when & then
+            assertThatThrownBy(() -> commentQueryService.getRepliesByCommentId(
+                    CommentTestConstants.TEST_MOMENT_ID,
+                    CommentTestConstants.REPLY_COMMENT_ID,
+                    null,
+                    null,
+                    CommentTestConstants.TEST_USER_ID
+            ))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("최상위 댓글");
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 댓글의 대댓글 목록 조회 시 예외")
+        void getRepliesByCommentId_CommentNotFound_ThrowsException() {
+            // given
+            given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(createPublicMoment()));
+            given(commentRepository.findByIdAndMomentIdAndNotDeleted(
+                    CommentTestConstants.PARENT_COMMENT_ID, CommentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> commentQueryService.getRepliesByCommentId(
+                    CommentTestConstants.TEST_MOMENT_ID,
+                    CommentTestConstants.PARENT_COMMENT_ID,
+                    null,
+                    null,
+                    CommentTestConstants.TEST_USER_ID
+            ))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("댓글을 찾을 수 없습니다");
+        }
     }
 
     @Test
@@ -277,16 +511,16 @@ class CommentQueryServiceImplTest {
     @DisplayName("limit 값 검증 - null인 경우 기본값 사용")
     void getCommentsByMomentId_NullLimit_UsesDefault() {
         // given
+        givenFirstPageCacheMiss();
         Moment publicMoment = createPublicMoment();
         List<Comment> comments = createCommentList();
         List<User> users = createUserList();
 
         given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
                 .willReturn(Optional.of(publicMoment));
-        given(commentRepository.findByMomentIdAndNotDeletedWithPagination(
+        given(commentRepository.findRootsByMomentId(
                 CommentTestConstants.TEST_MOMENT_ID,
-                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1,
-                CommentTestConstants.TEST_OFFSET
+                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1
         )).willReturn(comments);
         given(userQueryService.getUserById(CommentTestConstants.TEST_USER_ID))
                 .willReturn(users.get(0));
@@ -309,16 +543,16 @@ class CommentQueryServiceImplTest {
     @DisplayName("limit 값 검증 - 최대값 초과 시 최대값 사용")
     void getCommentsByMomentId_OverMaxLimit_UsesMaxLimit() {
         // given
+        givenFirstPageCacheMiss();
         Moment publicMoment = createPublicMoment();
         List<Comment> comments = createCommentList();
         List<User> users = createUserList();
 
         given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
                 .willReturn(Optional.of(publicMoment));
-        given(commentRepository.findByMomentIdAndNotDeletedWithPagination(
+        given(commentRepository.findRootsByMomentId(
                 CommentTestConstants.TEST_MOMENT_ID,
-                CommentTestConstants.MAX_PAGE_LIMIT + 1,
-                CommentTestConstants.TEST_OFFSET
+                CommentTestConstants.MAX_PAGE_LIMIT + 1
         )).willReturn(comments);
         given(userQueryService.getUserById(CommentTestConstants.TEST_USER_ID))
                 .willReturn(users.get(0));
@@ -341,16 +575,16 @@ class CommentQueryServiceImplTest {
     @DisplayName("limit 값 검증 - 0 이하 값 시 기본값 사용")
     void getCommentsByMomentId_ZeroOrNegativeLimit_UsesDefault() {
         // given
+        givenFirstPageCacheMiss();
         Moment publicMoment = createPublicMoment();
         List<Comment> comments = createCommentList();
         List<User> users = createUserList();
 
         given(momentRepository.findBasicMomentById(CommentTestConstants.TEST_MOMENT_ID))
                 .willReturn(Optional.of(publicMoment));
-        given(commentRepository.findByMomentIdAndNotDeletedWithPagination(
+        given(commentRepository.findRootsByMomentId(
                 CommentTestConstants.TEST_MOMENT_ID,
-                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1,
-                CommentTestConstants.TEST_OFFSET
+                CommentTestConstants.DEFAULT_PAGE_LIMIT + 1
         )).willReturn(comments);
         given(userQueryService.getUserById(CommentTestConstants.TEST_USER_ID))
                 .willReturn(users.get(0));
@@ -471,6 +705,8 @@ class CommentQueryServiceImplTest {
                         .content(CommentTestConstants.TEST_COMMENT_CONTENT)
                         .depth(CommentTestConstants.ROOT_COMMENT_DEPTH)
                         .createdAt(now.minusMinutes(10))
+                        .threadRootId(CommentTestConstants.TEST_COMMENT_ID)
+                        .threadCreatedAt(now.minusMinutes(10))
                         .updatedAt(now.minusMinutes(10))
                         .build(),
                 Comment.builder()
@@ -480,6 +716,8 @@ class CommentQueryServiceImplTest {
                         .content(CommentTestConstants.OTHER_USER_COMMENT_CONTENT)
                         .depth(CommentTestConstants.ROOT_COMMENT_DEPTH)
                         .createdAt(now.minusMinutes(8))
+                        .threadRootId(CommentTestConstants.TEST_COMMENT_ID + 1)
+                        .threadCreatedAt(now.minusMinutes(8))
                         .updatedAt(now.minusMinutes(8))
                         .build(),
                 Comment.builder()
@@ -489,6 +727,8 @@ class CommentQueryServiceImplTest {
                         .content(CommentTestConstants.NEW_COMMENT_CONTENT)
                         .depth(CommentTestConstants.ROOT_COMMENT_DEPTH)
                         .createdAt(now.minusMinutes(6))
+                        .threadRootId(CommentTestConstants.TEST_COMMENT_ID + 2)
+                        .threadCreatedAt(now.minusMinutes(6))
                         .updatedAt(now.minusMinutes(6))
                         .build(),
                 Comment.builder()
@@ -498,6 +738,8 @@ class CommentQueryServiceImplTest {
                         .content(CommentTestConstants.UPDATED_COMMENT_CONTENT)
                         .depth(CommentTestConstants.ROOT_COMMENT_DEPTH)
                         .createdAt(now.minusMinutes(4))
+                        .threadRootId(CommentTestConstants.TEST_COMMENT_ID + 3)
+                        .threadCreatedAt(now.minusMinutes(4))
                         .updatedAt(now.minusMinutes(4))
                         .build(),
                 Comment.builder()
@@ -507,6 +749,8 @@ class CommentQueryServiceImplTest {
                         .content(CommentTestConstants.REPLY_CONTENT)
                         .depth(CommentTestConstants.ROOT_COMMENT_DEPTH)
                         .createdAt(now.minusMinutes(2))
+                        .threadRootId(CommentTestConstants.TEST_COMMENT_ID + 4)
+                        .threadCreatedAt(now.minusMinutes(2))
                         .updatedAt(now.minusMinutes(2))
                         .build(),
                 Comment.builder()
@@ -516,6 +760,8 @@ class CommentQueryServiceImplTest {
                         .content(CommentTestConstants.PARENT_COMMENT_CONTENT)
                         .depth(CommentTestConstants.ROOT_COMMENT_DEPTH)
                         .createdAt(now.minusMinutes(1))
+                        .threadRootId(CommentTestConstants.TEST_COMMENT_ID + 5)
+                        .threadCreatedAt(now.minusMinutes(1))
                         .updatedAt(now.minusMinutes(1))
                         .build()
         );
@@ -530,6 +776,9 @@ class CommentQueryServiceImplTest {
                 .momentId(CommentTestConstants.TEST_MOMENT_ID)
                 .content(CommentTestConstants.PARENT_COMMENT_CONTENT)
                 .depth(CommentTestConstants.ROOT_COMMENT_DEPTH)
+                .threadRootId(CommentTestConstants.PARENT_COMMENT_ID)
+                .threadCreatedAt(now.minusMinutes(10))
+                .replyCount(1L)
                 .createdAt(now.minusMinutes(10))
                 .updatedAt(now.minusMinutes(10))
                 .build();
@@ -541,6 +790,8 @@ class CommentQueryServiceImplTest {
                 .content(CommentTestConstants.REPLY_CONTENT)
                 .parentComment(parentComment)
                 .depth(CommentTestConstants.REPLY_COMMENT_DEPTH)
+                .threadRootId(CommentTestConstants.PARENT_COMMENT_ID)
+                .threadCreatedAt(now.minusMinutes(10))
                 .createdAt(now.minusMinutes(5))
                 .updatedAt(now.minusMinutes(5))
                 .build();
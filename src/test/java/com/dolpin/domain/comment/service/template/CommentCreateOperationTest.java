@@ -1,7 +1,150 @@
 package com.dolpin.domain.comment.service.template;
 
-import static org.junit.jupiter.api.Assertions.*;
+import com.dolpin.domain.comment.entity.Comment;
+import com.dolpin.domain.comment.repository.CommentRepository;
+import com.dolpin.domain.moment.entity.Moment;
+import com.dolpin.domain.moment.repository.MomentRepository;
+import com.dolpin.domain.user.entity.User;
+import com.dolpin.domain.user.service.UserQueryService;
+import com.dolpin.global.constants.CommentTestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentCreateOperation 테스트")
 class CommentCreateOperationTest {
 
+    private static final LocalDateTime ROOT_CREATED_AT = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private MomentRepository momentRepository;
+
+    @Mock
+    private UserQueryService userQueryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Moment moment;
+
+    @Mock
+    private User user;
+
+    private CommentCreateOperation commentCreateOperation;
+
+    @BeforeEach
+    void setUp() {
+        commentCreateOperation = new CommentCreateOperation(
+                commentRepository, momentRepository, userQueryService, eventPublisher);
+    }
+
+    @Nested
+    @DisplayName("대댓글 스레드 지정")
+    class ReplyThreadTest {
+
+        @Test
+        @DisplayName("루트 댓글에 단 답글은 루트 댓글의 스레드에 붙는다")
+        void createReply_ToRoot_JoinsRootThread() {
+            // given
+            Comment root = rootComment();
+            given(commentRepository.findValidParentComment(root.getId(), CommentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(root));
+            givenSaveReturnsArgument();
+
+            // when
+            commentCreateOperation.executeBusinessLogic(replyContext(root.getId()), moment, user);
+
+            // then
+            Comment saved = captureSavedComment();
+            assertThat(saved.getParentComment()).isEqualTo(root);
+            assertThat(saved.getThreadRootId()).isEqualTo(root.getId());
+            assertThat(saved.getThreadCreatedAt()).isEqualTo(ROOT_CREATED_AT);
+        }
+
+        @Test
+        @DisplayName("대댓글에 단 답글도 부모가 속한 루트 댓글의 스레드에 붙는다")
+        void createReply_ToReply_JoinsRootThread() {
+            // given
+            Comment root = rootComment();
+            Comment reply = Comment.builder()
+                    .id(CommentTestConstants.REPLY_COMMENT_ID)
+                    .userId(CommentTestConstants.OTHER_USER_ID)
+                    .momentId(CommentTestConstants.TEST_MOMENT_ID)
+                    .content(CommentTestConstants.REPLY_CONTENT)
+                    .parentComment(root)
+                    .depth(CommentTestConstants.REPLY_COMMENT_DEPTH)
+                    .threadRootId(root.getId())
+                    .threadCreatedAt(ROOT_CREATED_AT)
+                    .createdAt(ROOT_CREATED_AT.plusMinutes(5))
+                    .build();
+            given(commentRepository.findValidParentComment(reply.getId(), CommentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(reply));
+            givenSaveReturnsArgument();
+
+            // when
+            commentCreateOperation.executeBusinessLogic(replyContext(reply.getId()), moment, user);
+
+            // then
+            Comment saved = captureSavedComment();
+            assertThat(saved.getParentComment()).isEqualTo(reply);
+            assertThat(saved.getDepth()).isEqualTo(CommentTestConstants.REPLY_COMMENT_DEPTH);
+            assertThat(saved.getThreadRootId()).isEqualTo(root.getId());
+            assertThat(saved.getThreadCreatedAt()).isEqualTo(ROOT_CREATED_AT);
+            then(commentRepository).should().adjustReplyCount(root.getId(), 1);
+            then(commentRepository).should(never()).adjustReplyCount(reply.getId(), 1);
+        }
+    }
+
+    private Comment rootComment() {
+        return Comment.builder()
+                .id(CommentTestConstants.PARENT_COMMENT_ID)
+                .userId(CommentTestConstants.TEST_USER_ID)
+                .momentId(CommentTestConstants.TEST_MOMENT_ID)
+                .content(CommentTestConstants.PARENT_COMMENT_CONTENT)
+                .depth(CommentTestConstants.ROOT_COMMENT_DEPTH)
+                .threadRootId(CommentTestConstants.PARENT_COMMENT_ID)
+                .threadCreatedAt(ROOT_CREATED_AT)
+                .createdAt(ROOT_CREATED_AT)
+                .build();
+    }
+
+    private CommentOperationContext replyContext(Long parentCommentId) {
+        return CommentOperationContext.builder()
+                .operationType(CommentOperationType.CREATE)
+                .momentId(CommentTestConstants.TEST_MOMENT_ID)
+                .userId(CommentTestConstants.OTHER_USER_ID)
+                .content(CommentTestConstants.REPLY_CONTENT)
+                .parentCommentId(parentCommentId)
+                .build();
+    }
+
+    private void givenSaveReturnsArgument() {
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private Comment captureSavedComment() {
+        ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
+        then(commentRepository).should().save(captor.capture());
+        return captor.getValue();
+    }
 }
@@ -11,7 +11,7 @@ import com.dolpin.domain.moment.service.command.MomentCommandService;
 import com.dolpin.domain.moment.service.query.MomentQueryService;
 import com.dolpin.global.constants.MomentTestConstants;
 import com.dolpin.global.exception.BusinessException;
-import com.dolpin.global.redis.service.DuplicatePreventionService;
+import com.dolpin.global.redis.service.IdempotencyService;
 import com.dolpin.global.response.ResponseStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,9 +30,11 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
@@ -60,7 +62,7 @@ class MomentControllerTest {
     private MomentCommandService momentCommandService;
 
     @MockitoBean
-    private DuplicatePreventionService duplicatePreventionService;
+    private IdempotencyService idempotencyService;
 
     @MockitoBean
     private MomentRepository momentRepository;
@@ -128,18 +130,11 @@ class MomentControllerTest {
         listResponse = createMockListResponse();
     }
 
-    private void setupSuccessfulDuplicatePreventionService() {
-        given(duplicatePreventionService.executeWithLock(anyString(), anyInt(), anyInt(), any()))
+    private void setupSuccessfulIdempotencyService() {
+        given(idempotencyService.execute(any(), any(Duration.class), any()))
                 .willAnswer(invocation -> {
-                    Object[] args = invocation.getArguments();
-                    if (args.length < 4 || args[3] == null) {
-                        throw new IllegalArgumentException("LockAction cannot be null");
-                    }
-
-                    DuplicatePreventionService.LockAction<?> action =
-                            (DuplicatePreventionService.LockAction<?>) args[3];
-
-                    return action.execute();
+                    Supplier<?> action = invocation.getArgument(2);
+                    return action.get();
                 });
     }
 
@@ -267,7 +262,7 @@ class MomentControllerTest {
         @WithMockUser(username = "1")
         void createMoment_Success() throws Exception {
             // given
-            setupSuccessfulDuplicatePreventionService();
+            setupSuccessfulIdempotencyService();
             given(momentCommandService.createMoment(eq(MomentTestConstants.TEST_USER_ID), any()))
                     .willReturn(createResponse);
 
@@ -345,7 +340,7 @@ class MomentControllerTest {
         @WithMockUser(username = "1")
         void updateMoment_Success() throws Exception {
             // given
-            setupSuccessfulDuplicatePreventionService();
+            setupSuccessfulIdempotencyService();
             given(momentCommandService.updateMoment(eq(MomentTestConstants.TEST_USER_ID), eq(MomentTestConstants.TEST_MOMENT_ID), any()))
                     .willReturn(updateResponse);
 
@@ -363,7 +358,7 @@ class MomentControllerTest {
         @WithMockUser(username = "1")
         void updateMoment_FailWhenNotFound() throws Exception {
             // given
-            setupSuccessfulDuplicatePreventionService();
+            setupSuccessfulIdempotencyService();
             given(momentCommandService.updateMoment(any(), any(), any()))
                     .willThrow(new BusinessException(ResponseStatus.MOMENT_NOT_FOUND));
 
@@ -386,7 +381,7 @@ class MomentControllerTest {
         @WithMockUser(username = "1")
         void deleteMoment_Success() throws Exception {
             // given
-            setupSuccessfulDuplicatePreventionService();
+            setupSuccessfulIdempotencyService();
             willDoNothing().given(momentCommandService)
                     .deleteMoment(eq(MomentTestConstants.TEST_USER_ID), eq(MomentTestConstants.TEST_MOMENT_ID));
 
@@ -402,7 +397,7 @@ class MomentControllerTest {
         @WithMockUser(username = "1")
         void deleteMoment_FailWhenNotFound() throws Exception {
             // given
-            setupSuccessfulDuplicatePreventionService();
+            setupSuccessfulIdempotencyService();
             willThrow(new BusinessException(ResponseStatus.MOMENT_NOT_FOUND))
                     .given(momentCommandService)
                     .deleteMoment(any(), any());
@@ -420,12 +415,12 @@ class MomentControllerTest {
     class DuplicatePreventionTests {
 
         @Test
-        @DisplayName("중복 요청 감지 시 락 실패")
+        @DisplayName("동일 요청 처리 중이면 409 응답")
         @WithMockUser(username = "1")
         void createMoment_FailWhenDuplicateRequest() throws Exception {
-            // given - 중복 방지 서비스가 예외를 던지도록 모킹
-            given(duplicatePreventionService.executeWithLock(anyString(), anyInt(), anyInt(), any()))
-                    .willThrow(new RuntimeException("동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+            // given - 멱등성 키 선점 실패 (처리 중)
+            given(idempotencyService.execute(any(), any(Duration.class), any()))
+                    .willThrow(new BusinessException(ResponseStatus.DUPLICATE_REQUEST));
 
             // when & then
             mockMvc.perform(post("/api/v1/users/moments")
@@ -433,19 +428,20 @@ class MomentControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(createRequest)))
                     .andDo(print())
-                    .andExpect(status().isOk());
+                    .andExpect(status().isConflict());
+
+            verify(momentCommandService, never()).createMoment(any(), any());
         }
 
         @Test
-        @DisplayName("락 키 생성 검증")
+        @DisplayName("멱등성 키 생성 검증 - 클라이언트 키 전달")
         @WithMockUser(username = "1")
-        void verifyLockKeyGeneration() throws Exception {
+        void verifyIdempotencyKeyGeneration() throws Exception {
             // given
-            setupSuccessfulDuplicatePreventionService();
+            setupSuccessfulIdempotencyService();
 
-            // generateKey 메서드 모킹 추가
-            given(duplicatePreventionService.generateKey(1L, "createMoment"))
-                    .willReturn("1:createMoment");
+            given(idempotencyService.generateKey(eq("createMoment"), eq(1L), eq("client-key-1"), any(Object[].class)))
+                    .willReturn("idempotency:createMoment:1:hash");
 
             given(momentCommandService.createMoment(any(), any()))
                     .willReturn(createResponse);
@@ -453,19 +449,16 @@ class MomentControllerTest {
             // when
             mockMvc.perform(post("/api/v1/users/moments")
                             .with(csrf())
+                            .header(IdempotencyService.HEADER, "client-key-1")
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(createRequest)))
-                    .andExpect(status().isCreated()); // 실제 응답은 201이므로 수정
+                    .andExpect(status().isCreated());
 
             // then
-            // generateKey 호출 검증
-            verify(duplicatePreventionService).generateKey(1L, "createMoment");
-
-            // executeWithLock 호출 검증
-            verify(duplicatePreventionService).executeWithLock(
-                    eq("1:createMoment"),
-                    eq(0),
-                    eq(5),
+            verify(idempotencyService).generateKey(eq("createMoment"), eq(1L), eq("client-key-1"), any(Object[].class));
+            verify(idempotencyService).execute(
+                    eq("idempotency:createMoment:1:hash"),
+                    eq(Duration.ofMinutes(5)),
                     any()
             );
         }
@@ -0,0 +1,56 @@
+package com.dolpin.domain.moment.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MomentSearchDocument 테스트")
+class MomentSearchDocumentTest {
+
+    @Test
+    @DisplayName("제목은 가중치 A, 본문은 기본 가중치의 2-gram 문서로 변환")
+    void of_TitleAndContent() {
+        // when
+        String document = MomentSearchDocument.of("맛집 추천", "파스타!");
+
+        // then - 단어 사이에는 위치를 하나 비워 구문 일치가 단어를 넘지 않음
+        assertThat(document).isEqualTo("'맛집':1A '추천':3A '파스':5 '스타':6");
+    }
+
+    @Test
+    @DisplayName("같은 bigram은 위치를 모아 한 번만 기록")
+    void of_DuplicateBigram() {
+        // when
+        String document = MomentSearchDocument.of("커피", "커피");
+
+        // then
+        assertThat(document).isEqualTo("'커피':1A,3");
+    }
+
+    @Test
+    @DisplayName("영문은 소문자로 정규화")
+    void of_Lowercase() {
+        assertThat(MomentSearchDocument.of("ABC", null)).isEqualTo("'ab':1A 'bc':2A");
+    }
+
+    @Test
+    @DisplayName("검색어는 단어 안 bigram을 구문으로, 단어끼리는 AND로 연결")
+    void toQuery_Words() {
+        assertThat(MomentSearchDocument.toQuery("파스타 맛집"))
+                .isEqualTo("('파스' <-> '스타') & '맛집'");
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 접두어 검색")
+    void toQuery_SingleCharacter() {
+        assertThat(MomentSearchDocument.toQuery("빵")).isEqualTo("'빵':*");
+    }
+
+    @Test
+    @DisplayName("문자나 숫자가 없는 검색어는 null")
+    void toQuery_NoSearchableCharacter() {
+        assertThat(MomentSearchDocument.toQuery("!! ??")).isNull();
+        assertThat(MomentSearchDocument.toQuery(null)).isNull();
+    }
+}
@@ -0,0 +1,131 @@
+package com.dolpin.domain.moment.repository;
+
+import com.dolpin.domain.moment.entity.Moment;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록 + 이미지 대량 INSERT 처리량 비교 (JDBC 배치 미사용 vs 배치 50)
+ * MOMENT_INSERT_BENCHMARK=true 일 때만 실행한다.
+ * 기록 수는 MOMENT_INSERT_BENCHMARK_ROWS 로 조정 (기본 2만 건, 기록당 이미지 3장)
+ */
+@DataJpaTest
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "MOMENT_INSERT_BENCHMARK", matches = "true")
+@DisplayName("기록 대량 INSERT 벤치마크")
+class MomentBatchInsertBenchmark {
+
+    private static final int IMAGES_PER_MOMENT = 3;
+    private static final int FLUSH_SIZE = 500;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("dolpin_benchmark")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.properties.hibernate.spatial.enabled", () -> "true");
+        registry.add("spring.jpa.properties.hibernate.jdbc.batch_size", () -> "50");
+        registry.add("spring.jpa.properties.hibernate.order_inserts", () -> "true");
+    }
+
+    @Autowired
+    private MomentRepository momentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("JDBC 배치 크기별 기록/이미지 INSERT 처리량 출력")
+    void compareInsertThroughput() {
+        int rows = Integer.parseInt(System.getenv().getOrDefault("MOMENT_INSERT_BENCHMARK_ROWS", "20000"));
+
+        // 워밍업
+        insertMoments(Math.min(rows, 1_000), 50);
+
+        long unbatchedMillis = insertMoments(rows, 1);
+        long batchedMillis = insertMoments(rows, 50);
+
+        printThroughput("batch_size=1", rows, unbatchedMillis);
+        printThroughput("batch_size=50", rows, batchedMillis);
+
+        assertThat(momentRepository.count()).isEqualTo(Math.min(rows, 1_000) + rows * 2L);
+    }
+
+    private long insertMoments(int rows, int jdbcBatchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(jdbcBatchSize);
+
+        long startedAt = System.nanoTime();
+        List<Moment> chunk = new ArrayList<>(FLUSH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            chunk.add(createMoment(i));
+
+            if (chunk.size() == FLUSH_SIZE) {
+                flushChunk(chunk);
+            }
+        }
+        flushChunk(chunk);
+
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    private void flushChunk(List<Moment> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        momentRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    private Moment createMoment(int index) {
+        Moment moment = Moment.builder()
+                .userId((long) (index % 1_000) + 1)
+                .placeId((long) (index % 5_000) + 1)
+                .placeName("장소")
+                .title("제목 " + index)
+                .content("내용 " + index)
+                .isPublic(index % 10 < 7)
+                .build();
+
+        List<String> imageUrls = new ArrayList<>(IMAGES_PER_MOMENT);
+        for (int i = 0; i < IMAGES_PER_MOMENT; i++) {
+            imageUrls.add("https://cdn.example.com/moments/" + index + "/" + i + ".jpg");
+        }
+        moment.addImages(imageUrls);
+        return moment;
+    }
+
+    private void printThroughput(String label, int rows, long elapsedMillis) {
+        long totalRows = (long) rows * (1 + IMAGES_PER_MOMENT);
+        double rowsPerSecond = totalRows * 1000.0 / Math.max(1, elapsedMillis);
+        System.out.printf("===== %s =====%n기록 %d건 + 이미지 %d건: %d ms (%.0f rows/s)%n",
+                label, rows, rows * IMAGES_PER_MOMENT, elapsedMillis, rowsPerSecond);
+    }
+}
@@ -0,0 +1,103 @@
+package com.dolpin.domain.moment.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+/**
+ * 전체 피드 쿼리 실행 계획 비교 (OR 조건 vs UNION ALL)
+ * 대용량 시드가 필요하므로 MOMENT_FEED_BENCHMARK=true 일 때만 실행한다.
+ * 행 수는 MOMENT_FEED_BENCHMARK_ROWS 로 조정 (기본 1천만 건)
+ */
+@DataJpaTest
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "MOMENT_FEED_BENCHMARK", matches = "true")
+@DisplayName("전체 피드 쿼리 벤치마크")
+class MomentFeedQueryBenchmark {
+
+    private static final long VIEWER_ID = 42L;
+    private static final int USER_COUNT = 100_000;
+    private static final int LIMIT = 11;
+
+    private static final String OR_QUERY =
+            "SELECT * FROM moment m " +
+            "WHERE (m.is_public = true OR m.user_id = " + VIEWER_ID + ") " +
+            "ORDER BY m.created_at DESC, m.id DESC LIMIT " + LIMIT;
+
+    private static final String UNION_ALL_QUERY =
+            "SELECT * FROM (" +
+            "(SELECT * FROM moment m WHERE m.is_public = true " +
+            " ORDER BY m.created_at DESC, m.id DESC LIMIT " + LIMIT + ") " +
+            "UNION ALL " +
+            "(SELECT * FROM moment m WHERE m.user_id = " + VIEWER_ID + " AND m.is_public = false " +
+            " ORDER BY m.created_at DESC, m.id DESC LIMIT " + LIMIT + ")" +
+            ") feed ORDER BY feed.created_at DESC, feed.id DESC LIMIT " + LIMIT;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("dolpin_benchmark")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.properties.hibernate.spatial.enabled", () -> "true");
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        long rows = Long.parseLong(System.getenv().getOrDefault("MOMENT_FEED_BENCHMARK_ROWS", "10000000"));
+
+        // 약 70% 공개, 작성 시각은 1초 간격으로 분산
+        entityManager.createNativeQuery(
+                "INSERT INTO moment (id, user_id, place_id, place_name, title, content, is_public, view_count, created_at, updated_at) " +
+                "SELECT nextval('moment_id_seq'), (g % " + USER_COUNT + ") + 1, (g % 5000) + 1, '장소', '제목', '내용', (g % 10) < 7, 0, " +
+                "       now() - (g || ' seconds')::interval, now() " +
+                "FROM generate_series(1, " + rows + ") g"
+        ).executeUpdate();
+        // 운영 인덱스 (db/moment_feed_index.sql, 트랜잭션 안이라 CONCURRENTLY 없이 생성)
+        entityManager.createNativeQuery(
+                "CREATE INDEX idx_moment_public_feed ON moment (created_at DESC, id DESC) WHERE is_public = true"
+        ).executeUpdate();
+        entityManager.createNativeQuery(
+                "CREATE INDEX idx_moment_user_private_feed ON moment (user_id, created_at DESC, id DESC) WHERE is_public = false"
+        ).executeUpdate();
+        entityManager.createNativeQuery("ANALYZE moment").executeUpdate();
+    }
+
+    @Test
+    @DisplayName("OR 조건 / UNION ALL 실행 계획 및 소요 시간 출력")
+    void compareFeedQueryPlans() {
+        printPlan("OR 조건", OR_QUERY);
+        printPlan("UNION ALL", UNION_ALL_QUERY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void printPlan(String label, String query) {
+        List<String> plan = entityManager
+                .createNativeQuery("EXPLAIN (ANALYZE, BUFFERS) " + query)
+                .getResultList();
+
+        System.out.println("===== " + label + " =====");
+        plan.forEach(System.out::println);
+    }
+}
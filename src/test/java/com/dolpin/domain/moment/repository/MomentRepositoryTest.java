@@ -19,6 +19,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -148,10 +149,10 @@ class MomentRepositoryTest {
 
         @Test
         @DisplayName("공개 Moment와 본인 비공개 Moment 조회 - 커서 없음")
-        void findPublicMomentsWithUserPrivateNative_NoCursor() {
+        void findPublicMomentsWithUserPrivateFirstPage() {
             // when
-            List<Moment> moments = momentRepository.findPublicMomentsWithUserPrivateNative(
-                    MomentTestConstants.TEST_USER_ID, null, MomentTestConstants.DEFAULT_PAGE_LIMIT);
+            List<Moment> moments = momentRepository.findPublicMomentsWithUserPrivateFirstPage(
+                    MomentTestConstants.TEST_USER_ID, MomentTestConstants.DEFAULT_PAGE_LIMIT);
 
             // then
             assertThat(moments).hasSize(3); // 공개 2개 + 비공개 1개
@@ -163,12 +164,28 @@ class MomentRepositoryTest {
                     );
         }
 
+        @Test
+        @DisplayName("공개 Moment와 본인 비공개 Moment 조회 - 타인의 비공개 기록 제외, 최신순 병합")
+        void findPublicMomentsWithUserPrivateFirstPage_OtherUser() {
+            // when
+            List<Moment> moments = momentRepository.findPublicMomentsWithUserPrivateFirstPage(
+                    MomentTestConstants.OTHER_USER_ID, MomentTestConstants.DEFAULT_PAGE_LIMIT);
+
+            // then
+            assertThat(moments).hasSize(2);
+            assertThat(moments).allMatch(Moment::getIsPublic);
+            assertThat(moments).isSortedAccordingTo((a, b) -> {
+                int compare = b.getCreatedAt().compareTo(a.getCreatedAt());
+                return compare != 0 ? compare : b.getId().compareTo(a.getId());
+            });
+        }
+
         @Test
         @DisplayName("공개 Moment와 본인 비공개 Moment 조회 - 익명 사용자")
-        void findPublicMomentsWithUserPrivateNative_AnonymousUser() {
+        void findPublicMomentsFirstPage_AnonymousUser() {
             // when
-            List<Moment> moments = momentRepository.findPublicMomentsWithUserPrivateNative(
-                    null, null, MomentTestConstants.DEFAULT_PAGE_LIMIT);
+            List<Moment> moments = momentRepository.findPublicMomentsFirstPage(
+                    MomentTestConstants.DEFAULT_PAGE_LIMIT);
 
             // then
             assertThat(moments).hasSize(2); // 공개 Moment만
@@ -177,10 +194,10 @@ class MomentRepositoryTest {
 
         @Test
         @DisplayName("사용자별 Moment 조회 - 비공개 포함")
-        void findByUserIdWithVisibilityNative_IncludePrivate() {
+        void findByUserIdFirstPage_IncludePrivate() {
             // when
-            List<Moment> moments = momentRepository.findByUserIdWithVisibilityNative(
-                    MomentTestConstants.TEST_USER_ID, true, null, MomentTestConstants.DEFAULT_PAGE_LIMIT);
+            List<Moment> moments = momentRepository.findByUserIdFirstPage(
+                    MomentTestConstants.TEST_USER_ID, MomentTestConstants.DEFAULT_PAGE_LIMIT);
 
             // then
             assertThat(moments).hasSize(2); // 공개 1개 + 비공개 1개
@@ -189,10 +206,10 @@ class MomentRepositoryTest {
 
         @Test
         @DisplayName("사용자별 Moment 조회 - 공개만")
-        void findByUserIdWithVisibilityNative_PublicOnly() {
+        void findPublicByUserIdFirstPage_PublicOnly() {
             // when
-            List<Moment> moments = momentRepository.findByUserIdWithVisibilityNative(
-                    MomentTestConstants.TEST_USER_ID, false, null, MomentTestConstants.DEFAULT_PAGE_LIMIT);
+            List<Moment> moments = momentRepository.findPublicByUserIdFirstPage(
+                    MomentTestConstants.TEST_USER_ID, MomentTestConstants.DEFAULT_PAGE_LIMIT);
 
             // then
             assertThat(moments).hasSize(1); // 공개 1개만
@@ -202,10 +219,10 @@ class MomentRepositoryTest {
 
         @Test
         @DisplayName("장소별 공개 Moment 조회")
-        void findPublicMomentsByPlaceIdNative() {
+        void findPublicMomentsByPlaceIdFirstPage() {
             // when
-            List<Moment> moments = momentRepository.findPublicMomentsByPlaceIdNative(
-                    MomentTestConstants.TEST_PLACE_ID, null, MomentTestConstants.DEFAULT_PAGE_LIMIT);
+            List<Moment> moments = momentRepository.findPublicMomentsByPlaceIdFirstPage(
+                    MomentTestConstants.TEST_PLACE_ID, MomentTestConstants.DEFAULT_PAGE_LIMIT);
 
             // then
             assertThat(moments).hasSize(2); // 공개 Moment 2개
@@ -248,6 +265,39 @@ class MomentRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("댓글 수 관련 테스트")
+    class CommentCountTest {
+
+        @Test
+        @DisplayName("댓글 수 증감 - 0 아래로 내려가지 않음")
+        void adjustCommentCount() {
+            // given
+            Long momentId = testMoment.getId();
+
+            // when
+            momentRepository.adjustCommentCount(momentId, 1);
+            momentRepository.adjustCommentCount(momentId, 1);
+            momentRepository.adjustCommentCount(momentId, -1);
+
+            // then
+            assertThat(momentRepository.findCommentCountById(momentId)).contains(1L);
+
+            // when - 실제 댓글 수보다 많이 감소해도 0에서 멈춤
+            momentRepository.adjustCommentCount(momentId, -1);
+            momentRepository.adjustCommentCount(momentId, -1);
+
+            // then
+            assertThat(momentRepository.findCommentCountById(momentId)).contains(0L);
+        }
+
+        @Test
+        @DisplayName("새 기록의 댓글 수는 0")
+        void newMomentHasZeroCommentCount() {
+            assertThat(momentRepository.findCommentCountById(otherUserMoment.getId())).contains(0L);
+        }
+    }
+
     @Nested
     @DisplayName("카운트 조회 테스트")
     class CountQueryTest {
@@ -373,6 +423,106 @@ class MomentRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("검색 테스트")
+    class SearchTest {
+
+        private static final String QUERY = "('파스' <-> '스타')";
+
+        private Moment titleMatch;
+        private Moment contentMatch;
+
+        @BeforeEach
+        void setUpSearch() {
+            titleMatch = entityManager.persistAndFlush(createMoment(
+                    MomentTestConstants.OTHER_USER_ID, "성수동 파스타 맛집", "분위기 좋은 곳",
+                    MomentTestConstants.TEST_PLACE_ID, MomentTestConstants.TEST_PLACE_NAME, true));
+            contentMatch = entityManager.persistAndFlush(createMoment(
+                    MomentTestConstants.OTHER_USER_ID, "점심 기록", "오늘은 파스타를 먹었다",
+                    MomentTestConstants.TEST_PLACE_ID, MomentTestConstants.TEST_PLACE_NAME, true));
+            entityManager.persistAndFlush(createMoment(
+                    MomentTestConstants.OTHER_USER_ID, "비공개 파스타", "나만 보는 기록",
+                    MomentTestConstants.TEST_PLACE_ID, MomentTestConstants.TEST_PLACE_NAME, false));
+            entityManager.persistAndFlush(createMoment(
+                    MomentTestConstants.OTHER_USER_ID, "카페 투어", "라떼",
+                    MomentTestConstants.TEST_PLACE_ID, MomentTestConstants.TEST_PLACE_NAME, true));
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("공개 기록만 검색되고 제목 일치가 본문 일치보다 먼저 정렬")
+        void searchFirstPage_VisibilityAndRanking() {
+            // when
+            List<Moment> moments = momentsOf(momentRepository.searchFirstPage(
+                    QUERY, MomentTestConstants.TEST_USER_ID, MomentTestConstants.DEFAULT_PAGE_LIMIT));
+
+            // then
+            assertThat(moments).extracting(Moment::getId)
+                    .containsExactly(titleMatch.getId(), contentMatch.getId());
+        }
+
+        @Test
+        @DisplayName("작성자는 본인 비공개 기록도 검색")
+        void searchFirstPage_OwnerSeesPrivate() {
+            // when
+            List<Object[]> moments = momentRepository.searchFirstPage(
+                    QUERY, MomentTestConstants.OTHER_USER_ID, MomentTestConstants.DEFAULT_PAGE_LIMIT);
+
+            // then
+            assertThat(moments).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("(rank, created_at, id) 커서로 다음 페이지 조회")
+        void searchAfterCursor() {
+            // given
+            Object[] last = momentRepository.searchFirstPage(QUERY, MomentTestConstants.TEST_USER_ID, 1).get(0);
+            Moment lastMoment = (Moment) last[0];
+
+            // when
+            List<Moment> secondPage = momentsOf(momentRepository.searchAfterCursor(
+                    QUERY, MomentTestConstants.TEST_USER_ID, (Float) last[1],
+                    lastMoment.getCreatedAt(), lastMoment.getId(), 10));
+
+            // then
+            assertThat(secondPage).extracting(Moment::getId).containsExactly(contentMatch.getId());
+        }
+
+        @Test
+        @DisplayName("rank가 같은 기록이 페이지 경계에 걸쳐도 누락/중복 없이 모두 조회")
+        void searchAfterCursor_TiedRanks_NoSkipOrRepeat() {
+            // given - 같은 제목/내용이라 ts_rank가 모두 같은 기록 5건 (+ 기존 공개 일치 2건)
+            List<Long> tiedIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                tiedIds.add(entityManager.persistAndFlush(createMoment(
+                        MomentTestConstants.OTHER_USER_ID, "파스타 기록", "파스타",
+                        MomentTestConstants.TEST_PLACE_ID, MomentTestConstants.TEST_PLACE_NAME, true)).getId());
+            }
+            entityManager.clear();
+
+            // when - 페이지 크기 2로 끝까지 조회
+            List<Long> fetchedIds = new ArrayList<>();
+            List<Object[]> page = momentRepository.searchFirstPage(QUERY, MomentTestConstants.TEST_USER_ID, 2);
+            while (!page.isEmpty()) {
+                momentsOf(page).forEach(moment -> fetchedIds.add(moment.getId()));
+                Object[] last = page.get(page.size() - 1);
+                Moment lastMoment = (Moment) last[0];
+                page = momentRepository.searchAfterCursor(QUERY, MomentTestConstants.TEST_USER_ID, (Float) last[1],
+                        lastMoment.getCreatedAt(), lastMoment.getId(), 2);
+            }
+
+            // then
+            assertThat(fetchedIds).doesNotHaveDuplicates();
+            assertThat(fetchedIds).containsAll(tiedIds);
+            assertThat(fetchedIds).contains(titleMatch.getId(), contentMatch.getId());
+            assertThat(fetchedIds).hasSize(tiedIds.size() + 2);
+        }
+
+        private List<Moment> momentsOf(List<Object[]> rows) {
+            return rows.stream().map(row -> (Moment) row[0]).toList();
+        }
+    }
+
     @Nested
     @DisplayName("커서 기반 페이지네이션 테스트")
     class CursorPaginationTest {
@@ -380,16 +530,47 @@ class MomentRepositoryTest {
         @Test
         @DisplayName("커서 기반 조회 - 커서 이후 데이터만 반환")
         void findWithCursor() {
+            // when
+            List<Moment> moments = momentRepository.findPublicMomentsWithUserPrivateAfterCursor(
+                    MomentTestConstants.TEST_USER_ID, testMoment.getCreatedAt(), testMoment.getId(),
+                    MomentTestConstants.DEFAULT_PAGE_LIMIT);
+
+            // then
+            assertThat(moments).allMatch(moment ->
+                    moment.getCreatedAt().isBefore(testMoment.getCreatedAt()) ||
+                            (moment.getCreatedAt().isEqual(testMoment.getCreatedAt())
+                                    && moment.getId() < testMoment.getId()));
+        }
+
+        @Test
+        @DisplayName("커서 기반 조회 - 동일 생성 시각 기록도 누락 없이 순회")
+        void findWithCursor_SameCreatedAt() {
             // given
-            String cursor = testMoment.getCreatedAt().toString();
+            LocalDateTime sameTime = LocalDateTime.of(2024, 1, 1, 12, 0, 0);
+            for (int i = 0; i < 3; i++) {
+                Moment moment = entityManager.persistAndFlush(createMoment(
+                        MomentTestConstants.OTHER_USER_ID, "동시각 " + i, "내용",
+                        MomentTestConstants.TEST_PLACE_ID, MomentTestConstants.TEST_PLACE_NAME, true));
+                entityManager.getEntityManager()
+                        .createNativeQuery("UPDATE moment SET created_at = :createdAt WHERE id = :id")
+                        .setParameter("createdAt", sameTime)
+                        .setParameter("id", moment.getId())
+                        .executeUpdate();
+            }
+            entityManager.clear();
 
             // when
-            List<Moment> moments = momentRepository.findPublicMomentsWithUserPrivateNative(
-                    MomentTestConstants.TEST_USER_ID, cursor, MomentTestConstants.DEFAULT_PAGE_LIMIT);
+            List<Moment> firstPage = momentRepository.findPublicByUserIdAfterCursor(
+                    MomentTestConstants.OTHER_USER_ID, sameTime.plusSeconds(1), Long.MAX_VALUE, 2);
+            Moment last = firstPage.get(firstPage.size() - 1);
+            List<Moment> secondPage = momentRepository.findPublicByUserIdAfterCursor(
+                    MomentTestConstants.OTHER_USER_ID, last.getCreatedAt(), last.getId(), 2);
 
             // then
-            assertThat(moments).allMatch(moment ->
-                    moment.getCreatedAt().isBefore(testMoment.getCreatedAt()));
+            assertThat(firstPage).hasSize(2);
+            assertThat(secondPage).hasSize(1);
+            assertThat(secondPage.get(0).getCreatedAt()).isEqualTo(sameTime);
+            assertThat(secondPage.get(0).getId()).isLessThan(last.getId());
         }
 
         @Test
@@ -399,8 +580,8 @@ class MomentRepositoryTest {
             int limit = 1;
 
             // when
-            List<Moment> moments = momentRepository.findPublicMomentsWithUserPrivateNative(
-                    MomentTestConstants.TEST_USER_ID, null, limit);
+            List<Moment> moments = momentRepository.findPublicMomentsWithUserPrivateFirstPage(
+                    MomentTestConstants.TEST_USER_ID, limit);
 
             // then
             assertThat(moments).hasSize(limit);
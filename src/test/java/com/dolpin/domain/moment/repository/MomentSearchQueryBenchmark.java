@@ -0,0 +1,156 @@
+package com.dolpin.domain.moment.repository;
+
+import com.dolpin.domain.moment.entity.Moment;
+import com.dolpin.domain.moment.entity.MomentSearchDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 기록 검색 쿼리 벤치마크 (합성 한국어 코퍼스)
+ * 대용량 시드가 필요하므로 MOMENT_SEARCH_BENCHMARK=true 일 때만 실행한다.
+ * 행 수는 MOMENT_SEARCH_BENCHMARK_ROWS 로 조정 (기본 100만 건)
+ */
+@DataJpaTest
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "MOMENT_SEARCH_BENCHMARK", matches = "true")
+@DisplayName("기록 검색 쿼리 벤치마크")
+class MomentSearchQueryBenchmark {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int USER_COUNT = 10_000;
+    private static final int PAGE_SIZE = 10;
+    private static final int REPEAT = 20;
+
+    private static final String[] WORDS = {
+            "성수동", "파스타", "맛집", "카페", "라떼", "산책", "한강", "노을", "브런치", "디저트",
+            "빵집", "전시회", "데이트", "친구", "주말", "비오는날", "야경", "분위기", "추천", "재방문",
+            "떡볶이", "국밥", "초밥", "서점", "공원", "벚꽃", "여행", "가족", "생일", "기념일"
+    };
+
+    private static final String[] KEYWORDS = {"파스타", "성수동 카페", "비오는날", "빵", "재방문 맛집"};
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("dolpin_benchmark")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.properties.hibernate.spatial.enabled", () -> "true");
+    }
+
+    @Autowired
+    private MomentRepository momentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        long rows = Long.parseLong(System.getenv().getOrDefault("MOMENT_SEARCH_BENCHMARK_ROWS", "1000000"));
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+
+        String sql = "INSERT INTO moment (id, user_id, place_id, place_name, title, content, is_public, view_count, " +
+                "created_at, updated_at, search_document) VALUES (nextval('moment_id_seq'), ?, ?, '장소', ?, ?, ?, 0, ?, ?, ?)";
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long i = 0; i < rows; i++) {
+            String title = sentence(random, 3);
+            String content = sentence(random, 40);
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(i));
+
+            batch.add(new Object[]{
+                    (i % USER_COUNT) + 1, (i % 5000) + 1, title, content, random.nextInt(10) < 7,
+                    createdAt, createdAt, MomentSearchDocument.of(title, content)
+            });
+
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+
+        jdbcTemplate.execute("CREATE INDEX idx_moment_search_document ON moment USING gin (CAST(search_document AS tsvector))");
+        jdbcTemplate.execute("ANALYZE moment");
+    }
+
+    @Test
+    @DisplayName("검색어별 실행 계획과 첫 페이지 / 다음 페이지 지연 시간 출력")
+    void searchLatency() {
+        long viewerId = 42L;
+
+        for (String keyword : KEYWORDS) {
+            String query = MomentSearchDocument.toQuery(keyword);
+
+            System.out.println("===== " + keyword + " (" + query + ") =====");
+            jdbcTemplate.queryForList(
+                    "EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM moment m " +
+                    "WHERE CAST(m.search_document AS tsvector) @@ CAST(? AS tsquery) " +
+                    "AND (m.is_public = true OR m.user_id = ?) " +
+                    "ORDER BY ts_rank(CAST(m.search_document AS tsvector), CAST(? AS tsquery)) DESC, " +
+                    "m.created_at DESC, m.id DESC LIMIT " + (PAGE_SIZE + 1),
+                    String.class, query, viewerId, query)
+                    .forEach(System.out::println);
+
+            long firstPageNanos = 0;
+            long nextPageNanos = 0;
+            for (int i = 0; i < REPEAT; i++) {
+                long start = System.nanoTime();
+                List<Object[]> firstPage = momentRepository.searchFirstPage(query, viewerId, PAGE_SIZE + 1);
+                firstPageNanos += System.nanoTime() - start;
+
+                if (firstPage.size() <= PAGE_SIZE) {
+                    continue;
+                }
+                Object[] last = firstPage.get(PAGE_SIZE - 1);
+                Moment lastMoment = (Moment) last[0];
+
+                start = System.nanoTime();
+                momentRepository.searchAfterCursor(query, viewerId, (Float) last[1],
+                        lastMoment.getCreatedAt(), lastMoment.getId(), PAGE_SIZE + 1);
+                nextPageNanos += System.nanoTime() - start;
+            }
+
+            System.out.printf("first page avg: %.2f ms, next page avg: %.2f ms%n",
+                    firstPageNanos / 1_000_000.0 / REPEAT, nextPageNanos / 1_000_000.0 / REPEAT);
+        }
+    }
+
+    private String sentence(Random random, int wordCount) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+}
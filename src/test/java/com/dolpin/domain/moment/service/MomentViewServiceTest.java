@@ -2,6 +2,7 @@ package com.dolpin.domain.moment.service;
 
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
+import com.dolpin.domain.moment.service.cache.MomentCacheService;
 import com.dolpin.global.constants.MomentTestConstants;
 import com.dolpin.global.exception.BusinessException;
 import com.dolpin.global.response.ResponseStatus;
@@ -13,14 +14,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +36,12 @@ class MomentViewServiceTest {
     @Mock
     private MomentRepository momentRepository;
 
+    @Mock
+    private MomentCacheService momentCacheService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private MomentViewService momentViewService;
 
@@ -284,6 +296,129 @@ class MomentViewServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("조회수 카운터 기록 테스트")
+    class RecordViewTest {
+
+        @Test
+        @DisplayName("카운터가 있으면 DB 조회 없이 증가된 값 반환")
+        void recordView_CounterExists() {
+            // given
+            given(momentCacheService.incrementViewCountIfCached(MomentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(MomentTestConstants.UPDATED_VIEW_COUNT);
+
+            // when
+            Long viewCount = momentViewService.recordView(MomentTestConstants.TEST_MOMENT_ID);
+
+            // then
+            assertThat(viewCount).isEqualTo(MomentTestConstants.UPDATED_VIEW_COUNT);
+            then(momentRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("카운터가 없으면 DB 조회 수 + 1로 초기화")
+        void recordView_CounterMissing_InitializesFromDatabase() {
+            // given
+            given(momentCacheService.incrementViewCountIfCached(MomentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(null);
+            given(momentRepository.findViewCountById(MomentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(MomentTestConstants.DEFAULT_VIEW_COUNT));
+            given(momentCacheService.initViewCountIfAbsent(MomentTestConstants.TEST_MOMENT_ID,
+                    MomentTestConstants.DEFAULT_VIEW_COUNT + 1))
+                    .willReturn(true);
+
+            // when
+            Long viewCount = momentViewService.recordView(MomentTestConstants.TEST_MOMENT_ID);
+
+            // then
+            assertThat(viewCount).isEqualTo(MomentTestConstants.DEFAULT_VIEW_COUNT + 1);
+            then(momentRepository).should(never()).incrementViewCount(anyLong());
+        }
+
+        @Test
+        @DisplayName("다른 요청이 먼저 초기화했으면 그 카운터에 이어서 증가")
+        void recordView_CounterInitializedConcurrently() {
+            // given
+            given(momentCacheService.incrementViewCountIfCached(MomentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(null)
+                    .willReturn(MomentTestConstants.DEFAULT_VIEW_COUNT + 2);
+            given(momentRepository.findViewCountById(MomentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(MomentTestConstants.DEFAULT_VIEW_COUNT));
+            given(momentCacheService.initViewCountIfAbsent(MomentTestConstants.TEST_MOMENT_ID,
+                    MomentTestConstants.DEFAULT_VIEW_COUNT + 1))
+                    .willReturn(false);
+
+            // when
+            Long viewCount = momentViewService.recordView(MomentTestConstants.TEST_MOMENT_ID);
+
+            // then
+            assertThat(viewCount).isEqualTo(MomentTestConstants.DEFAULT_VIEW_COUNT + 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 수 일괄 반영 테스트")
+    class FlushViewIncrementsTest {
+
+        @Test
+        @DisplayName("적립된 조회 수를 기록별 UPDATE 한 번으로 반영")
+        void flushViewIncrements_AggregatesPerMoment() {
+            // given
+            givenTransactionExecutesCallback();
+            given(momentRepository.addViewCount(MomentTestConstants.TEST_MOMENT_ID, 3L)).willReturn(1);
+            momentViewService.bufferViewIncrement(MomentTestConstants.TEST_MOMENT_ID);
+            momentViewService.bufferViewIncrement(MomentTestConstants.TEST_MOMENT_ID);
+            momentViewService.bufferViewIncrement(MomentTestConstants.TEST_MOMENT_ID);
+
+            // when
+            int flushed = momentViewService.flushViewIncrements();
+            int flushedAgain = momentViewService.flushViewIncrements();
+
+            // then
+            assertThat(flushed).isEqualTo(1);
+            assertThat(flushedAgain).isZero();
+            then(momentRepository).should(times(1)).addViewCount(MomentTestConstants.TEST_MOMENT_ID, 3L);
+            then(momentRepository).should(never()).incrementViewCount(anyLong());
+        }
+
+        @Test
+        @DisplayName("반영에 실패한 조회 수는 다음 주기에 이후 적립분과 합쳐 다시 반영")
+        void flushViewIncrements_Failure_RetriesWithNewIncrements() {
+            // given
+            givenTransactionExecutesCallback();
+            given(momentRepository.addViewCount(MomentTestConstants.TEST_MOMENT_ID, 1L))
+                    .willThrow(new RuntimeException("Database connection failed"));
+            given(momentRepository.addViewCount(MomentTestConstants.TEST_MOMENT_ID, 2L)).willReturn(1);
+            momentViewService.bufferViewIncrement(MomentTestConstants.TEST_MOMENT_ID);
+
+            // when
+            int failed = momentViewService.flushViewIncrements();
+            momentViewService.bufferViewIncrement(MomentTestConstants.TEST_MOMENT_ID);
+            int flushed = momentViewService.flushViewIncrements();
+
+            // then
+            assertThat(failed).isZero();
+            assertThat(flushed).isEqualTo(1);
+            then(momentRepository).should(times(1)).addViewCount(MomentTestConstants.TEST_MOMENT_ID, 2L);
+        }
+
+        @Test
+        @DisplayName("적립된 조회 수가 없으면 DB를 호출하지 않음")
+        void flushViewIncrements_Empty_DoesNothing() {
+            // when
+            int flushed = momentViewService.flushViewIncrements();
+
+            // then
+            assertThat(flushed).isZero();
+            then(transactionTemplate).shouldHaveNoInteractions();
+        }
+    }
+
+    private void givenTransactionExecutesCallback() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     // Helper methods
     private Moment createTestMoment() {
         return Moment.builder()
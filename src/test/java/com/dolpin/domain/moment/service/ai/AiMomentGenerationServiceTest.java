@@ -3,6 +3,7 @@ package com.dolpin.domain.moment.service.ai;
 import com.dolpin.domain.moment.client.MomentAiClient;
 import com.dolpin.domain.moment.dto.request.AiMomentGenerationRequest;
 import com.dolpin.domain.moment.dto.request.MomentCreateRequest;
+import com.dolpin.domain.moment.dto.response.AiMomentBatchResult;
 import com.dolpin.domain.moment.dto.response.AiMomentGenerationResponse;
 import com.dolpin.domain.moment.dto.response.MomentCreateResponse;
 import com.dolpin.domain.moment.service.command.MomentCommandService;
@@ -12,6 +13,8 @@ import com.dolpin.domain.place.service.query.PlaceQueryService;
 import com.dolpin.global.constants.MomentTestConstants;
 import com.dolpin.global.constants.SystemUserConstants;
 import com.dolpin.global.constants.PlaceTestConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,18 +23,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +61,12 @@ class AiMomentGenerationServiceTest {
     @Mock
     private MomentAiClient momentAiClient;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private AiMomentGenerationServiceImpl aiMomentGenerationService;
 
@@ -422,6 +439,126 @@ class AiMomentGenerationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("배치 AI 기록 생성 테스트")
+    class GenerateMomentBatchTest {
+
+        private static final Long SECOND_PLACE_ID = 999L;
+
+        @Test
+        @DisplayName("장소 상세를 일괄 조회하고 생성된 기록을 한 배치로 저장")
+        void generateMomentBatch_Success() {
+            // given
+            setupBatchScenario();
+            given(momentAiClient.generateMomentFromPlaceAsync(any(AiMomentGenerationRequest.class)))
+                    .willReturn(Mono.just(testAiResponse));
+            givenTransactionExecutes();
+            given(momentCommandService.createMoment(eq(SystemUserConstants.DOLPIN_USER_ID), any(MomentCreateRequest.class)))
+                    .willReturn(testMomentCreateResponse);
+
+            // when
+            AiMomentBatchResult result = aiMomentGenerationService.generateMomentBatch(2);
+
+            // then
+            assertThat(result.getRequested()).isEqualTo(2);
+            assertThat(result.getCreated()).isEqualTo(2);
+            assertThat(result.getFailed()).isZero();
+            assertThat(meterRegistry.counter("ai.moment.generation.result", "result", "created").count())
+                    .isEqualTo(2.0);
+
+            then(placeQueryService).should(times(1))
+                    .getPlaceDetailsWithoutBookmark(List.of(MomentTestConstants.TEST_PLACE_ID, SECOND_PLACE_ID));
+            then(placeQueryService).should(times(0)).getPlaceDetailWithoutBookmark(any(Long.class));
+            then(transactionTemplate).should(times(1)).executeWithoutResult(any());
+        }
+
+        @Test
+        @DisplayName("AI 호출 실패는 해당 장소만 건너뜀")
+        void generateMomentBatch_AiFailureIsolated() {
+            // given
+            setupBatchScenario();
+            given(momentAiClient.generateMomentFromPlaceAsync(
+                    argThat(request -> request != null && MomentTestConstants.TEST_PLACE_ID.equals(request.getId()))))
+                    .willReturn(Mono.just(testAiResponse));
+            given(momentAiClient.generateMomentFromPlaceAsync(
+                    argThat(request -> request != null && SECOND_PLACE_ID.equals(request.getId()))))
+                    .willReturn(Mono.error(new RuntimeException(PlaceTestConstants.ERROR_MESSAGE_AI_UNAVAILABLE)));
+            givenTransactionExecutes();
+            given(momentCommandService.createMoment(eq(SystemUserConstants.DOLPIN_USER_ID), any(MomentCreateRequest.class)))
+                    .willReturn(testMomentCreateResponse);
+
+            // when
+            AiMomentBatchResult result = aiMomentGenerationService.generateMomentBatch(2);
+
+            // then
+            assertThat(result.getCreated()).isEqualTo(1);
+            assertThat(result.getFailed()).isEqualTo(1);
+            then(momentCommandService).should(times(1))
+                    .createMoment(eq(SystemUserConstants.DOLPIN_USER_ID), any(MomentCreateRequest.class));
+        }
+
+        @Test
+        @DisplayName("배치 저장 실패 시 건별 저장으로 재시도")
+        void generateMomentBatch_FallbackToSingleInsert() {
+            // given
+            setupBatchScenario();
+            given(momentAiClient.generateMomentFromPlaceAsync(any(AiMomentGenerationRequest.class)))
+                    .willReturn(Mono.just(testAiResponse));
+            willThrow(new RuntimeException(PlaceTestConstants.ERROR_MESSAGE_DATABASE_ERROR))
+                    .given(transactionTemplate).executeWithoutResult(any());
+            given(momentCommandService.createMoment(eq(SystemUserConstants.DOLPIN_USER_ID), any(MomentCreateRequest.class)))
+                    .willReturn(testMomentCreateResponse)
+                    .willThrow(new RuntimeException(PlaceTestConstants.ERROR_MESSAGE_DATABASE_ERROR));
+
+            // when
+            AiMomentBatchResult result = aiMomentGenerationService.generateMomentBatch(2);
+
+            // then
+            assertThat(result.getCreated()).isEqualTo(1);
+            assertThat(result.getFailed()).isEqualTo(1);
+            then(momentCommandService).should(times(2))
+                    .createMoment(eq(SystemUserConstants.DOLPIN_USER_ID), any(MomentCreateRequest.class));
+        }
+
+        @Test
+        @DisplayName("사용 가능한 장소가 없으면 아무것도 생성하지 않음")
+        void generateMomentBatch_NoPlacesAvailable() {
+            // given
+            given(placeRepository.findRandomPlaceIds(3)).willReturn(List.of());
+
+            // when
+            AiMomentBatchResult result = aiMomentGenerationService.generateMomentBatch(3);
+
+            // then
+            assertThat(result.getRequested()).isEqualTo(3);
+            assertThat(result.getCreated()).isZero();
+            then(placeQueryService).should(times(0)).getPlaceDetailsWithoutBookmark(any());
+            then(momentAiClient).should(times(0))
+                    .generateMomentFromPlaceAsync(any(AiMomentGenerationRequest.class));
+        }
+
+        private void setupBatchScenario() {
+            List<Long> placeIds = List.of(MomentTestConstants.TEST_PLACE_ID, SECOND_PLACE_ID);
+            PlaceDetailResponse secondPlaceDetail = PlaceDetailResponse.builder()
+                    .id(SECOND_PLACE_ID)
+                    .name(MomentTestConstants.TEST_PLACE_NAME)
+                    .keywords(List.of(PlaceTestConstants.COZY_KEYWORD))
+                    .build();
+
+            given(placeRepository.findRandomPlaceIds(2)).willReturn(placeIds);
+            given(placeQueryService.getPlaceDetailsWithoutBookmark(placeIds))
+                    .willReturn(List.of(testPlaceDetail, secondPlaceDetail));
+        }
+
+        private void givenTransactionExecutes() {
+            willAnswer(invocation -> {
+                Consumer<TransactionStatus> action = invocation.getArgument(0);
+                action.accept(null);
+                return null;
+            }).given(transactionTemplate).executeWithoutResult(any());
+        }
+    }
+
     // Helper methods
     private void setupSuccessfulScenario() {
         given(placeRepository.findRandomPlaceIds(1))
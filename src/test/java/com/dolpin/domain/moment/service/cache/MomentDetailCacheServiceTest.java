@@ -0,0 +1,95 @@
+package com.dolpin.domain.moment.service.cache;
+
+import com.dolpin.global.redis.service.RedisService;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MomentDetailCacheService 테스트")
+class MomentDetailCacheServiceTest {
+
+    private static final Long MOMENT_ID = 1L;
+    private static final String VERSION_KEY = CacheKeyUtil.momentDetailVersion(MOMENT_ID);
+
+    @Mock
+    private RedisService redisService;
+
+    private MomentDetailCacheService momentDetailCacheService;
+
+    private MomentDetailSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        momentDetailCacheService = new MomentDetailCacheService(redisService);
+        snapshot = mock(MomentDetailSnapshot.class);
+    }
+
+    @Test
+    @DisplayName("현재 버전 키로 조회하고 히트면 loader를 호출하지 않는다")
+    void getSnapshot_CacheHit_UsesVersionedKey() {
+        // given
+        given(redisService.get(VERSION_KEY, String.class)).willReturn("v1");
+        given(redisService.get(CacheKeyUtil.momentDetail(MOMENT_ID, "v1"), MomentDetailSnapshot.class))
+                .willReturn(snapshot);
+
+        // when
+        MomentDetailSnapshot result = momentDetailCacheService.getSnapshot(MOMENT_ID, () -> {
+            throw new AssertionError("loader should not be called");
+        });
+
+        // then
+        assertThat(result).isSameAs(snapshot);
+        then(redisService).should(never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화되면 이전 데이터는 이전 버전 키에만 저장되어 다음 조회에 쓰이지 않는다")
+    void getSnapshot_EvictedDuringLoad_StoresUnderPreviousVersion() {
+        // given - 조회 시작 시점 버전은 초기 버전, loader 실행 중 기록이 수정되어 버전이 바뀜
+        given(redisService.get(VERSION_KEY, String.class)).willReturn(null);
+
+        // when
+        momentDetailCacheService.getSnapshot(MOMENT_ID, () -> {
+            momentDetailCacheService.evict(MOMENT_ID);
+            return snapshot;
+        });
+
+        // then
+        then(redisService).should().set(eq(CacheKeyUtil.momentDetail(MOMENT_ID, "0")), eq(snapshot), any(Duration.class));
+        ArgumentCaptor<Object> newVersion = ArgumentCaptor.forClass(Object.class);
+        then(redisService).should().set(eq(VERSION_KEY), newVersion.capture(), any(Duration.class));
+        assertThat(newVersion.getValue()).isNotEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("스냅샷 TTL은 짧게 유지한다")
+    void getSnapshot_CacheMiss_UsesShortTtl() {
+        // given
+        given(redisService.get(VERSION_KEY, String.class)).willReturn("v1");
+
+        // when
+        momentDetailCacheService.getSnapshot(MOMENT_ID, () -> snapshot);
+
+        // then
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        then(redisService).should().set(eq(CacheKeyUtil.momentDetail(MOMENT_ID, "v1")), eq(snapshot), ttl.capture());
+        assertThat(ttl.getValue()).isLessThanOrEqualTo(Duration.ofMinutes(1));
+    }
+}
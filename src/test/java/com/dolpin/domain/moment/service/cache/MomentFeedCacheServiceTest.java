@@ -0,0 +1,160 @@
+package com.dolpin.domain.moment.service.cache;
+
+import com.dolpin.domain.moment.dto.response.MomentListResponse;
+import com.dolpin.global.redis.service.RedisService;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MomentFeedCacheService 테스트")
+class MomentFeedCacheServiceTest {
+
+    private static final Long PLACE_ID = 1L;
+
+    @Mock
+    private RedisService redisService;
+
+    private MomentFeedCacheService momentFeedCacheService;
+
+    private AtomicInteger loaderCalls;
+    private MomentListResponse loaded;
+
+    @BeforeEach
+    void setUp() {
+        momentFeedCacheService = new MomentFeedCacheService(redisService);
+        loaderCalls = new AtomicInteger();
+        loaded = MomentListResponse.builder().moments(List.of()).build();
+    }
+
+    @Nested
+    @DisplayName("첫 페이지 조회 테스트")
+    class GetFeedTest {
+
+        @Test
+        @DisplayName("캐시 히트면 loader를 호출하지 않는다")
+        void getAnonymousFeed_CacheHit_SkipsLoader() {
+            // given
+            MomentListResponse cached = MomentListResponse.builder().moments(List.of()).build();
+            given(redisService.get(CacheKeyUtil.momentFeedAnonymous(10), MomentListResponse.class)).willReturn(cached);
+
+            // when
+            MomentListResponse result = momentFeedCacheService.getAnonymousFeed(10, loader());
+
+            // then
+            assertThat(result).isSameAs(cached);
+            assertThat(loaderCalls.get()).isZero();
+            then(redisService).should(never()).set(anyString(), any(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("캐시 미스면 loader 결과를 저장하고 키 목록에 등록한다")
+        void getPlaceFeed_CacheMiss_LoadsAndCaches() {
+            // given
+            String key = CacheKeyUtil.momentFeedPlace(PLACE_ID, 20);
+            given(redisService.get(key, MomentListResponse.class)).willReturn(null);
+
+            // when
+            MomentListResponse result = momentFeedCacheService.getPlaceFeed(PLACE_ID, 20, loader());
+
+            // then
+            assertThat(result).isSameAs(loaded);
+            assertThat(loaderCalls.get()).isEqualTo(1);
+            then(redisService).should().set(key, loaded, Duration.ofSeconds(5));
+            then(redisService).should().addToSet(CacheKeyUtil.momentFeedPlaceKeys(PLACE_ID), key);
+        }
+
+        @Test
+        @DisplayName("limit을 생략한 요청은 기본 페이지 크기 요청과 같은 키를 쓴다")
+        void getAnonymousFeed_NullLimit_UsesDefaultPageSizeKey() {
+            // given
+            String defaultKey = CacheKeyUtil.momentFeedAnonymous(10);
+            given(redisService.get(defaultKey, MomentListResponse.class)).willReturn(null);
+
+            // when
+            momentFeedCacheService.getAnonymousFeed(null, loader());
+
+            // then
+            then(redisService).should().set(eq(defaultKey), eq(loaded), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("범위를 벗어난 limit은 캐시 키를 만들지 않고 loader로 바로 넘긴다")
+        void getPlaceFeed_OutOfRangeLimit_BypassesCache() {
+            // when
+            momentFeedCacheService.getPlaceFeed(PLACE_ID, 1000, loader());
+
+            // then
+            assertThat(loaderCalls.get()).isEqualTo(1);
+            then(redisService).should(never()).get(anyString(), eq(MomentListResponse.class));
+            then(redisService).should(never()).set(anyString(), any(), any(Duration.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화 테스트")
+    class InvalidateTest {
+
+        @Test
+        @DisplayName("키 목록에 등록된 모든 페이지 크기의 캐시와 키 목록을 함께 삭제한다")
+        void invalidatePlaceFeed_DeletesRegisteredKeys() {
+            // given
+            String keysKey = CacheKeyUtil.momentFeedPlaceKeys(PLACE_ID);
+            String key10 = CacheKeyUtil.momentFeedPlace(PLACE_ID, 10);
+            String key20 = CacheKeyUtil.momentFeedPlace(PLACE_ID, 20);
+            given(redisService.getSetMembers(keysKey)).willReturn(Set.<Object>of(key10, key20));
+
+            // when
+            momentFeedCacheService.invalidatePlaceFeed(PLACE_ID);
+
+            // then
+            then(redisService).should().delete(argThat((Collection<String> keys) ->
+                    keys.size() == 3 && keys.containsAll(List.of(key10, key20, keysKey))));
+        }
+
+        @Test
+        @DisplayName("무효화 후 조회는 loader로 다시 계산한다")
+        void invalidateAnonymousFeed_ThenGet_Reloads() {
+            // given
+            String key = CacheKeyUtil.momentFeedAnonymous(10);
+            given(redisService.getSetMembers(CacheKeyUtil.momentFeedAnonymousKeys())).willReturn(Set.<Object>of(key));
+            given(redisService.get(key, MomentListResponse.class)).willReturn(null);
+
+            // when
+            momentFeedCacheService.invalidateAnonymousFeed();
+            MomentListResponse result = momentFeedCacheService.getAnonymousFeed(10, loader());
+
+            // then
+            assertThat(result).isSameAs(loaded);
+            assertThat(loaderCalls.get()).isEqualTo(1);
+        }
+    }
+
+    private Supplier<MomentListResponse> loader() {
+        return () -> {
+            loaderCalls.incrementAndGet();
+            return loaded;
+        };
+    }
+}
@@ -0,0 +1,192 @@
+package com.dolpin.domain.moment.service.cache;
+
+import com.dolpin.domain.moment.event.MomentChangedEvent;
+import com.dolpin.domain.moment.repository.MomentRepository;
+import com.dolpin.global.redis.service.RedisCircuitBreaker;
+import com.dolpin.global.redis.service.RedisService;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@Testcontainers
+@DisplayName("PlaceMomentCountService 테스트")
+class PlaceMomentCountServiceTest {
+
+    private static final Long PLACE_ID = 1L;
+    private static final Long OTHER_PLACE_ID = 2L;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @Mock
+    private MomentRepository momentRepository;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private PlaceMomentCountService placeMomentCountService;
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        RedisService redisService = new RedisService(
+                redisTemplate, stringRedisTemplate, new RedisCircuitBreaker(connectionFactory));
+        placeMomentCountService = new PlaceMomentCountService(redisService, momentRepository);
+        ReflectionTestUtils.setField(placeMomentCountService, "clock", (LongSupplier) now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(CacheKeyUtil.placeMomentCounts());
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("미스 필드는 DB 집계로 채우고 이후 증감을 반영한다")
+    void getPublicMomentCounts_AfterBackfill_AppliesChanges() {
+        // given
+        given(momentRepository.countPublicMomentsByPlaceIds(anyList())).willReturn(countRows(3L));
+
+        // when
+        Map<Long, Long> first = placeMomentCountService.getPublicMomentCounts(List.of(PLACE_ID));
+        placeMomentCountService.applyChange(MomentChangedEvent.created(100L, PLACE_ID, true));
+        Map<Long, Long> second = placeMomentCountService.getPublicMomentCounts(List.of(PLACE_ID));
+
+        // then
+        assertThat(first).containsEntry(PLACE_ID, 3L);
+        assertThat(second).containsEntry(PLACE_ID, 4L);
+        then(momentRepository).should(times(1)).countPublicMomentsByPlaceIds(anyList());
+    }
+
+    @Test
+    @DisplayName("DB 집계와 저장 사이에 증감이 들어오면 집계 값을 저장하지 않고 다음 조회에서 다시 집계한다")
+    void getPublicMomentCounts_ChangeDuringLoad_SkipsBackfill() {
+        // given - 첫 집계 직후(저장 전) 새 공개 기록 이벤트가 반영됨
+        given(momentRepository.countPublicMomentsByPlaceIds(anyList()))
+                .willAnswer(invocation -> {
+                    placeMomentCountService.applyChange(MomentChangedEvent.created(100L, PLACE_ID, true));
+                    return countRows(3L);
+                })
+                .willReturn(countRows(4L));
+
+        // when
+        Map<Long, Long> first = placeMomentCountService.getPublicMomentCounts(List.of(PLACE_ID));
+        Object storedAfterRace = stringRedisTemplate.opsForHash()
+                .get(CacheKeyUtil.placeMomentCounts(), String.valueOf(PLACE_ID));
+        Map<Long, Long> second = placeMomentCountService.getPublicMomentCounts(List.of(PLACE_ID));
+        Map<Long, Long> third = placeMomentCountService.getPublicMomentCounts(List.of(PLACE_ID));
+
+        // then
+        assertThat(first).containsEntry(PLACE_ID, 3L);
+        assertThat(storedAfterRace).isNull();
+        assertThat(second).containsEntry(PLACE_ID, 4L);
+        assertThat(third).containsEntry(PLACE_ID, 4L);
+        then(momentRepository).should(times(2)).countPublicMomentsByPlaceIds(anyList());
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 장소만 DB 집계로 다시 채우고 나머지 장소는 캐시 값을 쓴다")
+    void getPublicMomentCounts_ExpiredPlace_ReloadsOnlyThatPlace() {
+        // given - 두 장소를 30분 간격으로 채움
+        given(momentRepository.countPublicMomentsByPlaceIds(List.of(PLACE_ID)))
+                .willReturn(countRows(PLACE_ID, 3L))
+                .willReturn(countRows(PLACE_ID, 4L));
+        given(momentRepository.countPublicMomentsByPlaceIds(List.of(OTHER_PLACE_ID)))
+                .willReturn(countRows(OTHER_PLACE_ID, 5L));
+        placeMomentCountService.getPublicMomentCounts(List.of(PLACE_ID));
+        now.addAndGet(Duration.ofMinutes(30).toMillis());
+        placeMomentCountService.getPublicMomentCounts(List.of(OTHER_PLACE_ID));
+
+        // when - 첫 장소만 만료된 시점 (TTL 1시간 + 지터 최대 10분 이후, 두 번째 장소는 아직 유효)
+        now.addAndGet(Duration.ofMinutes(45).toMillis());
+        Map<Long, Long> result = placeMomentCountService.getPublicMomentCounts(List.of(PLACE_ID, OTHER_PLACE_ID));
+
+        // then
+        assertThat(result).containsEntry(PLACE_ID, 4L).containsEntry(OTHER_PLACE_ID, 5L);
+        then(momentRepository).should(times(2)).countPublicMomentsByPlaceIds(eq(List.of(PLACE_ID)));
+        then(momentRepository).should(times(1)).countPublicMomentsByPlaceIds(eq(List.of(OTHER_PLACE_ID)));
+    }
+
+    @Test
+    @DisplayName("만료 시각이 없는 기존 필드는 만료된 것으로 보고 DB 집계로 다시 채운다")
+    void getPublicMomentCounts_FieldWithoutExpireAt_Reloads() {
+        // given
+        stringRedisTemplate.opsForHash().put(CacheKeyUtil.placeMomentCounts(), String.valueOf(PLACE_ID), "9");
+        given(momentRepository.countPublicMomentsByPlaceIds(anyList())).willReturn(countRows(3L));
+
+        // when
+        Map<Long, Long> first = placeMomentCountService.getPublicMomentCounts(List.of(PLACE_ID));
+        Map<Long, Long> second = placeMomentCountService.getPublicMomentCounts(List.of(PLACE_ID));
+
+        // then
+        assertThat(first).containsEntry(PLACE_ID, 3L);
+        assertThat(second).containsEntry(PLACE_ID, 3L);
+        then(momentRepository).should(times(1)).countPublicMomentsByPlaceIds(anyList());
+    }
+
+    @Test
+    @DisplayName("카운터 Hash의 TTL은 쓰기마다 연장되어 Hash 전체가 한꺼번에 만료되지 않는다")
+    void applyChange_RefreshesHashTtl() {
+        // given
+        given(momentRepository.countPublicMomentsByPlaceIds(anyList())).willReturn(countRows(3L));
+        placeMomentCountService.getPublicMomentCounts(List.of(PLACE_ID));
+        stringRedisTemplate.expire(CacheKeyUtil.placeMomentCounts(), Duration.ofSeconds(10));
+
+        // when
+        placeMomentCountService.applyChange(MomentChangedEvent.created(100L, PLACE_ID, true));
+
+        // then
+        assertThat(stringRedisTemplate.getExpire(CacheKeyUtil.placeMomentCounts(), TimeUnit.SECONDS))
+                .isGreaterThan(Duration.ofHours(1).toSeconds());
+    }
+
+    private List<Object[]> countRows(Long count) {
+        return countRows(PLACE_ID, count);
+    }
+
+    private List<Object[]> countRows(Long placeId, Long count) {
+        return List.<Object[]>of(new Object[]{placeId, count});
+    }
+}
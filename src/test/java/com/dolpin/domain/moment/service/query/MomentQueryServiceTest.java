@@ -1,12 +1,14 @@
 package com.dolpin.domain.moment.service.query;
 
-import com.dolpin.domain.comment.repository.CommentRepository;
 import com.dolpin.domain.moment.dto.response.MomentDetailResponse;
 import com.dolpin.domain.moment.dto.response.MomentListResponse;
 import com.dolpin.domain.moment.entity.Moment;
 import com.dolpin.domain.moment.repository.MomentRepository;
 import com.dolpin.domain.moment.service.MomentViewService;
 import com.dolpin.domain.moment.service.cache.MomentCacheService;
+import com.dolpin.domain.moment.service.cache.MomentDetailCacheService;
+import com.dolpin.domain.moment.service.cache.MomentDetailSnapshot;
+import com.dolpin.domain.moment.service.cache.MomentFeedCacheService;
 import com.dolpin.domain.moment.service.template.*;
 import com.dolpin.domain.user.entity.User;
 import com.dolpin.domain.user.service.UserQueryService;
@@ -26,14 +28,17 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("MomentQueryService 테스트 - Template Method 패턴 적용")
@@ -51,6 +56,8 @@ class MomentQueryServiceTest {
     private MomentUserQueryOperation momentUserQueryOperation;
     @Mock
     private MomentPlaceQueryOperation momentPlaceQueryOperation;
+    @Mock
+    private MomentSearchQueryOperation momentSearchQueryOperation;
 
     // getMomentDetail에서 직접 사용하는 의존성들
     @Mock
@@ -58,11 +65,13 @@ class MomentQueryServiceTest {
     @Mock
     private UserQueryService userQueryService;
     @Mock
-    private CommentRepository commentRepository;
-    @Mock
     private MomentViewService momentViewService;
     @Mock
     private MomentCacheService momentCacheService;
+    @Mock
+    private MomentFeedCacheService momentFeedCacheService;
+    @Mock
+    private MomentDetailCacheService momentDetailCacheService;
 
     private Moment testMoment;
     private User testUser;
@@ -98,6 +107,29 @@ class MomentQueryServiceTest {
 
             // MomentAllQueryOperation이 호출되었는지 검증
             then(momentAllQueryOperation).should().executeMomentQuery(any());
+            then(momentFeedCacheService).should(never()).getAnonymousFeed(any(), any());
+        }
+
+        @Test
+        @DisplayName("비로그인 첫 페이지는 피드 캐시를 통해 조회")
+        void getAllMoments_Anonymous_UsesFeedCache() {
+            // given
+            MomentListResponse expectedResponse = createMockListResponse();
+            given(momentAllQueryOperation.executeMomentQuery(any()))
+                    .willReturn(expectedResponse);
+            given(momentFeedCacheService.getAnonymousFeed(eq(MomentTestConstants.DEFAULT_PAGE_LIMIT), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<MomentListResponse>>getArgument(1).get());
+
+            // when
+            MomentListResponse response = momentQueryService.getAllMoments(
+                    null,
+                    MomentTestConstants.DEFAULT_PAGE_LIMIT,
+                    null
+            );
+
+            // then
+            assertThat(response).isSameAs(expectedResponse);
+            then(momentFeedCacheService).should().getAnonymousFeed(eq(MomentTestConstants.DEFAULT_PAGE_LIMIT), any());
         }
 
         @Test
@@ -221,6 +253,7 @@ class MomentQueryServiceTest {
             MomentListResponse expectedResponse = createMockListResponse();
             given(momentPlaceQueryOperation.executeMomentQuery(any()))
                     .willReturn(expectedResponse);
+            givenPlaceFeedCacheMiss();
 
             // when
             MomentListResponse response = momentQueryService.getPlaceMoments(
@@ -233,25 +266,96 @@ class MomentQueryServiceTest {
             assertThat(response).isNotNull();
             then(momentPlaceQueryOperation).should().executeMomentQuery(any());
         }
+
+        @Test
+        @DisplayName("장소별 첫 페이지 캐시 히트 시 Operation 미호출")
+        void getPlaceMoments_CacheHit() {
+            // given
+            MomentListResponse cachedResponse = createMockListResponse();
+            given(momentFeedCacheService.getPlaceFeed(eq(MomentTestConstants.TEST_PLACE_ID),
+                    eq(MomentTestConstants.DEFAULT_PAGE_LIMIT), any()))
+                    .willReturn(cachedResponse);
+
+            // when
+            MomentListResponse response = momentQueryService.getPlaceMoments(
+                    MomentTestConstants.TEST_PLACE_ID,
+                    MomentTestConstants.DEFAULT_PAGE_LIMIT,
+                    null
+            );
+
+            // then
+            assertThat(response).isSameAs(cachedResponse);
+            then(momentPlaceQueryOperation).should(never()).executeMomentQuery(any());
+        }
+
+        @Test
+        @DisplayName("커서가 있는 장소별 조회는 캐시를 사용하지 않음")
+        void getPlaceMoments_WithCursor_BypassesCache() {
+            // given
+            given(momentPlaceQueryOperation.executeMomentQuery(any()))
+                    .willReturn(createMockListResponse());
+
+            // when
+            momentQueryService.getPlaceMoments(
+                    MomentTestConstants.TEST_PLACE_ID,
+                    MomentTestConstants.DEFAULT_PAGE_LIMIT,
+                    MomentTestConstants.TEST_CURSOR
+            );
+
+            // then
+            then(momentFeedCacheService).should(never()).getPlaceFeed(any(), any(), any());
+            then(momentPlaceQueryOperation).should().executeMomentQuery(any());
+        }
     }
 
     @Nested
-    @DisplayName("Moment 상세 조회 테스트 (기존 로직 유지)")
+    @DisplayName("Moment 검색 테스트")
+    class SearchMomentsTest {
+
+        @Test
+        @DisplayName("검색 Operation에 검색어가 담긴 Context 전달")
+        void searchMoments_Success() {
+            // given
+            MomentListResponse expectedResponse = createMockListResponse();
+            given(momentSearchQueryOperation.executeMomentQuery(any()))
+                    .willReturn(expectedResponse);
+
+            // when
+            MomentListResponse response = momentQueryService.searchMoments(
+                    MomentTestConstants.TEST_USER_ID,
+                    "파스타",
+                    MomentTestConstants.DEFAULT_PAGE_LIMIT,
+                    null
+            );
+
+            // then
+            assertThat(response).isSameAs(expectedResponse);
+            then(momentSearchQueryOperation).should().executeMomentQuery(argThat(context ->
+                    context.getQueryType() == MomentQueryType.SEARCH_MOMENTS
+                            && "파스타".equals(context.getKeyword())
+                            && MomentTestConstants.TEST_USER_ID.equals(context.getCurrentUserId())));
+        }
+    }
+
+    @Nested
+    @DisplayName("Moment 상세 조회 테스트")
     class GetMomentDetailTest {
 
         @Test
-        @DisplayName("Moment 상세 조회 성공")
+        @DisplayName("Moment 상세 조회 성공 - 캐시 미스 시 기록/작성자 조회 후 카운터에서 조회 수 반영")
         void getMomentDetail_Success() {
             // given
+            givenDetailCacheMiss();
             given(momentRepository.findByIdWithImages(MomentTestConstants.TEST_MOMENT_ID))
                     .willReturn(Optional.of(testMoment));
             given(userQueryService.getUserById(MomentTestConstants.TEST_USER_ID))
                     .willReturn(testUser);
-            given(commentRepository.countByMomentIdAndNotDeleted(MomentTestConstants.TEST_MOMENT_ID))
-                    .willReturn(MomentTestConstants.DEFAULT_COMMENT_COUNT);
-            given(momentViewService.getViewCount(MomentTestConstants.TEST_MOMENT_ID))
+            given(momentCacheService.getCommentCount(MomentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(null);
+            given(momentRepository.findCommentCountById(MomentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(Optional.of(MomentTestConstants.DEFAULT_COMMENT_COUNT));
+            given(momentViewService.recordView(MomentTestConstants.TEST_MOMENT_ID))
                     .willReturn(MomentTestConstants.DEFAULT_VIEW_COUNT);
-            willDoNothing().given(momentViewService).incrementViewCount(anyLong());
 
             // when
             MomentDetailResponse response = momentQueryService.getMomentDetail(
@@ -261,15 +365,45 @@ class MomentQueryServiceTest {
             assertThat(response).isNotNull();
             assertThat(response.getId()).isEqualTo(MomentTestConstants.TEST_MOMENT_ID);
             assertThat(response.getTitle()).isEqualTo(MomentTestConstants.TEST_MOMENT_TITLE);
+            assertThat(response.getIsOwner()).isTrue();
+            assertThat(response.getCommentCount()).isEqualTo(MomentTestConstants.DEFAULT_COMMENT_COUNT);
+            assertThat(response.getViewCount()).isEqualTo(MomentTestConstants.DEFAULT_VIEW_COUNT);
+
+            // 조회 수는 카운터에서 증가시키고 DB 반영분은 적립만 함
+            then(momentViewService).should().recordView(MomentTestConstants.TEST_MOMENT_ID);
+            then(momentViewService).should().bufferViewIncrement(MomentTestConstants.TEST_MOMENT_ID);
+            then(momentViewService).should(never()).incrementViewCount(anyLong());
+            then(momentViewService).should(never()).getViewCount(anyLong());
+        }
+
+        @Test
+        @DisplayName("캐시 히트 시 기록/작성자/댓글 수를 DB에서 조회하지 않음")
+        void getMomentDetail_CacheHit_SkipsDatabase() {
+            // given
+            MomentDetailSnapshot snapshot = MomentDetailSnapshot.of(testMoment, testUser);
+            given(momentDetailCacheService.getSnapshot(eq(MomentTestConstants.TEST_MOMENT_ID), any()))
+                    .willReturn(snapshot);
+            given(momentCacheService.getCommentCount(MomentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(MomentTestConstants.DEFAULT_COMMENT_COUNT);
+            given(momentViewService.recordView(MomentTestConstants.TEST_MOMENT_ID))
+                    .willReturn(MomentTestConstants.DEFAULT_VIEW_COUNT);
+
+            // when
+            MomentDetailResponse response = momentQueryService.getMomentDetail(
+                    MomentTestConstants.TEST_MOMENT_ID, MomentTestConstants.OTHER_USER_ID);
 
-            // 조회수 증가 메서드가 호출되었는지 검증
-            then(momentViewService).should().incrementViewCount(MomentTestConstants.TEST_MOMENT_ID);
+            // then
+            assertThat(response.getIsOwner()).isFalse();
+            assertThat(response.getAuthor().getId()).isEqualTo(MomentTestConstants.TEST_USER_ID);
+            then(momentRepository).shouldHaveNoInteractions();
+            then(userQueryService).shouldHaveNoInteractions();
         }
 
         @Test
         @DisplayName("존재하지 않는 Moment 상세 조회 시 예외 발생")
         void getMomentDetail_MomentNotFound_ThrowsException() {
             // given
+            givenDetailCacheMiss();
             given(momentRepository.findByIdWithImages(MomentTestConstants.TEST_MOMENT_ID))
                     .willReturn(Optional.empty());
 
@@ -278,6 +412,8 @@ class MomentQueryServiceTest {
                     MomentTestConstants.TEST_MOMENT_ID, MomentTestConstants.TEST_USER_ID))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("기록을 찾을 수 없습니다.");
+
+            then(momentViewService).shouldHaveNoInteractions();
         }
 
         @Test
@@ -285,8 +421,8 @@ class MomentQueryServiceTest {
         void getMomentDetail_AccessDenied_ThrowsException() {
             // given
             Moment privateMoment = createPrivateMoment(); // 소유자: TEST_USER_ID, 비공개
-            given(momentRepository.findByIdWithImages(MomentTestConstants.TEST_MOMENT_ID))
-                    .willReturn(Optional.of(privateMoment));
+            given(momentDetailCacheService.getSnapshot(eq(MomentTestConstants.TEST_MOMENT_ID), any()))
+                    .willReturn(MomentDetailSnapshot.of(privateMoment, testUser));
 
             // when & then - OTHER_USER_ID로 TEST_USER_ID 소유의 비공개 Moment 조회 시도
             assertThatThrownBy(() -> momentQueryService.getMomentDetail(
@@ -294,8 +430,14 @@ class MomentQueryServiceTest {
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("접근 권한이 없습니다.");
 
-            // UserQueryService가 호출되지 않았는지 검증 (권한 체크에서 실패)
-            then(userQueryService).shouldHaveNoInteractions();
+            // 권한 체크에서 실패하면 조회 수/댓글 수를 건드리지 않음
+            then(momentViewService).shouldHaveNoInteractions();
+            then(momentCacheService).should(never()).getCommentCount(anyLong());
+        }
+
+        private void givenDetailCacheMiss() {
+            given(momentDetailCacheService.getSnapshot(eq(MomentTestConstants.TEST_MOMENT_ID), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<MomentDetailSnapshot>>getArgument(1).get());
         }
     }
 
@@ -398,6 +540,11 @@ class MomentQueryServiceTest {
                 .build();
     }
 
+    private void givenPlaceFeedCacheMiss() {
+        given(momentFeedCacheService.getPlaceFeed(any(), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<MomentListResponse>>getArgument(2).get());
+    }
+
     @Nested
     @DisplayName("예외 상황 테스트")
     class ExceptionTest {
@@ -452,6 +599,7 @@ class MomentQueryServiceTest {
             given(momentMyQueryOperation.executeMomentQuery(any())).willReturn(mockResponse);
             given(momentUserQueryOperation.executeMomentQuery(any())).willReturn(mockResponse);
             given(momentPlaceQueryOperation.executeMomentQuery(any())).willReturn(mockResponse);
+            givenPlaceFeedCacheMiss();
 
             // when
             momentQueryService.getAllMoments(MomentTestConstants.TEST_USER_ID, 10, null);
@@ -0,0 +1,61 @@
+package com.dolpin.domain.moment.service.template;
+
+import com.dolpin.global.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MomentCursor 테스트")
+class MomentCursorTest {
+
+    @Test
+    @DisplayName("커서는 created_at 마이크로초와 id를 그대로 복원한다")
+    void encodeAndDecode() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 30, 15, 123_456_000);
+        String encoded = MomentCursor.decode(encodeRaw(createdAt + "|42")).encode();
+
+        // when
+        MomentCursor cursor = MomentCursor.decode(encoded);
+
+        // then
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)")
+    void decode_Blank() {
+        assertThat(MomentCursor.decode(null)).isNull();
+        assertThat(MomentCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("기존 created_at 단독 커서도 해석한다")
+    void decode_LegacyTimestamp() {
+        // when
+        MomentCursor cursor = MomentCursor.decode("2024-01-01T00:00:00.000Z");
+
+        // then
+        assertThat(cursor.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThat(cursor.getId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 예외")
+    void decode_Invalid() {
+        assertThatThrownBy(() -> MomentCursor.decode("not-a-cursor"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
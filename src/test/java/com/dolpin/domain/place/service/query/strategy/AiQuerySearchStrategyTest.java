@@ -1,6 +1,6 @@
 package com.dolpin.domain.place.service.query.strategy;
 
-import com.dolpin.domain.moment.repository.MomentRepository;
+import com.dolpin.domain.moment.service.cache.PlaceMomentCountService;
 import com.dolpin.domain.place.client.PlaceAiClient;
 import com.dolpin.domain.place.dto.response.PlaceAiResponse;
 import com.dolpin.domain.place.dto.response.PlaceSearchResponse;
@@ -46,7 +46,7 @@ class AiQuerySearchStrategyTest {
     private PlaceRepository placeRepository;
 
     @Mock
-    private MomentRepository momentRepository;
+    private PlaceMomentCountService placeMomentCountService;
 
     @Mock
     private PlaceBookmarkQueryService bookmarkQueryService;
@@ -103,7 +103,7 @@ class AiQuerySearchStrategyTest {
         PlaceAiResponse aiResponse = createAiResponseWithRecommendations();
         List<PlaceWithDistance> placesWithDistance = createPlacesWithDistance();
         List<Place> places = createPlaces();
-        List<Object[]> momentCountResults = createMomentCountResults();
+        Map<Long, Long> momentCountResults = createMomentCountResults();
         Map<Long, Boolean> bookmarkStatusMap = Map.of(1L, true, 2L, false);
 
         given(placeAiClient.recommendPlacesAsync(testContext.getQuery()))
@@ -112,7 +112,7 @@ class AiQuerySearchStrategyTest {
                 .willReturn(placesWithDistance);
         given(placeRepository.findByIdsWithKeywords(anyList()))
                 .willReturn(places);
-        given(momentRepository.countPublicMomentsByPlaceIds(anyList()))
+        given(placeMomentCountService.getPublicMomentCounts(anyList()))
                 .willReturn(momentCountResults);
         given(bookmarkQueryService.getBookmarkStatusMap(anyLong(), anyList()))
                 .willReturn(bookmarkStatusMap);
@@ -129,7 +129,7 @@ class AiQuerySearchStrategyTest {
         verify(placeAiClient).recommendPlacesAsync(testContext.getQuery());
         verify(placeRepository).findPlacesWithinRadiusByIds(anyList(), anyDouble(), anyDouble(), anyDouble());
         verify(placeRepository).findByIdsWithKeywords(anyList());
-        verify(momentRepository).countPublicMomentsByPlaceIds(anyList());
+        verify(placeMomentCountService).getPublicMomentCounts(anyList());
         verify(bookmarkQueryService).getBookmarkStatusMap(anyLong(), anyList());
     }
 
@@ -140,7 +140,7 @@ class AiQuerySearchStrategyTest {
         PlaceAiResponse aiResponse = createAiResponseWithCategory();
         List<PlaceWithDistance> placesWithDistance = createPlacesWithDistance();
         List<Place> places = createPlaces();
-        List<Object[]> momentCountResults = createMomentCountResults();
+        Map<Long, Long> momentCountResults = createMomentCountResults();
         Map<Long, Boolean> bookmarkStatusMap = Map.of(1L, true, 2L, false);
 
         given(placeAiClient.recommendPlacesAsync(testContext.getQuery()))
@@ -149,7 +149,7 @@ class AiQuerySearchStrategyTest {
                 .willReturn(placesWithDistance);
         given(placeRepository.findByIdsWithKeywords(anyList()))
                 .willReturn(places);
-        given(momentRepository.countPublicMomentsByPlaceIds(anyList()))
+        given(placeMomentCountService.getPublicMomentCounts(anyList()))
                 .willReturn(momentCountResults);
         given(bookmarkQueryService.getBookmarkStatusMap(anyLong(), anyList()))
                 .willReturn(bookmarkStatusMap);
@@ -166,7 +166,7 @@ class AiQuerySearchStrategyTest {
         verify(placeAiClient).recommendPlacesAsync(testContext.getQuery());
         verify(placeRepository).findPlacesByCategoryWithinRadius(eq("이탈리안"), anyDouble(), anyDouble(), anyDouble());
         verify(placeRepository).findByIdsWithKeywords(anyList());
-        verify(momentRepository).countPublicMomentsByPlaceIds(anyList());
+        verify(placeMomentCountService).getPublicMomentCounts(anyList());
         verify(bookmarkQueryService).getBookmarkStatusMap(anyLong(), anyList());
     }
 
@@ -188,7 +188,7 @@ class AiQuerySearchStrategyTest {
         // then
         assertThat(result).isEmpty();
 
-        verifyNoInteractions(placeRepository, momentRepository, bookmarkQueryService);
+        verifyNoInteractions(placeRepository, placeMomentCountService, bookmarkQueryService);
     }
 
     @Test
@@ -308,11 +308,8 @@ class AiQuerySearchStrategyTest {
         return Arrays.asList(place1, place2);
     }
 
-    private List<Object[]> createMomentCountResults() {
-        return Arrays.asList(
-                new Object[]{1L, 5L},
-                new Object[]{2L, 3L}
-        );
+    private Map<Long, Long> createMomentCountResults() {
+        return Map.of(1L, 5L, 2L, 3L);
     }
 
     private PlaceSearchResponse.PlaceDto createExpectedDto() {
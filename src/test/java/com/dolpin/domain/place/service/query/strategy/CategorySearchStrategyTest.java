@@ -1,6 +1,6 @@
 package com.dolpin.domain.place.service.query.strategy;
 
-import com.dolpin.domain.moment.repository.MomentRepository;
+import com.dolpin.domain.moment.service.cache.PlaceMomentCountService;
 import com.dolpin.domain.place.dto.response.PlaceSearchResponse;
 import com.dolpin.domain.place.dto.response.PlaceWithDistance;
 import com.dolpin.domain.place.entity.Place;
@@ -36,7 +36,7 @@ class CategorySearchStrategyTest {
     private PlaceRepository placeRepository;
 
     @Mock
-    private MomentRepository momentRepository;
+    private PlaceMomentCountService placeMomentCountService;
 
     @Mock
     private PlaceBookmarkQueryService bookmarkQueryService;
@@ -92,7 +92,7 @@ class CategorySearchStrategyTest {
         // given
         List<PlaceWithDistance> placesWithDistance = createPlacesWithDistance();
         List<Place> places = createPlaces();
-        List<Object[]> momentCountResults = createMomentCountResults();
+        Map<Long, Long> momentCountResults = createMomentCountResults();
         Map<Long, Boolean> bookmarkStatusMap = Map.of(1L, true, 2L, false);
 
         // PlaceCacheService mock 설정 (캐시 미스)
@@ -108,7 +108,7 @@ class CategorySearchStrategyTest {
 
         given(placeRepository.findByIdsWithKeywords(anyList()))
                 .willReturn(places);
-        given(momentRepository.countPublicMomentsByPlaceIds(anyList()))
+        given(placeMomentCountService.getPublicMomentCounts(anyList()))
                 .willReturn(momentCountResults);
         given(bookmarkQueryService.getBookmarkStatusMap(anyLong(), anyList()))
                 .willReturn(bookmarkStatusMap);
@@ -171,8 +171,8 @@ class CategorySearchStrategyTest {
         given(placeRepository.findByIdsWithKeywords(anyList()))
                 .willReturn(Collections.emptyList()); // 빈 결과
 
-        given(momentRepository.countPublicMomentsByPlaceIds(anyList()))
-                .willReturn(Collections.emptyList());
+        given(placeMomentCountService.getPublicMomentCounts(anyList()))
+                .willReturn(Collections.emptyMap());
         given(bookmarkQueryService.getBookmarkStatusMap(anyLong(), anyList()))
                 .willReturn(Collections.emptyMap());
 
@@ -223,7 +223,7 @@ class CategorySearchStrategyTest {
         );
 
         List<Place> places = createPlaces();
-        List<Object[]> momentCountResults = createMomentCountResults();
+        Map<Long, Long> momentCountResults = createMomentCountResults();
         Map<Long, Boolean> bookmarkStatusMap = Map.of(1L, true, 2L, false);
 
         // PlaceCacheService mock 설정 (캐시 미스)
@@ -239,7 +239,7 @@ class CategorySearchStrategyTest {
 
         given(placeRepository.findByIdsWithKeywords(anyList()))
                 .willReturn(places);
-        given(momentRepository.countPublicMomentsByPlaceIds(anyList()))
+        given(placeMomentCountService.getPublicMomentCounts(anyList()))
                 .willReturn(momentCountResults);
         given(bookmarkQueryService.getBookmarkStatusMap(anyLong(), anyList()))
                 .willReturn(bookmarkStatusMap);
@@ -296,10 +296,7 @@ class CategorySearchStrategyTest {
         return Arrays.asList(place1, place2);
     }
 
-    private List<Object[]> createMomentCountResults() {
-        return Arrays.asList(
-                new Object[]{1L, 5L},
-                new Object[]{2L, 3L}
-        );
+    private Map<Long, Long> createMomentCountResults() {
+        return Map.of(1L, 5L, 2L, 3L);
     }
 }
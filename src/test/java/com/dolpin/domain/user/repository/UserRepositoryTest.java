@@ -18,6 +18,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -151,6 +152,39 @@ class UserRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findUsernamesStartingWith 메서드 테스트")
+    class FindUsernamesStartingWithTest {
+
+        @Test
+        @DisplayName("접두사로 시작하는 사용자명만 한 번에 조회한다")
+        void findUsernamesStartingWith_ReturnsOnlyMatchingUsernames() {
+            // given
+            userTestHelper.createAndSaveUser(testEntityManager, 1201L, UserTestConstants.KAKAO_PROVIDER, "user12");
+            userTestHelper.createAndSaveUser(testEntityManager, 1202L, UserTestConstants.KAKAO_PROVIDER, "user12a");
+            userTestHelper.createAndSaveUser(testEntityManager, 1301L, UserTestConstants.KAKAO_PROVIDER, "user13");
+
+            // when
+            List<String> result = userRepository.findUsernamesStartingWith("user12");
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder("user12", "user12a");
+        }
+
+        @Test
+        @DisplayName("접두사의 LIKE 특수문자는 문자 그대로 비교한다")
+        void findUsernamesStartingWith_EscapesLikeWildcards() {
+            // given
+            userTestHelper.createAndSaveUser(testEntityManager, 1401L, UserTestConstants.KAKAO_PROVIDER, "userab");
+
+            // when
+            List<String> result = userRepository.findUsernamesStartingWith("user_");
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("기본 JPA 동작 검증")
     class BasicJpaTest {
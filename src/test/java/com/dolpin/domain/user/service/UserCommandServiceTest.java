@@ -15,6 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -39,6 +44,9 @@ class UserCommandServiceTest {
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private UserCommandServiceImpl userCommandService;
 
@@ -52,7 +60,8 @@ class UserCommandServiceTest {
             // given
             OAuthInfoResponse oAuthInfo = createOAuthInfoStub(UserTestConstants.PROVIDER_ID_VALID_STRING, UserTestConstants.KAKAO_PROVIDER);
 
-            given(userRepository.existsByUsername(UserTestConstants.USERNAME_GENERATED_BASE)).willReturn(false);
+            givenTransactionExecutesCallback();
+            given(userRepository.findUsernamesStartingWith(UserTestConstants.USERNAME_GENERATED_BASE)).willReturn(List.of());
 
             User savedUser = createUserStub(UserTestConstants.USER_ID_1, UserTestConstants.PROVIDER_ID_VALID,
                     UserTestConstants.KAKAO_PROVIDER, UserTestConstants.USERNAME_GENERATED_BASE);
@@ -67,7 +76,8 @@ class UserCommandServiceTest {
             assertThat(result.getProvider()).isEqualTo(UserTestConstants.KAKAO_PROVIDER);
             assertThat(result.getUsername()).isEqualTo(UserTestConstants.USERNAME_GENERATED_BASE);
 
-            verify(userRepository).existsByUsername(UserTestConstants.USERNAME_GENERATED_BASE);
+            verify(userRepository).findUsernamesStartingWith(UserTestConstants.USERNAME_GENERATED_BASE);
+            verify(userRepository, never()).existsByUsername(anyString());
             verify(userRepository).save(any(User.class));
         }
 
@@ -108,8 +118,9 @@ class UserCommandServiceTest {
             // given
             OAuthInfoResponse oAuthInfo = createOAuthInfoStub(UserTestConstants.PROVIDER_ID_VALID_STRING, UserTestConstants.KAKAO_PROVIDER);
 
-            given(userRepository.existsByUsername(UserTestConstants.USERNAME_GENERATED_BASE)).willReturn(true);
-            given(userRepository.existsByUsername(UserTestConstants.USERNAME_GENERATED_UNIQUE)).willReturn(false);
+            givenTransactionExecutesCallback();
+            given(userRepository.findUsernamesStartingWith(UserTestConstants.USERNAME_GENERATED_BASE))
+                    .willReturn(List.of(UserTestConstants.USERNAME_GENERATED_BASE));
 
             User savedUser = createUserStub(UserTestConstants.USER_ID_1, UserTestConstants.PROVIDER_ID_VALID,
                     UserTestConstants.KAKAO_PROVIDER, UserTestConstants.USERNAME_GENERATED_UNIQUE);
@@ -121,18 +132,82 @@ class UserCommandServiceTest {
             // then
             assertThat(result.getUsername()).isEqualTo(UserTestConstants.USERNAME_GENERATED_UNIQUE);
 
-            verify(userRepository).existsByUsername(UserTestConstants.USERNAME_GENERATED_BASE);
-            verify(userRepository).existsByUsername(UserTestConstants.USERNAME_GENERATED_UNIQUE);
+            verify(userRepository).findUsernamesStartingWith(UserTestConstants.USERNAME_GENERATED_BASE);
+            verify(userRepository, never()).existsByUsername(anyString());
             verify(userRepository).save(any(User.class));
         }
 
+        @Test
+        @DisplayName("접미사가 여러 개 사용 중이어도 한 번의 조회로 첫 번째 빈 접미사를 찾는다")
+        void createUser_WithManyTakenSuffixes_PicksFirstFreeSuffixWithSingleQuery() {
+            // given
+            OAuthInfoResponse oAuthInfo = createOAuthInfoStub(UserTestConstants.PROVIDER_ID_VALID_STRING, UserTestConstants.KAKAO_PROVIDER);
+
+            givenTransactionExecutesCallback();
+            given(userRepository.findUsernamesStartingWith(UserTestConstants.USERNAME_GENERATED_BASE))
+                    .willReturn(List.of("user12", "user12a", "user12b", "user12d"));
+            given(userRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            User result = userCommandService.createUser(oAuthInfo);
+
+            // then
+            assertThat(result.getUsername()).isEqualTo("user12c");
+
+            verify(userRepository, times(1)).findUsernamesStartingWith(UserTestConstants.USERNAME_GENERATED_BASE);
+            verify(userRepository, never()).existsByUsername(anyString());
+        }
+
+        @Test
+        @DisplayName("동시 가입으로 사용자명 유니크 제약에 걸리면 사용자명을 다시 생성해 재시도한다")
+        void createUser_WithConcurrentUsernameConflict_RetriesWithNewUsername() {
+            // given
+            OAuthInfoResponse oAuthInfo = createOAuthInfoStub(UserTestConstants.PROVIDER_ID_VALID_STRING, UserTestConstants.KAKAO_PROVIDER);
+
+            givenTransactionExecutesCallback();
+            given(userRepository.findUsernamesStartingWith(UserTestConstants.USERNAME_GENERATED_BASE))
+                    .willReturn(List.of())
+                    .willReturn(List.of(UserTestConstants.USERNAME_GENERATED_BASE));
+            given(userRepository.save(any(User.class)))
+                    .willThrow(new DataIntegrityViolationException("duplicate username"))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            User result = userCommandService.createUser(oAuthInfo);
+
+            // then
+            assertThat(result.getUsername()).isEqualTo(UserTestConstants.USERNAME_GENERATED_UNIQUE);
+
+            verify(transactionTemplate, times(2)).execute(any());
+            verify(userRepository, times(2)).save(any(User.class));
+        }
+
+        @Test
+        @DisplayName("재시도 횟수를 모두 소진하면 예외를 그대로 던진다")
+        void createUser_WithRepeatedConflicts_ThrowsAfterMaxAttempts() {
+            // given
+            OAuthInfoResponse oAuthInfo = createOAuthInfoStub(UserTestConstants.PROVIDER_ID_VALID_STRING, UserTestConstants.KAKAO_PROVIDER);
+
+            givenTransactionExecutesCallback();
+            given(userRepository.findUsernamesStartingWith(UserTestConstants.USERNAME_GENERATED_BASE)).willReturn(List.of());
+            given(userRepository.save(any(User.class)))
+                    .willThrow(new DataIntegrityViolationException("duplicate username"));
+
+            // when & then
+            assertThatThrownBy(() -> userCommandService.createUser(oAuthInfo))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+
+            verify(userRepository, times(3)).save(any(User.class));
+        }
+
         @Test
         @DisplayName("짧은 ProviderId도 적절히 처리한다")
         void createUser_WithShortProviderId_HandlesCorrectly() {
             // given
             OAuthInfoResponse oAuthInfo = createOAuthInfoStub(UserTestConstants.PROVIDER_ID_SHORT_STRING, UserTestConstants.KAKAO_PROVIDER);
 
-            given(userRepository.existsByUsername(UserTestConstants.USERNAME_GENERATED_SHORT)).willReturn(false);
+            givenTransactionExecutesCallback();
+            given(userRepository.findUsernamesStartingWith(UserTestConstants.USERNAME_GENERATED_SHORT)).willReturn(List.of());
 
             User savedUser = createUserStub(UserTestConstants.USER_ID_1, UserTestConstants.PROVIDER_ID_SHORT,
                     UserTestConstants.KAKAO_PROVIDER, UserTestConstants.USERNAME_GENERATED_SHORT);
@@ -386,4 +461,10 @@ class UserCommandServiceTest {
                 .username(username)
                 .build();
     }
+
+    @SuppressWarnings("unchecked")
+    private void givenTransactionExecutesCallback() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> ((TransactionCallback<User>) invocation.getArgument(0)).doInTransaction(null));
+    }
 }
@@ -56,6 +56,7 @@ public final class CommentTestConstants {
     public static final String COMMENT_CREATED_MESSAGE = "comment_created";
     public static final String COMMENT_DELETED_MESSAGE = "comment_deleted_success";
     public static final String GET_COMMENT_SUCCESS_MESSAGE = "get_comment_success";
+    public static final String GET_REPLY_SUCCESS_MESSAGE = "get_reply_success";
 
     // 에러 메시지 상수
     public static final String COMMENT_NOT_FOUND_MESSAGE = "댓글을 찾을 수 없습니다.";
@@ -71,6 +72,7 @@ public final class CommentTestConstants {
     // API 경로 상수
     public static final String COMMENTS_BASE_PATH = "/api/v1/moments/{moment_id}/comments";
     public static final String COMMENT_DELETE_PATH = "/api/v1/moments/{moment_id}/comments/{comment_id}";
+    public static final String COMMENT_REPLIES_PATH = "/api/v1/moments/{moment_id}/comments/{comment_id}/replies";
 
     // 비즈니스 로직 관련 상수
     public static final boolean IS_OWNER = true;
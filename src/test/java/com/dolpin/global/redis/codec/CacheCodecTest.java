@@ -0,0 +1,151 @@
+package com.dolpin.global.redis.codec;
+
+import com.dolpin.domain.place.service.cache.BookmarkCacheService.UserBookmarkCacheItem;
+import com.dolpin.domain.place.service.cache.PlaceCacheService.CategorySearchCacheItem;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("캐시 코덱 테스트")
+class CacheCodecTest {
+
+    @Nested
+    @DisplayName("SmileCacheCodec")
+    class SmileCacheCodecTest {
+
+        @Test
+        @DisplayName("카테고리 검색 결과 목록을 그대로 복원한다")
+        void decode_CategorySearchItems_RoundTrips() {
+            // given
+            CacheCodec<List<CategorySearchCacheItem>> codec = SmileCacheCodec.forList(CategorySearchCacheItem.class);
+            List<CategorySearchCacheItem> items = categorySearchItems(3);
+
+            // when
+            List<CategorySearchCacheItem> decoded = codec.decode(codec.encode(items));
+
+            // then
+            assertThat(decoded).isEqualTo(items);
+        }
+
+        @Test
+        @DisplayName("북마크 목록의 날짜 필드를 그대로 복원한다")
+        void decode_UserBookmarkItems_RoundTrips() {
+            // given
+            CacheCodec<List<UserBookmarkCacheItem>> codec = SmileCacheCodec.forList(UserBookmarkCacheItem.class);
+            List<UserBookmarkCacheItem> items = List.of(UserBookmarkCacheItem.builder()
+                    .placeId(1L)
+                    .placeName("카페 1")
+                    .thumbnail("https://example.com/1.jpg")
+                    .keywords(List.of("조용한", "디저트"))
+                    .bookmarkCreatedAt(LocalDateTime.of(2025, 5, 1, 12, 30, 15))
+                    .build());
+
+            // when
+            List<UserBookmarkCacheItem> decoded = codec.decode(codec.encode(items));
+
+            // then
+            assertThat(decoded).isEqualTo(items);
+        }
+
+        @Test
+        @DisplayName("기본 타입 정보가 붙는 JSON보다 작게 인코딩한다")
+        void encode_ComparedToDefaultTypedJson_IsSmaller() {
+            // given
+            List<CategorySearchCacheItem> items = categorySearchItems(50);
+            GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(defaultTypedObjectMapper());
+
+            // when
+            int smileSize = SmileCacheCodec.forList(CategorySearchCacheItem.class).encode(items).length;
+            int jsonSize = jsonSerializer.serialize(items).length;
+
+            // then
+            assertThat(smileSize).isLessThan(jsonSize / 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("CompressingCacheCodec")
+    class CompressingCacheCodecTest {
+
+        @Test
+        @DisplayName("임계값 이상이면 압축하고 그대로 복원한다")
+        void encode_OverThreshold_CompressesAndRoundTrips() {
+            // given
+            SmileCacheCodec<List<CategorySearchCacheItem>> smile = SmileCacheCodec.forList(CategorySearchCacheItem.class);
+            CacheCodec<List<CategorySearchCacheItem>> codec = new CompressingCacheCodec<>(smile, 1024);
+            List<CategorySearchCacheItem> items = categorySearchItems(200);
+
+            // when
+            byte[] encoded = codec.encode(items);
+
+            // then
+            assertThat(encoded.length).isLessThan(smile.encode(items).length);
+            assertThat(codec.decode(encoded)).isEqualTo(items);
+        }
+
+        @Test
+        @DisplayName("임계값 미만이면 압축하지 않고 그대로 복원한다")
+        void encode_UnderThreshold_StoresRaw() {
+            // given
+            SmileCacheCodec<List<CategorySearchCacheItem>> smile = SmileCacheCodec.forList(CategorySearchCacheItem.class);
+            CacheCodec<List<CategorySearchCacheItem>> codec = new CompressingCacheCodec<>(smile, 1024 * 1024);
+            List<CategorySearchCacheItem> items = categorySearchItems(2);
+
+            // when
+            byte[] encoded = codec.encode(items);
+
+            // then
+            assertThat(encoded.length).isEqualTo(smile.encode(items).length + 1);
+            assertThat(codec.decode(encoded)).isEqualTo(items);
+        }
+
+        @Test
+        @DisplayName("코덱 헤더가 없는 값은 예외가 발생한다")
+        void decode_UnknownHeader_ThrowsException() {
+            CacheCodec<List<CategorySearchCacheItem>> codec =
+                    new CompressingCacheCodec<>(SmileCacheCodec.forList(CategorySearchCacheItem.class), 1024);
+
+            assertThatThrownBy(() -> codec.decode("[\"java.util.ArrayList\",[]]".getBytes()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private List<CategorySearchCacheItem> categorySearchItems(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> CategorySearchCacheItem.builder()
+                        .placeId((long) i)
+                        .placeName("카페 " + i)
+                        .thumbnail("https://example.com/places/" + i + ".jpg")
+                        .distance(120.5 + i)
+                        .longitude(127.1 + i * 0.001)
+                        .latitude(37.5 + i * 0.001)
+                        .category("카페")
+                        .keywords(List.of("조용한", "디저트", "작업하기 좋은"))
+                        .momentCount((long) i * 3)
+                        .isBookmarked(false)
+                        .build())
+                .toList();
+    }
+
+    // RedisConfig의 RedisTemplate 값 직렬화 설정과 동일
+    private ObjectMapper defaultTypedObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL);
+        return mapper;
+    }
+}
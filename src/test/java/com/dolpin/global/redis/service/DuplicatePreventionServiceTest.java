@@ -0,0 +1,143 @@
+package com.dolpin.global.redis.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisTimeoutException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DuplicatePreventionService 테스트")
+class DuplicatePreventionServiceTest {
+
+    private static final String KEY = "1:updateProfile";
+    private static final String LOCK_KEY = "duplicate_request:" + KEY;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RedisCircuitBreaker circuitBreaker;
+
+    @Mock
+    private RLock lock;
+
+    private DuplicatePreventionService duplicatePreventionService;
+
+    private AtomicInteger actionCalls;
+
+    @BeforeEach
+    void setUp() {
+        duplicatePreventionService = new DuplicatePreventionService(redissonClient, circuitBreaker);
+        actionCalls = new AtomicInteger();
+        given(redissonClient.getLock(LOCK_KEY)).willReturn(lock);
+    }
+
+    @Nested
+    @DisplayName("executeWithLock 메서드 테스트")
+    class ExecuteWithLockTest {
+
+        @Test
+        @DisplayName("락을 잡으면 요청을 처리하고 락을 해제한다")
+        void executeWithLock_Acquired_RunsActionAndUnlocks() throws Exception {
+            // given
+            given(lock.tryLock(0, 3, TimeUnit.SECONDS)).willReturn(true);
+
+            // when
+            String result = duplicatePreventionService.executeWithLock(KEY, action());
+
+            // then
+            assertThat(result).isEqualTo("ok");
+            assertThat(actionCalls.get()).isEqualTo(1);
+            then(lock).should().unlock();
+            then(circuitBreaker).should(never()).recordFailure(any());
+        }
+
+        @Test
+        @DisplayName("다른 요청이 락을 점유 중이면 요청을 처리하지 않고 예외가 발생한다")
+        void executeWithLock_NotAcquired_Throws() throws Exception {
+            // given
+            given(lock.tryLock(0, 3, TimeUnit.SECONDS)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> duplicatePreventionService.executeWithLock(KEY, action()))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("동일한 요청이 처리 중입니다");
+            assertThat(actionCalls.get()).isZero();
+            then(lock).should(never()).unlock();
+        }
+
+        @Test
+        @DisplayName("서킷 브레이커가 열려 있으면 Redis를 호출하지 않고 락 없이 요청을 처리한다")
+        void executeWithLock_CircuitOpen_RunsActionWithoutLock() throws Exception {
+            // given
+            given(circuitBreaker.isOpen()).willReturn(true);
+
+            // when
+            String result = duplicatePreventionService.executeWithLock(KEY, action());
+
+            // then
+            assertThat(result).isEqualTo("ok");
+            assertThat(actionCalls.get()).isEqualTo(1);
+            then(lock).should(never()).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+            then(lock).should(never()).unlock();
+        }
+
+        @Test
+        @DisplayName("Redis 장애로 락을 잡지 못하면 실패를 기록하고 락 없이 요청을 처리한다")
+        void executeWithLock_RedisTimeout_RecordsFailureAndRunsAction() throws Exception {
+            // given
+            RedisTimeoutException timeout = new RedisTimeoutException("timeout");
+            given(lock.tryLock(0, 3, TimeUnit.SECONDS)).willThrow(timeout);
+
+            // when
+            String result = duplicatePreventionService.executeWithLock(KEY, action());
+
+            // then
+            assertThat(result).isEqualTo("ok");
+            assertThat(actionCalls.get()).isEqualTo(1);
+            then(circuitBreaker).should().recordFailure(timeout);
+            then(lock).should(never()).unlock();
+        }
+
+        @Test
+        @DisplayName("락 해제가 실패해도 요청 결과는 그대로 반환한다")
+        void executeWithLock_UnlockFails_ReturnsResult() throws Exception {
+            // given
+            given(lock.tryLock(0, 3, TimeUnit.SECONDS)).willReturn(true);
+            RedisTimeoutException timeout = new RedisTimeoutException("timeout");
+            willThrow(timeout).given(lock).unlock();
+
+            // when
+            String result = duplicatePreventionService.executeWithLock(KEY, action());
+
+            // then
+            assertThat(result).isEqualTo("ok");
+            then(circuitBreaker).should().recordFailure(timeout);
+        }
+    }
+
+    private DuplicatePreventionService.LockAction<String> action() {
+        return () -> {
+            actionCalls.incrementAndGet();
+            return "ok";
+        };
+    }
+}
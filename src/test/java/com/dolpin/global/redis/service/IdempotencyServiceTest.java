@@ -0,0 +1,196 @@
+package com.dolpin.global.redis.service;
+
+import com.dolpin.global.exception.BusinessException;
+import com.dolpin.global.response.ApiResponse;
+import com.dolpin.global.response.ResponseStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService 테스트")
+class IdempotencyServiceTest {
+
+    private static final String KEY = "dev:idempotency:createMoment:1:abc";
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Mock
+    private RedisService redisService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private IdempotencyService idempotencyService;
+
+    private AtomicInteger actionCalls;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(redisService, objectMapper);
+        actionCalls = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("execute 메서드 테스트")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("선점에 성공하면 요청을 처리하고 응답을 저장한다")
+        void execute_Acquired_RunsActionAndStoresResponse() throws Exception {
+            // given
+            given(redisService.setIfAbsent(KEY, "IN_PROGRESS", TTL)).willReturn(true);
+
+            // when
+            ResponseEntity<ApiResponse<Map<String, Long>>> response = idempotencyService.execute(KEY, TTL, createdAction());
+
+            // then
+            assertThat(actionCalls.get()).isEqualTo(1);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+            ArgumentCaptor<Object> stored = ArgumentCaptor.forClass(Object.class);
+            then(redisService).should().set(eq(KEY), stored.capture(), eq(TTL));
+            IdempotencyService.StoredResponse storedResponse =
+                    objectMapper.readValue((String) stored.getValue(), IdempotencyService.StoredResponse.class);
+            assertThat(storedResponse.getStatus()).isEqualTo(201);
+            assertThat(storedResponse.getCode()).isEqualTo(ResponseStatus.CREATED.name());
+            assertThat(storedResponse.getData().get("id").asLong()).isEqualTo(10L);
+            then(redisService).should(never()).delete(anyString());
+        }
+
+        @Test
+        @DisplayName("이미 처리된 요청이면 요청을 다시 처리하지 않고 저장된 응답을 재전송한다")
+        void execute_AlreadyProcessed_ReplaysStoredResponse() {
+            // given
+            given(redisService.setIfAbsent(KEY, "IN_PROGRESS", TTL)).willReturn(false);
+            given(redisService.get(KEY, String.class))
+                    .willReturn("{\"status\":201,\"message\":\"created\",\"code\":\"CREATED\",\"data\":{\"id\":10}}");
+
+            // when
+            ResponseEntity<ApiResponse<Map<String, Long>>> response = idempotencyService.execute(KEY, TTL, createdAction());
+
+            // then
+            assertThat(actionCalls.get()).isZero();
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(response.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().getCode()).isEqualTo(ResponseStatus.CREATED.name());
+            then(redisService).should(never()).set(anyString(), any(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("같은 요청이 처리 중이면 DUPLICATE_REQUEST 예외가 발생한다")
+        void execute_InProgress_ThrowsDuplicateRequest() {
+            // given
+            given(redisService.setIfAbsent(KEY, "IN_PROGRESS", TTL)).willReturn(false);
+            given(redisService.get(KEY, String.class)).willReturn("IN_PROGRESS");
+
+            // when & then
+            assertThatThrownBy(() -> idempotencyService.execute(KEY, TTL, createdAction()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("responseStatus")
+                    .isEqualTo(ResponseStatus.DUPLICATE_REQUEST);
+            assertThat(actionCalls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("요청 처리가 실패하면 선점을 해제하고 예외를 그대로 던진다")
+        void execute_ActionFails_ReleasesKey() {
+            // given
+            given(redisService.setIfAbsent(KEY, "IN_PROGRESS", TTL)).willReturn(true);
+            Supplier<ResponseEntity<ApiResponse<Map<String, Long>>>> failingAction = () -> {
+                throw new BusinessException(ResponseStatus.INVALID_PARAMETER);
+            };
+
+            // when & then
+            assertThatThrownBy(() -> idempotencyService.execute(KEY, TTL, failingAction))
+                    .isInstanceOf(BusinessException.class);
+            then(redisService).should().delete(KEY);
+            then(redisService).should(never()).set(anyString(), any(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("응답 저장이 실패하면 선점을 해제해 재시도가 거절되지 않게 한다")
+        void execute_SaveResponseFails_ReleasesKey() {
+            // given
+            given(redisService.setIfAbsent(KEY, "IN_PROGRESS", TTL)).willReturn(true);
+            willThrow(new RuntimeException("Redis 저장 실패"))
+                    .given(redisService).set(eq(KEY), any(), eq(TTL));
+
+            // when
+            ResponseEntity<ApiResponse<Map<String, Long>>> response = idempotencyService.execute(KEY, TTL, createdAction());
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            then(redisService).should().delete(KEY);
+        }
+
+        @Test
+        @DisplayName("Redis 장애로 선점하지 못하면 중복 검사 없이 요청을 처리한다")
+        void execute_RedisUnavailable_RunsAction() {
+            // given
+            given(redisService.setIfAbsent(KEY, "IN_PROGRESS", TTL)).willThrow(new RuntimeException("Redis 저장 실패"));
+
+            // when
+            ResponseEntity<ApiResponse<Map<String, Long>>> response = idempotencyService.execute(KEY, TTL, createdAction());
+
+            // then
+            assertThat(actionCalls.get()).isEqualTo(1);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        }
+    }
+
+    @Nested
+    @DisplayName("generateKey 메서드 테스트")
+    class GenerateKeyTest {
+
+        @Test
+        @DisplayName("클라이언트 키가 같으면 요청 내용이 달라도 같은 키를 만든다")
+        void generateKey_SameClientKey_ReturnsSameKey() {
+            String first = idempotencyService.generateKey("createMoment", 1L, "client-key", "제목1");
+            String second = idempotencyService.generateKey("createMoment", 1L, " client-key ", "제목2");
+
+            assertThat(first).isEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("클라이언트 키가 없으면 요청 내용으로 키를 만든다")
+        void generateKey_WithoutClientKey_UsesContent() {
+            String first = idempotencyService.generateKey("createMoment", 1L, null, "제목", "내용");
+            String same = idempotencyService.generateKey("createMoment", 1L, "", "제목", "내용");
+            String shifted = idempotencyService.generateKey("createMoment", 1L, null, "제목내", "용");
+
+            assertThat(first).isEqualTo(same);
+            assertThat(first).isNotEqualTo(shifted);
+        }
+    }
+
+    private Supplier<ResponseEntity<ApiResponse<Map<String, Long>>>> createdAction() {
+        return () -> {
+            actionCalls.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(ResponseStatus.CREATED, Map.of("id", 10L)));
+        };
+    }
+}
@@ -0,0 +1,230 @@
+package com.dolpin.global.redis.service;
+
+import com.dolpin.global.redis.codec.CacheCodec;
+import com.dolpin.global.redis.util.CacheKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearCacheService 테스트")
+class NearCacheServiceTest {
+
+    private static final NearCacheNamespace NAMESPACE = NearCacheNamespace.PLACE_CATEGORY_SEARCH;
+    private static final String KEY = "dev:place:category:카페";
+    private static final String VALUE = "cached-value";
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private CacheCodec<String> codec;
+
+    @Mock
+    private Message message;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private NearCacheService nearCacheService;
+
+    @BeforeEach
+    void setUp() {
+        nearCacheService = new NearCacheService(redisService, redisMessageListenerContainer);
+        ReflectionTestUtils.setField(nearCacheService, "nanoClock", (LongSupplier) now::get);
+        nearCacheService.init();
+    }
+
+    @Nested
+    @DisplayName("조회 테스트")
+    class GetTest {
+
+        @Test
+        @DisplayName("로컬 미스면 Redis에서 읽어 로컬에 저장하고, 이후 조회는 Redis를 호출하지 않는다")
+        void get_LocalMissThenHit_CallsRedisOnce() {
+            // given
+            given(redisService.get(KEY)).willReturn(VALUE);
+
+            // when
+            Object first = nearCacheService.get(NAMESPACE, KEY);
+            Object second = nearCacheService.get(NAMESPACE, KEY);
+
+            // then
+            assertThat(first).isEqualTo(VALUE);
+            assertThat(second).isEqualTo(VALUE);
+            then(redisService).should(times(1)).get(KEY);
+        }
+
+        @Test
+        @DisplayName("Redis에도 없으면 null을 반환하고 로컬에 저장하지 않는다")
+        void get_RedisMiss_ReturnsNull() {
+            // given
+            given(redisService.get(KEY)).willReturn(null);
+
+            // when
+            Object first = nearCacheService.get(NAMESPACE, KEY);
+            Object second = nearCacheService.get(NAMESPACE, KEY);
+
+            // then
+            assertThat(first).isNull();
+            assertThat(second).isNull();
+            then(redisService).should(times(2)).get(KEY);
+        }
+
+        @Test
+        @DisplayName("코덱 조회는 로컬에 디코딩된 객체를 두어 로컬 히트 시 다시 디코딩하지 않는다")
+        void get_WithCodec_DecodesOnce() {
+            // given
+            byte[] bytes = {1, 2, 3};
+            given(redisService.getBytes(KEY)).willReturn(bytes);
+            given(codec.decode(bytes)).willReturn(VALUE);
+
+            // when
+            String first = nearCacheService.get(NAMESPACE, KEY, codec);
+            String second = nearCacheService.get(NAMESPACE, KEY, codec);
+
+            // then
+            assertThat(first).isEqualTo(VALUE);
+            assertThat(second).isEqualTo(VALUE);
+            then(redisService).should(times(1)).getBytes(KEY);
+            then(codec).should(times(1)).decode(bytes);
+        }
+
+        @Test
+        @DisplayName("로컬 TTL이 지나면 Redis에서 다시 읽는다")
+        void get_AfterLocalTtl_ReloadsFromRedis() {
+            // given
+            nearCacheService.put(NAMESPACE, KEY, VALUE, Duration.ofMinutes(5));
+            given(redisService.get(KEY)).willReturn("reloaded-value");
+
+            // when
+            Object beforeExpiry = nearCacheService.get(NAMESPACE, KEY);
+            now.addAndGet(NAMESPACE.getLocalTtl().toNanos());
+            Object afterExpiry = nearCacheService.get(NAMESPACE, KEY);
+
+            // then
+            assertThat(beforeExpiry).isEqualTo(VALUE);
+            assertThat(afterExpiry).isEqualTo("reloaded-value");
+            then(redisService).should(times(1)).get(KEY);
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화 테스트")
+    class EvictTest {
+
+        @Test
+        @DisplayName("evict는 Redis와 로컬에서 삭제하고 다른 노드에 키 단위 무효화를 전파한다")
+        void evict_DeletesAndPublishesKey() {
+            // given
+            nearCacheService.put(NAMESPACE, KEY, VALUE, Duration.ofMinutes(5));
+
+            // when
+            nearCacheService.evict(NAMESPACE, KEY);
+            Object afterEvict = nearCacheService.get(NAMESPACE, KEY);
+
+            // then
+            assertThat(afterEvict).isNull();
+            then(redisService).should().delete(KEY);
+            then(redisService).should().publish(CacheKeyUtil.nearCacheInvalidationChannel(), NAMESPACE.name() + "|" + KEY);
+        }
+
+        @Test
+        @DisplayName("evictTag는 Redis 태그를 무효화하고 네임스페이스 단위 무효화를 전파한다")
+        void evictTag_InvalidatesTagAndPublishesNamespace() {
+            // given
+            String tagKey = CacheKeyUtil.placeCategoryTag("카페");
+            nearCacheService.put(NAMESPACE, KEY, VALUE, Duration.ofMinutes(5));
+            given(redisService.invalidateTag(tagKey)).willReturn(3L);
+
+            // when
+            Long deleted = nearCacheService.evictTag(NAMESPACE, tagKey);
+            Object afterEvict = nearCacheService.get(NAMESPACE, KEY);
+
+            // then
+            assertThat(deleted).isEqualTo(3L);
+            assertThat(afterEvict).isNull();
+            then(redisService).should().publish(CacheKeyUtil.nearCacheInvalidationChannel(), NAMESPACE.name());
+        }
+    }
+
+    @Nested
+    @DisplayName("Pub/Sub 무효화 수신 테스트")
+    class OnMessageTest {
+
+        @Test
+        @DisplayName("키 단위 메시지를 받으면 해당 로컬 항목만 제거한다")
+        void onMessage_KeyMessage_EvictsLocalEntry() {
+            // given
+            String otherKey = KEY + ":other";
+            nearCacheService.put(NAMESPACE, KEY, VALUE, Duration.ofMinutes(5));
+            nearCacheService.put(NAMESPACE, otherKey, VALUE, Duration.ofMinutes(5));
+            givenMessage(NAMESPACE.name() + "|" + KEY);
+            given(redisService.get(KEY)).willReturn("reloaded-value");
+
+            // when
+            nearCacheService.onMessage(message, null);
+
+            // then
+            assertThat(nearCacheService.get(NAMESPACE, KEY)).isEqualTo("reloaded-value");
+            assertThat(nearCacheService.get(NAMESPACE, otherKey)).isEqualTo(VALUE);
+            then(redisService).should(times(1)).get(KEY);
+        }
+
+        @Test
+        @DisplayName("네임스페이스 메시지를 받으면 해당 네임스페이스의 로컬 캐시만 비운다")
+        void onMessage_NamespaceMessage_ClearsNamespace() {
+            // given
+            NearCacheNamespace otherNamespace = NearCacheNamespace.PLACE_CATEGORIES;
+            String otherKey = "dev:place:categories";
+            nearCacheService.put(NAMESPACE, KEY, VALUE, Duration.ofMinutes(5));
+            nearCacheService.put(otherNamespace, otherKey, VALUE, Duration.ofMinutes(5));
+            givenMessage(NAMESPACE.name());
+
+            // when
+            nearCacheService.onMessage(message, null);
+
+            // then
+            assertThat(nearCacheService.get(NAMESPACE, KEY)).isNull();
+            assertThat(nearCacheService.get(otherNamespace, otherKey)).isEqualTo(VALUE);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 네임스페이스 메시지는 무시한다")
+        void onMessage_UnknownNamespace_IsIgnored() {
+            // given
+            nearCacheService.put(NAMESPACE, KEY, VALUE, Duration.ofMinutes(5));
+            givenMessage("UNKNOWN|" + KEY);
+
+            // when
+            nearCacheService.onMessage(message, null);
+
+            // then
+            assertThat(nearCacheService.get(NAMESPACE, KEY)).isEqualTo(VALUE);
+        }
+    }
+
+    private void givenMessage(String payload) {
+        byte[] body = payload.getBytes();
+        given(message.getBody()).willReturn(body);
+        given(redisService.deserializeMessage(body)).willReturn(payload);
+    }
+}
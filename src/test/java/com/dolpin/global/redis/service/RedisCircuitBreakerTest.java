@@ -0,0 +1,140 @@
+package com.dolpin.global.redis.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.client.RedisTimeoutException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.PoolException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisCircuitBreaker 테스트")
+class RedisCircuitBreakerTest {
+
+    @Mock
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Mock
+    private RedisConnection redisConnection;
+
+    private RedisCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new RedisCircuitBreaker(redisConnectionFactory);
+    }
+
+    @Test
+    @DisplayName("타임아웃이 연속으로 임계값만큼 발생하면 열린다")
+    void recordFailure_ConsecutiveTimeouts_Opens() {
+        // when
+        IntStream.range(0, 4).forEach(i -> circuitBreaker.recordFailure(new QueryTimeoutException("timeout")));
+        boolean openBeforeThreshold = circuitBreaker.isOpen();
+        circuitBreaker.recordFailure(new QueryTimeoutException("timeout"));
+
+        // then
+        assertThat(openBeforeThreshold).isFalse();
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+
+    @Test
+    @DisplayName("중간에 성공하면 연속 실패 횟수가 초기화된다")
+    void recordSuccess_BetweenFailures_ResetsCount() {
+        // when
+        IntStream.range(0, 4).forEach(i -> circuitBreaker.recordFailure(new RedisConnectionFailureException("down")));
+        circuitBreaker.recordSuccess();
+        IntStream.range(0, 4).forEach(i -> circuitBreaker.recordFailure(new RedisConnectionFailureException("down")));
+
+        // then
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
+    @Test
+    @DisplayName("풀에서 연결을 기다리다 시간이 초과되면 실패로 센다")
+    void recordFailure_PoolWaitTimeouts_Opens() {
+        // given - commons-pool2 대기 시간 초과를 Spring Data Redis가 감싼 형태
+        RuntimeException poolTimeout = new RedisConnectionFailureException("Unable to connect to Redis",
+                new PoolException("Could not get a resource from the pool",
+                        new NoSuchElementException("Timeout waiting for idle object")));
+
+        // when
+        IntStream.range(0, 5).forEach(i -> circuitBreaker.recordFailure(poolTimeout));
+
+        // then
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redisson 락 호출의 타임아웃도 같은 실패로 센다")
+    void recordFailure_RedissonTimeouts_Opens() {
+        // when
+        IntStream.range(0, 5).forEach(i -> circuitBreaker.recordFailure(new RedisTimeoutException("timeout")));
+
+        // then
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+
+    @Test
+    @DisplayName("가용성과 무관한 명령 오류는 실패로 세지 않는다")
+    void recordFailure_CommandError_IsIgnored() {
+        // when
+        IntStream.range(0, 10).forEach(i -> circuitBreaker.recordFailure(new RedisSystemException("WRONGTYPE", null)));
+
+        // then
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
+    @Test
+    @DisplayName("열린 상태에서 PING이 성공하면 닫힌다")
+    void probe_WhenOpenAndPingSucceeds_Closes() {
+        // given
+        IntStream.range(0, 5).forEach(i -> circuitBreaker.recordFailure(new QueryTimeoutException("timeout")));
+        given(redisConnectionFactory.getConnection()).willReturn(redisConnection);
+        given(redisConnection.ping()).willReturn("PONG");
+
+        // when
+        circuitBreaker.probe();
+
+        // then
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
+    @Test
+    @DisplayName("열린 상태에서 PING이 실패하면 계속 열려 있다")
+    void probe_WhenOpenAndPingFails_StaysOpen() {
+        // given
+        IntStream.range(0, 5).forEach(i -> circuitBreaker.recordFailure(new QueryTimeoutException("timeout")));
+        given(redisConnectionFactory.getConnection()).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        circuitBreaker.probe();
+
+        // then
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+
+    @Test
+    @DisplayName("닫힌 상태에서는 PING을 보내지 않는다")
+    void probe_WhenClosed_DoesNothing() {
+        // when
+        circuitBreaker.probe();
+
+        // then
+        verify(redisConnectionFactory, never()).getConnection();
+    }
+}
@@ -0,0 +1,32 @@
+package com.dolpin.global.scheduler;
+
+import com.dolpin.domain.auth.service.cache.RefreshTokenCacheService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenCleanupScheduler 테스트")
+class RefreshTokenCleanupSchedulerTest {
+
+    @Mock
+    private RefreshTokenCacheService refreshTokenCacheService;
+
+    @InjectMocks
+    private RefreshTokenCleanupScheduler refreshTokenCleanupScheduler;
+
+    @Test
+    @DisplayName("스케줄 실행 시 만료 인덱스 기반 정리를 호출한다")
+    void cleanupExpiredRefreshTokens_DelegatesToCacheService() {
+        // when
+        refreshTokenCleanupScheduler.cleanupExpiredRefreshTokens();
+
+        // then
+        then(refreshTokenCacheService).should().cleanupExpiredTokens();
+    }
+}
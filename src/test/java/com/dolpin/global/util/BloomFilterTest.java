@@ -0,0 +1,49 @@
+package com.dolpin.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단한다")
+    void mightContain_AddedValues_ReturnsTrue() {
+        // given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> filter.put("token-hash-" + i));
+
+        // when & then
+        assertThat(IntStream.range(0, 1_000).allMatch(i -> filter.mightContain("token-hash-" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 설정값 근처로 유지된다")
+    void mightContain_AbsentValues_FalsePositiveRateIsBounded() {
+        // given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> filter.put("token-hash-" + i));
+
+        // when
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("other-hash-" + i))
+                .count();
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정값이면 예외가 발생한다")
+    void constructor_WithInvalidArguments_ThrowsException() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
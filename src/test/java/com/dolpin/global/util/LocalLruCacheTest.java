@@ -0,0 +1,62 @@
+package com.dolpin.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LocalLruCache 테스트")
+class LocalLruCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 항목부터 제거한다")
+    void put_OverMaxSize_EvictsLeastRecentlyUsed() {
+        // given
+        LocalLruCache<String, Integer> cache = new LocalLruCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        // when
+        cache.put("c", 3);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 조회되지 않는다")
+    void get_AfterTtl_ReturnsNull() {
+        // given
+        AtomicLong now = new AtomicLong();
+        LocalLruCache<String, Integer> cache = new LocalLruCache<>(10, Duration.ofSeconds(1), now::get);
+        cache.put("a", 1);
+
+        // when
+        now.addAndGet(Duration.ofMillis(999).toNanos());
+        Integer beforeExpiry = cache.get("a");
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        Integer afterExpiry = cache.get("a");
+
+        // then
+        assertThat(beforeExpiry).isEqualTo(1);
+        assertThat(afterExpiry).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 설정값이면 예외가 발생한다")
+    void constructor_WithInvalidArguments_ThrowsException() {
+        assertThatThrownBy(() -> new LocalLruCache<String, Integer>(0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LocalLruCache<String, Integer>(10, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}